@@ -0,0 +1,30 @@
+#!/bin/bash
+# Builds and runs the JMH benchmarks in bench/src against the sources in src/SettlersOfCatan.
+# JMH is downloaded from Maven Central into bench/lib on first use.
+# Arguments go to JMH, e.g. ./bench/run.sh RoadHandler -prof gc
+set -e
+cd "$(dirname "$0")/.."
+
+JMH_VERSION=1.37
+LIB=bench/lib
+OUT=bench/out
+
+fetch() {
+	if [ ! -f "$LIB/$2" ]; then
+		curl -fsSL -o "$LIB/$2" "https://repo1.maven.org/maven2/$1/$2"
+	fi
+}
+
+mkdir -p "$LIB"
+fetch org/openjdk/jmh/jmh-core/$JMH_VERSION jmh-core-$JMH_VERSION.jar
+fetch org/openjdk/jmh/jmh-generator-annprocess/$JMH_VERSION jmh-generator-annprocess-$JMH_VERSION.jar
+fetch net/sf/jopt-simple/jopt-simple/5.0.4 jopt-simple-5.0.4.jar
+fetch org/apache/commons/commons-math3/3.6.1 commons-math3-3.6.1.jar
+
+# javac only expands wildcards on the class path, so the processor path lists its jars
+PROCESSOR_PATH=$(echo "$LIB"/*.jar | tr ' ' ':')
+
+rm -rf "$OUT" && mkdir -p "$OUT"
+find src/SettlersOfCatan bench/src -name '*.java' > "$OUT/sources.txt"
+javac -encoding UTF-8 --release 17 -cp "$LIB/*" -processorpath "$PROCESSOR_PATH" -d "$OUT" @"$OUT/sources.txt"
+java -cp "$OUT:$LIB/*" org.openjdk.jmh.Main "$@"
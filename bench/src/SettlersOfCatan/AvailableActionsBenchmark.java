@@ -0,0 +1,65 @@
+package SettlersOfCatan;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of working out which actions a player can take, early and late in a game.
+ * Every seat holds enough cards for any build, so the board checks always run.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AvailableActionsBenchmark {
+	/** Rounds played before measuring */
+	@Param({"" + BenchmarkFixtures.EARLY_ROUNDS, "" + BenchmarkFixtures.LATE_ROUNDS})
+	public int rounds;
+
+	/** Actions facade over the position */
+	private PlayerActions actions;
+
+	/** Players of the position */
+	private Player[] players;
+
+	/** Seat asked next */
+	private int seat;
+
+	/**
+	 * Plays the game to the requested round and fills every hand.
+	 */
+	@Setup
+	public void setUp() {
+		Game game = BenchmarkFixtures.playedGame(BenchmarkFixtures.SEED, rounds);
+		players = game.getPlayers();
+		for (Player player : players) {
+			BenchmarkFixtures.giveHand(player, 4);
+		}
+		actions = BenchmarkFixtures.actionsFor(game);
+	}
+
+	/**
+	 * Computes the available actions of the next seat.
+	 * @return the action mask, consumed by JMH
+	 */
+	@Benchmark
+	public int getAvailableActions() {
+		Player player = players[seat];
+		seat = seat == players.length - 1 ? 0 : seat + 1;
+		return actions.getAvailableActions(player, false);
+	}
+}
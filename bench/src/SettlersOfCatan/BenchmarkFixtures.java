@@ -0,0 +1,121 @@
+package SettlersOfCatan;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded positions shared by the benchmarks. Every fixture comes from real headless play, so the
+ * boards, hands and road networks look like the ones the engine meets in a game.
+ * Benchmarks live in the SettlersOfCatan package so they can reach package-private hot paths.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+final class BenchmarkFixtures {
+	/** Seed every fixture is derived from */
+	static final long SEED = 20240917L;
+
+	/** Rounds played for an early-game position */
+	static final int EARLY_ROUNDS = 5;
+
+	/** Rounds played for a mid-game position */
+	static final int MID_ROUNDS = 30;
+
+	/** Rounds played for a late-game position (the game may end sooner) */
+	static final int LATE_ROUNDS = 80;
+
+	/**
+	 * Plays a seeded headless game for a number of rounds.
+	 * @param seed board, dice and AI seed
+	 * @param rounds round limit; 0 stops right after setup
+	 * @return the game in the reached position
+	 */
+	static Game playedGame(long seed, int rounds) {
+		Board board = new Board();
+		new RandomBoardGenerator(seed).generate(board);
+		Game game = new Game(board, new DiceRoller(seed), new Bank(), new PlacementValidator(), 4, new Random(seed));
+		game.setHeadless(true);
+		game.startGame(rounds);
+		return game;
+	}
+
+	/**
+	 * Creates an actions facade over a played game's board and players.
+	 * @param game a played game
+	 * @return actions that build for real
+	 */
+	static PlayerActions actionsFor(Game game) {
+		PlayerActions actions = new PlayerActions(game.getBoard(), new Bank(), new PlacementValidator(),
+				game.getPlayers(), new Random(SEED));
+		actions.setLog(GameLog.disabled());
+		return actions;
+	}
+
+	/**
+	 * Creates an actions facade whose build methods do nothing, so handlers can be measured
+	 * deciding to build without changing the position between invocations.
+	 * @param game a played game
+	 * @return actions that never build
+	 */
+	static PlayerActions nonBuildingActionsFor(Game game) {
+		PlayerActions actions = new PlayerActions(game.getBoard(), new Bank(), new PlacementValidator(),
+				game.getPlayers(), new Random(SEED)) {
+			@Override
+			public void buildSettlement(Player player, int roundCount) {
+			}
+
+			@Override
+			public void buildCity(Player player, int roundCount) {
+			}
+
+			@Override
+			public void buildRoad(Player player, int roundCount) {
+			}
+		};
+		actions.setLog(GameLog.disabled());
+		return actions;
+	}
+
+	/**
+	 * Plays setup, then lets every seat build roads from its network until it runs out of road
+	 * pieces or legal edges, giving each seat a large, branching network.
+	 * @param seed board, dice and AI seed
+	 * @return the game holding the networks
+	 */
+	static Game largeRoadNetworks(long seed) {
+		Game game = playedGame(seed, 0);
+		PlayerActions actions = actionsFor(game);
+		Random random = new Random(seed);
+		for (Player player : game.getPlayers()) {
+			while (true) {
+				List<Edge> edges = actions.getAvailableRoadEdgesForPlayer(player);
+				if (edges.isEmpty()) {
+					break;
+				}
+				giveHand(player, 1);
+				if (!actions.placeRoad(edges.get(random.nextInt(edges.size())), player)) {
+					break;
+				}
+			}
+		}
+		return game;
+	}
+
+	/**
+	 * Adds the same number of every real resource to a hand.
+	 * @param player the player
+	 * @param each cards of each resource to add
+	 */
+	static void giveHand(Player player, int each) {
+		for (ResourceType type : ResourceType.values()) {
+			if (type != ResourceType.NULL) {
+				player.addResource(type, each);
+			}
+		}
+	}
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private BenchmarkFixtures() {
+		throw new AssertionError("BenchmarkFixtures should not be instantiated, it is a utility class only");
+	}
+}
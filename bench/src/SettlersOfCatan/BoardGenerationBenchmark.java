@@ -0,0 +1,39 @@
+package SettlersOfCatan;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of generating a complete board: tiles, nodes, edges and bitboards.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardGenerationBenchmark {
+	/** Seed of the next board, varied so every layout is not the same */
+	private long seed = BenchmarkFixtures.SEED;
+
+	/**
+	 * Generates one random board.
+	 * @return the board, consumed by JMH
+	 */
+	@Benchmark
+	public Board generate() {
+		Board board = new Board();
+		new RandomBoardGenerator(seed++).generate(board);
+		return board;
+	}
+}
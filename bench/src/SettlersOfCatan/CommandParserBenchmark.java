@@ -0,0 +1,45 @@
+package SettlersOfCatan;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of parsing human console commands, cycling through every command form and a few typos.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CommandParserBenchmark {
+	/** Input lines as a player would type them */
+	private static final String[] LINES = {
+		"roll", "list", "build settlement 12", "build city 12", "build road 12,13", "build road 3, 4",
+		"  Build Settlement 40 ", "undo", "redo", "go", "build road 12", "bulid city 5", ""
+	};
+
+	/** Index of the next line */
+	private int next;
+
+	/**
+	 * Parses one line.
+	 * @return the parsed command, consumed by JMH
+	 */
+	@Benchmark
+	public HumanCommandParser.ParsedCommand parse() {
+		String line = LINES[next];
+		next = next == LINES.length - 1 ? 0 : next + 1;
+		return HumanCommandParser.parse(line);
+	}
+}
@@ -0,0 +1,93 @@
+package SettlersOfCatan;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of forking a position for search: capturing it from a live game, copying the flat state,
+ * and playing and taking back a build in place. Every seat holds enough cards for any build.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameStateBenchmark {
+	/** Rounds played before measuring */
+	@Param({"" + BenchmarkFixtures.EARLY_ROUNDS, "" + BenchmarkFixtures.LATE_ROUNDS})
+	public int rounds;
+
+	/** Live game holding the position */
+	private Game game;
+
+	/** Captured position */
+	private GameState state;
+
+	/** Legal moves of the current player */
+	private int[] moves;
+
+	/** Number of legal moves */
+	private int moveCount;
+
+	/** Move played next */
+	private int next;
+
+	/**
+	 * Plays the game to the requested round, fills every hand and lists the legal moves.
+	 */
+	@Setup
+	public void setUp() {
+		game = BenchmarkFixtures.playedGame(BenchmarkFixtures.SEED, rounds);
+		for (Player player : game.getPlayers()) {
+			BenchmarkFixtures.giveHand(player, 4);
+		}
+		state = game.captureState();
+		moves = new int[1 + 2 * state.getNodeCount() + state.getEdgeCount()];
+		moveCount = state.legalMoves(moves);
+	}
+
+	/**
+	 * Captures the position from the object graph.
+	 * @return the state, consumed by JMH
+	 */
+	@Benchmark
+	public GameState captureState() {
+		return game.captureState();
+	}
+
+	/**
+	 * Copies the flat position.
+	 * @return the copy, consumed by JMH
+	 */
+	@Benchmark
+	public GameState copy() {
+		return state.copy();
+	}
+
+	/**
+	 * Plays the next legal move and takes it back.
+	 * @return the current player's points in between, consumed by JMH
+	 */
+	@Benchmark
+	public int applyUnapply() {
+		int move = moves[next];
+		next = next == moveCount - 1 ? 0 : next + 1;
+		state.apply(move);
+		int points = state.getVictoryPoints(state.getCurrentPlayer());
+		state.unapply(move);
+		return points;
+	}
+}
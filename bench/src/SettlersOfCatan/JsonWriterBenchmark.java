@@ -0,0 +1,78 @@
+package SettlersOfCatan;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of producing the visualizer's state.json for a mid-game board, with and without the write.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonWriterBenchmark {
+	/** Mid-game board */
+	private Board board;
+
+	/** Scratch directory state.json is written to */
+	private Path directory;
+
+	/** Path of the written file */
+	private String path;
+
+	/**
+	 * Plays to mid-game and creates the scratch directory.
+	 * @throws IOException if the directory cannot be created
+	 */
+	@Setup
+	public void setUp() throws IOException {
+		board = BenchmarkFixtures.playedGame(BenchmarkFixtures.SEED, BenchmarkFixtures.MID_ROUNDS).getBoard();
+		directory = Files.createTempDirectory("catan-bench");
+		path = directory.resolve("state.json").toString();
+	}
+
+	/**
+	 * Removes the scratch directory.
+	 * @throws IOException if a file cannot be deleted
+	 */
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(Path.of(path));
+		Files.deleteIfExists(directory);
+	}
+
+	/**
+	 * Builds and writes state.json.
+	 * @throws IOException if the file cannot be written
+	 */
+	@Benchmark
+	public void writeState() throws IOException {
+		JsonWriter.writeState(board, path);
+	}
+
+	/**
+	 * Builds the state.json document only.
+	 * @return the document, consumed by JMH
+	 */
+	@Benchmark
+	public String buildStateJson() {
+		return JsonWriter.buildStateJson(board);
+	}
+}
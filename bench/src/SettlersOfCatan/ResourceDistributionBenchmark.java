@@ -0,0 +1,54 @@
+package SettlersOfCatan;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of paying out one dice roll in a mid-game position, cycling through every non-7 total.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResourceDistributionBenchmark {
+	/** Dice totals other than 7, in roll order */
+	private static final int[] ROLLS = {2, 3, 4, 5, 6, 8, 9, 10, 11, 12};
+
+	/** Mid-game position */
+	private Game game;
+
+	/** Index of the next roll */
+	private int next;
+
+	/**
+	 * Rebuilds the position each iteration so hands do not grow without bound.
+	 */
+	@Setup(Level.Iteration)
+	public void setUp() {
+		game = BenchmarkFixtures.playedGame(BenchmarkFixtures.SEED, BenchmarkFixtures.MID_ROUNDS);
+		next = 0;
+	}
+
+	/**
+	 * Distributes resources for one roll.
+	 */
+	@Benchmark
+	public void distributeResources() {
+		game.distributeResources(ROLLS[next]);
+		next = next == ROLLS.length - 1 ? 0 : next + 1;
+	}
+}
@@ -0,0 +1,100 @@
+package SettlersOfCatan;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of the road-based AI handlers on a board where every seat has used all of its road pieces,
+ * plus measuring every seat's longest road from scratch on that board.
+ * The handlers get an actions facade that never builds, so the position stays fixed.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoadHandlerBenchmark {
+	/** Board holding the networks */
+	private Board board;
+
+	/** Players of the position */
+	private Player[] players;
+
+	/** Actions facade that never builds */
+	private PlayerActions actions;
+
+	/** Handler under test, with no successor */
+	private DefendRoadHandler defendRoad;
+
+	/** Handler under test, with no successor */
+	private ConnectRoadsHandler connectRoads;
+
+	/** Seat handled next */
+	private int seat;
+
+	/**
+	 * Builds the networks and gives every seat the cards for a road.
+	 */
+	@Setup
+	public void setUp() {
+		Game game = BenchmarkFixtures.largeRoadNetworks(BenchmarkFixtures.SEED);
+		board = game.getBoard();
+		players = game.getPlayers();
+		for (Player player : players) {
+			BenchmarkFixtures.giveHand(player, 2);
+		}
+		actions = BenchmarkFixtures.nonBuildingActionsFor(game);
+		defendRoad = new DefendRoadHandler(players, board, new Random(BenchmarkFixtures.SEED));
+		connectRoads = new ConnectRoadsHandler(board, new Random(BenchmarkFixtures.SEED));
+	}
+
+	/**
+	 * Runs DefendRoadHandler for the next seat.
+	 */
+	@Benchmark
+	public void defendRoad() {
+		defendRoad.handleTurn(nextPlayer(), actions, 1);
+	}
+
+	/**
+	 * Runs ConnectRoadsHandler for the next seat.
+	 */
+	@Benchmark
+	public void connectRoads() {
+		connectRoads.handleTurn(nextPlayer(), actions, 1);
+	}
+
+	/**
+	 * Measures every seat's longest road from scratch, the work a tracker does when it is created
+	 * or a road is cut.
+	 * @return the first seat's length, consumed by JMH
+	 */
+	@Benchmark
+	public int measureLongestRoads() {
+		LongestRoadTracker tracker = new LongestRoadTracker(board);
+		board.getState().removeListener(tracker);
+		return tracker.getLength(0);
+	}
+
+	/**
+	 * Gets the next seat in turn order.
+	 */
+	private Player nextPlayer() {
+		Player player = players[seat];
+		seat = seat == players.length - 1 ? 0 : seat + 1;
+		return player;
+	}
+}
@@ -0,0 +1,115 @@
+package SettlersOfCatan;
+
+/**
+ * Set of ActionTypes packed into an int, one bit per ordinal.
+ * Returned by PlayerActions.getAvailableActions so the AI decision step can test, count and
+ * pick actions without building a list. The set stays a bare int rather than an instance of
+ * this class, so passing it around never allocates; this class only holds the operations on it.
+ * Bits are visited in ordinal order.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class ActionMask {
+	/** The empty set */
+	public static final int NONE = 0;
+
+	private ActionMask() {
+		throw new AssertionError("Utility class");
+	}
+
+	/**
+	 * Gets the bit of a single action.
+	 * @param type the action
+	 * @return mask containing only that action
+	 */
+	public static int bit(ActionType type) {
+		return 1 << type.ordinal();
+	}
+
+	/**
+	 * Builds a mask from actions.
+	 * @param types the actions to include
+	 * @return mask containing every given action
+	 */
+	public static int of(ActionType... types) {
+		int mask = NONE;
+		for (ActionType type : types) {
+			mask |= bit(type);
+		}
+		return mask;
+	}
+
+	/**
+	 * Adds an action to a mask.
+	 * @param mask the mask
+	 * @param type the action to add
+	 * @return the mask with the action set
+	 */
+	public static int with(int mask, ActionType type) {
+		return mask | bit(type);
+	}
+
+	/**
+	 * Removes an action from a mask.
+	 * @param mask the mask
+	 * @param type the action to remove
+	 * @return the mask with the action cleared
+	 */
+	public static int without(int mask, ActionType type) {
+		return mask & ~bit(type);
+	}
+
+	/**
+	 * Checks whether a mask contains an action.
+	 * @param mask the mask
+	 * @param type the action
+	 * @return true if the action is set
+	 */
+	public static boolean contains(int mask, ActionType type) {
+		return (mask & bit(type)) != 0;
+	}
+
+	/**
+	 * Checks whether a mask is empty.
+	 * @param mask the mask
+	 * @return true if no action is set
+	 */
+	public static boolean isEmpty(int mask) {
+		return mask == NONE;
+	}
+
+	/**
+	 * Counts the actions in a mask.
+	 * @param mask the mask
+	 * @return number of actions set
+	 */
+	public static int size(int mask) {
+		return Integer.bitCount(mask);
+	}
+
+	/**
+	 * Gets the lowest-ordinal action in a mask; iterate with {@code mask &= mask - 1}.
+	 * @param mask a non-empty mask
+	 * @return the first action
+	 */
+	public static ActionType first(int mask) {
+		return ActionType.VALUES[Integer.numberOfTrailingZeros(mask)];
+	}
+
+	/**
+	 * Gets the action at a position among the set bits, counting in ordinal order.
+	 * @param mask the mask
+	 * @param index position in [0, size(mask))
+	 * @return the action at that position
+	 * @throws IndexOutOfBoundsException if index is out of range
+	 */
+	public static ActionType get(int mask, int index) {
+		if (index < 0 || index >= size(mask)) {
+			throw new IndexOutOfBoundsException("Index " + index + " out of range for " + size(mask) + " actions");
+		}
+		int m = mask;
+		for (int i = 0; i < index; i++) {
+			m &= m - 1;
+		}
+		return first(m);
+	}
+}
@@ -0,0 +1,15 @@
+package SettlersOfCatan;
+
+/**
+ * Actions an AI player can take on its turn, in the order they are offered and scored.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public enum ActionType {
+	SETTLEMENT,
+	CITY,
+	ROAD,
+	PASS;
+
+	/** Every action type by ordinal, shared so lookups do not clone values(); never modify */
+	static final ActionType[] VALUES = values();
+}
@@ -0,0 +1,167 @@
+package SettlersOfCatan;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+/**
+ * Writes log lines to a stream on a background thread, in batches.
+ * The game thread only appends to a pending list; the writer thread swaps that list out, joins
+ * every line in it into one string and prints it with a single call, so a burst of messages costs
+ * one write instead of one synchronized println each. Lines keep the order they were written in.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+final class AsyncLogSink implements AutoCloseable {
+	/** Sink shared by every console log, so games printing to System.out keep one order */
+	private static AsyncLogSink console;
+
+	/** Stream the lines are written to */
+	private final PrintStream target;
+
+	/** Guards the pending list and the counters */
+	private final Object lock = new Object();
+
+	/** Lines waiting for the writer thread */
+	private ArrayList<String> pending = new ArrayList<>();
+
+	/** Emptied list handed back by the writer thread, reused for the next batch */
+	private ArrayList<String> spare = new ArrayList<>();
+
+	/** Number of lines accepted so far */
+	private long submitted;
+
+	/** Number of lines written so far */
+	private long written;
+
+	/** Set once close() has been called; pending lines are still written */
+	private boolean closed;
+
+	/** Background thread performing the writes */
+	private final Thread worker;
+
+	/**
+	 * Starts a sink.
+	 * @param target stream to write to
+	 * @param name suffix of the writer thread's name
+	 */
+	AsyncLogSink(PrintStream target, String name) {
+		this.target = target;
+		this.worker = new Thread(this::run, "log-writer-" + name);
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * Gets the shared console sink, starting it on first use.
+	 * @return the sink writing to System.out
+	 */
+	static synchronized AsyncLogSink console() {
+		if (console == null) {
+			console = new AsyncLogSink(System.out, "console");
+		}
+		return console;
+	}
+
+	/**
+	 * Queues one line. Never blocks on I/O.
+	 * @param line the line, without a line separator
+	 * @throws IllegalStateException if the sink has been closed
+	 */
+	void write(String line) {
+		synchronized (lock) {
+			if (closed) {
+				throw new IllegalStateException("Log sink is closed");
+			}
+			pending.add(line);
+			submitted++;
+			if (pending.size() == 1) {
+				lock.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Waits until every line queued so far has been written.
+	 */
+	void flush() {
+		synchronized (lock) {
+			long target = submitted;
+			while (written < target) {
+				try {
+					lock.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes text straight to the stream after every queued line, without a line separator.
+	 * Used for prompts, which must be visible before the game waits for input.
+	 * @param text the text to print
+	 */
+	void print(String text) {
+		flush();
+		target.print(text);
+		target.flush();
+	}
+
+	/**
+	 * Writes every pending line and stops the writer thread.
+	 */
+	@Override
+	public void close() {
+		synchronized (lock) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			lock.notifyAll();
+		}
+		try {
+			worker.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Writer loop: waits for lines, then prints the whole pending batch at once.
+	 */
+	private void run() {
+		StringBuilder text = new StringBuilder(4096);
+		String separator = System.lineSeparator();
+		while (true) {
+			ArrayList<String> batch;
+			synchronized (lock) {
+				while (pending.isEmpty() && !closed) {
+					try {
+						lock.wait();
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+				if (pending.isEmpty()) {
+					return;
+				}
+				batch = pending;
+				pending = spare;
+			}
+
+			text.setLength(0);
+			for (int i = 0; i < batch.size(); i++) {
+				text.append(batch.get(i)).append(separator);
+			}
+			target.print(text);
+			target.flush();
+
+			synchronized (lock) {
+				written += batch.size();
+				batch.clear();
+				spare = batch;
+				lock.notifyAll();
+			}
+		}
+	}
+}
@@ -19,6 +19,30 @@ public class Bank {
 	/** Cost map for building a road */
 	private static final Map<ResourceType, Integer> ROAD_COST = new EnumMap<>(ResourceType.class);
 
+	/** Bits per resource lane in a packed cost vector */
+	private static final int LANE_BITS = 8;
+
+	/** Mask of one lane */
+	private static final long LANE_MASK = (1L << LANE_BITS) - 1;
+
+	/** Packed settlement cost: one 8-bit count per resource, lane = resource ordinal */
+	public static final long SETTLEMENT_COST_VECTOR;
+
+	/** Packed city cost */
+	public static final long CITY_COST_VECTOR;
+
+	/** Packed road cost */
+	public static final long ROAD_COST_VECTOR;
+
+	/** Bit set in a buildable mask when a road can be built */
+	public static final int CAN_BUILD_ROAD = 1 << BuildingType.ROAD.ordinal();
+
+	/** Bit set in a buildable mask when a settlement can be built */
+	public static final int CAN_BUILD_SETTLEMENT = 1 << BuildingType.SETTLEMENT.ordinal();
+
+	/** Bit set in a buildable mask when a city can be built */
+	public static final int CAN_BUILD_CITY = 1 << BuildingType.CITY.ordinal();
+
 	static {
 		// Initialize settlement costs
 		SETTLEMENT_COST.put(ResourceType.WOOD, 1);
@@ -34,6 +58,53 @@ public class Bank {
 		ROAD_COST.put(ResourceType.WOOD, 1);
 		ROAD_COST.put(ResourceType.BRICK, 1);
 		// All costs initialized
+
+		// Pack each cost once so checks and payments never touch the maps
+		SETTLEMENT_COST_VECTOR = pack(SETTLEMENT_COST);
+		CITY_COST_VECTOR = pack(CITY_COST);
+		ROAD_COST_VECTOR = pack(ROAD_COST);
+	}
+
+	/**
+	 * Packs a cost map into a vector with one 8-bit lane per resource ordinal.
+	 * @param cost map of resource types to amounts (each below 256)
+	 * @return packed cost vector
+	 */
+	public static long pack(Map<ResourceType, Integer> cost) {
+		long vector = 0L;
+		for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
+			vector |= (entry.getValue() & LANE_MASK) << (entry.getKey().ordinal() * LANE_BITS);
+		}
+		return vector;
+	}
+
+	/**
+	 * Reads one resource amount from a packed cost vector.
+	 * @param vector packed cost vector
+	 * @param type resource type
+	 * @return amount of that resource
+	 */
+	public static int amount(long vector, ResourceType type) {
+		return (int) ((vector >>> (type.ordinal() * LANE_BITS)) & LANE_MASK);
+	}
+
+	/**
+	 * Works out everything a player's hand and pieces can build, in one pass over the hand.
+	 * @param player the player
+	 * @return mask of CAN_BUILD_ROAD, CAN_BUILD_SETTLEMENT and CAN_BUILD_CITY bits
+	 */
+	public static int getBuildableMask(Player player) {
+		boolean road = player.getPieceCount(BuildingType.ROAD) > 0;
+		boolean settlement = player.getPieceCount(BuildingType.SETTLEMENT) > 0;
+		boolean city = player.getPieceCount(BuildingType.CITY) > 0;
+		for (int i = 0; i < ResourceType.VALUES.length; i++) {
+			int have = player.getResourceCount(ResourceType.VALUES[i]);
+			int shift = i * LANE_BITS;
+			road &= have >= ((ROAD_COST_VECTOR >>> shift) & LANE_MASK);
+			settlement &= have >= ((SETTLEMENT_COST_VECTOR >>> shift) & LANE_MASK);
+			city &= have >= ((CITY_COST_VECTOR >>> shift) & LANE_MASK);
+		}
+		return (road ? CAN_BUILD_ROAD : 0) | (settlement ? CAN_BUILD_SETTLEMENT : 0) | (city ? CAN_BUILD_CITY : 0);
 	}
 
 	/**
@@ -44,14 +115,12 @@ public class Bank {
 	public boolean payForSettlement(Player player) {
 
 		// Check if player can afford settlement
-		if (!player.canAfford(SETTLEMENT_COST) || player.getBuildings().get(BuildingType.SETTLEMENT) <= 0) {
+		if (!player.canAfford(SETTLEMENT_COST_VECTOR) || player.getPieceCount(BuildingType.SETTLEMENT) <= 0) {
 			return false;
 		}
 
 		// Deduct resources from player
-		for (Map.Entry<ResourceType, Integer> entry : SETTLEMENT_COST.entrySet()) {
-			player.removeResource(entry.getKey(), entry.getValue());
-		}
+		player.pay(SETTLEMENT_COST_VECTOR);
 
 		// Consume settlement piece from inventory
 		player.useSettlementPiece();
@@ -71,14 +140,12 @@ public class Bank {
 	 */
 	public boolean payForCity(Player player) {
 
-		if (!player.canAfford(CITY_COST) || player.getBuildings().get(BuildingType.CITY) <= 0) {
+		if (!player.canAfford(CITY_COST_VECTOR) || player.getPieceCount(BuildingType.CITY) <= 0) {
 			return false;
 		}
 
 		// Deduct resources
-		for (Map.Entry<ResourceType, Integer> entry : CITY_COST.entrySet()) {
-			player.removeResource(entry.getKey(), entry.getValue());
-		}
+		player.pay(CITY_COST_VECTOR);
 
 		// Consume city piece
 		player.useCityPiece();
@@ -97,14 +164,12 @@ public class Bank {
 	 */
 	public boolean payForRoad(Player player) {
 
-		if (!player.canAfford(ROAD_COST) || player.getBuildings().get(BuildingType.ROAD) <= 0) {
+		if (!player.canAfford(ROAD_COST_VECTOR) || player.getPieceCount(BuildingType.ROAD) <= 0) {
 			return false;
 		}
 
 		// Deduct resources
-		for (Map.Entry<ResourceType, Integer> entry : ROAD_COST.entrySet()) {
-			player.removeResource(entry.getKey(), entry.getValue());
-		}
+		player.pay(ROAD_COST_VECTOR);
 
 		// Consume road piece
 		player.useRoadPiece();
@@ -119,7 +184,7 @@ public class Bank {
 	 * @return true if player has road pieces available
 	 */
 	public boolean useRoadPieceSetup(Player player) {
-		if (player.getBuildings().get(BuildingType.ROAD) <= 0) {
+		if (player.getPieceCount(BuildingType.ROAD) <= 0) {
 			return false;
 		}
 		player.useRoadPiece();
@@ -132,7 +197,7 @@ public class Bank {
 	 * @return true if player has settlement pieces available
 	 */
 	public boolean useSettlementPieceSetup(Player player) {
-		if (player.getBuildings().get(BuildingType.SETTLEMENT) <= 0) {
+		if (player.getPieceCount(BuildingType.SETTLEMENT) <= 0) {
 			return false;
 		}
 		player.useSettlementPiece();
@@ -147,11 +212,7 @@ public class Bank {
 	 */
 	public void refundSettlement(Player player) {
 		// Return resources
-		for (Map.Entry<ResourceType, Integer> entry : SETTLEMENT_COST.entrySet()) {
-			for (int i = 0; i < entry.getValue(); i++) {
-				player.addResource(entry.getKey());
-			}
-		}
+		player.receive(SETTLEMENT_COST_VECTOR);
 
 		// Restore settlement piece
 		player.restoreSettlementPiece();
@@ -168,11 +229,7 @@ public class Bank {
 	 */
 	public void refundCity(Player player) {
 		// Return resources
-		for (Map.Entry<ResourceType, Integer> entry : CITY_COST.entrySet()) {
-			for (int i = 0; i < entry.getValue(); i++) {
-				player.addResource(entry.getKey());
-			}
-		}
+		player.receive(CITY_COST_VECTOR);
 
 		// Restore city piece
 		player.restoreCityPiece();
@@ -188,11 +245,7 @@ public class Bank {
 	 */
 	public void refundRoad(Player player) {
 		// Return resources
-		for (Map.Entry<ResourceType, Integer> entry : ROAD_COST.entrySet()) {
-			for (int i = 0; i < entry.getValue(); i++) {
-				player.addResource(entry.getKey());
-			}
-		}
+		player.receive(ROAD_COST_VECTOR);
 
 		// Restore road piece
 		player.restoreRoadPiece();
@@ -15,38 +15,237 @@ public class Board {
 	/** Array of all edges (roads) connecting nodes */
 	private Edge[] edges;
 
+	/** Shared empty result when the board has no edges yet */
+	private static final int[] NO_IDS = new int[0];
+
+	/** Immutable layout (incidence, neighbours, node-pair table), shared across boards when standard */
+	private BoardTopology topology;
+
+	/** Flat occupancy arrays kept in sync by the attached nodes and edges; null until first needed */
+	private BoardState state;
+
+	/** Legal build locations, shared by everything acting on this board; null until first needed */
+	private LegalMoveTracker legalMoves;
+
+	/** Longest road per seat, shared like legalMoves; null until first needed */
+	private LongestRoadTracker longestRoads;
+
 	/**
 	 * Sets the tiles array (called by board generator).
 	 * @param tiles The array of tiles to set
+	 * @throws IllegalStateException if game structures already listen to the board's state
 	 */
 	public void setTiles(Tile[] tiles) {
+		invalidateLayout();
 		this.tiles = tiles;
 	}
 
 	/**
 	 * Sets the nodes array (called by board generator).
 	 * @param nodes The array of nodes to set
+	 * @throws IllegalStateException if game structures already listen to the board's state
 	 */
 	public void setNodes(Node[] nodes) {
+		invalidateLayout();
 		this.nodes = nodes;
+		if (nodes != null) {
+			for (Node node : nodes) {
+				if (node != null) {
+					node.attachBoard(this);
+				}
+			}
+		}
 	}
 
 	/**
 	 * Sets the edges array (called by board generator).
 	 * @param edges The array of edges to set
+	 * @throws IllegalStateException if game structures already listen to the board's state
 	 */
 	public void setEdges(Edge[] edges) {
+		invalidateLayout();
 		this.edges = edges;
 	}
 
 	/**
-	 * Gets all nodes on the board.
+	 * Drops the layout built for the previous arrays; the next read builds it again.
+	 * Structures listening to the old state would silently stop seeing changes, so
+	 * replacing arrays under them is refused.
+	 */
+	private void invalidateLayout() {
+		if (state != null && state.hasListeners()) {
+			throw new IllegalStateException("Board layout cannot change once game structures listen to its state");
+		}
+		topology = null;
+		state = null;
+	}
+
+	/**
+	 * Builds the topology and occupancy state on first use, once the board is complete.
+	 * A standard board shares the singleton topology, so only the state is built per game.
+	 */
+	private void ensureLayout() {
+		if (state != null) {
+			return;
+		}
+		this.topology = edges == null ? null : BoardTopology.of(nodes, edges, tiles);
+
+		BoardState fresh = new BoardState(topology,
+				nodes == null ? 0 : nodes.length,
+				edges == null ? 0 : edges.length,
+				tiles == null ? 0 : tiles.length);
+		if (nodes != null) {
+			for (Node node : nodes) {
+				if (node != null) {
+					node.attachState(fresh);
+				}
+			}
+		}
+		if (edges != null) {
+			for (Edge edge : edges) {
+				if (edge != null) {
+					edge.attachState(fresh);
+				}
+			}
+		}
+		if (tiles != null) {
+			for (int i = 0; i < tiles.length; i++) {
+				fresh.updateTile(i, tiles[i]);
+			}
+		}
+		this.state = fresh;
+	}
+
+	/**
+	 * Gets the immutable layout of this board.
+	 * @return the topology, or null if edges are not set
+	 */
+	public BoardTopology getTopology() {
+		ensureLayout();
+		return topology;
+	}
+
+	/**
+	 * Gets the flat occupancy state of this board (owners, buildings, roads, tile numbers).
+	 * @return the board state
+	 */
+	public BoardState getState() {
+		ensureLayout();
+		return state;
+	}
+
+	/**
+	 * Gets the legal-move tracker of this board, creating it on first use. Trackers listen to the
+	 * state, so there is one per board and the layout is fixed from then on.
+	 * @return the tracker, or null if the board has no bitboards
+	 */
+	public LegalMoveTracker getLegalMoveTracker() {
+		if (legalMoves == null && getState().hasBitboards()) {
+			legalMoves = new LegalMoveTracker(this);
+		}
+		return legalMoves;
+	}
+
+	/**
+	 * Gets the longest-road tracker of this board, creating it on first use.
+	 * @return the tracker, or null if the board has no bitboards
+	 */
+	public LongestRoadTracker getLongestRoadTracker() {
+		if (longestRoads == null && getState().hasBitboards()) {
+			longestRoads = new LongestRoadTracker(this);
+		}
+		return longestRoads;
+	}
+
+	/**
+	 * Gets the id of the edge joining two nodes with a single table read (either node order).
+	 * @param nodeIdA first node ID
+	 * @param nodeIdB second node ID
+	 * @return the edge id, or -1 if the nodes are not joined by an edge or an id is invalid
+	 */
+	public int edgeIdBetween(int nodeIdA, int nodeIdB) {
+		BoardTopology layout = getTopology();
+		return layout == null ? -1 : layout.edgeIdBetween(nodeIdA, nodeIdB);
+	}
+
+	/**
+	 * Gets the ids of the edges touching a node (2 or 3 on a standard board).
+	 * The returned array is shared with the board and must not be modified.
+	 * @param nodeId The node ID
+	 * @return incident edge ids, or an empty array if the id is unknown
+	 */
+	public int[] getIncidentEdgeIds(int nodeId) {
+		BoardTopology layout = getTopology();
+		return layout == null ? NO_IDS : layout.getIncidentEdgeIds(nodeId);
+	}
+
+	/**
+	 * Gets the ids of the nodes one edge away from a node.
+	 * The returned array is shared with the board and must not be modified.
+	 * @param nodeId The node ID
+	 * @return neighbouring node ids, or an empty array if the id is unknown
+	 */
+	public int[] getNeighbourNodeIds(int nodeId) {
+		BoardTopology layout = getTopology();
+		return layout == null ? NO_IDS : layout.getNeighbourNodeIds(nodeId);
+	}
+
+	/**
+	 * Gets the indices of the tiles touching a node.
+	 * The returned array is shared with the board and must not be modified.
+	 * @param nodeId The node ID
+	 * @return tile indices, or an empty array if the id is unknown
+	 */
+	public int[] getNodeTileIds(int nodeId) {
+		BoardTopology layout = getTopology();
+		return layout == null ? NO_IDS : layout.getNodeTileIds(nodeId);
+	}
+
+	/**
+	 * Gets all nodes on the board. Loops should use getNodeCount() and getNode(id) instead,
+	 * which do not copy.
 	 * @return a defensive copy of the nodes array
 	 */
 	public Node[] getNodes() {
 		return nodes == null ? null : nodes.clone();
 	}
 
+	/**
+	 * Gets the number of nodes on the board without copying the nodes array.
+	 * @return node count, or 0 if nodes are not set
+	 */
+	public int getNodeCount() {
+		return nodes == null ? 0 : nodes.length;
+	}
+
+	/**
+	 * Gets the number of edges on the board without copying the edges array.
+	 * @return edge count, or 0 if edges are not set
+	 */
+	public int getEdgeCount() {
+		return edges == null ? 0 : edges.length;
+	}
+
+	/**
+	 * Gets the number of tiles on the board without copying the tiles array.
+	 * @return tile count, or 0 if tiles are not set
+	 */
+	public int getTileCount() {
+		return tiles == null ? 0 : tiles.length;
+	}
+
+	/**
+	 * Gets a tile by its index in the tiles array.
+	 * @param index the tile index
+	 * @return the tile, or null if invalid
+	 */
+	public Tile getTile(int index) {
+		if (tiles == null || index < 0 || index >= tiles.length) {
+			return null;
+		}
+		return tiles[index];
+	}
+
 	/**
 	 * Gets a tile by its cube coordinates.
 	 * @param q The q coordinate
@@ -105,30 +304,13 @@ public class Board {
 	 * @return the edge if found, null otherwise
 	 */
 	public Edge findEdge(int nodeIdA, int nodeIdB) {
-		// Check if edges are initialized
-		if (edges == null) {
-			return null;
-		}
-		
-		// Search through all edges
-		for (Edge edge : edges) {
-			if (edge != null) {
-				int edgeNodeA = edge.getNodeA().getId();
-				int edgeNodeB = edge.getNodeB().getId();
-				// Check both orders: (A,B) or (B,A)
-				if ((edgeNodeA == nodeIdA && edgeNodeB == nodeIdB) ||
-					(edgeNodeA == nodeIdB && edgeNodeB == nodeIdA)) {
-					return edge;
-				}
-			}
-		}
-		// Edge not found
-		return null;
+		int edgeId = edgeIdBetween(nodeIdA, nodeIdB);
+		return edgeId < 0 ? null : getEdge(edgeId);
 	}
 
 
 	/**
-	 * Gets all tiles on the board
+	 * Gets all tiles on the board. Loops should use getTileCount() and getTile(index) instead.
 	 * @return a defensive copy of the tiles array
 	 */
 	public Tile[] getTiles() {
@@ -136,7 +318,7 @@ public class Board {
 	}
 
 	/**
-	 * Gets all edges on the board
+	 * Gets all edges on the board. Loops should use getEdgeCount() and getEdge(id) instead.
 	 * @return a defensive copy of the edges array
 	 */
 	public Edge[] getEdges() {
@@ -0,0 +1,20 @@
+package SettlersOfCatan;
+
+/**
+ * Observer notified by BoardState when a node's building or an edge's road changes,
+ * so derived structures can update incrementally instead of rescanning the board.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public interface BoardChangeListener {
+	/**
+	 * Called after the building on a node is placed, upgraded or removed.
+	 * @param nodeId the changed node
+	 */
+	void nodeChanged(int nodeId);
+
+	/**
+	 * Called after the road on an edge is placed or removed.
+	 * @param edgeId the changed edge
+	 */
+	void roadChanged(int edgeId);
+}
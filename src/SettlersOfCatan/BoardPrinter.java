@@ -12,8 +12,7 @@ public class BoardPrinter {
 	 * @param board The board containing the tiles to print
 	 */
 	public static void printTiles(Board board) {
-		Tile[] tiles = board.getTiles();
-		if (tiles == null) {
+		if (board.getTileCount() == 0) {
 			System.out.println("No tiles generated yet.");
 			return;
 		}
@@ -23,8 +22,8 @@ public class BoardPrinter {
 		System.out.println("------|-------------------|-----------|------");
 
 		// Print each tile's information
-		for (int i = 0; i < tiles.length; i++) {
-			Tile tile = tiles[i];
+		for (int i = 0; i < board.getTileCount(); i++) {
+			Tile tile = board.getTile(i);
 			if (tile != null) {
 				// Format token string (DESERT for 0, otherwise the number)
 				String tokenStr = (tile.getNumber() == 0) ? "DESERT" : String.valueOf(tile.getNumber());
@@ -41,8 +40,8 @@ public class BoardPrinter {
 	 * @param board The board containing the nodes to print
 	 */
 	public static void printNodes(Board board) {
-		Node[] nodes = board.getNodes();
-		if (nodes == null) {
+		int count = board.getNodeCount();
+		if (count == 0) {
 			System.out.println("No nodes generated yet.");
 			return;
 		}
@@ -50,13 +49,13 @@ public class BoardPrinter {
 		System.out.println("\n=== NODES ===");
 		System.out.print("Node IDs: ");
 		// Print all node IDs, 10 per line for readability
-		for (int i = 0; i < nodes.length; i++) {
+		for (int i = 0; i < count; i++) {
 			System.out.print(i);
-			if (i < nodes.length - 1) {
+			if (i < count - 1) {
 				System.out.print(", ");
 			}
 			// Print 10 per line for readability
-			if ((i + 1) % 10 == 0 && i < nodes.length - 1) {
+			if ((i + 1) % 10 == 0 && i < count - 1) {
 				System.out.println();
 				System.out.print("          ");
 			}
@@ -0,0 +1,474 @@
+package SettlersOfCatan;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Per-game board occupancy as flat byte arrays: who owns each node, what is built there,
+ * who owns each road, and each tile's terrain and dice number. The layout itself is in
+ * BoardTopology and shared between games.
+ * Nodes and edges attached to a board write through to this state, so builds (and their undos)
+ * keep it in sync without callers doing anything extra.
+ * Owners are stored as seats (the player's color ordinal), or NO_OWNER.
+ * On standard-sized layouts the state also keeps bitboards (one bit per node, two longs of
+ * edge bits) so legality checks reduce to a few mask operations.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class BoardState {
+	/** Owner value for an empty node or edge */
+	public static final int NO_OWNER = -1;
+
+	/** Building value for an empty node */
+	public static final int NO_BUILDING = 0;
+
+	/** Building value for a settlement */
+	public static final int SETTLEMENT = 1;
+
+	/** Building value for a city */
+	public static final int CITY = 2;
+
+	/** Owner seat of the building on each node, by node id */
+	private final byte[] nodeOwner;
+
+	/** Building type on each node, by node id */
+	private final byte[] nodeBuilding;
+
+	/** Owner seat of the road on each edge, by edge id */
+	private final byte[] roadOwner;
+
+	/** Dice number of each tile (0 for desert), by tile index */
+	private final byte[] tileNumber;
+
+	/** Terrain ordinal of each tile, by tile index */
+	private final byte[] tileTerrain;
+
+	/** Structures kept in step with node and road changes */
+	private final List<BoardChangeListener> listeners = new ArrayList<>();
+
+	/** Number of seats tracked by the bitboards */
+	private static final int SEATS = PlayerColor.values().length;
+
+	/** Layout providing neighbour and incidence masks, or null when bitboards are off */
+	private final BoardTopology bitboardTopology;
+
+	/** Bitboard of each seat's settlements */
+	private final long[] settlementMask = new long[SEATS];
+
+	/** Bitboard of each seat's cities */
+	private final long[] cityMask = new long[SEATS];
+
+	/** Bitboard of each seat's roads, edges 0-63 */
+	private final long[] roadMaskLo = new long[SEATS];
+
+	/** Bitboard of each seat's roads, edges 64-127 */
+	private final long[] roadMaskHi = new long[SEATS];
+
+	/** Bitboard of the nodes each seat's roads touch */
+	private final long[] roadNodeMask = new long[SEATS];
+
+	/** Bitboard of every node holding a building */
+	private long occupiedNodes;
+
+	/** Bitboard of nodes that are occupied or next to an occupied node (distance rule) */
+	private long blockedNodes;
+
+	/** Bitboard of edges 0-63 holding a road */
+	private long occupiedEdgesLo;
+
+	/** Bitboard of edges 64-127 holding a road */
+	private long occupiedEdgesHi;
+
+	/**
+	 * Creates an empty state.
+	 * @param nodeCount number of nodes
+	 * @param edgeCount number of edges
+	 * @param tileCount number of tiles
+	 */
+	public BoardState(int nodeCount, int edgeCount, int tileCount) {
+		this(null, nodeCount, edgeCount, tileCount);
+	}
+
+	/**
+	 * Creates an empty state with bitboards when the layout fits them.
+	 * @param topology the board layout, or null
+	 * @param nodeCount number of nodes
+	 * @param edgeCount number of edges
+	 * @param tileCount number of tiles
+	 */
+	public BoardState(BoardTopology topology, int nodeCount, int edgeCount, int tileCount) {
+		this.bitboardTopology = topology != null && topology.supportsBitboards()
+				&& topology.getNodeCount() >= nodeCount && topology.getEdgeCount() >= edgeCount ? topology : null;
+		this.nodeOwner = new byte[nodeCount];
+		this.nodeBuilding = new byte[nodeCount];
+		this.roadOwner = new byte[edgeCount];
+		this.tileNumber = new byte[tileCount];
+		this.tileTerrain = new byte[tileCount];
+		Arrays.fill(nodeOwner, (byte) NO_OWNER);
+		Arrays.fill(roadOwner, (byte) NO_OWNER);
+	}
+
+	/**
+	 * Gets the seat used for a player in this state.
+	 * @param player the player, or null
+	 * @return the player's color ordinal, or NO_OWNER for null
+	 */
+	public static int seatOf(Player player) {
+		return player == null ? NO_OWNER : player.getColor().ordinal();
+	}
+
+	/**
+	 * Gets the seat owning the building on a node.
+	 * @param nodeId the node ID
+	 * @return owner seat, or NO_OWNER if the node is empty
+	 */
+	public int getNodeOwner(int nodeId) {
+		return nodeOwner[nodeId];
+	}
+
+	/**
+	 * Gets the building type on a node.
+	 * @param nodeId the node ID
+	 * @return NO_BUILDING, SETTLEMENT or CITY
+	 */
+	public int getBuildingType(int nodeId) {
+		return nodeBuilding[nodeId];
+	}
+
+	/**
+	 * Gets the seat owning the road on an edge.
+	 * @param edgeId the edge ID
+	 * @return owner seat, or NO_OWNER if the edge is empty
+	 */
+	public int getRoadOwner(int edgeId) {
+		return roadOwner[edgeId];
+	}
+
+	/**
+	 * Gets the dice number of a tile.
+	 * @param tileIndex the tile index
+	 * @return dice number (0 for desert)
+	 */
+	public int getTileNumber(int tileIndex) {
+		return tileNumber[tileIndex];
+	}
+
+	/**
+	 * Gets the terrain of a tile.
+	 * @param tileIndex the tile index
+	 * @return terrain type
+	 */
+	public TerrainType getTileTerrain(int tileIndex) {
+		return TerrainType.VALUES[tileTerrain[tileIndex]];
+	}
+
+	/**
+	 * Gets the number of nodes tracked.
+	 * @return node count
+	 */
+	public int getNodeCount() {
+		return nodeOwner.length;
+	}
+
+	/**
+	 * Gets the number of edges tracked.
+	 * @return edge count
+	 */
+	public int getEdgeCount() {
+		return roadOwner.length;
+	}
+
+	/**
+	 * Registers a listener for node and road changes.
+	 * @param listener the listener to notify
+	 */
+	public void addListener(BoardChangeListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Checks whether any structure listens to this state.
+	 * @return true if at least one listener is registered
+	 */
+	boolean hasListeners() {
+		return !listeners.isEmpty();
+	}
+
+	/**
+	 * Stops notifying a listener.
+	 * @param listener the listener to remove
+	 */
+	public void removeListener(BoardChangeListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Records the building now on a node (called by Node).
+	 * @param nodeId the node ID
+	 * @param building the building, or null when cleared
+	 */
+	void updateNode(int nodeId, Building building) {
+		if (nodeId < 0 || nodeId >= nodeOwner.length) {
+			return;
+		}
+		int previousOwner = nodeOwner[nodeId];
+		if (building == null) {
+			nodeOwner[nodeId] = (byte) NO_OWNER;
+			nodeBuilding[nodeId] = NO_BUILDING;
+		} else {
+			nodeOwner[nodeId] = (byte) seatOf(building.getOwner());
+			nodeBuilding[nodeId] = (byte) (building instanceof City ? CITY : SETTLEMENT);
+		}
+		if (bitboardTopology != null) {
+			updateNodeMasks(nodeId, previousOwner);
+		}
+		for (int i = 0; i < listeners.size(); i++) {
+			listeners.get(i).nodeChanged(nodeId);
+		}
+	}
+
+	/**
+	 * Records the road now on an edge (called by Edge).
+	 * @param edgeId the edge ID
+	 * @param road the road, or null when cleared
+	 */
+	void updateRoad(int edgeId, Road road) {
+		if (edgeId < 0 || edgeId >= roadOwner.length) {
+			return;
+		}
+		int previousOwner = roadOwner[edgeId];
+		roadOwner[edgeId] = (byte) (road == null ? NO_OWNER : seatOf(road.getOwner()));
+		if (bitboardTopology != null) {
+			updateRoadMasks(edgeId, previousOwner);
+		}
+		for (int i = 0; i < listeners.size(); i++) {
+			listeners.get(i).roadChanged(edgeId);
+		}
+	}
+
+	/**
+	 * Records a tile's terrain and number (called by Board when tiles are set).
+	 * @param tileIndex the tile index
+	 * @param tile the tile
+	 */
+	void updateTile(int tileIndex, Tile tile) {
+		if (tile == null) {
+			return;
+		}
+		tileNumber[tileIndex] = (byte) tile.getNumber();
+		tileTerrain[tileIndex] = (byte) tile.getTerrain().ordinal();
+	}
+
+	// BITBOARDS
+
+	/**
+	 * Checks whether this state keeps bitboards (standard-sized layouts only).
+	 * @return true if the mask queries below are available
+	 */
+	public boolean hasBitboards() {
+		return bitboardTopology != null;
+	}
+
+	/**
+	 * Checks the distance rule with one mask test: the node and its neighbours are empty.
+	 * Requires bitboards.
+	 * @param nodeId the node ID
+	 * @return true if a settlement may go here
+	 */
+	public boolean isBuildable(int nodeId) {
+		return (blockedNodes & (1L << nodeId)) == 0;
+	}
+
+	/**
+	 * Gets the bitboard of nodes that pass the distance rule.
+	 * @return buildable node mask
+	 */
+	public long getBuildableNodeMask() {
+		return ~blockedNodes & allNodesMask();
+	}
+
+	/**
+	 * Gets the bitboard of nodes holding any building.
+	 * @return occupied node mask
+	 */
+	public long getOccupiedNodeMask() {
+		return occupiedNodes;
+	}
+
+	/**
+	 * Gets the bitboard of a seat's settlements.
+	 * @param seat the seat
+	 * @return settlement mask, or 0 for an unknown seat
+	 */
+	public long getSettlementMask(int seat) {
+		return validSeat(seat) ? settlementMask[seat] : 0L;
+	}
+
+	/**
+	 * Gets the bitboard of a seat's cities.
+	 * @param seat the seat
+	 * @return city mask, or 0 for an unknown seat
+	 */
+	public long getCityMask(int seat) {
+		return validSeat(seat) ? cityMask[seat] : 0L;
+	}
+
+	/**
+	 * Gets the bitboard of a seat's settlements and cities.
+	 * @param seat the seat
+	 * @return building mask, or 0 for an unknown seat
+	 */
+	public long getBuildingMask(int seat) {
+		return validSeat(seat) ? settlementMask[seat] | cityMask[seat] : 0L;
+	}
+
+	/**
+	 * Gets the bitboard of a seat's roads on edges 0-63.
+	 * @param seat the seat
+	 * @return low road mask, or 0 for an unknown seat
+	 */
+	public long getRoadMaskLo(int seat) {
+		return validSeat(seat) ? roadMaskLo[seat] : 0L;
+	}
+
+	/**
+	 * Gets the bitboard of a seat's roads on edges 64-127.
+	 * @param seat the seat
+	 * @return high road mask, or 0 for an unknown seat
+	 */
+	public long getRoadMaskHi(int seat) {
+		return validSeat(seat) ? roadMaskHi[seat] : 0L;
+	}
+
+	/**
+	 * Gets the bitboard of nodes touched by a seat's roads.
+	 * @param seat the seat
+	 * @return road node mask, or 0 for an unknown seat
+	 */
+	public long getRoadNodeMask(int seat) {
+		return validSeat(seat) ? roadNodeMask[seat] : 0L;
+	}
+
+	/**
+	 * Gets the free edges 0-63 a seat may build a road on: empty edges touching
+	 * one of its buildings or roads.
+	 * @param seat the seat
+	 * @return low candidate edge mask
+	 */
+	public long getRoadCandidateMaskLo(int seat) {
+		long edges = 0L;
+		for (long m = getBuildingMask(seat) | getRoadNodeMask(seat); m != 0; m &= m - 1) {
+			edges |= bitboardTopology.getIncidentEdgeMaskLo(Long.numberOfTrailingZeros(m));
+		}
+		return edges & ~occupiedEdgesLo;
+	}
+
+	/**
+	 * Gets the free edges 64-127 a seat may build a road on.
+	 * @param seat the seat
+	 * @return high candidate edge mask
+	 */
+	public long getRoadCandidateMaskHi(int seat) {
+		long edges = 0L;
+		for (long m = getBuildingMask(seat) | getRoadNodeMask(seat); m != 0; m &= m - 1) {
+			edges |= bitboardTopology.getIncidentEdgeMaskHi(Long.numberOfTrailingZeros(m));
+		}
+		return edges & ~occupiedEdgesHi;
+	}
+
+	/**
+	 * Checks whether a seat index has masks.
+	 */
+	private static boolean validSeat(int seat) {
+		return seat >= 0 && seat < SEATS;
+	}
+
+	/**
+	 * Gets a mask with one bit per node on the board.
+	 */
+	private long allNodesMask() {
+		return nodeOwner.length == 64 ? -1L : (1L << nodeOwner.length) - 1;
+	}
+
+	/**
+	 * Moves a node's bit between the per-seat masks and refreshes the blocking mask.
+	 */
+	private void updateNodeMasks(int nodeId, int previousOwner) {
+		long bit = 1L << nodeId;
+		if (validSeat(previousOwner)) {
+			settlementMask[previousOwner] &= ~bit;
+			cityMask[previousOwner] &= ~bit;
+		}
+		int owner = nodeOwner[nodeId];
+		if (validSeat(owner)) {
+			if (nodeBuilding[nodeId] == CITY) {
+				cityMask[owner] |= bit;
+			} else {
+				settlementMask[owner] |= bit;
+			}
+			occupiedNodes |= bit;
+		} else {
+			occupiedNodes &= ~bit;
+		}
+
+		// Removals can unblock shared neighbours, so rebuild from the occupied nodes (at most a few dozen)
+		long blocked = 0L;
+		for (long m = occupiedNodes; m != 0; m &= m - 1) {
+			int id = Long.numberOfTrailingZeros(m);
+			blocked |= (1L << id) | bitboardTopology.getNeighbourMask(id);
+		}
+		blockedNodes = blocked;
+	}
+
+	/**
+	 * Moves an edge's bit between the per-seat road masks and refreshes the road node masks.
+	 */
+	private void updateRoadMasks(int edgeId, int previousOwner) {
+		boolean low = edgeId < 64;
+		long bit = 1L << (low ? edgeId : edgeId - 64);
+		if (validSeat(previousOwner)) {
+			if (low) {
+				roadMaskLo[previousOwner] &= ~bit;
+			} else {
+				roadMaskHi[previousOwner] &= ~bit;
+			}
+			roadNodeMask[previousOwner] = nodesTouchedBy(previousOwner);
+		}
+		int owner = roadOwner[edgeId];
+		if (validSeat(owner)) {
+			if (low) {
+				roadMaskLo[owner] |= bit;
+				occupiedEdgesLo |= bit;
+			} else {
+				roadMaskHi[owner] |= bit;
+				occupiedEdgesHi |= bit;
+			}
+			roadNodeMask[owner] |= endpointMask(edgeId);
+		} else if (low) {
+			occupiedEdgesLo &= ~bit;
+		} else {
+			occupiedEdgesHi &= ~bit;
+		}
+	}
+
+	/**
+	 * Collects the endpoints of all of a seat's roads.
+	 */
+	private long nodesTouchedBy(int seat) {
+		long nodes = 0L;
+		for (long m = roadMaskLo[seat]; m != 0; m &= m - 1) {
+			nodes |= endpointMask(Long.numberOfTrailingZeros(m));
+		}
+		for (long m = roadMaskHi[seat]; m != 0; m &= m - 1) {
+			nodes |= endpointMask(64 + Long.numberOfTrailingZeros(m));
+		}
+		return nodes;
+	}
+
+	/**
+	 * Gets the two-bit node mask of an edge's endpoints.
+	 */
+	private long endpointMask(int edgeId) {
+		return (1L << bitboardTopology.getEdgeNodeA(edgeId)) | (1L << bitboardTopology.getEdgeNodeB(edgeId));
+	}
+}
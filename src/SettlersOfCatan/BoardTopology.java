@@ -0,0 +1,478 @@
+package SettlersOfCatan;
+
+import java.util.Arrays;
+
+/**
+ * Immutable board layout: which nodes touch which tiles, which nodes each edge joins,
+ * and the tile coordinates. The standard 19-tile layout is the same in every game,
+ * so it is built once and shared by all boards (and all concurrently running games).
+ * Per-game occupancy lives in BoardState.
+ * All arrays returned by this class are shared and must not be modified.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class BoardTopology {
+	/** Number of intersection nodes on the standard board */
+	public static final int NODE_COUNT = 54;
+
+	/** Number of edges on the standard board */
+	public static final int EDGE_COUNT = 72;
+
+	/** Number of hex tiles on the standard board */
+	public static final int TILE_COUNT = 19;
+
+	/** Shared empty result for ids outside the index */
+	private static final int[] NO_IDS = new int[0];
+
+	/** Node ids around each standard tile, in clockwise order */
+	private static final int[][] STANDARD_TILE_NODES = {
+		{1, 2, 3, 4, 5, 0},    		// Tile  0
+		{6, 7, 8, 9, 3, 2}, 	// Tile  1
+		{3, 9, 10, 11, 12, 4}, 	// Tile  2
+		{5, 4, 12, 14, 15, 13},  	// Tile  3
+		{17, 0, 5, 13, 18, 16}, 		// Tile  4
+		{20, 21, 1, 0, 17, 19},  	// Tile  5
+		{22, 23, 6, 2, 1, 21}, 	// Tile  6
+		{24, 25, 26, 27, 8, 7},	// Tile  7
+		{8, 27, 28, 29, 10, 9},  	// Tile  8
+		{10, 29, 30, 31, 32, 11}, 	// Tile  9
+		{12, 11, 32, 33, 34, 14}, 	// Tile 10
+		{15, 14, 34, 36, 37, 35}, 	// Tile 11
+		{18, 13, 15, 35, 39, 38}, 	// Tile 12
+		{41, 16, 18, 38, 42, 40}, 	// Tile 13
+		{44, 19, 17, 16, 41, 43}, 	// Tile 14
+		{46, 47, 20, 19, 44, 45}, 	// Tile 15
+		{48, 49, 22, 21, 20, 47}, 	// Tile 16
+		{50, 51, 52, 23, 22, 49}, 	// Tile 17
+		{52, 53, 24, 7, 6, 23}    // Tile 18
+	};
+
+	/** Cube coordinates (q, s, r) of each standard tile */
+	private static final int[][] STANDARD_TILE_COORDS = {
+		{0, 0, 0}, {0, -1, 1}, {-1, 0, 1},
+		{-1, 1, 0}, {0, 1, -1}, {1, 0, -1},
+		{1, -1, 0}, {0, -2, 2}, {-1, -1, 2},
+		{-2, 0, 2}, {-2, 1, 1}, {-2, 2, 0},
+		{-1, 2, -1}, {0, 2, -2}, {1, 1, -2},
+		{2, 0, -2}, {2, -1, -1}, {2, -2, 0},
+		{1, -2, 1}
+	};
+
+	/** The shared standard layout */
+	private static final BoardTopology STANDARD = createStandard();
+
+	/** Number of indexed nodes */
+	private final int nodeCount;
+
+	/** First endpoint of each edge, by edge id */
+	private final int[] edgeNodeA;
+
+	/** Second endpoint of each edge, by edge id */
+	private final int[] edgeNodeB;
+
+	/** Node ids around each tile, by tile index */
+	private final int[][] tileNodeIds;
+
+	/** Cube coordinates of each tile, by tile index */
+	private final int[][] tileCoords;
+
+	/** Node id to the ids of the edges touching it */
+	private final int[][] incidentEdgeIds;
+
+	/** Node id to the ids of its neighbouring nodes */
+	private final int[][] neighbourNodeIds;
+
+	/** Node id to the indices of the tiles touching it */
+	private final int[][] nodeTileIds;
+
+	/** Dense node-pair table: edge id at [min * nodeCount + max], or -1 if the nodes are not joined */
+	private final int[] edgeIdByNodePair;
+
+	/** Distance value for edges that cannot reach each other */
+	public static final int UNREACHABLE = Byte.MAX_VALUE;
+
+	/** Edge hop distances, [a * edgeCount + b]: 1 for edges sharing a node, UNREACHABLE if disconnected */
+	private final byte[] edgeDistance;
+
+	/** Bitboard of each node's neighbours (only filled when the board fits in bitboards) */
+	private final long[] neighbourMask;
+
+	/** Bitboard of the edges touching each node, edges 0-63 */
+	private final long[] incidentEdgeMaskLo;
+
+	/** Bitboard of the edges touching each node, edges 64-127 */
+	private final long[] incidentEdgeMaskHi;
+
+	/**
+	 * Builds a topology from raw arrays and derives all indexes from them.
+	 * @param nodeCount number of nodes
+	 * @param edgeNodeA first endpoint of each edge
+	 * @param edgeNodeB second endpoint of each edge
+	 * @param tileNodeIds node ids around each tile
+	 * @param tileCoords cube coordinates of each tile
+	 */
+	private BoardTopology(int nodeCount, int[] edgeNodeA, int[] edgeNodeB, int[][] tileNodeIds, int[][] tileCoords) {
+		this.nodeCount = nodeCount;
+		this.edgeNodeA = edgeNodeA;
+		this.edgeNodeB = edgeNodeB;
+		this.tileNodeIds = tileNodeIds;
+		this.tileCoords = tileCoords;
+
+		// First pass: count edges per node, second pass fills edge and neighbour ids in edge order
+		int[] degree = new int[nodeCount];
+		for (int e = 0; e < edgeNodeA.length; e++) {
+			if (edgeNodeA[e] < 0) {
+				continue;
+			}
+			degree[edgeNodeA[e]]++;
+			degree[edgeNodeB[e]]++;
+		}
+		this.incidentEdgeIds = new int[nodeCount][];
+		this.neighbourNodeIds = new int[nodeCount][];
+		for (int i = 0; i < nodeCount; i++) {
+			incidentEdgeIds[i] = new int[degree[i]];
+			neighbourNodeIds[i] = new int[degree[i]];
+		}
+		int[] filled = new int[nodeCount];
+		this.edgeIdByNodePair = new int[nodeCount * nodeCount];
+		Arrays.fill(edgeIdByNodePair, -1);
+		for (int e = 0; e < edgeNodeA.length; e++) {
+			int a = edgeNodeA[e];
+			int b = edgeNodeB[e];
+			if (a < 0) {
+				continue;
+			}
+			incidentEdgeIds[a][filled[a]] = e;
+			neighbourNodeIds[a][filled[a]++] = b;
+			incidentEdgeIds[b][filled[b]] = e;
+			neighbourNodeIds[b][filled[b]++] = a;
+
+			// Only the (min, max) cell is filled; lookups normalize the order
+			edgeIdByNodePair[Math.min(a, b) * nodeCount + Math.max(a, b)] = e;
+		}
+
+		// Bitboards: one bit per node in a long, one bit per edge across two longs
+		this.neighbourMask = new long[nodeCount];
+		this.incidentEdgeMaskLo = new long[nodeCount];
+		this.incidentEdgeMaskHi = new long[nodeCount];
+		if (supportsBitboards()) {
+			for (int i = 0; i < nodeCount; i++) {
+				for (int other : neighbourNodeIds[i]) {
+					neighbourMask[i] |= 1L << other;
+				}
+				for (int e : incidentEdgeIds[i]) {
+					if (e < 64) {
+						incidentEdgeMaskLo[i] |= 1L << e;
+					} else {
+						incidentEdgeMaskHi[i] |= 1L << (e - 64);
+					}
+				}
+			}
+		}
+
+		this.edgeDistance = buildEdgeDistances();
+
+		// Tiles touching each node, in tile order
+		int[] tileDegree = new int[nodeCount];
+		for (int[] nodes : tileNodeIds) {
+			for (int nodeId : nodes) {
+				tileDegree[nodeId]++;
+			}
+		}
+		this.nodeTileIds = new int[nodeCount][];
+		for (int i = 0; i < nodeCount; i++) {
+			nodeTileIds[i] = new int[tileDegree[i]];
+		}
+		Arrays.fill(filled, 0);
+		for (int t = 0; t < tileNodeIds.length; t++) {
+			for (int nodeId : tileNodeIds[t]) {
+				nodeTileIds[nodeId][filled[nodeId]++] = t;
+			}
+		}
+	}
+
+	/**
+	 * Runs one breadth-first search per edge over the "shares a node" relation to fill the
+	 * all-pairs edge distance table. Runs once per topology (once per process for the standard board).
+	 * @return the distance table
+	 */
+	private byte[] buildEdgeDistances() {
+		int edgeCount = edgeNodeA.length;
+		byte[] distances = new byte[edgeCount * edgeCount];
+		Arrays.fill(distances, (byte) UNREACHABLE);
+		int[] queue = new int[edgeCount];
+		for (int start = 0; start < edgeCount; start++) {
+			if (edgeNodeA[start] < 0) {
+				continue;
+			}
+			int row = start * edgeCount;
+			distances[row + start] = 0;
+			int head = 0;
+			int tail = 0;
+			queue[tail++] = start;
+			while (head < tail) {
+				int current = queue[head++];
+				int next = distances[row + current] + 1;
+				for (int side = 0; side < 2; side++) {
+					int end = side == 0 ? edgeNodeA[current] : edgeNodeB[current];
+					for (int candidate : incidentEdgeIds[end]) {
+						if (distances[row + candidate] == UNREACHABLE) {
+							distances[row + candidate] = (byte) Math.min(next, UNREACHABLE - 1);
+							queue[tail++] = candidate;
+						}
+					}
+				}
+			}
+		}
+		return distances;
+	}
+
+	/**
+	 * Creates the standard layout. Edges are numbered by walking each tile's nodes in order
+	 * and skipping node pairs already joined, which is the numbering boards have always used.
+	 * @return the standard topology
+	 */
+	private static BoardTopology createStandard() {
+		int[] edgeNodeA = new int[EDGE_COUNT];
+		int[] edgeNodeB = new int[EDGE_COUNT];
+		boolean[] joined = new boolean[NODE_COUNT * NODE_COUNT];
+		int edgeId = 0;
+		for (int[] nodeIds : STANDARD_TILE_NODES) {
+			for (int i = 0; i < nodeIds.length; i++) {
+				int a = nodeIds[i];
+				int b = nodeIds[(i + 1) % nodeIds.length];
+				int pairKey = Math.min(a, b) * NODE_COUNT + Math.max(a, b);
+				if (!joined[pairKey]) {
+					joined[pairKey] = true;
+					edgeNodeA[edgeId] = a;
+					edgeNodeB[edgeId] = b;
+					edgeId++;
+				}
+			}
+		}
+		return new BoardTopology(NODE_COUNT, edgeNodeA, edgeNodeB, STANDARD_TILE_NODES, STANDARD_TILE_COORDS);
+	}
+
+	/**
+	 * Gets the shared standard 54-node, 72-edge, 19-tile layout.
+	 * @return the standard topology
+	 */
+	public static BoardTopology standard() {
+		return STANDARD;
+	}
+
+	/**
+	 * Builds the topology of a hand-made board, or returns the shared standard layout
+	 * when the board matches it.
+	 * @param nodes the board nodes (may be null)
+	 * @param edges the board edges
+	 * @param tiles the board tiles (may be null)
+	 * @return a topology describing the board
+	 */
+	static BoardTopology of(Node[] nodes, Edge[] edges, Tile[] tiles) {
+		// Size the index by the highest node id seen (nodes may not be set yet)
+		// Edges are indexed by array position, matching Board.getEdge; empty slots get -1 endpoints
+		int count = nodes == null ? 0 : nodes.length;
+		int[] edgeNodeA = new int[edges.length];
+		int[] edgeNodeB = new int[edges.length];
+		for (int e = 0; e < edges.length; e++) {
+			Edge edge = edges[e];
+			edgeNodeA[e] = edge == null ? -1 : edge.getNodeA().getId();
+			edgeNodeB[e] = edge == null ? -1 : edge.getNodeB().getId();
+			count = Math.max(count, Math.max(edgeNodeA[e], edgeNodeB[e]) + 1);
+		}
+
+		int tileCount = tiles == null ? 0 : tiles.length;
+		int[][] tileNodeIds = new int[tileCount][];
+		int[][] tileCoords = new int[tileCount][];
+		for (int t = 0; t < tileCount; t++) {
+			int[] ids = tiles[t] == null ? null : tiles[t].getNodeIds();
+			tileNodeIds[t] = ids == null ? NO_IDS : ids;
+			for (int nodeId : tileNodeIds[t]) {
+				count = Math.max(count, nodeId + 1);
+			}
+			tileCoords[t] = tiles[t] == null ? new int[3] : new int[] {tiles[t].getQ(), tiles[t].getS(), tiles[t].getR()};
+		}
+
+		if (STANDARD.matches(count, edgeNodeA, edgeNodeB, tileNodeIds)) {
+			return STANDARD;
+		}
+		return new BoardTopology(count, edgeNodeA, edgeNodeB, tileNodeIds, tileCoords);
+	}
+
+	/**
+	 * Checks whether raw board arrays describe this topology.
+	 */
+	private boolean matches(int count, int[] nodeA, int[] nodeB, int[][] tiles) {
+		if (count != nodeCount || !Arrays.equals(nodeA, edgeNodeA) || !Arrays.equals(nodeB, edgeNodeB)) {
+			return false;
+		}
+		return tiles.length == 0 || Arrays.deepEquals(tiles, tileNodeIds);
+	}
+
+	/**
+	 * Gets the number of nodes.
+	 * @return node count
+	 */
+	public int getNodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 * Gets the number of edges.
+	 * @return edge count
+	 */
+	public int getEdgeCount() {
+		return edgeNodeA.length;
+	}
+
+	/**
+	 * Gets the number of tiles.
+	 * @return tile count
+	 */
+	public int getTileCount() {
+		return tileNodeIds.length;
+	}
+
+	/**
+	 * Gets the first endpoint of an edge.
+	 * @param edgeId the edge ID
+	 * @return node id, or -1 for an empty edge slot on a hand-made board
+	 */
+	public int getEdgeNodeA(int edgeId) {
+		return edgeNodeA[edgeId];
+	}
+
+	/**
+	 * Gets the second endpoint of an edge.
+	 * @param edgeId the edge ID
+	 * @return node id, or -1 for an empty edge slot on a hand-made board
+	 */
+	public int getEdgeNodeB(int edgeId) {
+		return edgeNodeB[edgeId];
+	}
+
+	/**
+	 * Gets the node ids around a tile (shared array).
+	 * @param tileIndex the tile index
+	 * @return node ids, or an empty array if the index is unknown
+	 */
+	public int[] getTileNodeIds(int tileIndex) {
+		if (tileIndex < 0 || tileIndex >= tileNodeIds.length) {
+			return NO_IDS;
+		}
+		return tileNodeIds[tileIndex];
+	}
+
+	/**
+	 * Gets the cube coordinates (q, s, r) of a tile (shared array).
+	 * @param tileIndex the tile index
+	 * @return coordinates, or an empty array if the index is unknown
+	 */
+	public int[] getTileCoords(int tileIndex) {
+		if (tileIndex < 0 || tileIndex >= tileCoords.length) {
+			return NO_IDS;
+		}
+		return tileCoords[tileIndex];
+	}
+
+	/**
+	 * Gets the ids of the edges touching a node (shared array).
+	 * @param nodeId the node ID
+	 * @return incident edge ids, or an empty array if the id is unknown
+	 */
+	public int[] getIncidentEdgeIds(int nodeId) {
+		if (nodeId < 0 || nodeId >= nodeCount) {
+			return NO_IDS;
+		}
+		return incidentEdgeIds[nodeId];
+	}
+
+	/**
+	 * Gets the ids of the nodes one edge away from a node (shared array).
+	 * @param nodeId the node ID
+	 * @return neighbouring node ids, or an empty array if the id is unknown
+	 */
+	public int[] getNeighbourNodeIds(int nodeId) {
+		if (nodeId < 0 || nodeId >= nodeCount) {
+			return NO_IDS;
+		}
+		return neighbourNodeIds[nodeId];
+	}
+
+	/**
+	 * Gets the indices of the tiles touching a node (shared array).
+	 * @param nodeId the node ID
+	 * @return tile indices, or an empty array if the id is unknown
+	 */
+	public int[] getNodeTileIds(int nodeId) {
+		if (nodeId < 0 || nodeId >= nodeCount) {
+			return NO_IDS;
+		}
+		return nodeTileIds[nodeId];
+	}
+
+	/**
+	 * Gets the id of the edge joining two nodes with a single table read (either node order).
+	 * @param nodeIdA first node ID
+	 * @param nodeIdB second node ID
+	 * @return the edge id, or -1 if the nodes are not joined by an edge or an id is invalid
+	 */
+	public int edgeIdBetween(int nodeIdA, int nodeIdB) {
+		int low = Math.min(nodeIdA, nodeIdB);
+		int high = Math.max(nodeIdA, nodeIdB);
+		if (low < 0 || high >= nodeCount) {
+			return -1;
+		}
+		return edgeIdByNodePair[low * nodeCount + high];
+	}
+
+	/**
+	 * Checks whether the board is small enough for bitboards (64 nodes, 128 edges).
+	 * The standard board always is; BoardState falls back to its byte arrays otherwise.
+	 * @return true if node and edge masks are available
+	 */
+	public boolean supportsBitboards() {
+		return nodeCount <= 64 && edgeNodeA.length <= 128;
+	}
+
+	/**
+	 * Gets the bitboard of a node's neighbours.
+	 * @param nodeId the node ID
+	 * @return neighbour mask, bit i set for node i
+	 */
+	public long getNeighbourMask(int nodeId) {
+		return neighbourMask[nodeId];
+	}
+
+	/**
+	 * Gets the bitboard of the edges 0-63 touching a node.
+	 * @param nodeId the node ID
+	 * @return low edge mask, bit i set for edge i
+	 */
+	public long getIncidentEdgeMaskLo(int nodeId) {
+		return incidentEdgeMaskLo[nodeId];
+	}
+
+	/**
+	 * Gets the bitboard of the edges 64-127 touching a node.
+	 * @param nodeId the node ID
+	 * @return high edge mask, bit i set for edge 64 + i
+	 */
+	public long getIncidentEdgeMaskHi(int nodeId) {
+		return incidentEdgeMaskHi[nodeId];
+	}
+
+	/**
+	 * Gets the number of hops between two edges (1 when they share a node) with one array read.
+	 * @param edgeIdA first edge ID
+	 * @param edgeIdB second edge ID
+	 * @return hop distance, or UNREACHABLE if the edges are not connected or an id is invalid
+	 */
+	public int getEdgeDistance(int edgeIdA, int edgeIdB) {
+		int edgeCount = edgeNodeA.length;
+		if (edgeIdA < 0 || edgeIdB < 0 || edgeIdA >= edgeCount || edgeIdB >= edgeCount) {
+			return UNREACHABLE;
+		}
+		return edgeDistance[edgeIdA * edgeCount + edgeIdB];
+	}
+}
@@ -36,6 +36,20 @@ public class BuildCityCommand implements GameCommand {
         this.actions = actions;
     }
 
+    /**
+     * Rebuilds an already executed command with its recorded previous building
+     * (used when resuming a checkpoint).
+     * @param node             The node the city was placed on
+     * @param player           The player who built the city
+     * @param bank             The bank for resource transactions
+     * @param actions          The PlayerActions instance for placement logic
+     * @param previousBuilding The building that was on the node before the upgrade
+     */
+    BuildCityCommand(Node node, Player player, Bank bank, PlayerActions actions, Building previousBuilding) {
+        this(node, player, bank, actions);
+        this.previousBuilding = previousBuilding;
+    }
+
     /**
      * Executes the city placement, capturing the previous building before upgrading.
      */
@@ -53,6 +67,41 @@ public class BuildCityCommand implements GameCommand {
         node.setBuilding(previousBuilding);
         node.setOccupyingPlayer(player);
         bank.refundCity(player);
+        actions.logDecision(DecisionLog.UNDO_CITY, player, encodeUndo());
         actions.refreshVisualizerState();
     }
+
+    /**
+     * Packs the node and the restored building into a DecisionLog UNDO_CITY argument.
+     */
+    private int encodeUndo() {
+        int previousType = previousBuilding instanceof City ? BoardState.CITY
+                : previousBuilding != null ? BoardState.SETTLEMENT : BoardState.NO_BUILDING;
+        int previousOwner = previousBuilding == null ? BoardState.NO_OWNER : BoardState.seatOf(previousBuilding.getOwner());
+        return node.getId() | previousType << 8 | (previousOwner + 1) << 10;
+    }
+
+    /**
+     * Gets the target node (used when checkpointing the command history).
+     * @return the node
+     */
+    Node getNode() {
+        return node;
+    }
+
+    /**
+     * Gets the building player (used when checkpointing the command history).
+     * @return the player
+     */
+    Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Gets the building that was on the node before the last execute (used when checkpointing).
+     * @return the previous building, or null
+     */
+    Building getPreviousBuilding() {
+        return previousBuilding;
+    }
 }
@@ -49,6 +49,23 @@ public class BuildRoadCommand implements GameCommand {
     public void undo() {
         edge.setRoad(null);
         bank.refundRoad(player);
+        actions.logDecision(DecisionLog.UNDO_ROAD, player, edge.getId());
         actions.refreshVisualizerState();
     }
+
+    /**
+     * Gets the target edge (used when checkpointing the command history).
+     * @return the edge
+     */
+    Edge getEdge() {
+        return edge;
+    }
+
+    /**
+     * Gets the building player (used when checkpointing the command history).
+     * @return the player
+     */
+    Player getPlayer() {
+        return player;
+    }
 }
@@ -51,6 +51,23 @@ public class BuildSettlementCommand implements GameCommand {
         node.setBuilding(null);
         node.setOccupyingPlayer(null);
         bank.refundSettlement(player);
+        actions.logDecision(DecisionLog.UNDO_SETTLEMENT, player, node.getId());
         actions.refreshVisualizerState();
     }
+
+    /**
+     * Gets the target node (used when checkpointing the command history).
+     * @return the node
+     */
+    Node getNode() {
+        return node;
+    }
+
+    /**
+     * Gets the building player (used when checkpointing the command history).
+     * @return the player
+     */
+    Player getPlayer() {
+        return player;
+    }
 }
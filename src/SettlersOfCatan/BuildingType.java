@@ -7,5 +7,8 @@ package SettlersOfCatan;
 public enum BuildingType {
 	ROAD,
 	SETTLEMENT,
-	CITY
-}
\ No newline at end of file
+	CITY;
+
+	/** Every building type by ordinal, shared so lookups do not clone values(); never modify */
+	static final BuildingType[] VALUES = values();
+}
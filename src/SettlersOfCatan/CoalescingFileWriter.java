@@ -0,0 +1,191 @@
+package SettlersOfCatan;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Rewrites one file on a background thread so the game thread never waits on disk.
+ * Used for the visualizer's state.json and for periodic checkpoints.
+ * The game thread only replaces a single "latest document" slot; the writer thread picks up
+ * whatever is newest, so a burst of updates collapses into one write, and writes are spaced
+ * at least a minimum interval apart. Each write goes to a temporary file that is then moved over
+ * the target, so readers such as light_visualizer.py only ever see complete files.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class CoalescingFileWriter implements AutoCloseable {
+	/** Default minimum time between two writes, in milliseconds */
+	public static final long DEFAULT_MIN_INTERVAL_MILLIS = 50;
+
+	/** File being kept up to date */
+	private final Path target;
+
+	/** Minimum time between the starts of two writes */
+	private final long minIntervalNanos;
+
+	/** Newest document not yet written, or null when the file is up to date */
+	private final AtomicReference<byte[]> latest = new AtomicReference<>();
+
+	/** Background thread performing the writes */
+	private final Thread worker;
+
+	/** Log failed writes are reported to */
+	private final GameLog log;
+
+	/** Set once close() has been called; pending state is still written */
+	private volatile boolean closed;
+
+	/**
+	 * Starts a writer with the default minimum interval.
+	 * @param path path to the file
+	 */
+	public CoalescingFileWriter(String path) {
+		this(path, DEFAULT_MIN_INTERVAL_MILLIS);
+	}
+
+	/**
+	 * Starts a writer.
+	 * @param path path to the file
+	 * @param minIntervalMillis minimum time between two writes (0 writes as soon as possible)
+	 * @throws IllegalArgumentException if the interval is negative
+	 */
+	public CoalescingFileWriter(String path, long minIntervalMillis) {
+		this(path, minIntervalMillis, GameLog.disabled());
+	}
+
+	/**
+	 * Starts a writer that reports failed writes to a game's log.
+	 * @param path path to the file
+	 * @param minIntervalMillis minimum time between two writes (0 writes as soon as possible)
+	 * @param log log failed writes are reported to
+	 * @throws IllegalArgumentException if the interval is negative
+	 */
+	public CoalescingFileWriter(String path, long minIntervalMillis, GameLog log) {
+		if (minIntervalMillis < 0) {
+			throw new IllegalArgumentException("Minimum interval must not be negative. Found: " + minIntervalMillis);
+		}
+		this.target = Path.of(path);
+		this.minIntervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMillis);
+		this.log = log;
+		this.worker = new Thread(this::run, "file-writer-" + target.getFileName());
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * Replaces the pending document with UTF-8 text; any older pending document is dropped unwritten.
+	 * Never blocks on I/O.
+	 * @param text the complete file contents
+	 * @throws IllegalStateException if the writer has been closed
+	 */
+	public void submit(String text) {
+		submit(text.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Replaces the pending document; any older pending document is dropped unwritten.
+	 * Never blocks on I/O. The array must not be modified afterwards.
+	 * @param contents the complete file contents
+	 * @throws IllegalStateException if the writer has been closed
+	 */
+	public void submit(byte[] contents) {
+		if (closed) {
+			throw new IllegalStateException("File writer is closed");
+		}
+		latest.set(contents);
+		LockSupport.unpark(worker);
+	}
+
+	/**
+	 * Writes any pending document immediately and stops the background thread.
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		LockSupport.unpark(worker);
+		try {
+			worker.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Writer loop: waits for a document, honours the minimum interval, then writes the newest one.
+	 */
+	private void run() {
+		long nextWrite = System.nanoTime();
+		while (true) {
+			if (latest.get() == null) {
+				if (closed) {
+					return;
+				}
+				LockSupport.park(this);
+				continue;
+			}
+
+			// Keep collecting newer documents until the interval has passed (skipped when closing)
+			long wait = nextWrite - System.nanoTime();
+			if (wait > 0 && !closed) {
+				LockSupport.parkNanos(this, wait);
+				continue;
+			}
+
+			byte[] contents = latest.getAndSet(null);
+			if (contents != null) {
+				write(contents);
+				nextWrite = System.nanoTime() + minIntervalNanos;
+			}
+		}
+	}
+
+	/**
+	 * Writes a document on the writer thread.
+	 * Reports any failure to the log instead of throwing: an exception escaping here would end the
+	 * writer thread, and every later document would be dropped without a word.
+	 */
+	private void write(byte[] contents) {
+		JfrFileWriteEvent event = new JfrFileWriteEvent();
+		event.begin();
+		boolean success = false;
+		try {
+			writeAtomically(target, contents);
+			success = true;
+		} catch (IOException | RuntimeException e) {
+			log.error("Failed to write " + target.getFileName() + ": " + e.getMessage());
+		}
+		if (event.shouldCommit()) {
+			event.path = target.toString();
+			event.bytes = contents.length;
+			event.success = success;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Writes a file through a temporary sibling that is then moved over it, so readers see either
+	 * the old or the new contents, never a partial file. Falls back to a plain replace where the
+	 * file system cannot move atomically.
+	 * @param target the file to replace
+	 * @param contents the new contents
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void writeAtomically(Path target, byte[] contents) throws IOException {
+		Path temporary = target.resolveSibling(target.getFileName() + ".tmp");
+		Files.write(temporary, contents);
+		try {
+			Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+}
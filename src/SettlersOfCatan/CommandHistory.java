@@ -1,7 +1,10 @@
 package SettlersOfCatan;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * Manages the undo/redo history of GameCommand objects (R3.1).
@@ -38,30 +41,32 @@ public class CommandHistory {
 
     /**
      * Undoes the most recent command, moving it to the redo stack.
-     * Prints "Nothing to undo." if no commands are in history.
+     * Does nothing if no commands are in history; the caller reports that through its log.
+     * @return true if a command was undone
      */
-    public void undo() {
+    public boolean undo() {
         if (!canUndo()) {
-            System.out.println("Nothing to undo.");
-            return;
+            return false;
         }
         GameCommand action = history.pop();
         action.undo();
         redoStack.push(action);
+        return true;
     }
 
     /**
      * Redoes the most recently undone command, moving it back to the history stack.
-     * Prints "Nothing to redo." if no commands are in the redo stack.
+     * Does nothing if no commands are in the redo stack.
+     * @return true if a command was redone
      */
-    public void redo() {
+    public boolean redo() {
         if (!canRedo()) {
-            System.out.println("Nothing to redo.");
-            return;
+            return false;
         }
         GameCommand action = redoStack.pop();
         action.execute();
         history.push(action);
+        return true;
     }
 
     /**
@@ -79,4 +84,47 @@ public class CommandHistory {
     public boolean canRedo() {
         return !redoStack.isEmpty();
     }
+
+    /**
+     * Gets the commands available to undo, oldest first (the last one is undone next).
+     * @return copy of the history stack from bottom to top
+     */
+    List<GameCommand> getUndoCommands() {
+        return bottomToTop(history);
+    }
+
+    /**
+     * Gets the commands available to redo, oldest first (the last one is redone next).
+     * @return copy of the redo stack from bottom to top
+     */
+    List<GameCommand> getRedoCommands() {
+        return bottomToTop(redoStack);
+    }
+
+    /**
+     * Replaces both stacks without executing anything (used when resuming a checkpoint).
+     * @param undo commands available to undo, oldest first
+     * @param redo commands available to redo, oldest first
+     */
+    void restore(List<GameCommand> undo, List<GameCommand> redo) {
+        history.clear();
+        redoStack.clear();
+        for (GameCommand command : undo) {
+            history.push(command);
+        }
+        for (GameCommand command : redo) {
+            redoStack.push(command);
+        }
+    }
+
+    /**
+     * Copies a stack into a list from its bottom to its top.
+     */
+    private static List<GameCommand> bottomToTop(Deque<GameCommand> stack) {
+        List<GameCommand> commands = new ArrayList<>(stack.size());
+        for (Iterator<GameCommand> it = stack.descendingIterator(); it.hasNext(); ) {
+            commands.add(it.next());
+        }
+        return commands;
+    }
 }
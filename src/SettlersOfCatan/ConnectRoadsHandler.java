@@ -1,13 +1,11 @@
 package SettlersOfCatan;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Queue;
 import java.util.Random;
 
 /**
  * Prioritizes roads when it can connect nearby disconnected road segments.
+ * Road distances come from the board topology's edge distance table, so the check costs
+ * the same on every turn however long the game has run.
  * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
  */
 public class ConnectRoadsHandler extends ActionHandler {
@@ -43,70 +41,66 @@ public class ConnectRoadsHandler extends ActionHandler {
 		}
 	}
 
+	/**
+	 * Checks whether two of the player's roads are exactly two hops apart (not touching, but one
+	 * road away from joining), reading the topology's precomputed edge distance table.
+	 * Walks the seat's road masks, so only the player's own roads are visited.
+	 */
 	private boolean hasCloseDisconnectedRoads(Player player) {
-		Edge[] allEdges = board.getEdges();
-		if (allEdges == null) {
+		BoardTopology topology = board.getTopology();
+		if (topology == null) {
 			return false;
 		}
 
-		List<Edge> owned = new ArrayList<>();
-		for (Edge edge : allEdges) {
-			if (edge != null && edge.getRoad() != null && edge.getRoad().getOwner() == player) {
-				owned.add(edge);
+		BoardState state = board.getState();
+		int seat = BoardState.seatOf(player);
+		if (!state.hasBitboards()) {
+			return hasCloseDisconnectedRoadsByScan(topology, state, seat);
+		}
+		long lo = state.getRoadMaskLo(seat);
+		long hi = state.getRoadMaskHi(seat);
+		for (long m = lo; m != 0; m &= m - 1) {
+			int edgeId = Long.numberOfTrailingZeros(m);
+			if (hasRoadTwoAway(topology, edgeId, m & (m - 1), 0) || hasRoadTwoAway(topology, edgeId, hi, 64)) {
+				return true;
 			}
 		}
-		if (owned.size() < 2) {
-			return false;
+		for (long m = hi; m != 0; m &= m - 1) {
+			if (hasRoadTwoAway(topology, 64 + Long.numberOfTrailingZeros(m), m & (m - 1), 64)) {
+				return true;
+			}
 		}
+		return false;
+	}
 
-		for (int i = 0; i < owned.size(); i++) {
-			for (int j = i + 1; j < owned.size(); j++) {
-				Edge a = owned.get(i);
-				Edge b = owned.get(j);
-				if (a.isAdjacentTo(b)) {
-					continue;
-				}
-				if (distanceWithinTwoHops(a, b, allEdges)) {
-					return true;
-				}
+	/**
+	 * Checks whether any road in a mask is exactly two hops from an edge.
+	 * @param others road mask, bit i standing for edge offset + i
+	 */
+	private static boolean hasRoadTwoAway(BoardTopology topology, int edgeId, long others, int offset) {
+		for (long m = others; m != 0; m &= m - 1) {
+			if (topology.getEdgeDistance(edgeId, offset + Long.numberOfTrailingZeros(m)) == 2) {
+				return true;
 			}
 		}
 		return false;
 	}
 
-	private boolean distanceWithinTwoHops(Edge start, Edge target, Edge[] graphEdges) {
-		Queue<Edge> queue = new ArrayDeque<>();
-		Queue<Integer> depth = new ArrayDeque<>();
-		List<Edge> visited = new ArrayList<>();
-		queue.add(start);
-		depth.add(0);
-		visited.add(start);
-
-		while (!queue.isEmpty()) {
-			Edge current = queue.poll();
-			int d = depth.poll();
-			if (current == target) {
-				return d <= 2;
-			}
-			if (d >= 2) {
+	/**
+	 * Same check for boards too large for bitboards, scanning the road owners.
+	 */
+	private static boolean hasCloseDisconnectedRoadsByScan(BoardTopology topology, BoardState state, int seat) {
+		int edgeCount = state.getEdgeCount();
+		for (int a = 0; a < edgeCount; a++) {
+			if (state.getRoadOwner(a) != seat) {
 				continue;
 			}
-			for (Edge candidate : graphEdges) {
-				if (candidate == null) {
-					continue;
-				}
-				if (!current.isAdjacentTo(candidate)) {
-					continue;
-				}
-				if (visited.contains(candidate)) {
-					continue;
+			for (int b = a + 1; b < edgeCount; b++) {
+				if (state.getRoadOwner(b) == seat && topology.getEdgeDistance(a, b) == 2) {
+					return true;
 				}
-				visited.add(candidate);
-				queue.add(candidate);
-				depth.add(d + 1);
 			}
 		}
 		return false;
 	}
 }
-
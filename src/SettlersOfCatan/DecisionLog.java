@@ -0,0 +1,241 @@
+package SettlersOfCatan;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Ordered record of everything that changed a game, plus the seeds it was started from.
+ * Together with the board seed the log is enough to rebuild every position of the game
+ * (see ReplayEngine) without re-running the AI: placements, dice rolls and the outcomes of
+ * random robber effects (discards, robber tile, stolen card) are all stored as events.
+ * Each event is one packed int: kind in bits 28-31, seat in bits 24-27, argument in bits 0-23.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class DecisionLog {
+	/** Setup settlement; argument is the node */
+	public static final int SETUP_SETTLEMENT = 0;
+
+	/** Setup road; argument is the edge */
+	public static final int SETUP_ROAD = 1;
+
+	/** Start of a turn; argument is the round */
+	public static final int TURN = 2;
+
+	/** Dice roll by the seat; argument is the total */
+	public static final int ROLL = 3;
+
+	/** Seat discarded one card to the robber; argument is the resource ordinal */
+	public static final int DISCARD = 4;
+
+	/** Seat moved the robber; argument is the tile */
+	public static final int ROBBER = 5;
+
+	/** Seat stole one card; argument is victim seat << 8 | resource ordinal */
+	public static final int STEAL = 6;
+
+	/** Settlement built; argument is the node */
+	public static final int SETTLEMENT = 7;
+
+	/** City built; argument is the node */
+	public static final int CITY = 8;
+
+	/** Road built; argument is the edge */
+	public static final int ROAD = 9;
+
+	/** Settlement build undone; argument is the node */
+	public static final int UNDO_SETTLEMENT = 10;
+
+	/** City build undone; argument is node | previous building type << 8 | (previous owner + 1) << 10 */
+	public static final int UNDO_CITY = 11;
+
+	/** Road build undone; argument is the edge */
+	public static final int UNDO_ROAD = 12;
+
+	/** End of a round; argument is the new round number */
+	public static final int ROUND_END = 13;
+
+	/** Largest argument an event can carry */
+	public static final int MAX_ARGUMENT = (1 << 24) - 1;
+
+	/** File signature, "CTDL" */
+	private static final int MAGIC = 0x4354444C;
+
+	/** File format version */
+	private static final int VERSION = 1;
+
+	/** Seed the board was generated from */
+	private final long boardSeed;
+
+	/** Seed of the dice */
+	private final long diceSeed;
+
+	/** Seed of the AI and robber random source */
+	private final long aiSeed;
+
+	/** Number of seats */
+	private final int numPlayers;
+
+	/** Packed events in order */
+	private int[] events = new int[256];
+
+	/** Number of events recorded */
+	private int size;
+
+	/**
+	 * Creates an empty log for a game started from the given seeds.
+	 * @param boardSeed seed passed to RandomBoardGenerator
+	 * @param diceSeed seed passed to DiceRoller
+	 * @param aiSeed seed of the game's Random
+	 * @param numPlayers number of seats
+	 */
+	public DecisionLog(long boardSeed, long diceSeed, long aiSeed, int numPlayers) {
+		this.boardSeed = boardSeed;
+		this.diceSeed = diceSeed;
+		this.aiSeed = aiSeed;
+		this.numPlayers = numPlayers;
+	}
+
+	/**
+	 * Appends an event.
+	 * @param kind event kind constant
+	 * @param seat acting seat
+	 * @param argument kind-specific argument (0 to MAX_ARGUMENT)
+	 * @throws IllegalArgumentException if a field does not fit
+	 */
+	public void record(int kind, int seat, int argument) {
+		if (kind < 0 || kind > 0xF || seat < 0 || seat > 0xF || argument < 0 || argument > MAX_ARGUMENT) {
+			throw new IllegalArgumentException("Event does not fit: kind " + kind + ", seat " + seat + ", argument " + argument);
+		}
+		if (size == events.length) {
+			events = Arrays.copyOf(events, size * 2);
+		}
+		events[size++] = kind << 28 | seat << 24 | argument;
+	}
+
+	/**
+	 * Gets the number of events.
+	 * @return event count
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Gets an event's kind.
+	 * @param index event index
+	 * @return kind constant
+	 */
+	public int getKind(int index) {
+		return events[checkIndex(index)] >>> 28;
+	}
+
+	/**
+	 * Gets an event's seat.
+	 * @param index event index
+	 * @return acting seat
+	 */
+	public int getSeat(int index) {
+		return (events[checkIndex(index)] >>> 24) & 0xF;
+	}
+
+	/**
+	 * Gets an event's argument.
+	 * @param index event index
+	 * @return kind-specific argument
+	 */
+	public int getArgument(int index) {
+		return events[checkIndex(index)] & MAX_ARGUMENT;
+	}
+
+	/**
+	 * Gets the board seed.
+	 * @return seed passed to RandomBoardGenerator
+	 */
+	public long getBoardSeed() {
+		return boardSeed;
+	}
+
+	/**
+	 * Gets the dice seed.
+	 * @return seed passed to DiceRoller
+	 */
+	public long getDiceSeed() {
+		return diceSeed;
+	}
+
+	/**
+	 * Gets the AI seed.
+	 * @return seed of the game's Random
+	 */
+	public long getAiSeed() {
+		return aiSeed;
+	}
+
+	/**
+	 * Gets the number of seats.
+	 * @return number of players
+	 */
+	public int getNumPlayers() {
+		return numPlayers;
+	}
+
+	/**
+	 * Writes the log to a file (seeds, player count, then the packed events).
+	 * @param path destination file
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(Path path) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(4 + 1 + 3 * 8 + 1 + 4 + size * 4);
+		buffer.putInt(MAGIC).put((byte) VERSION);
+		buffer.putLong(boardSeed).putLong(diceSeed).putLong(aiSeed);
+		buffer.put((byte) numPlayers).putInt(size);
+		buffer.asIntBuffer().put(events, 0, size);
+		Files.write(path, buffer.array());
+	}
+
+	/**
+	 * Reads a log written by write.
+	 * @param path source file
+	 * @return the log
+	 * @throws IOException if the file cannot be read
+	 * @throws IllegalArgumentException if the file is not a valid log
+	 */
+	public static DecisionLog read(Path path) throws IOException {
+		ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+		try {
+			if (buffer.getInt() != MAGIC) {
+				throw new IllegalArgumentException("Not a decision log");
+			}
+			int version = Byte.toUnsignedInt(buffer.get());
+			if (version != VERSION) {
+				throw new IllegalArgumentException("Unsupported decision log version: " + version);
+			}
+			DecisionLog log = new DecisionLog(buffer.getLong(), buffer.getLong(), buffer.getLong(),
+					Byte.toUnsignedInt(buffer.get()));
+			int count = buffer.getInt();
+			if (count < 0 || count > buffer.remaining() / 4) {
+				throw new IllegalArgumentException("Invalid event count: " + count);
+			}
+			log.events = new int[Math.max(count, 1)];
+			buffer.asIntBuffer().get(log.events, 0, count);
+			log.size = count;
+			return log;
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Truncated decision log", e);
+		}
+	}
+
+	/**
+	 * Checks an event index.
+	 */
+	private int checkIndex(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Event " + index + " out of range for " + size + " events");
+		}
+		return index;
+	}
+}
@@ -1,27 +1,41 @@
 package SettlersOfCatan;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Random;
 
 /**
  * Builds roads defensively when opponents are close to matching longest road.
+ * Road lengths come from a LongestRoadTracker, so each turn reads them instead of searching.
+ * Boards too large for bitboards have no tracker; there the roads are measured by a backtracking
+ * search with the same rules (no edge used twice, an opponent's building ends the road).
  * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
  */
 public class DefendRoadHandler extends ActionHandler {
 	private final Player[] players;
 	private final Board board;
+	private final LongestRoadTracker longestRoads;
 
 	/**
-	 * Creates a new handler.
+	 * Creates a new handler that reads road lengths from the board's tracker.
 	 * @param players all players in the game
 	 * @param board game board
 	 * @param random shared random number generator
 	 */
 	public DefendRoadHandler(Player[] players, Board board, Random random) {
+		this(players, board, null, random);
+	}
+
+	/**
+	 * Creates a new handler reading road lengths from a shared tracker.
+	 * @param players all players in the game
+	 * @param board game board
+	 * @param longestRoads tracker for the board, or null to use the board's own
+	 * @param random shared random number generator
+	 */
+	public DefendRoadHandler(Player[] players, Board board, LongestRoadTracker longestRoads, Random random) {
 		super(random);
 		this.players = players;
 		this.board = board;
+		this.longestRoads = longestRoads;
 	}
 
 	/**
@@ -58,45 +72,45 @@ public class DefendRoadHandler extends ActionHandler {
 	}
 
 	private int getLongestRoad(Player player) {
-		Edge[] allEdges = board.getEdges();
-		if (allEdges == null) {
+		if (board == null || board.getTopology() == null) {
 			return 0;
 		}
-
-		List<Edge> owned = new ArrayList<>();
-		for (Edge edge : allEdges) {
-			if (edge != null && edge.getRoad() != null && edge.getRoad().getOwner() == player) {
-				owned.add(edge);
-			}
+		if (!board.getState().hasBitboards()) {
+			return searchLongestRoad(BoardState.seatOf(player));
 		}
+		LongestRoadTracker tracker = longestRoads != null ? longestRoads : board.getLongestRoadTracker();
+		return tracker.getLength(player);
+	}
+
+	/**
+	 * Measures a seat's longest road by trying every trail from every node.
+	 */
+	private int searchLongestRoad(int seat) {
+		BoardTopology topology = board.getTopology();
+		boolean[] used = new boolean[topology.getEdgeCount()];
 		int best = 0;
-		for (Edge start : owned) {
-			List<Edge> visited = new ArrayList<>();
-			int len = dfsRoadLength(start, owned, visited);
-			if (len > best) {
-				best = len;
-			}
+		for (int nodeId = 0; nodeId < topology.getNodeCount(); nodeId++) {
+			best = Math.max(best, extendRoad(topology, board.getState(), seat, nodeId, used));
 		}
 		return best;
 	}
 
-	private int dfsRoadLength(Edge current, List<Edge> owned, List<Edge> visited) {
-		visited.add(current);
-		int bestContinuation = 0;
-		for (Edge next : owned) {
-			if (next == current || visited.contains(next)) {
-				continue;
-			}
-			if (!current.isAdjacentTo(next)) {
+	/**
+	 * Gets the longest trail of a seat's unused roads leaving a node.
+	 */
+	private static int extendRoad(BoardTopology topology, BoardState state, int seat, int nodeId, boolean[] used) {
+		int best = 0;
+		for (int edgeId : topology.getIncidentEdgeIds(nodeId)) {
+			if (used[edgeId] || state.getRoadOwner(edgeId) != seat) {
 				continue;
 			}
-			List<Edge> branchVisited = new ArrayList<>(visited);
-			int continuation = dfsRoadLength(next, owned, branchVisited);
-			if (continuation > bestContinuation) {
-				bestContinuation = continuation;
-			}
+			int next = topology.getEdgeNodeA(edgeId) == nodeId ? topology.getEdgeNodeB(edgeId) : topology.getEdgeNodeA(edgeId);
+			int owner = state.getNodeOwner(next);
+			used[edgeId] = true;
+			int length = 1 + (owner == BoardState.NO_OWNER || owner == seat ? extendRoad(topology, state, seat, next, used) : 0);
+			used[edgeId] = false;
+			best = Math.max(best, length);
 		}
-		return 1 + bestContinuation;
+		return best;
 	}
 }
-
@@ -1,6 +1,8 @@
 package SettlersOfCatan;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
 
 /**
  * Demonstrator class that runs a sample Catan simulation.
@@ -12,6 +14,9 @@ public class Demonstrator {
     /** -1 = all AI; 0-3 = that player slot is human. */
     private static final int HUMAN_PLAYER_INDEX = 0;
 
+    /** Where the decision log is written so the game can be replayed. */
+    private static final Path DECISION_LOG_PATH = Path.of("game.decisions");
+
     /**
      * Main method to run the Catan game simulation.
      * @param args Command line arguments (unused)
@@ -24,21 +29,27 @@ public class Demonstrator {
             System.out.println("=== SETTLERS OF CATAN SIMULATOR ===");
             System.out.println("Configuration: Maximum " + maxRounds + " rounds\n");
 
+            // Derive every random source from one printed seed so the game can be reproduced
+            long seed = new Random().nextLong();
+            DecisionLog log = GameRunner.createLog(seed, 4);
+            System.out.println("Seed: " + seed + "\n");
+
             // Step 2: Set up the game board
             // Create board and initialize with tiles, nodes, edges
             Board board = new Board();
-            IBoardGenerator generator = new RandomBoardGenerator();
+            IBoardGenerator generator = new RandomBoardGenerator(log.getBoardSeed());
             generator.generate(board);
 
             // Step 3: Create game components using dependency injection
-            Dice dice = new DiceRoller();          // Handles dice rolling
+            Dice dice = new DiceRoller(log.getDiceSeed());  // Handles dice rolling
             Bank bank = new Bank();                // Handles resource payments
             IPlacementValidator validator = new PlacementValidator();  // Validates placements
 
             // Step 4: Create game with 4 players
-            Game game = new Game(board, dice, bank, validator, 4);
+            Game game = new Game(board, dice, bank, validator, 4, new Random(log.getAiSeed()));
             if (HUMAN_PLAYER_INDEX >= 0)
                 game.setHumanPlayer(HUMAN_PLAYER_INDEX);
+            game.setDecisionLog(log);
 
             // Step 5: Run the simulation
             // This includes:
@@ -48,6 +59,9 @@ public class Demonstrator {
             System.out.println("Starting game simulation...\n");
             game.startGame(maxRounds);
 
+            // Step 6: Save the decisions for ReplayEngine
+            log.write(DECISION_LOG_PATH);
+
         } catch (IOException e) {
             // Handle file reading errors
             System.err.println("ERROR: Could not read game.config file");
@@ -8,7 +8,38 @@ import java.util.Random;
  */
 public class DiceRoller implements Dice {
 	/** Random number generator for dice rolls */
-	private final Random random = new Random();
+	private final Random random;
+
+	/**
+	 * Constructor with default random seed.
+	 */
+	public DiceRoller() {
+		this.random = new Random();
+	}
+
+	/**
+	 * Constructor with specified random seed for reproducible rolls.
+	 * @param seed The random seed
+	 */
+	public DiceRoller(long seed) {
+		this.random = new Random(seed);
+	}
+
+	/**
+	 * Constructor continuing from an existing random source (used when resuming a checkpoint).
+	 * @param random the random source to draw rolls from
+	 */
+	DiceRoller(Random random) {
+		this.random = random;
+	}
+
+	/**
+	 * Gets the random source, so a checkpoint can record its state.
+	 * @return the random source
+	 */
+	Random getRandom() {
+		return random;
+	}
 
 	/**
 	 * Rolls two dice and returns their sum.
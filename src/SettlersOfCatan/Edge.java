@@ -18,6 +18,9 @@ public class Edge {
 	/** Road placed on this edge, or null if empty */
 	private Road road;
 
+	/** Occupancy state of the board this edge belongs to, or null if not attached */
+	private BoardState state;
+
 	/**
 	 * Constructor for a new edge.
 	 * @param id The unique ID of the edge
@@ -69,6 +72,18 @@ public class Edge {
 	 */
 	public void setRoad(Road road) {
 		this.road = road;
+		if (state != null) {
+			state.updateRoad(id, road);
+		}
+	}
+
+	/**
+	 * Attaches this edge to a board's occupancy state so road changes are mirrored there.
+	 * @param state the board state
+	 */
+	void attachState(BoardState state) {
+		this.state = state;
+		state.updateRoad(id, road);
 	}
 
 	/**
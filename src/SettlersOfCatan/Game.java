@@ -1,14 +1,16 @@
 package SettlersOfCatan;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Random;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Main game controller that orchestrates the Settlers of Catan game flow.
@@ -48,32 +50,87 @@ public class Game {
 	/** Random number generator for AI player decisions */
 	private Random random;
 
-	/** Scanner for reading human player input from console */
-	private final Scanner scanner = new Scanner(System.in);
+	/** Scanner for reading human player input from console; created only once a human joins */
+	private Scanner scanner;
 
 	/** Index of the tile currently holding the Robber (R2.5); -1 means unset. */
 	private int robberTileIndex = -1;
 
+	/** Payouts per dice roll, kept current as buildings and the robber move */
+	private ProductionTable production;
+
+	/** Longest road per seat, kept current as roads and buildings change; null without bitboards */
+	private LongestRoadTracker longestRoads;
+
 	/** Victory points needed to win the game */
-	private static final int VICTORY_POINTS_TO_WIN = 10;
+	static final int VICTORY_POINTS_TO_WIN = 10;
 
 	/** Number of sides on each die */
 	private static final int DICE_SIDES = 6;
 
-	/** Path to visualizer base map JSON (board layout). */
-	private static final String VISUALIZER_BASE_MAP_PATH = "src/SettlersOfCatan/visualize/base_map.json";
-	/** Path to visualizer state JSON (roads and buildings). */
-	private static final String VISUALIZER_STATE_PATH = "src/SettlersOfCatan/visualize/state.json";
+	/** Default directory for the visualizer JSON files. */
+	private static final String VISUALIZER_DIRECTORY = "src/SettlersOfCatan/visualize";
+
+	/** Source of game ids, so events from games played in parallel can be told apart */
+	private static final AtomicLong NEXT_GAME_ID = new AtomicLong();
+
+	/** Id of this game, carried by its JFR events */
+	private final long gameId = NEXT_GAME_ID.incrementAndGet();
+
+	/** Notified around every turn; null when nobody is listening */
+	private TurnListener turnListener;
+
+	/** Destination for game progress output (console by default). */
+	private GameLog log = GameLog.console();
+
+	/** Directory the visualizer JSON files are written to; null disables writes. */
+	private String visualizerDirectory = VISUALIZER_DIRECTORY;
+
+	/** Minimum time between two state.json writes, in milliseconds. */
+	private long visualizerIntervalMillis = CoalescingFileWriter.DEFAULT_MIN_INTERVAL_MILLIS;
+
+	/** Background state.json writer; open only while startGame() runs with visualizer output. */
+	private CoalescingFileWriter visualizerWriter;
+
+	/** Path of the JSON Lines event log; null disables the log. */
+	private String eventLogPath;
+
+	/** Event log; open only while startGame() runs with an event log path. */
+	private GameEventWriter eventLog;
+
+	/** Log every state change is recorded in for replay; null disables recording */
+	private DecisionLog decisionLog;
+
+	/** True once the setup phase has been played, or the game was resumed from a checkpoint */
+	private boolean setupComplete;
+
+	/** Seat that moves first in the current round; only non-zero when resuming mid-round */
+	private int firstSeat;
+
+	/** File periodic checkpoints are written to; null disables them */
+	private Path checkpointPath;
+
+	/** Rounds between two periodic checkpoints */
+	private int checkpointInterval;
+
+	/** Background checkpoint writer; open only while startGame() runs with checkpoints enabled */
+	private CoalescingFileWriter checkpointWriter;
 
 	/** Actions handler for AI and common placement operations */
 	private PlayerActions actions;
 
-	/** Actions handler for human player interactive turns */
+	/** Actions handler for human player interactive turns; null until a human joins */
 	private HumanPlayerActions humanActions;
 
 	/** Rule-based AI action chain (Chain of Responsibility). */
 	private ActionHandler agentChain;
 
+	/** Agents replacing the chain for individual AI seats; null entries use the chain */
+	private ActionHandler[] seatAgents;
+
+	/** Round limit of the game being played; unlimited until startGame() is called */
+	private int maxRounds = Integer.MAX_VALUE;
+
 	/**
 	 * Constructor with dependency injection.
 	 * @param board The game board
@@ -83,34 +140,575 @@ public class Game {
 	 * @param numPlayers The number of players in the game
 	 */
 	public Game(Board board, Dice dice, Bank bank, IPlacementValidator validator, int numPlayers) {
+		this(board, dice, bank, validator, numPlayers, new Random());
+	}
+
+	/**
+	 * Constructor with dependency injection and an explicit AI random source,
+	 * so that seeded games are reproducible.
+	 * @param board The game board
+	 * @param dice The dice object for rolling
+	 * @param bank The bank for handling payments
+	 * @param validator The placement validator
+	 * @param numPlayers The number of players in the game
+	 * @param random Random number generator for AI decisions and robber resolution
+	 */
+	public Game(Board board, Dice dice, Bank bank, IPlacementValidator validator, int numPlayers, Random random) {
 		this.board = board;
 		this.dice = dice;
 		this.bank = bank;
 		this.validator = validator;
 		this.players = new Player[numPlayers];
-		this.random = new Random();
+		this.seatAgents = new ActionHandler[numPlayers];
+		this.random = random;
 		this.currentPlayer = 0;
 		this.roundCount = 1;
 
 		// Initialize players
 		initializePlayers();
+		this.production = new ProductionTable(board);
+		this.longestRoads = board.getLongestRoadTracker();
 
 		// Initialize action handlers
 		this.actions = new PlayerActions(board, bank, validator, players, random);
-		this.humanActions = new HumanPlayerActions(board, bank, validator, players, random,
-				scanner, dice, DICE_SIDES, this::distributeResources, this::handleRobber);
 		buildAgentChain();
 	}
 
+	/**
+	 * Switches headless mode on or off. A headless game prints nothing and does not
+	 * write the visualizer JSON files, so simulations are not bound by I/O.
+	 * Call before startGame().
+	 * @param headless true to suppress console output and visualizer writes
+	 */
+	public void setHeadless(boolean headless) {
+		setLog(headless ? GameLog.disabled() : GameLog.console());
+		setVisualizerDirectory(headless ? null : VISUALIZER_DIRECTORY);
+	}
+
+	/**
+	 * Sets where game progress is written, e.g. a console log with some categories switched off.
+	 * Call before startGame().
+	 * @param log the log for this game and its actions handlers
+	 */
+	public void setLog(GameLog log) {
+		this.log = log;
+		applyOutputSettings(actions);
+		if (humanActions != null) {
+			applyOutputSettings(humanActions);
+		}
+	}
+
+	/**
+	 * Gets where game progress is written, so levels and categories can be adjusted.
+	 * @return the game's log
+	 */
+	public GameLog getLog() {
+		return log;
+	}
+
+	/**
+	 * Gets the id carried by this game's JFR events; unique within the JVM.
+	 * @return the game id
+	 */
+	public long getGameId() {
+		return gameId;
+	}
+
+	/**
+	 * Sets the listener notified before and after every regular turn, e.g. to time turns.
+	 * @param listener the listener, or null for none
+	 */
+	public void setTurnListener(TurnListener listener) {
+		this.turnListener = listener;
+	}
+
+	/**
+	 * Sets the registry the AI handlers report their decisions to; one registry can be shared
+	 * by many games, including games running on other threads.
+	 * @param metrics the registry, or null to stop reporting
+	 */
+	public void setMetrics(HandlerMetrics metrics) {
+		for (ActionHandler handler = agentChain; handler instanceof InstrumentedHandler; handler = handler.successor) {
+			((InstrumentedHandler) handler).setMetrics(metrics);
+		}
+		for (ActionHandler agent : seatAgents) {
+			if (agent != null) {
+				((InstrumentedHandler) agent).setMetrics(metrics);
+			}
+		}
+	}
+
+	/**
+	 * Lets an agent such as an MctsHandler decide the turns of one AI seat instead of the
+	 * rule-based chain. The agent is wrapped like the chain's handlers, so its decisions show up
+	 * in JFR recordings; call setMetrics() afterwards to record them in a registry too.
+	 * Agents that are AutoCloseable are closed when startGame() returns.
+	 * Call before startGame().
+	 * @param seat the seat to hand over
+	 * @param agent the agent, or null to go back to the chain
+	 * @throws IllegalArgumentException if the seat does not exist
+	 */
+	public void setAgent(int seat, ActionHandler agent) {
+		if (seat < 0 || seat >= players.length) {
+			throw new IllegalArgumentException("Seat must be between 0 and " + (players.length - 1) + ". Found: " + seat);
+		}
+		seatAgents[seat] = agent == null ? null : new InstrumentedHandler(agent, 0, gameId);
+	}
+
+	/**
+	 * Sets the directory base_map.json and state.json are written to.
+	 * Games running side by side need distinct directories (or null).
+	 * Call before startGame().
+	 * @param directory output directory, or null to disable visualizer writes
+	 */
+	public void setVisualizerDirectory(String directory) {
+		this.visualizerDirectory = directory;
+		applyOutputSettings(actions);
+		if (humanActions != null) {
+			applyOutputSettings(humanActions);
+		}
+	}
+
+	/**
+	 * Sets the minimum time between two state.json writes. Placements made in between are
+	 * coalesced into the next write. Call before startGame().
+	 * @param millis minimum interval in milliseconds (0 writes as soon as possible)
+	 * @throws IllegalArgumentException if the interval is negative
+	 */
+	public void setVisualizerInterval(long millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("Visualizer interval must not be negative. Found: " + millis);
+		}
+		this.visualizerIntervalMillis = millis;
+	}
+
+	/**
+	 * Enables the append-only JSON Lines event log (placements, rolls, robber moves and
+	 * periodic snapshots). Independent of headless mode. Call before startGame().
+	 * @param path path to the .jsonl file (truncated when the game starts), or null to disable
+	 */
+	public void setEventLogPath(String path) {
+		this.eventLogPath = path;
+	}
+
+	/**
+	 * Records every placement, roll and robber outcome of this game in a log, so it can be
+	 * rebuilt turn by turn by ReplayEngine. The log should carry the seeds this game's board,
+	 * dice and Random were created from. Call before startGame().
+	 * @param log the log to append to, or null to stop recording
+	 */
+	public void setDecisionLog(DecisionLog log) {
+		this.decisionLog = log;
+		applyOutputSettings(actions);
+		if (humanActions != null) {
+			applyOutputSettings(humanActions);
+		}
+	}
+
+	/**
+	 * Appends an event to the decision log when one is attached.
+	 */
+	private void logDecision(int kind, Player player, int argument) {
+		if (decisionLog != null) {
+			decisionLog.record(kind, BoardState.seatOf(player), argument);
+		}
+	}
+
+	/**
+	 * Applies one decision log event, as recorded by a live game, without any AI, dice or
+	 * output. Used by ReplayEngine on a game built from the log's seeds.
+	 * @param log the log
+	 * @param index index of the event to apply
+	 * @throws IllegalStateException if a recorded placement is not legal in this game
+	 */
+	void applyDecision(DecisionLog log, int index) {
+		int argument = log.getArgument(index);
+		Player player = players[log.getSeat(index)];
+		boolean applied = true;
+		switch (log.getKind(index)) {
+			case DecisionLog.SETUP_SETTLEMENT:
+				applied = actions.placeSettlementSetup(board.getNode(argument), player);
+				break;
+			case DecisionLog.SETUP_ROAD:
+				applied = actions.placeRoadSetup(board.getEdge(argument), player);
+				break;
+			case DecisionLog.TURN:
+				currentPlayer = log.getSeat(index);
+				roundCount = argument;
+				setupComplete = true;
+				break;
+			case DecisionLog.ROLL:
+				distributeResources(argument);
+				break;
+			case DecisionLog.DISCARD:
+				applied = player.removeResource(ResourceType.VALUES[argument], 1);
+				break;
+			case DecisionLog.ROBBER:
+				robberTileIndex = argument;
+				production.setRobberTile(robberTileIndex);
+				break;
+			case DecisionLog.STEAL:
+				Player victim = players[argument >>> 8];
+				applied = victim.removeResource(ResourceType.VALUES[argument & 0xFF], 1);
+				player.addResource(ResourceType.VALUES[argument & 0xFF]);
+				break;
+			case DecisionLog.SETTLEMENT:
+				applied = actions.placeSettlement(board.getNode(argument), player);
+				break;
+			case DecisionLog.CITY:
+				applied = actions.placeCity(board.getNode(argument), player);
+				break;
+			case DecisionLog.ROAD:
+				applied = actions.placeRoad(board.getEdge(argument), player);
+				break;
+			case DecisionLog.UNDO_SETTLEMENT:
+				new BuildSettlementCommand(board.getNode(argument), player, bank, actions).undo();
+				break;
+			case DecisionLog.UNDO_CITY:
+				int previousOwner = ((argument >>> 10) & 0xF) - 1;
+				Building previous = previousOwner == BoardState.NO_OWNER ? null
+						: createBuilding((argument >>> 8) & 0x3, players[previousOwner]);
+				new BuildCityCommand(board.getNode(argument & 0xFF), player, bank, actions, previous).undo();
+				break;
+			case DecisionLog.UNDO_ROAD:
+				new BuildRoadCommand(board.getEdge(argument), player, bank, actions).undo();
+				break;
+			case DecisionLog.ROUND_END:
+				roundCount = argument;
+				currentPlayer = 0;
+				break;
+			default:
+				throw new IllegalStateException("Unknown decision log event kind: " + log.getKind(index));
+		}
+		if (!applied) {
+			throw new IllegalStateException("Decision log event " + index + " does not apply to this game");
+		}
+	}
+
+	/**
+	 * Enables periodic checkpoints. The position at the start of every round whose number is a
+	 * multiple of the interval is captured on the game thread and written atomically in the
+	 * background, so a crashed run can continue with resume(). Call before startGame().
+	 * @param path checkpoint file, or null to disable periodic checkpoints
+	 * @param rounds rounds between two checkpoints
+	 * @throws IllegalArgumentException if a path is given with a non-positive interval
+	 */
+	public void setCheckpointInterval(Path path, int rounds) {
+		if (path != null && rounds <= 0) {
+			throw new IllegalArgumentException("Checkpoint interval must be positive. Found: " + rounds);
+		}
+		this.checkpointPath = path;
+		this.checkpointInterval = rounds;
+	}
+
+	/**
+	 * Saves a checkpoint of this game: board, players, robber, round, current player,
+	 * random sources and the human undo/redo history. The file is replaced atomically.
+	 * Resuming continues at the start of the current player's turn; between turns that is
+	 * exactly where the game left off.
+	 * @param path checkpoint file
+	 * @throws IOException if the file cannot be written
+	 * @throws IllegalStateException if the setup phase has not finished yet
+	 */
+	public void saveCheckpoint(Path path) throws IOException {
+		CoalescingFileWriter.writeAtomically(path, createCheckpoint(currentPlayer).toBytes());
+	}
+
+	/**
+	 * Recreates a game from a checkpoint written by saveCheckpoint or a periodic checkpoint.
+	 * The game uses a new Bank and the standard PlacementValidator; output settings are the
+	 * defaults and can be changed before calling startGame(), which skips the setup phase.
+	 * If the saved game did not use DiceRoller, its dice could not be recorded and the
+	 * resumed game rolls with a fresh DiceRoller.
+	 * @param path checkpoint file
+	 * @return the resumed game
+	 * @throws IOException if the file cannot be read
+	 * @throws IllegalArgumentException if the file is not a valid checkpoint
+	 */
+	public static Game resume(Path path) throws IOException {
+		GameCheckpoint checkpoint = GameCheckpoint.fromBytes(Files.readAllBytes(path));
+		Dice dice = checkpoint.diceRandom == null ? new DiceRoller() : new DiceRoller(checkpoint.diceRandom);
+		Game game = create(checkpoint.state, dice, checkpoint.aiRandom);
+		game.restore(checkpoint);
+		return game;
+	}
+
+	/**
+	 * Creates a game at a captured position, so a position forked from a live game with
+	 * captureState() (and explored with GameState.apply()) can be played on. Every seat is
+	 * played by the AI, and startGame() skips the setup phase and starts with the state's
+	 * current player. The dice and AI random sources are derived from the seed, so the
+	 * continuation is reproducible, though it does not follow the live game's dice.
+	 * @param state the position; it is not modified or kept
+	 * @param seed seed for the dice and the AI
+	 * @return the game
+	 * @throws IllegalArgumentException if the state is not for the standard board layout
+	 */
+	public static Game fromState(GameState state, long seed) {
+		Random seeds = new Random(seed);
+		Game game = create(state, new DiceRoller(seeds.nextLong()), new Random(seeds.nextLong()));
+		game.restoreState(state, 0);
+		return game;
+	}
+
+	/**
+	 * Builds a game on a board rebuilt from a state's tiles; the position itself is not applied.
+	 */
+	private static Game create(GameState state, Dice dice, Random random) {
+		BoardTopology topology = BoardTopology.standard();
+		if (state.getTileCount() != topology.getTileCount() || state.getNodeCount() != topology.getNodeCount()
+				|| state.getEdgeCount() != topology.getEdgeCount()) {
+			throw new IllegalArgumentException("State is not for the standard board layout");
+		}
+
+		// Rebuild the board from the recorded tiles
+		Tile[] tiles = new Tile[topology.getTileCount()];
+		for (int t = 0; t < tiles.length; t++) {
+			int[] coords = topology.getTileCoords(t);
+			tiles[t] = new Tile(coords[0], coords[1], coords[2], state.getTileTerrain(t),
+					state.getTileNumber(t), topology.getTileNodeIds(t));
+		}
+		Board board = new Board();
+		RandomBoardGenerator.populate(board, topology, tiles);
+
+		return new Game(board, dice, new Bank(), new PlacementValidator(), state.getNumPlayers(), random);
+	}
+
+	/**
+	 * Captures everything a checkpoint needs on the game thread.
+	 * @param seatToMove seat whose turn the resumed game starts with
+	 * @return the checkpoint
+	 */
+	private GameCheckpoint createCheckpoint(int seatToMove) {
+		if (!setupComplete) {
+			throw new IllegalStateException("Checkpoints can only be taken after the setup phase");
+		}
+		int humanSeats = 0;
+		for (int seat = 0; seat < players.length; seat++) {
+			if (players[seat] instanceof HumanPlayer) {
+				humanSeats |= 1 << seat;
+			}
+		}
+		List<int[]> undo = new ArrayList<>();
+		List<int[]> redo = new ArrayList<>();
+		if (humanActions != null) {
+			CommandHistory history = humanActions.getCommandHistory();
+			recordCommands(history.getUndoCommands(), undo);
+			recordCommands(history.getRedoCommands(), redo);
+		}
+		Random diceRandom = dice instanceof DiceRoller ? ((DiceRoller) dice).getRandom() : null;
+		GameState state = GameState.capture(board, players, robberTileIndex, seatToMove, roundCount);
+		return new GameCheckpoint(state, humanSeats, random, diceRandom, undo, redo);
+	}
+
+	/**
+	 * Converts build commands to checkpoint records. Other command types cannot be rebuilt
+	 * on resume and are left out.
+	 */
+	private void recordCommands(List<GameCommand> commands, List<int[]> records) {
+		for (GameCommand command : commands) {
+			if (command instanceof BuildSettlementCommand) {
+				BuildSettlementCommand build = (BuildSettlementCommand) command;
+				records.add(new int[] {GameCheckpoint.SETTLEMENT_COMMAND, build.getNode().getId(),
+						BoardState.seatOf(build.getPlayer()), 0, 0});
+			} else if (command instanceof BuildCityCommand) {
+				BuildCityCommand build = (BuildCityCommand) command;
+				Building previous = build.getPreviousBuilding();
+				int previousType = previous instanceof City ? BoardState.CITY
+						: previous != null ? BoardState.SETTLEMENT : BoardState.NO_BUILDING;
+				int previousOwner = previous == null ? BoardState.NO_OWNER : BoardState.seatOf(previous.getOwner());
+				records.add(new int[] {GameCheckpoint.CITY_COMMAND, build.getNode().getId(),
+						BoardState.seatOf(build.getPlayer()), previousType, previousOwner + 1});
+			} else if (command instanceof BuildRoadCommand) {
+				BuildRoadCommand build = (BuildRoadCommand) command;
+				records.add(new int[] {GameCheckpoint.ROAD_COMMAND, build.getEdge().getId(),
+						BoardState.seatOf(build.getPlayer()), 0, 0});
+			}
+		}
+	}
+
+	/**
+	 * Applies a checkpoint to a freshly constructed game on the checkpoint's board.
+	 */
+	private void restore(GameCheckpoint checkpoint) {
+		restoreState(checkpoint.state, checkpoint.humanSeats);
+		if (humanActions != null) {
+			humanActions.getCommandHistory().restore(
+					rebuildCommands(checkpoint.undoCommands), rebuildCommands(checkpoint.redoCommands));
+		}
+	}
+
+	/**
+	 * Applies a position to a freshly constructed game on the position's board.
+	 * @param state the position
+	 * @param humanSeats bit per seat played by a human
+	 */
+	private void restoreState(GameState state, int humanSeats) {
+		for (int seat = 0; seat < players.length; seat++) {
+			if ((humanSeats & (1 << seat)) != 0) {
+				setHumanPlayer(seat);
+			}
+			players[seat].restore(state, seat);
+		}
+
+		for (int n = 0; n < state.getNodeCount(); n++) {
+			int owner = state.getNodeOwner(n);
+			if (owner != BoardState.NO_OWNER) {
+				Node node = board.getNode(n);
+				node.setBuilding(createBuilding(state.getBuildingType(n), players[owner]));
+				node.setOccupyingPlayer(players[owner]);
+			}
+		}
+		for (int e = 0; e < state.getEdgeCount(); e++) {
+			int owner = state.getRoadOwner(e);
+			if (owner != BoardState.NO_OWNER) {
+				Edge edge = board.getEdge(e);
+				edge.setRoad(new Road(players[owner], edge));
+			}
+		}
+
+		robberTileIndex = state.getRobberTile();
+		production.setRobberTile(robberTileIndex);
+		roundCount = state.getRoundCount();
+		currentPlayer = state.getCurrentPlayer();
+		firstSeat = currentPlayer;
+		setupComplete = true;
+	}
+
+	/**
+	 * Turns checkpoint records back into commands bound to this game's board and players.
+	 * @throws IllegalArgumentException if a record names a seat, node or edge this game does not have
+	 */
+	private List<GameCommand> rebuildCommands(List<int[]> records) {
+		List<GameCommand> commands = new ArrayList<>(records.size());
+		for (int[] record : records) {
+			Player player = checkpointPlayer(record[2]);
+			switch (record[0]) {
+				case GameCheckpoint.SETTLEMENT_COMMAND:
+					commands.add(new BuildSettlementCommand(checkpointNode(record[1]), player, bank, humanActions));
+					break;
+				case GameCheckpoint.CITY_COMMAND: {
+					int previousOwner = record[4] - 1;
+					Building previous = previousOwner == BoardState.NO_OWNER ? null
+							: createBuilding(record[3], checkpointPlayer(previousOwner));
+					commands.add(new BuildCityCommand(checkpointNode(record[1]), player, bank, humanActions, previous));
+					break;
+				}
+				case GameCheckpoint.ROAD_COMMAND:
+					commands.add(new BuildRoadCommand(checkpointEdge(record[1]), player, bank, humanActions));
+					break;
+				default:
+					throw new IllegalArgumentException("Unknown command kind in checkpoint: " + record[0]);
+			}
+		}
+		return commands;
+	}
+
+	/**
+	 * Gets the player of a seat named in a checkpoint command.
+	 * @throws IllegalArgumentException if the seat does not exist
+	 */
+	private Player checkpointPlayer(int seat) {
+		if (seat < 0 || seat >= players.length) {
+			throw new IllegalArgumentException("Invalid seat in checkpoint command: " + seat);
+		}
+		return players[seat];
+	}
+
+	/**
+	 * Gets the node named in a checkpoint command.
+	 * @throws IllegalArgumentException if the board has no such node
+	 */
+	private Node checkpointNode(int id) {
+		Node node = board.getNode(id);
+		if (node == null) {
+			throw new IllegalArgumentException("Invalid node in checkpoint command: " + id);
+		}
+		return node;
+	}
+
+	/**
+	 * Gets the edge named in a checkpoint command.
+	 * @throws IllegalArgumentException if the board has no such edge
+	 */
+	private Edge checkpointEdge(int id) {
+		Edge edge = board.getEdge(id);
+		if (edge == null) {
+			throw new IllegalArgumentException("Invalid edge in checkpoint command: " + id);
+		}
+		return edge;
+	}
+
+	/**
+	 * Creates a building object for a BoardState building type.
+	 */
+	private static Building createBuilding(int buildingType, Player owner) {
+		return buildingType == BoardState.CITY ? new City(owner) : new Settlement(owner);
+	}
+
+	/**
+	 * Copies this game's output stream and visualizer writer to an actions handler.
+	 * @param target the actions handler to configure
+	 */
+	private void applyOutputSettings(PlayerActions target) {
+		target.setLog(log);
+		target.setGameId(gameId);
+		target.setVisualizerWriter(visualizerWriter);
+		target.setDecisionLog(decisionLog);
+	}
+
+	/**
+	 * Gets all players in seat order.
+	 * @return a defensive copy of the players array
+	 */
+	public Player[] getPlayers() {
+		return players.clone();
+	}
+
+	/**
+	 * Gets the current round number.
+	 * @return the round in which the game currently is (or ended)
+	 */
+	public int getRoundCount() {
+		return roundCount;
+	}
+
+	/**
+	 * Gets the round limit passed to startGame(), after which the leader wins.
+	 * @return the limit, Integer.MAX_VALUE when unlimited or not started
+	 */
+	public int getMaxRounds() {
+		return maxRounds;
+	}
+
+	/**
+	 * Captures the full position (board, hands, pieces, points, robber, turn) as a flat GameState.
+	 * @return a snapshot independent of this game's objects
+	 */
+	public GameState captureState() {
+		return GameState.capture(board, players, robberTileIndex, currentPlayer, roundCount);
+	}
+
+	/**
+	 * Gets a player's longest continuous road (opponent buildings break a road).
+	 * @param player the player
+	 * @return number of roads in the player's longest road
+	 */
+	public int getLongestRoadLength(Player player) {
+		return longestRoads == null ? 0 : longestRoads.getLength(player);
+	}
+
 	/**
 	 * Builds the Chain of Responsibility for AI decisions.
 	 * Order: OverHandSize -> ConnectRoads -> DefendRoad -> ValueScoring.
+	 * Every handler is wrapped in an InstrumentedHandler so its decisions show up in JFR recordings.
 	 */
 	private void buildAgentChain() {
-		ActionHandler overHandSize = new OverHandSizeHandler(random);
-		ActionHandler connectRoads = new ConnectRoadsHandler(board, random);
-		ActionHandler defendRoad = new DefendRoadHandler(players, board, random);
-		ActionHandler valueScoring = new ValueScoringHandler(random);
+		ActionHandler overHandSize = new InstrumentedHandler(new OverHandSizeHandler(random), 0, gameId);
+		ActionHandler connectRoads = new InstrumentedHandler(new ConnectRoadsHandler(board, random), 1, gameId);
+		ActionHandler defendRoad = new InstrumentedHandler(
+				new DefendRoadHandler(players, board, longestRoads, random), 2, gameId);
+		ActionHandler valueScoring = new InstrumentedHandler(new ValueScoringHandler(random), 3, gameId);
 
 		overHandSize.setSuccessor(connectRoads);
 		connectRoads.setSuccessor(defendRoad);
@@ -125,7 +723,7 @@ public class Game {
 	public void initializePlayers(){
 		// Initialize all players with their colors
 		for (int i = 0; i < players.length; i++){
-			players[i] = new Player(PlayerColor.values()[i]);
+			players[i] = new Player(PlayerColor.VALUES[i]);
 		}
 	}
 
@@ -136,7 +734,15 @@ public class Game {
 	 */
 	public void setHumanPlayer(int index) {
 		if (index < 0 || index >= players.length) return;
-		players[index] = new HumanPlayer(PlayerColor.values()[index]);
+		players[index] = new HumanPlayer(PlayerColor.VALUES[index]);
+
+		// Console input is only opened when a human actually plays
+		if (humanActions == null) {
+			scanner = new Scanner(System.in);
+			humanActions = new HumanPlayerActions(board, bank, validator, players, random,
+					scanner, dice, DICE_SIDES, this::distributeResources, this::handleRobber);
+			applyOutputSettings(humanActions);
+		}
 	}
 
 	/**
@@ -148,7 +754,7 @@ public class Game {
 		for (int setupRound = 1; setupRound <= 2; setupRound++) {
 			for (int i = 0; i < players.length; i++) {
 				Player player = players[i];
-				System.out.println("\n=== " + player.getColor() + " Player Setup Round " + setupRound + " ===");
+				log.info(LogCategory.SETUP, "\n=== " + player.getColor() + " Player Setup Round " + setupRound + " ===");
 
 				if (player instanceof HumanPlayer) {
 					setupInitialPlacementHuman((HumanPlayer) player, setupRound);
@@ -171,7 +777,7 @@ public class Game {
 		List<Integer> availableNodes = actions.getAvailableSettlementNodes();
 
 		if (availableNodes.isEmpty()) {
-			System.out.println(player.getColor() + " - No available nodes for settlement #" + settlementNumber);
+			log.info(LogCategory.SETUP, player.getColor() + " - No available nodes for settlement #" + settlementNumber);
 			return -1;
 		}
 
@@ -180,7 +786,7 @@ public class Game {
 		Node node = board.getNode(nodeId);
 
 		if (node != null && actions.placeSettlementSetup(node, player)) {
-			System.out.println(roundCount + " / " + player.getColor() + ": Placed settlement #" + settlementNumber + " on node " + nodeId);
+			log.info(LogCategory.SETUP, roundCount + " / " + player.getColor() + ": Placed settlement #" + settlementNumber + " on node " + nodeId);
 			return nodeId;
 		}
 		return -1;
@@ -195,14 +801,14 @@ public class Game {
 	 */
 	private void aiSetupRoadFromSettlement(Player player, int roadNumber, int settlementNodeId) {
 		if (settlementNodeId < 0) {
-			System.out.println(player.getColor() + " - Cannot place road #" + roadNumber + " (no settlement placed)");
+			log.info(LogCategory.SETUP, player.getColor() + " - Cannot place road #" + roadNumber + " (no settlement placed)");
 			return;
 		}
 		int firstNodeId = settlementNodeId;
 		List<Integer> adjacentUnoccupied = actions.getAdjacentUnoccupiedNodeIds(firstNodeId);
 
 		if (adjacentUnoccupied.isEmpty()) {
-			System.out.println(player.getColor() + " - No available adjacent nodes for road #" + roadNumber);
+			log.info(LogCategory.SETUP, player.getColor() + " - No available adjacent nodes for road #" + roadNumber);
 			return;
 		}
 
@@ -212,7 +818,7 @@ public class Game {
 		// Find the edge between the two nodes
 		Edge edge = board.findEdge(firstNodeId, secondNodeId);
 		if (edge != null && actions.placeRoadSetup(edge, player)) {
-			System.out.println(roundCount + " / " + player.getColor() + ": Placed road #" + roadNumber + " from node " + firstNodeId + " to node " + secondNodeId);
+			log.info(LogCategory.SETUP, roundCount + " / " + player.getColor() + ": Placed road #" + roadNumber + " from node " + firstNodeId + " to node " + secondNodeId);
 		}
 	}
 
@@ -226,52 +832,52 @@ public class Game {
 		int placedSettlementNodeId = -1;
 		// Settlement
 		while (true) {
-			System.out.println("Place settlement #" + placementNumber + " (command: build settlement <nodeId>):");
-			System.out.print("> ");
+			log.info(LogCategory.HUMAN, "Place settlement #" + placementNumber + " (command: build settlement <nodeId>):");
+			log.prompt("> ");
 			HumanCommandParser.ParsedCommand cmd = HumanCommandParser.parse(scanner.nextLine());
 			if (cmd.getAction() != HumanCommandParser.Action.BUILD_SETTLEMENT) {
-				System.out.println("Please use: build settlement <nodeId>");
+				log.info(LogCategory.HUMAN, "Please use: build settlement <nodeId>");
 				continue;
 			}
 			Node node = board.getNode(cmd.getNodeId());
 			if (node == null) {
-				System.out.println("Invalid node.");
+				log.info(LogCategory.HUMAN, "Invalid node.");
 				continue;
 			}
 			if (actions.placeSettlementSetup(node, player)) {
 				placedSettlementNodeId = cmd.getNodeId();
-				System.out.println("Settlement built on node " + cmd.getNodeId());
+				log.info(LogCategory.HUMAN, "Settlement built on node " + cmd.getNodeId());
 				break;
 			} else {
-				System.out.println("Cannot build settlement there. Try another node.");
+				log.info(LogCategory.HUMAN, "Cannot build settlement there. Try another node.");
 			}
 		}
 
 		// Road (must connect to the settlement just placed)
 		while (true) {
-			System.out.println("Place road #" + placementNumber + " from settlement node " + placedSettlementNodeId
+			log.info(LogCategory.HUMAN, "Place road #" + placementNumber + " from settlement node " + placedSettlementNodeId
 					+ " (command: build road <fromNodeId>,<toNodeId>):");
-			System.out.print("> ");
+			log.prompt("> ");
 			HumanCommandParser.ParsedCommand cmd = HumanCommandParser.parse(scanner.nextLine());
 			if (cmd.getAction() != HumanCommandParser.Action.BUILD_ROAD) {
-				System.out.println("Please use: build road <fromNodeId>,<toNodeId>");
+				log.info(LogCategory.HUMAN, "Please use: build road <fromNodeId>,<toNodeId>");
 				continue;
 			}
 			Edge edge = board.findEdge(cmd.getFromNodeId(), cmd.getToNodeId());
 			if (edge == null) {
-				System.out.println("No edge between those nodes.");
+				log.info(LogCategory.HUMAN, "No edge between those nodes.");
 				continue;
 			}
 			Node justPlaced = board.getNode(placedSettlementNodeId);
 			if (justPlaced == null || !edge.touches(justPlaced)) {
-				System.out.println("Road must connect to settlement node " + placedSettlementNodeId + ".");
+				log.info(LogCategory.HUMAN, "Road must connect to settlement node " + placedSettlementNodeId + ".");
 				continue;
 			}
 			if (actions.placeRoadSetup(edge, player)) {
-				System.out.println("Road built from node " + cmd.getFromNodeId() + " to node " + cmd.getToNodeId());
+				log.info(LogCategory.HUMAN, "Road built from node " + cmd.getFromNodeId() + " to node " + cmd.getToNodeId());
 				break;
 			} else {
-				System.out.println("Cannot build road there. Try another pair of nodes.");
+				log.info(LogCategory.HUMAN, "Cannot build road there. Try another pair of nodes.");
 			}
 		}
 	}
@@ -289,36 +895,113 @@ public class Game {
 	 * @param maxRounds maximum number of rounds to play
 	 */
 	public void startGame(int maxRounds) {
+		this.maxRounds = maxRounds;
+
 		// Write base map once so visualizer can render the board (R2.3)
+		if (visualizerDirectory != null) {
+			try {
+				JsonWriter.writeBaseMap(board, visualizerDirectory + "/base_map.json");
+			} catch (IOException e) {
+				log.error("Failed to write base_map.json: " + e.getMessage());
+			}
+			openVisualizerWriter();
+		}
+		if (eventLogPath != null) {
+			try {
+				eventLog = new GameEventWriter(board, eventLogPath, GameEventWriter.DEFAULT_SNAPSHOT_INTERVAL,
+						this::getRoundCount, robberTileIndex, log);
+			} catch (IOException e) {
+				log.error("Failed to open event log: " + e.getMessage());
+			}
+		}
+		if (checkpointPath != null) {
+			checkpointWriter = new CoalescingFileWriter(checkpointPath.toString(), 0, log);
+		}
+
 		try {
-			JsonWriter.writeBaseMap(board, VISUALIZER_BASE_MAP_PATH);
-		} catch (IOException e) {
-			System.err.println("Failed to write base_map.json: " + e.getMessage());
+			playGame(maxRounds);
+		} finally {
+			log.flush();
+			closeVisualizerWriter();
+			if (checkpointWriter != null) {
+				checkpointWriter.close();
+				checkpointWriter = null;
+			}
+			if (eventLog != null) {
+				eventLog.close();
+				eventLog = null;
+			}
+			closeAgents();
 		}
+	}
 
-		setupInitialSettlements();
+	/**
+	 * Closes the seat agents that hold resources, such as an MctsHandler's search threads.
+	 */
+	private void closeAgents() {
+		for (ActionHandler agent : seatAgents) {
+			ActionHandler handler = agent instanceof InstrumentedHandler ? ((InstrumentedHandler) agent).getDelegate() : agent;
+			if (handler instanceof AutoCloseable) {
+				try {
+					((AutoCloseable) handler).close();
+				} catch (Exception e) {
+					log.error("Failed to close " + handler.getClass().getSimpleName() + ": " + e.getMessage());
+				}
+			}
+		}
+	}
 
-		System.out.println("\n=== GAME START ===");
+	/**
+	 * Starts the background state.json writer and hands it to the actions handlers.
+	 */
+	private void openVisualizerWriter() {
+		visualizerWriter = new CoalescingFileWriter(visualizerDirectory + "/state.json", visualizerIntervalMillis, log);
+		applyOutputSettings(actions);
+		if (humanActions != null) {
+			applyOutputSettings(humanActions);
+		}
+	}
+
+	/**
+	 * Flushes the final state to state.json and stops the background writer.
+	 */
+	private void closeVisualizerWriter() {
+		if (visualizerWriter == null) {
+			return;
+		}
+		visualizerWriter.close();
+		visualizerWriter = null;
+		applyOutputSettings(actions);
+		if (humanActions != null) {
+			applyOutputSettings(humanActions);
+		}
+	}
+
+	/**
+	 * Runs setup and the game loop until someone wins or the round limit is reached.
+	 * @param maxRounds maximum number of rounds to play
+	 */
+	private void playGame(int maxRounds) {
+		if (!setupComplete) {
+			setupInitialSettlements();
+			setupComplete = true;
+		}
+
+		log.info(LogCategory.TURN, "\n=== GAME START ===");
 
 		// Game loop - continue until someone wins or max rounds reached
 		while (getWinner() == null) {
 			// Check if we've reached max rounds before starting this round
 			if (roundCount >= maxRounds) {
-				System.out.println("\n=== GAME OVER ===");
-				System.out.println("Maximum rounds (" + maxRounds + ") reached!");
-				// Find player with most victory points
-				Player winner = players[0];
-				for (int i = 1; i < players.length; i++) {
-					if (players[i].getVictoryPoints() > winner.getVictoryPoints()) {
-						winner = players[i];
-					}
-				}
-				System.out.println(winner.getColor() + " Player wins with " + winner.getVictoryPoints() + " victory points!");
+				log.info(LogCategory.TURN, "\n=== GAME OVER ===");
+				log.info(LogCategory.TURN, "Maximum rounds (" + maxRounds + ") reached!");
+				Player winner = getLeader();
+				log.info(LogCategory.TURN, winner.getColor() + " Player wins with " + winner.getVictoryPoints() + " victory points!");
 				return;
 			}
 
-			// Process each player's turn in this round
-			for (int i = 0; i < players.length; i++) {
+			// Process each player's turn in this round (a resumed game may start mid-round)
+			for (int i = firstSeat; i < players.length; i++) {
 				currentPlayer = i;
 				Player player = players[i];
 
@@ -326,51 +1009,91 @@ public class Game {
 				if (getWinner() != null) {
 					break;
 				}
-
-				System.out.println("\n--- " + player.getColor() + " Player's Turn ---");
-
-				// Human players roll via the "roll" console command inside humanTurn.
-				// AI players have the dice rolled automatically here.
-				if (!(player instanceof HumanPlayer)) {
-					int diceRoll = dice.rollTwoDice(DICE_SIDES);
-					System.out.println("Dice roll: " + diceRoll);
-
-					if (diceRoll == 7) {
-						handleRobber(player);
-					} else {
-						distributeResources(diceRoll);
-					}
-				}
-
-				// Player actions - build or pass
-				playerTurn(player, i);
-
-				// End of turn processing
+				takeTurn(player, i);
 			}
 
 			// Print victory points at end of round (R1.7 requirement)
-			System.out.println("\n=== End of Round " + roundCount + " - Victory Points ===");
-			for (int i = 0; i < players.length; i++) {
-				System.out.println(players[i].getColor() + " Player: " + players[i].getVictoryPoints() + " VP");
+			if (log.isEnabled(LogCategory.SCORE)) {
+				log.info(LogCategory.SCORE, "\n=== End of Round " + roundCount + " - Victory Points ===");
+				for (int i = 0; i < players.length; i++) {
+					log.info(LogCategory.SCORE, players[i].getColor() + " Player: " + players[i].getVictoryPoints() + " VP");
+				}
+				log.info(LogCategory.SCORE, "");
 			}
-			System.out.println();
 
 			// Increment round counter after all players have taken their turn
 			roundCount++;
+			currentPlayer = 0;
+			firstSeat = 0;
+			logDecision(DecisionLog.ROUND_END, players[0], roundCount);
+
+			// Periodic checkpoint of the position at the start of the next round
+			if (checkpointWriter != null && roundCount % checkpointInterval == 0) {
+				checkpointWriter.submit(createCheckpoint(0).toBytes());
+			}
 		}
 
 		// Game over - determine winner
 		Player winner = getWinner();
 		if (winner != null) {
-			System.out.println("\n=== GAME OVER ===");
-			System.out.println(winner.getColor() + " Player wins with " + winner.getVictoryPoints() + " victory points!");
+			log.info(LogCategory.TURN, "\n=== GAME OVER ===");
+			log.info(LogCategory.TURN, winner.getColor() + " Player wins with " + winner.getVictoryPoints() + " victory points!");
+		}
+	}
+
+	/**
+	 * Plays one regular turn: the dice roll for AI players, then building or passing.
+	 * Kept out of playGame so the JIT can see that the turn's JFR event never escapes.
+	 * @param player the player whose turn it is
+	 * @param seat the player's seat
+	 */
+	private void takeTurn(Player player, int seat) {
+		logDecision(DecisionLog.TURN, player, roundCount);
+		JfrTurnEvent turnEvent = new JfrTurnEvent();
+		turnEvent.begin();
+		if (turnListener != null) {
+			turnListener.turnStarted(player, roundCount);
+		}
+
+		if (log.isEnabled(LogCategory.TURN)) {
+			log.info(LogCategory.TURN, "\n--- " + player.getColor() + " Player's Turn ---");
+		}
+
+		// Human players roll via the "roll" console command inside humanTurn.
+		// AI players have the dice rolled automatically here.
+		if (!(player instanceof HumanPlayer)) {
+			int diceRoll = dice.rollTwoDice(DICE_SIDES);
+			if (log.isEnabled(LogCategory.TURN)) {
+				log.info(LogCategory.TURN, "Dice roll: " + diceRoll);
+			}
+
+			if (diceRoll == 7) {
+				handleRobber(player);
+			} else {
+				distributeResources(diceRoll);
+			}
+		}
+
+		// Player actions - build or pass
+		playerTurn(player, seat);
+
+		// End of turn processing
+		if (turnListener != null) {
+			turnListener.turnEnded(player, roundCount);
+		}
+		if (turnEvent.shouldCommit()) {
+			turnEvent.gameId = gameId;
+			turnEvent.round = roundCount;
+			turnEvent.seat = seat;
+			turnEvent.human = player instanceof HumanPlayer;
+			turnEvent.commit();
 		}
 	}
 
 	/**
 	 * Handles a player's turn.
 	 * If the player is a HumanPlayer, reads commands from the console.
-	 * Otherwise the agent picks randomly from available actions.
+	 * Otherwise the seat's agent (see setAgent) or the rule-based chain decides.
 	 * @param player The player whose turn it is
 	 * @param playerIndex The index of the player in the players array
 	 */
@@ -379,7 +1102,8 @@ public class Game {
 			humanActions.humanTurn((HumanPlayer) player, roundCount);
 			return;
 		}
-		agentChain.handleTurn(player, actions, roundCount);
+		ActionHandler agent = seatAgents[playerIndex];
+		(agent != null ? agent : agentChain).handleTurn(player, actions, roundCount);
 	}
 
 	/**
@@ -390,6 +1114,37 @@ public class Game {
 	 * @param activePlayer the player who rolled 7
 	 */
 	private void handleRobber(Player activePlayer) {
+		JfrDiceRollEvent rollEvent = new JfrDiceRollEvent();
+		JfrRobberEvent robberEvent = new JfrRobberEvent();
+		int cardsBefore = robberEvent.isEnabled() ? countCards() : 0;
+		rollEvent.begin();
+		robberEvent.begin();
+
+		int victimSeat = resolveRobber(activePlayer);
+
+		if (robberEvent.shouldCommit()) {
+			robberEvent.gameId = gameId;
+			robberEvent.round = roundCount;
+			robberEvent.seat = BoardState.seatOf(activePlayer);
+			robberEvent.tile = robberTileIndex;
+			// A steal only moves a card, so the drop in cards held is what was discarded
+			robberEvent.discarded = cardsBefore - countCards();
+			robberEvent.victimSeat = victimSeat;
+			robberEvent.commit();
+		}
+		commitRoll(rollEvent, activePlayer, 7, 0);
+	}
+
+	/**
+	 * Performs the three robber steps for handleRobber.
+	 * @param activePlayer the player who rolled 7
+	 * @return seat of the player stolen from, or -1 if nothing was stolen
+	 */
+	private int resolveRobber(Player activePlayer) {
+		if (eventLog != null) {
+			eventLog.roll(activePlayer, 7);
+		}
+		logDecision(DecisionLog.ROLL, activePlayer, 7);
 
 		// Step 1 — Card discard
 		for (Player p : players) {
@@ -400,12 +1155,11 @@ public class Game {
 
 			int toDiscard = total - 7;
 			List<ResourceType> cards = new ArrayList<>();
-			for (Map.Entry<ResourceType, Integer> entry : p.getResources().entrySet()) {
-				ResourceType type = entry.getKey();
+			for (ResourceType type : ResourceType.VALUES) {
 				if (type == ResourceType.NULL) {
 					continue;
 				}
-				for (int i = 0; i < entry.getValue(); i++) {
+				for (int i = 0; i < p.getResourceCount(type); i++) {
 					cards.add(type);
 				}
 			}
@@ -413,32 +1167,40 @@ public class Game {
 			Collections.shuffle(cards, random);
 			for (int i = 0; i < toDiscard && i < cards.size(); i++) {
 				p.removeResource(cards.get(i), 1);
+				logDecision(DecisionLog.DISCARD, p, cards.get(i).ordinal());
 			}
 		}
 
 		// Step 2 — Robber placement
-		Tile[] tiles = board.getTiles();
-		if (tiles == null || tiles.length == 0) {
-			return;
+		int tileCount = board.getTileCount();
+		if (tileCount == 0) {
+			return -1;
 		}
 
 		int newIndex = robberTileIndex;
-		if (tiles.length == 1) {
+		if (tileCount == 1) {
 			newIndex = 0;
 		} else {
 			while (newIndex == robberTileIndex) {
-				newIndex = random.nextInt(tiles.length);
+				newIndex = random.nextInt(tileCount);
 			}
 		}
 
 		robberTileIndex = newIndex;
-		System.out.println(roundCount + " / ROBBER: Moved to tile " + robberTileIndex);
+		production.setRobberTile(robberTileIndex);
+		if (log.isEnabled(LogCategory.ROBBER)) {
+			log.info(LogCategory.ROBBER, roundCount + " / ROBBER: Moved to tile " + robberTileIndex);
+		}
+		if (eventLog != null) {
+			eventLog.robber(activePlayer, robberTileIndex);
+		}
+		logDecision(DecisionLog.ROBBER, activePlayer, robberTileIndex);
 
 		// Step 3 — Steal a card
-		Tile robberTile = tiles[robberTileIndex];
+		Tile robberTile = board.getTile(robberTileIndex);
 		int[] nodeIds = robberTile.getNodeIds();
 
-		Set<Player> uniqueVictims = new HashSet<>();
+		Set<Player> uniqueVictims = new LinkedHashSet<>();
 		for (int nodeId : nodeIds) {
 			Node node = board.getNode(nodeId);
 			if (node == null) {
@@ -460,74 +1222,117 @@ public class Game {
 		}
 
 		if (uniqueVictims.isEmpty()) {
-			return;
+			return -1;
 		}
 
 		List<Player> victims = new ArrayList<>(uniqueVictims);
 		Player victim = victims.get(random.nextInt(victims.size()));
 
 		List<ResourceType> victimCards = new ArrayList<>();
-		for (Map.Entry<ResourceType, Integer> entry : victim.getResources().entrySet()) {
-			ResourceType type = entry.getKey();
+		for (ResourceType type : ResourceType.VALUES) {
 			if (type == ResourceType.NULL) {
 				continue;
 			}
-			for (int i = 0; i < entry.getValue(); i++) {
+			for (int i = 0; i < victim.getResourceCount(type); i++) {
 				victimCards.add(type);
 			}
 		}
 
 		if (victimCards.isEmpty()) {
-			return;
+			return -1;
 		}
 
 		ResourceType stolen = victimCards.get(random.nextInt(victimCards.size()));
 		if (victim.removeResource(stolen, 1)) {
 			activePlayer.addResource(stolen);
-			System.out.println(roundCount + " / " + activePlayer.getColor() + ": Stole from " + victim.getColor());
+			logDecision(DecisionLog.STEAL, activePlayer, BoardState.seatOf(victim) << 8 | stolen.ordinal());
+			if (log.isEnabled(LogCategory.ROBBER)) {
+				log.info(LogCategory.ROBBER, roundCount + " / " + activePlayer.getColor() + ": Stole from " + victim.getColor());
+			}
+			return BoardState.seatOf(victim);
+		}
+		return -1;
+	}
+
+	/**
+	 * Counts the real resource cards held by all players.
+	 */
+	private int countCards() {
+		int cards = 0;
+		for (Player p : players) {
+			cards += p.getTotalResourceCount() - p.getResourceCount(ResourceType.NULL);
+		}
+		return cards;
+	}
+
+	/**
+	 * Commits a dice roll event begun when the roll started being resolved.
+	 */
+	private void commitRoll(JfrDiceRollEvent event, Player roller, int total, int payouts) {
+		if (event.shouldCommit()) {
+			event.gameId = gameId;
+			event.round = roundCount;
+			event.seat = BoardState.seatOf(roller);
+			event.total = total;
+			event.payouts = payouts;
+			event.commit();
 		}
 	}
 
 	/**
 	 * Distributes resources to all players based on the dice roll.
 	 * Each player with a settlement/city on a tile matching the rolled number receives resources.
-	 * Cities produce double resources.
+	 * Cities produce double resources; the tile holding the robber produces nothing.
 	 * @param diceRoll The number rolled on the dice (2-12)
 	 */
-	private void distributeResources(int diceRoll) {
+	void distributeResources(int diceRoll) {
+		JfrDiceRollEvent rollEvent = new JfrDiceRollEvent();
+		rollEvent.begin();
+
 		// Skip 7 (robber - no resources distributed)
 		if (diceRoll == 7) {
 			return;
 		}
+		if (eventLog != null) {
+			eventLog.roll(players[currentPlayer], diceRoll);
+		}
+		logDecision(DecisionLog.ROLL, players[currentPlayer], diceRoll);
 
-		// Process all tiles on the board
-		for (Tile tile : board.getTiles()) {
-			if (tile.getNumber() == diceRoll) {
-				ResourceType resource = tile.produceResource();
-				if (resource == ResourceType.NULL) continue;
-
-				// Check all nodes touching this tile
-				int[] nodeIds = tile.getNodeIds();
-				for (int nodeId : nodeIds) {
-					Node node = board.getNode(nodeId);
-					if (node != null && node.isOccupied()) {
-						Player owner = node.getOccupyingPlayer();
-						if (owner != null) {
-							// Use resource multiplier from building (1 for settlement, 2 for city)
-							int amount = node.getBuilding().getResourceMultiplier();
-							for (int i = 0; i < amount; i++) {
-								owner.addResource(resource);
-							}
-							if (amount > 1) {
-								System.out.println(roundCount + " / " + owner.getColor() + ": Received 2x " + resource);
-							} else {
-								System.out.println(roundCount + " / " + owner.getColor() + ": Received " + resource);
-							}
-						}
-					}
-				}
+		// Walk the precomputed payouts for this roll (robber tile already excluded)
+		for (int i = 0; i < production.getPayoutCount(diceRoll); i++) {
+			int seat = production.getSeat(diceRoll, i);
+			if (seat >= players.length) {
+				continue;
+			}
+			Player owner = players[seat];
+			ResourceType resource = production.getResource(diceRoll, i);
+			int amount = production.getAmount(diceRoll, i);
+			owner.addResource(resource, amount);
+			if (!log.isEnabled(LogCategory.PAYOUT)) {
+				continue;
+			}
+			if (amount > 1) {
+				log.info(LogCategory.PAYOUT, roundCount + " / " + owner.getColor() + ": Received 2x " + resource);
+			} else {
+				log.info(LogCategory.PAYOUT, roundCount + " / " + owner.getColor() + ": Received " + resource);
+			}
+		}
+		commitRoll(rollEvent, players[currentPlayer], diceRoll, production.getPayoutCount(diceRoll));
+	}
+
+	/**
+	 * Gets the player with the most victory points (earliest seat wins ties).
+	 * Used to decide the game when the round limit is reached.
+	 * @return the leading player
+	 */
+	public Player getLeader() {
+		Player leader = players[0];
+		for (int i = 1; i < players.length; i++) {
+			if (players[i].getVictoryPoints() > leader.getVictoryPoints()) {
+				leader = players[i];
 			}
 		}
+		return leader;
 	}
 
 	/**
@@ -535,7 +1340,7 @@ public class Game {
 	 * @param player the player to find
 	 * @return the index of the player, or -1 if not found
 	 */
-	private int getPlayerNumber(Player player) {
+	public int getPlayerNumber(Player player) {
 		for (int i = 0; i < players.length; i++) {
 			if (players[i] == player) {
 				return i;
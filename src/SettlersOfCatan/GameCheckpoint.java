@@ -0,0 +1,200 @@
+package SettlersOfCatan;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Everything needed to continue a game: the GameState position, which seats are human,
+ * the state of the AI and dice random sources, and the human undo/redo history.
+ * Serialized as a small binary file: a magic number and version, the GameStateCodec record,
+ * then the extras. Random sources are stored with Java serialization (the only way to read
+ * java.util.Random's seed), restricted on reading to java.util.Random itself.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+final class GameCheckpoint {
+	/** File signature, "CTCK" */
+	private static final int MAGIC = 0x4354434B;
+
+	/** Checkpoint format version */
+	private static final int VERSION = 1;
+
+	/** Command kinds in a history record */
+	static final int SETTLEMENT_COMMAND = 0;
+	static final int CITY_COMMAND = 1;
+	static final int ROAD_COMMAND = 2;
+
+	/** Fields per history record: kind, node or edge id, seat, previous building type, previous owner */
+	static final int RECORD_SIZE = 5;
+
+	/** Only java.util.Random may be deserialized from a checkpoint */
+	private static final ObjectInputFilter RANDOM_ONLY =
+			ObjectInputFilter.Config.createFilter("java.util.Random;!*");
+
+	/** Position at the start of the saved turn */
+	final GameState state;
+
+	/** Bit per seat played by a human */
+	final int humanSeats;
+
+	/** AI and robber random source */
+	final Random aiRandom;
+
+	/** Dice random source, or null when the game's dice could not be recorded */
+	final Random diceRandom;
+
+	/** Human commands available to undo, oldest first */
+	final List<int[]> undoCommands;
+
+	/** Human commands available to redo, oldest first */
+	final List<int[]> redoCommands;
+
+	/**
+	 * Creates a checkpoint.
+	 * @param state position at the start of the saved turn
+	 * @param humanSeats bit per human seat
+	 * @param aiRandom AI random source (its current state is copied when encoded)
+	 * @param diceRandom dice random source, or null
+	 * @param undoCommands history records available to undo, oldest first
+	 * @param redoCommands history records available to redo, oldest first
+	 */
+	GameCheckpoint(GameState state, int humanSeats, Random aiRandom, Random diceRandom,
+			List<int[]> undoCommands, List<int[]> redoCommands) {
+		this.state = state;
+		this.humanSeats = humanSeats;
+		this.aiRandom = aiRandom;
+		this.diceRandom = diceRandom;
+		this.undoCommands = undoCommands;
+		this.redoCommands = redoCommands;
+	}
+
+	/**
+	 * Encodes the checkpoint.
+	 * @return the file contents
+	 */
+	byte[] toBytes() {
+		byte[] ai = saveRandom(aiRandom);
+		byte[] dice = diceRandom == null ? new byte[0] : saveRandom(diceRandom);
+		int size = 4 + 1 + GameStateCodec.maxEncodedSize(state) + 1 + 4 + ai.length + 4 + dice.length
+				+ 2 * 4 + (undoCommands.size() + redoCommands.size()) * RECORD_SIZE;
+		ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(MAGIC);
+		buffer.put((byte) VERSION);
+		GameStateCodec.encode(state, buffer);
+		buffer.put((byte) humanSeats);
+		buffer.putInt(ai.length).put(ai);
+		buffer.putInt(dice.length).put(dice);
+		putRecords(buffer, undoCommands);
+		putRecords(buffer, redoCommands);
+
+		byte[] bytes = new byte[buffer.position()];
+		buffer.flip().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Decodes a checkpoint.
+	 * @param bytes the file contents
+	 * @return the checkpoint
+	 * @throws IllegalArgumentException if the bytes are not a valid checkpoint
+	 */
+	static GameCheckpoint fromBytes(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		try {
+			if (buffer.getInt() != MAGIC) {
+				throw new IllegalArgumentException("Not a checkpoint file");
+			}
+			int version = Byte.toUnsignedInt(buffer.get());
+			if (version != VERSION) {
+				throw new IllegalArgumentException("Unsupported checkpoint version: " + version);
+			}
+			GameState state = GameStateCodec.decode(buffer);
+			int humanSeats = Byte.toUnsignedInt(buffer.get());
+			Random ai = loadRandom(getBlock(buffer));
+			byte[] dice = getBlock(buffer);
+			Random diceRandom = dice.length == 0 ? null : loadRandom(dice);
+			List<int[]> undo = getRecords(buffer);
+			List<int[]> redo = getRecords(buffer);
+			return new GameCheckpoint(state, humanSeats, ai, diceRandom, undo, redo);
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Truncated checkpoint", e);
+		}
+	}
+
+	/**
+	 * Serializes a random source's current state.
+	 */
+	private static byte[] saveRandom(Random random) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+			out.writeObject(random);
+		} catch (IOException e) {
+			throw new IllegalStateException("Random source cannot be checkpointed", e);
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Restores a random source saved by saveRandom.
+	 */
+	private static Random loadRandom(byte[] bytes) {
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+			in.setObjectInputFilter(RANDOM_ONLY);
+			return (Random) in.readObject();
+		} catch (IOException | ClassNotFoundException | ClassCastException e) {
+			throw new IllegalArgumentException("Invalid random state in checkpoint", e);
+		}
+	}
+
+	/**
+	 * Reads a length-prefixed byte block.
+	 */
+	private static byte[] getBlock(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Invalid block length in checkpoint: " + length);
+		}
+		byte[] block = new byte[length];
+		buffer.get(block);
+		return block;
+	}
+
+	/**
+	 * Writes a count followed by fixed-size history records, one byte per field.
+	 */
+	private static void putRecords(ByteBuffer buffer, List<int[]> records) {
+		buffer.putInt(records.size());
+		for (int[] record : records) {
+			for (int field : record) {
+				buffer.put((byte) field);
+			}
+		}
+	}
+
+	/**
+	 * Reads history records written by putRecords.
+	 */
+	private static List<int[]> getRecords(ByteBuffer buffer) {
+		int count = buffer.getInt();
+		if (count < 0 || count > buffer.remaining() / RECORD_SIZE) {
+			throw new IllegalArgumentException("Invalid command count in checkpoint: " + count);
+		}
+		List<int[]> records = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int[] record = new int[RECORD_SIZE];
+			for (int f = 0; f < RECORD_SIZE; f++) {
+				record[f] = Byte.toUnsignedInt(buffer.get());
+			}
+			records.add(record);
+		}
+		return records;
+	}
+}
@@ -0,0 +1,47 @@
+package SettlersOfCatan;
+
+/**
+ * Immutable settings for a simulated game: how many players sit at the table
+ * and how many rounds may be played before the leader is declared the winner.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class GameConfig {
+	/** Number of players in the game (1-4) */
+	private final int numPlayers;
+
+	/** Maximum number of rounds before the game is decided on victory points */
+	private final int maxRounds;
+
+	/**
+	 * Constructor for a game configuration.
+	 * @param numPlayers number of players (1 to the number of player colors)
+	 * @param maxRounds maximum number of rounds (at least 1)
+	 * @throws IllegalArgumentException if either value is out of range
+	 */
+	public GameConfig(int numPlayers, int maxRounds) {
+		if (numPlayers < 1 || numPlayers > PlayerColor.values().length) {
+			throw new IllegalArgumentException("Players must be between 1 and " + PlayerColor.values().length + ". Found: " + numPlayers);
+		}
+		if (maxRounds < 1) {
+			throw new IllegalArgumentException("Max rounds must be at least 1. Found: " + maxRounds);
+		}
+		this.numPlayers = numPlayers;
+		this.maxRounds = maxRounds;
+	}
+
+	/**
+	 * Gets the number of players.
+	 * @return number of players
+	 */
+	public int getNumPlayers() {
+		return numPlayers;
+	}
+
+	/**
+	 * Gets the round limit.
+	 * @return maximum number of rounds
+	 */
+	public int getMaxRounds() {
+		return maxRounds;
+	}
+}
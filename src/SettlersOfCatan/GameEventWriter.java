@@ -0,0 +1,317 @@
+package SettlersOfCatan;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntSupplier;
+
+/**
+ * Append-only JSON Lines log of a game for visualizers and analytics (one compact object per line).
+ * Each placement, removal, dice roll and robber move appends one short line, so the cost per event
+ * is constant instead of rewriting the whole state like state.json. Every few events a snapshot
+ * line with all roads, buildings and the robber is written, so a reader can start from the last
+ * snapshot instead of replaying from the start. The first line is always a snapshot.
+ * Placements are picked up by listening to the board state; rolls and robber moves are reported
+ * by Game. Lines are flushed after rolls, snapshots and on close (which writes a last snapshot).
+ * <p>
+ * Line types (every line has "seq", "round" and "type"):
+ * <ul>
+ *   <li>{@code building}: node, owner, building (SETTLEMENT, CITY, or null when removed)</li>
+ *   <li>{@code road}: edge, a, b, owner (null when removed)</li>
+ *   <li>{@code roll}: player, roll</li>
+ *   <li>{@code robber}: player, tile</li>
+ *   <li>{@code snapshot}: robber, roads [{edge, a, b, owner}], buildings [{node, owner, type}]</li>
+ * </ul>
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class GameEventWriter implements BoardChangeListener, AutoCloseable {
+	/** Default number of events between two snapshot lines */
+	public static final int DEFAULT_SNAPSHOT_INTERVAL = 64;
+
+	/** Layout used to resolve edge endpoints */
+	private final BoardTopology topology;
+
+	/** Occupancy read when events and snapshots are written */
+	private final BoardState state;
+
+	/** Open log file */
+	private final BufferedWriter writer;
+
+	/** Events between two snapshots */
+	private final int snapshotInterval;
+
+	/** Source of the current round number */
+	private final IntSupplier round;
+
+	/** Reused buffer for building one line */
+	private final StringBuilder line = new StringBuilder(256);
+
+	/** Sequence number of the next line */
+	private long seq;
+
+	/** Events written since the last snapshot */
+	private int sinceSnapshot;
+
+	/** Tile currently holding the robber, or -1 */
+	private int robberTile;
+
+	/** Log the first write failure is reported to */
+	private final GameLog log;
+
+	/** Set after a write failure so a broken log does not spam the console */
+	private boolean failed;
+
+	/** Set once closed; the log no longer listens to the board */
+	private boolean closed;
+
+	/**
+	 * Opens (truncating) the log for a game whose robber has not moved yet.
+	 * @param board the game board
+	 * @param path path to the .jsonl file
+	 * @param snapshotInterval number of events between snapshot lines
+	 * @param round supplies the current round for each line
+	 * @throws IOException if the file cannot be opened
+	 * @throws IllegalArgumentException if the snapshot interval is not positive
+	 */
+	public GameEventWriter(Board board, String path, int snapshotInterval, IntSupplier round) throws IOException {
+		this(board, path, snapshotInterval, round, -1);
+	}
+
+	/**
+	 * Opens (truncating) the log, writes the initial snapshot and subscribes to the board state.
+	 * Resumed games pass their restored robber tile, so snapshots report it from the first line.
+	 * @param board the game board
+	 * @param path path to the .jsonl file
+	 * @param snapshotInterval number of events between snapshot lines
+	 * @param round supplies the current round for each line
+	 * @param robberTile tile holding the robber now, or -1
+	 * @throws IOException if the file cannot be opened
+	 * @throws IllegalArgumentException if the snapshot interval is not positive
+	 */
+	public GameEventWriter(Board board, String path, int snapshotInterval, IntSupplier round, int robberTile)
+			throws IOException {
+		this(board, path, snapshotInterval, round, robberTile, GameLog.disabled());
+	}
+
+	/**
+	 * Opens (truncating) the log for a game that reports write failures to its own log.
+	 * @param board the game board
+	 * @param path path to the .jsonl file
+	 * @param snapshotInterval number of events between snapshot lines
+	 * @param round supplies the current round for each line
+	 * @param robberTile tile holding the robber now, or -1
+	 * @param log log the first write failure is reported to
+	 * @throws IOException if the file cannot be opened
+	 * @throws IllegalArgumentException if the snapshot interval is not positive
+	 */
+	public GameEventWriter(Board board, String path, int snapshotInterval, IntSupplier round, int robberTile,
+			GameLog log) throws IOException {
+		if (snapshotInterval <= 0) {
+			throw new IllegalArgumentException("Snapshot interval must be positive. Found: " + snapshotInterval);
+		}
+		this.topology = board.getTopology();
+		this.state = board.getState();
+		this.snapshotInterval = snapshotInterval;
+		this.round = round;
+		this.robberTile = robberTile;
+		this.log = log;
+		this.writer = Files.newBufferedWriter(Path.of(path), StandardCharsets.UTF_8);
+		snapshot();
+		flush();
+		state.addListener(this);
+	}
+
+	/**
+	 * Logs a dice roll and flushes, so tailing readers see each turn as it starts.
+	 * @param player the rolling player
+	 * @param roll the dice total
+	 */
+	public void roll(Player player, int roll) {
+		begin("roll");
+		appendString("player", player.getColor().name());
+		line.append(",\"roll\":").append(roll);
+		end();
+		flush();
+	}
+
+	/**
+	 * Logs a robber move.
+	 * @param player the player who moved the robber
+	 * @param tileIndex the robber's new tile
+	 */
+	public void robber(Player player, int tileIndex) {
+		robberTile = tileIndex;
+		begin("robber");
+		appendString("player", player.getColor().name());
+		line.append(",\"tile\":").append(tileIndex);
+		end();
+	}
+
+	@Override
+	public void nodeChanged(int nodeId) {
+		int owner = state.getNodeOwner(nodeId);
+		int building = state.getBuildingType(nodeId);
+		begin("building");
+		line.append(",\"node\":").append(nodeId);
+		appendString("owner", owner == BoardState.NO_OWNER ? null : PlayerColor.VALUES[owner].name());
+		appendString("building", buildingName(building));
+		end();
+	}
+
+	@Override
+	public void roadChanged(int edgeId) {
+		int owner = state.getRoadOwner(edgeId);
+		begin("road");
+		line.append(",\"edge\":").append(edgeId);
+		line.append(",\"a\":").append(topology.getEdgeNodeA(edgeId));
+		line.append(",\"b\":").append(topology.getEdgeNodeB(edgeId));
+		appendString("owner", owner == BoardState.NO_OWNER ? null : PlayerColor.VALUES[owner].name());
+		end();
+	}
+
+	/**
+	 * Writes a final snapshot and closes the file.
+	 */
+	@Override
+	public void close() {
+		if (closed) {
+			return;
+		}
+		if (sinceSnapshot > 0) {
+			snapshot();
+		}
+		closed = true;
+		state.removeListener(this);
+		try {
+			writer.close();
+		} catch (IOException e) {
+			report(e);
+		}
+	}
+
+	/**
+	 * Writes a snapshot line holding the full current state.
+	 */
+	private void snapshot() {
+		begin("snapshot");
+		line.append(",\"robber\":").append(robberTile);
+		line.append(",\"roads\":[");
+		boolean first = true;
+		for (int e = 0; e < state.getEdgeCount(); e++) {
+			int owner = state.getRoadOwner(e);
+			if (owner == BoardState.NO_OWNER) {
+				continue;
+			}
+			line.append(first ? "" : ",");
+			first = false;
+			line.append("{\"edge\":").append(e);
+			line.append(",\"a\":").append(topology.getEdgeNodeA(e));
+			line.append(",\"b\":").append(topology.getEdgeNodeB(e));
+			line.append(",\"owner\":\"").append(PlayerColor.VALUES[owner].name()).append("\"}");
+		}
+		line.append("],\"buildings\":[");
+		first = true;
+		for (int n = 0; n < state.getNodeCount(); n++) {
+			int owner = state.getNodeOwner(n);
+			if (owner == BoardState.NO_OWNER) {
+				continue;
+			}
+			line.append(first ? "" : ",");
+			first = false;
+			line.append("{\"node\":").append(n);
+			line.append(",\"owner\":\"").append(PlayerColor.VALUES[owner].name()).append("\"");
+			line.append(",\"type\":\"").append(buildingName(state.getBuildingType(n))).append("\"}");
+		}
+		line.append(']');
+		sinceSnapshot = 0;
+		writeLine();
+		flush();
+	}
+
+	/**
+	 * Starts a line with the fields every event shares.
+	 */
+	private void begin(String type) {
+		line.setLength(0);
+		line.append("{\"seq\":").append(seq++);
+		line.append(",\"round\":").append(round.getAsInt());
+		line.append(",\"type\":\"").append(type).append('"');
+	}
+
+	/**
+	 * Finishes an event line and writes a snapshot when one is due.
+	 */
+	private void end() {
+		writeLine();
+		if (++sinceSnapshot >= snapshotInterval) {
+			snapshot();
+		}
+	}
+
+	/**
+	 * Appends a string field, or null. Values are enum names, so no escaping is needed.
+	 */
+	private void appendString(String name, String value) {
+		line.append(",\"").append(name).append("\":");
+		if (value == null) {
+			line.append("null");
+		} else {
+			line.append('"').append(value).append('"');
+		}
+	}
+
+	/**
+	 * Gets the JSON name of a building type byte.
+	 */
+	private static String buildingName(int building) {
+		switch (building) {
+			case BoardState.SETTLEMENT:
+				return "SETTLEMENT";
+			case BoardState.CITY:
+				return "CITY";
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Closes the current line and appends it to the file.
+	 */
+	private void writeLine() {
+		if (failed || closed) {
+			return;
+		}
+		line.append("}\n");
+		try {
+			writer.append(line);
+		} catch (IOException e) {
+			report(e);
+		}
+	}
+
+	/**
+	 * Pushes buffered lines to the file.
+	 */
+	private void flush() {
+		if (failed || closed) {
+			return;
+		}
+		try {
+			writer.flush();
+		} catch (IOException e) {
+			report(e);
+		}
+	}
+
+	/**
+	 * Reports the first write failure and stops further writes.
+	 */
+	private void report(IOException e) {
+		if (!failed) {
+			failed = true;
+			log.error("Failed to write event log: " + e.getMessage());
+		}
+	}
+}
@@ -0,0 +1,186 @@
+package SettlersOfCatan;
+
+import java.io.PrintStream;
+
+/**
+ * Level- and category-gated output for a game, written through an AsyncLogSink.
+ * Callers check isEnabled() before building a message, so disabled output costs one mask test and
+ * no string building. Debug messages are additionally gated by DEBUG_ENABLED, a static final flag
+ * the JIT folds away when debug output is not requested.
+ * Everything a log writes, including human prompts, goes through one sink in order, so console
+ * output reads exactly as if it had been printed synchronously.
+ * Errors are never filtered: a log with its own stream writes them there, console and disabled
+ * logs print them to standard error.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class GameLog implements AutoCloseable {
+	/** True when the JVM was started with -Dcatan.log.debug=true; debug messages need it */
+	public static final boolean DEBUG_ENABLED = Boolean.getBoolean("catan.log.debug");
+
+	/** Every category enabled */
+	private static final int ALL_CATEGORIES = (1 << LogCategory.values().length) - 1;
+
+	/** Sink messages are written to; null for a disabled log */
+	private final AsyncLogSink sink;
+
+	/** True if this log started its sink and must stop it on close */
+	private final boolean ownsSink;
+
+	/** Least detailed level still shown */
+	private LogLevel level;
+
+	/** Enabled categories, one bit per ordinal */
+	private int categories = ALL_CATEGORIES;
+
+	/**
+	 * Creates an INFO log with its own sink, e.g. for a file or a test stream.
+	 * @param target stream to write to
+	 */
+	public GameLog(PrintStream target) {
+		this(new AsyncLogSink(target, "stream"), true, LogLevel.INFO);
+	}
+
+	/**
+	 * Creates a log over a sink.
+	 */
+	private GameLog(AsyncLogSink sink, boolean ownsSink, LogLevel level) {
+		this.sink = sink;
+		this.ownsSink = ownsSink;
+		this.level = level;
+	}
+
+	/**
+	 * Creates an INFO log on the console. Console logs share one sink, so output from several
+	 * games keeps the order it was written in.
+	 * @return a console log
+	 */
+	public static GameLog console() {
+		return new GameLog(AsyncLogSink.console(), false, LogLevel.INFO);
+	}
+
+	/**
+	 * Creates a log that shows nothing and never starts a writer thread.
+	 * Each game gets its own so that changing one game's settings does not affect another.
+	 * @return a disabled log
+	 */
+	public static GameLog disabled() {
+		return new GameLog(null, false, LogLevel.OFF);
+	}
+
+	/**
+	 * Sets the least detailed level still shown; a disabled log stays off.
+	 * @param level the new level
+	 */
+	public void setLevel(LogLevel level) {
+		this.level = sink == null ? LogLevel.OFF : level;
+	}
+
+	/**
+	 * Gets the least detailed level still shown.
+	 * @return the level
+	 */
+	public LogLevel getLevel() {
+		return level;
+	}
+
+	/**
+	 * Switches a category on or off.
+	 * @param category the category
+	 * @param enabled true to show its messages
+	 */
+	public void setEnabled(LogCategory category, boolean enabled) {
+		int bit = 1 << category.ordinal();
+		categories = enabled ? categories | bit : categories & ~bit;
+	}
+
+	/**
+	 * Checks whether INFO messages of a category are shown. Call before building a message.
+	 * @param category the category
+	 * @return true if such a message would be written
+	 */
+	public boolean isEnabled(LogCategory category) {
+		return isEnabled(LogLevel.INFO, category);
+	}
+
+	/**
+	 * Checks whether messages of a level and category are shown.
+	 * @param messageLevel the level of the message
+	 * @param category the category
+	 * @return true if such a message would be written
+	 */
+	public boolean isEnabled(LogLevel messageLevel, LogCategory category) {
+		return messageLevel.compareTo(level) >= 0 && messageLevel != LogLevel.OFF
+				&& (categories & (1 << category.ordinal())) != 0;
+	}
+
+	/**
+	 * Writes an INFO message if its category is enabled.
+	 * @param category the category
+	 * @param message the message, without a line separator
+	 */
+	public void info(LogCategory category, String message) {
+		if (isEnabled(LogLevel.INFO, category)) {
+			sink.write(message);
+		}
+	}
+
+	/**
+	 * Writes a DEBUG message if debug output is enabled for the category.
+	 * @param category the category
+	 * @param message the message, without a line separator
+	 */
+	public void debug(LogCategory category, String message) {
+		if (DEBUG_ENABLED && isEnabled(LogLevel.DEBUG, category)) {
+			sink.write(message);
+		}
+	}
+
+	/**
+	 * Reports a failure, such as a file that could not be written, whatever the level and
+	 * categories. Console and disabled logs print it to standard error after every earlier message.
+	 * @param message the message, without a line separator
+	 */
+	public void error(String message) {
+		if (ownsSink) {
+			sink.write(message);
+			return;
+		}
+		flush();
+		System.err.println(message);
+	}
+
+	/**
+	 * Writes every earlier message, then shows a prompt without a line break.
+	 * Shown only when HUMAN messages are enabled.
+	 * @param prompt the prompt text
+	 */
+	public void prompt(String prompt) {
+		if (isEnabled(LogLevel.INFO, LogCategory.HUMAN)) {
+			sink.print(prompt);
+		}
+	}
+
+	/**
+	 * Waits until every message written so far has reached the stream.
+	 */
+	public void flush() {
+		if (sink != null) {
+			sink.flush();
+		}
+	}
+
+	/**
+	 * Flushes the log and, if it has its own sink, stops the writer thread.
+	 */
+	@Override
+	public void close() {
+		if (sink == null) {
+			return;
+		}
+		if (ownsSink) {
+			sink.close();
+		} else {
+			sink.flush();
+		}
+	}
+}
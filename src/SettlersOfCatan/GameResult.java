@@ -0,0 +1,81 @@
+package SettlersOfCatan;
+
+import java.util.Arrays;
+
+/**
+ * Compact outcome of one finished game, used by batch simulations.
+ * Per-seat arrays are indexed in player order (seat 0 is RED). The arrays are copied on the
+ * way in and out, and compared by content, so a result is a true value.
+ * @param winnerSeat seat index of the winner (or the leader when the round limit was hit)
+ * @param rounds round number in which the game ended
+ * @param victoryPoints final victory points per seat
+ * @param builds pieces placed per seat (roads, settlements and cities, including setup)
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public record GameResult(int winnerSeat, int rounds, int[] victoryPoints, int[] builds) {
+
+	/**
+	 * Creates a result holding its own copies of the per-seat arrays.
+	 */
+	public GameResult {
+		victoryPoints = victoryPoints.clone();
+		builds = builds.clone();
+	}
+
+	/**
+	 * Gets the final victory points per seat.
+	 * @return a copy of the points, indexed by seat
+	 */
+	@Override
+	public int[] victoryPoints() {
+		return victoryPoints.clone();
+	}
+
+	/**
+	 * Gets the pieces placed per seat.
+	 * @return a copy of the build counts, indexed by seat
+	 */
+	@Override
+	public int[] builds() {
+		return builds.clone();
+	}
+
+	/**
+	 * Gets one seat's final victory points without copying the array.
+	 * @param seat the seat
+	 * @return victory points of the seat
+	 */
+	public int victoryPoints(int seat) {
+		return victoryPoints[seat];
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof GameResult)) {
+			return false;
+		}
+		GameResult other = (GameResult) o;
+		return winnerSeat == other.winnerSeat
+				&& rounds == other.rounds
+				&& Arrays.equals(victoryPoints, other.victoryPoints)
+				&& Arrays.equals(builds, other.builds);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Integer.hashCode(winnerSeat);
+		result = 31 * result + rounds;
+		result = 31 * result + Arrays.hashCode(victoryPoints);
+		result = 31 * result + Arrays.hashCode(builds);
+		return result;
+	}
+
+	@Override
+	public String toString() {
+		return "GameResult[winnerSeat=" + winnerSeat + ", rounds=" + rounds
+				+ ", victoryPoints=" + Arrays.toString(victoryPoints) + ", builds=" + Arrays.toString(builds) + "]";
+	}
+}
@@ -0,0 +1,141 @@
+package SettlersOfCatan;
+
+import java.util.Random;
+import java.util.function.Consumer;
+
+/**
+ * Runs complete all-AI games without console output or visualizer writes.
+ * Intended for batch simulation (e.g. AI tuning) where I/O would dominate run time.
+ * GRASP: Pure Fabrication - wires game components for simulation.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class GameRunner {
+
+	/**
+	 * Plays one headless all-AI game. The board, dice and AI random sources are all
+	 * derived from the seed, so the same seed and config always produce the same result.
+	 * @param seed master seed for the game
+	 * @param config number of players and round limit
+	 * @return the outcome of the game
+	 */
+	public static GameResult runHeadless(long seed, GameConfig config) {
+		return runHeadless(seed, config, null);
+	}
+
+	/**
+	 * Plays the same headless game as runHeadless(seed, config), reporting every turn to a listener.
+	 * @param seed master seed for the game
+	 * @param config number of players and round limit
+	 * @param listener notified around every turn, or null
+	 * @return the outcome of the game
+	 */
+	static GameResult runHeadless(long seed, GameConfig config, TurnListener listener) {
+		return runHeadless(seed, config, listener, null);
+	}
+
+	/**
+	 * Plays the same headless game as runHeadless(seed, config), reporting every turn to a listener
+	 * and every AI handler decision to a metrics registry.
+	 * @param seed master seed for the game
+	 * @param config number of players and round limit
+	 * @param listener notified around every turn, or null
+	 * @param metrics registry shared with other games, or null
+	 * @return the outcome of the game
+	 */
+	static GameResult runHeadless(long seed, GameConfig config, TurnListener listener, HandlerMetrics metrics) {
+		return play(seed, config, game -> {
+			game.setTurnListener(listener);
+			game.setMetrics(metrics);
+		});
+	}
+
+	/**
+	 * Plays the same headless game as runHeadless(seed, config) after letting the caller adjust it,
+	 * e.g. to hand a seat to another agent.
+	 * @param seed master seed for the game
+	 * @param config number of players and round limit
+	 * @param setup called with the game before it starts
+	 * @return the outcome of the game
+	 */
+	static GameResult play(long seed, GameConfig config, Consumer<Game> setup) {
+		Game game = createGame(createLog(seed, config.getNumPlayers()), false);
+		setup.accept(game);
+		game.startGame(config.getMaxRounds());
+
+		return toResult(game);
+	}
+
+	/**
+	 * Plays the same headless game as runHeadless and records its decisions, so it can be
+	 * replayed with a ReplayEngine.
+	 * @param seed master seed for the game
+	 * @param config number of players and round limit
+	 * @return the decision log of the finished game
+	 */
+	public static DecisionLog record(long seed, GameConfig config) {
+		DecisionLog log = createLog(seed, config.getNumPlayers());
+		createGame(log, true).startGame(config.getMaxRounds());
+		return log;
+	}
+
+	/**
+	 * Derives the board, dice and AI seeds from a master seed.
+	 * @param seed master seed for the game
+	 * @param numPlayers number of players
+	 * @return an empty log holding the derived seeds
+	 */
+	static DecisionLog createLog(long seed, int numPlayers) {
+		Random seeds = new Random(seed);
+		long boardSeed = seeds.nextLong();
+		long diceSeed = seeds.nextLong();
+		long aiSeed = seeds.nextLong();
+		return new DecisionLog(boardSeed, diceSeed, aiSeed, numPlayers);
+	}
+
+	/**
+	 * Builds a headless game from the seeds in a log.
+	 * @param log holds the seeds and player count
+	 * @param recording true to record decisions into the log
+	 * @return a game ready to start
+	 */
+	private static Game createGame(DecisionLog log, boolean recording) {
+		Board board = new Board();
+		new RandomBoardGenerator(log.getBoardSeed()).generate(board);
+
+		Game game = new Game(board, new DiceRoller(log.getDiceSeed()), new Bank(), new PlacementValidator(),
+				log.getNumPlayers(), new Random(log.getAiSeed()));
+		game.setHeadless(true);
+		if (recording) {
+			game.setDecisionLog(log);
+		}
+		return game;
+	}
+
+	/**
+	 * Summarizes a finished game.
+	 * @param game the game that has finished
+	 * @return the game result
+	 */
+	static GameResult toResult(Game game) {
+		Player[] players = game.getPlayers();
+		int[] victoryPoints = new int[players.length];
+		int[] builds = new int[players.length];
+		for (int i = 0; i < players.length; i++) {
+			victoryPoints[i] = players[i].getVictoryPoints();
+			builds[i] = players[i].getBuildCount();
+		}
+
+		Player winner = game.getWinner();
+		if (winner == null) {
+			winner = game.getLeader();
+		}
+		return new GameResult(game.getPlayerNumber(winner), game.getRoundCount(), victoryPoints, builds);
+	}
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private GameRunner() {
+		throw new AssertionError("GameRunner should not be instantiated, it is a utility class only");
+	}
+}
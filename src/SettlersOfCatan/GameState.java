@@ -0,0 +1,829 @@
+package SettlersOfCatan;
+
+import java.util.Arrays;
+
+/**
+ * Flat snapshot of a whole game position: tiles, buildings, roads, hands, remaining pieces,
+ * victory points, robber, current player and round. Everything is stored in primitive arrays
+ * indexed by tile, node, edge or seat (player color ordinal), so a position can be captured,
+ * compared and serialized (see GameStateCodec) without touching the object graph.
+ * Owners use BoardState.NO_OWNER for empty nodes and edges; building types use the BoardState
+ * constants.
+ * Positions can also be searched without the object graph: copy() forks a position, and
+ * apply()/unapply() play and take back the current player's builds (packed with Move) in place.
+ * These are the build rules the search AI (MctsState) plays by. On boards of up to 64 nodes,
+ * per-seat node bitmasks derived from the arrays are kept alongside them so legalMoves() does
+ * not walk the adjacency lists. apply() and unapply() update them in place; after the setters
+ * change the board they are rebuilt on the next listing.
+ * Game.fromState() turns a position back into a playable game.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class GameState {
+	/** Number of resource types stored per seat (including NULL) */
+	public static final int RESOURCE_COUNT = ResourceType.values().length;
+
+	/** Number of piece types stored per seat */
+	public static final int PIECE_COUNT = BuildingType.values().length;
+
+	/** Bank cost vector of each build, by ActionType ordinal */
+	private static final long[] MOVE_COSTS = {
+			Bank.SETTLEMENT_COST_VECTOR, Bank.CITY_COST_VECTOR, Bank.ROAD_COST_VECTOR};
+
+	/** Piece used by each build, by ActionType ordinal */
+	private static final int[] MOVE_PIECES = {
+			BuildingType.SETTLEMENT.ordinal(), BuildingType.CITY.ordinal(), BuildingType.ROAD.ordinal()};
+
+	/** Victory points gained by each build, by ActionType ordinal */
+	private static final int[] MOVE_POINTS = {1, 1, 0};
+
+	/** Mask slots per seat: settlements, cities, nodes touched by roads */
+	private static final int MASKS_PER_SEAT = 3;
+
+	/** Offset of a seat's settlement nodes in the masks */
+	private static final int SETTLEMENT_MASK = 0;
+
+	/** Offset of a seat's city nodes in the masks */
+	private static final int CITY_MASK = 1;
+
+	/** Offset of the nodes touched by a seat's roads in the masks */
+	private static final int ROAD_MASK = 2;
+
+	/** Number of seats in the game */
+	private final int numPlayers;
+
+	/** Terrain ordinal of each tile */
+	private final byte[] tileTerrain;
+
+	/** Dice number of each tile (0 for desert) */
+	private final byte[] tileNumber;
+
+	/** Seat owning each node, or NO_OWNER */
+	private final byte[] nodeOwner;
+
+	/** Building type on each node (NO_BUILDING, SETTLEMENT, CITY) */
+	private final byte[] nodeBuilding;
+
+	/** Seat owning each edge's road, or NO_OWNER */
+	private final byte[] roadOwner;
+
+	/** Resource counts, seat * RESOURCE_COUNT + resource ordinal */
+	private final int[] resources;
+
+	/** Remaining pieces, seat * PIECE_COUNT + building type ordinal */
+	private final int[] pieces;
+
+	/** Victory points per seat */
+	private final int[] victoryPoints;
+
+	/** Tile holding the robber, or -1 */
+	private int robberTile = -1;
+
+	/** Seat whose turn it is */
+	private int currentPlayer;
+
+	/** Current round number */
+	private int roundCount = 1;
+
+	/** Board layout used to check moves, or null when it is unknown */
+	private BoardTopology topology;
+
+	/** Node bitmasks derived from the arrays, seat * MASKS_PER_SEAT + slot; null without bitboards */
+	private long[] masks;
+
+	/** Nodes the distance rule rules out (occupied nodes and their neighbours), derived like masks */
+	private long blockedNodes;
+
+	/** True while masks matches the arrays */
+	private boolean masksValid;
+
+	/**
+	 * Creates an empty position: no buildings or roads, empty hands and no pieces.
+	 * @param numPlayers number of seats
+	 * @param tileCount number of tiles
+	 * @param nodeCount number of nodes
+	 * @param edgeCount number of edges
+	 * @throws IllegalArgumentException if a count is negative or there are no seats
+	 */
+	public GameState(int numPlayers, int tileCount, int nodeCount, int edgeCount) {
+		if (numPlayers <= 0 || tileCount < 0 || nodeCount < 0 || edgeCount < 0) {
+			throw new IllegalArgumentException("Invalid game state dimensions: " + numPlayers + " players, "
+					+ tileCount + " tiles, " + nodeCount + " nodes, " + edgeCount + " edges");
+		}
+		this.numPlayers = numPlayers;
+		this.tileTerrain = new byte[tileCount];
+		this.tileNumber = new byte[tileCount];
+		this.nodeOwner = new byte[nodeCount];
+		this.nodeBuilding = new byte[nodeCount];
+		this.roadOwner = new byte[edgeCount];
+		this.resources = new int[numPlayers * RESOURCE_COUNT];
+		this.pieces = new int[numPlayers * PIECE_COUNT];
+		this.victoryPoints = new int[numPlayers];
+		Arrays.fill(nodeOwner, (byte) BoardState.NO_OWNER);
+		Arrays.fill(roadOwner, (byte) BoardState.NO_OWNER);
+		BoardTopology standard = BoardTopology.standard();
+		if (tileCount == standard.getTileCount() && nodeCount == standard.getNodeCount()
+				&& edgeCount == standard.getEdgeCount()) {
+			setTopology(standard);
+		}
+	}
+
+	/**
+	 * Creates an independent copy of another position; the layout is shared.
+	 */
+	private GameState(GameState other) {
+		this.numPlayers = other.numPlayers;
+		this.tileTerrain = other.tileTerrain.clone();
+		this.tileNumber = other.tileNumber.clone();
+		this.nodeOwner = other.nodeOwner.clone();
+		this.nodeBuilding = other.nodeBuilding.clone();
+		this.roadOwner = other.roadOwner.clone();
+		this.resources = other.resources.clone();
+		this.pieces = other.pieces.clone();
+		this.victoryPoints = other.victoryPoints.clone();
+		this.robberTile = other.robberTile;
+		this.currentPlayer = other.currentPlayer;
+		this.roundCount = other.roundCount;
+		this.topology = other.topology;
+		this.masks = other.masks == null ? null : other.masks.clone();
+		this.blockedNodes = other.blockedNodes;
+		this.masksValid = other.masksValid;
+	}
+
+	/**
+	 * Captures a position from a board and its players.
+	 * @param board the game board
+	 * @param players players in seat order
+	 * @param robberTile tile holding the robber, or -1
+	 * @param currentPlayer seat whose turn it is
+	 * @param roundCount current round number
+	 * @return the captured position
+	 */
+	public static GameState capture(Board board, Player[] players, int robberTile, int currentPlayer, int roundCount) {
+		BoardState boardState = board.getState();
+		GameState state = new GameState(players.length, board.getTileCount(),
+				boardState.getNodeCount(), boardState.getEdgeCount());
+		for (int t = 0; t < state.getTileCount(); t++) {
+			state.tileTerrain[t] = (byte) boardState.getTileTerrain(t).ordinal();
+			state.tileNumber[t] = (byte) boardState.getTileNumber(t);
+		}
+		for (int n = 0; n < state.getNodeCount(); n++) {
+			state.nodeOwner[n] = (byte) boardState.getNodeOwner(n);
+			state.nodeBuilding[n] = (byte) boardState.getBuildingType(n);
+		}
+		for (int e = 0; e < state.getEdgeCount(); e++) {
+			state.roadOwner[e] = (byte) boardState.getRoadOwner(e);
+		}
+		for (int seat = 0; seat < players.length; seat++) {
+			Player player = players[seat];
+			for (ResourceType type : ResourceType.VALUES) {
+				state.setResourceCount(seat, type, player.getResourceCount(type));
+			}
+			for (BuildingType type : BuildingType.VALUES) {
+				state.setPieceCount(seat, type, player.getPieceCount(type));
+			}
+			state.victoryPoints[seat] = player.getVictoryPoints();
+		}
+		state.robberTile = robberTile;
+		state.currentPlayer = currentPlayer;
+		state.roundCount = roundCount;
+		if (board.getTopology() != null) {
+			state.setTopology(board.getTopology());
+		}
+		state.masksValid = false;
+		return state;
+	}
+
+	/**
+	 * Creates an independent copy of this position, e.g. to fork a live game for analysis.
+	 * Only nine small arrays are cloned, so a copy takes well under a microsecond.
+	 * @return the copy
+	 */
+	public GameState copy() {
+		return new GameState(this);
+	}
+
+	/**
+	 * Gets the number of seats.
+	 * @return number of players
+	 */
+	public int getNumPlayers() {
+		return numPlayers;
+	}
+
+	/**
+	 * Gets the number of tiles.
+	 * @return tile count
+	 */
+	public int getTileCount() {
+		return tileTerrain.length;
+	}
+
+	/**
+	 * Gets the number of nodes.
+	 * @return node count
+	 */
+	public int getNodeCount() {
+		return nodeOwner.length;
+	}
+
+	/**
+	 * Gets the number of edges.
+	 * @return edge count
+	 */
+	public int getEdgeCount() {
+		return roadOwner.length;
+	}
+
+	/**
+	 * Gets a tile's terrain.
+	 * @param tileIndex the tile index
+	 * @return terrain type
+	 */
+	public TerrainType getTileTerrain(int tileIndex) {
+		return TerrainType.VALUES[tileTerrain[tileIndex]];
+	}
+
+	/**
+	 * Sets a tile's terrain.
+	 * @param tileIndex the tile index
+	 * @param terrain terrain type
+	 */
+	public void setTileTerrain(int tileIndex, TerrainType terrain) {
+		tileTerrain[tileIndex] = (byte) terrain.ordinal();
+	}
+
+	/**
+	 * Gets a tile's dice number.
+	 * @param tileIndex the tile index
+	 * @return dice number, 0 for desert
+	 */
+	public int getTileNumber(int tileIndex) {
+		return tileNumber[tileIndex];
+	}
+
+	/**
+	 * Sets a tile's dice number.
+	 * @param tileIndex the tile index
+	 * @param number dice number, 0 for desert
+	 */
+	public void setTileNumber(int tileIndex, int number) {
+		tileNumber[tileIndex] = (byte) number;
+	}
+
+	/**
+	 * Gets the seat owning a node.
+	 * @param nodeId the node ID
+	 * @return seat, or BoardState.NO_OWNER
+	 */
+	public int getNodeOwner(int nodeId) {
+		return nodeOwner[nodeId];
+	}
+
+	/**
+	 * Gets the building type on a node.
+	 * @param nodeId the node ID
+	 * @return BoardState.NO_BUILDING, SETTLEMENT or CITY
+	 */
+	public int getBuildingType(int nodeId) {
+		return nodeBuilding[nodeId];
+	}
+
+	/**
+	 * Sets the building on a node.
+	 * @param nodeId the node ID
+	 * @param owner owning seat, or BoardState.NO_OWNER
+	 * @param building BoardState.NO_BUILDING, SETTLEMENT or CITY
+	 */
+	public void setBuilding(int nodeId, int owner, int building) {
+		nodeOwner[nodeId] = (byte) owner;
+		nodeBuilding[nodeId] = (byte) building;
+		masksValid = false;
+	}
+
+	/**
+	 * Gets the seat owning the road on an edge.
+	 * @param edgeId the edge ID
+	 * @return seat, or BoardState.NO_OWNER
+	 */
+	public int getRoadOwner(int edgeId) {
+		return roadOwner[edgeId];
+	}
+
+	/**
+	 * Sets the seat owning the road on an edge.
+	 * @param edgeId the edge ID
+	 * @param owner seat, or BoardState.NO_OWNER
+	 */
+	public void setRoadOwner(int edgeId, int owner) {
+		roadOwner[edgeId] = (byte) owner;
+		masksValid = false;
+	}
+
+	/**
+	 * Gets a seat's count of one resource.
+	 * @param seat the seat
+	 * @param type the resource
+	 * @return number of cards
+	 */
+	public int getResourceCount(int seat, ResourceType type) {
+		return resources[seat * RESOURCE_COUNT + type.ordinal()];
+	}
+
+	/**
+	 * Sets a seat's count of one resource.
+	 * @param seat the seat
+	 * @param type the resource
+	 * @param count number of cards
+	 */
+	public void setResourceCount(int seat, ResourceType type, int count) {
+		resources[seat * RESOURCE_COUNT + type.ordinal()] = count;
+	}
+
+	/**
+	 * Gets a seat's remaining pieces of one type.
+	 * @param seat the seat
+	 * @param type the piece type
+	 * @return number of pieces left
+	 */
+	public int getPieceCount(int seat, BuildingType type) {
+		return pieces[seat * PIECE_COUNT + type.ordinal()];
+	}
+
+	/**
+	 * Sets a seat's remaining pieces of one type.
+	 * @param seat the seat
+	 * @param type the piece type
+	 * @param count number of pieces left
+	 */
+	public void setPieceCount(int seat, BuildingType type, int count) {
+		pieces[seat * PIECE_COUNT + type.ordinal()] = count;
+	}
+
+	/**
+	 * Gets a seat's victory points.
+	 * @param seat the seat
+	 * @return victory points
+	 */
+	public int getVictoryPoints(int seat) {
+		return victoryPoints[seat];
+	}
+
+	/**
+	 * Sets a seat's victory points.
+	 * @param seat the seat
+	 * @param points victory points
+	 */
+	public void setVictoryPoints(int seat, int points) {
+		victoryPoints[seat] = points;
+	}
+
+	/**
+	 * Gets the robber's tile.
+	 * @return tile index, or -1 before the robber first moves
+	 */
+	public int getRobberTile() {
+		return robberTile;
+	}
+
+	/**
+	 * Sets the robber's tile.
+	 * @param tileIndex tile index, or -1
+	 */
+	public void setRobberTile(int tileIndex) {
+		this.robberTile = tileIndex;
+	}
+
+	/**
+	 * Gets the seat whose turn it is.
+	 * @return current seat
+	 */
+	public int getCurrentPlayer() {
+		return currentPlayer;
+	}
+
+	/**
+	 * Sets the seat whose turn it is.
+	 * @param seat current seat
+	 */
+	public void setCurrentPlayer(int seat) {
+		this.currentPlayer = seat;
+	}
+
+	/**
+	 * Gets the round number.
+	 * @return current round
+	 */
+	public int getRoundCount() {
+		return roundCount;
+	}
+
+	/**
+	 * Sets the round number.
+	 * @param roundCount current round
+	 */
+	public void setRoundCount(int roundCount) {
+		this.roundCount = roundCount;
+	}
+
+	/**
+	 * Checks whether the current player may make a move. PASS is always legal. A settlement needs
+	 * a free node with no building next to it and one of the player's roads touching it; a city
+	 * needs one of the player's settlements; a road needs a free edge touching the player's
+	 * buildings or roads. Builds also need the resources and a piece left.
+	 * @param move the packed move (see Move)
+	 * @return true if apply() would accept the move
+	 * @throws IllegalStateException if a settlement or road is checked on an unknown layout
+	 */
+	public boolean isLegal(int move) {
+		if (move == Move.PASS) {
+			return true;
+		}
+		int type = Move.type(move).ordinal();
+		int location = Move.location(move);
+		int seat = currentPlayer;
+		if (!canAfford(seat, type)) {
+			return false;
+		}
+		switch (Move.type(move)) {
+			case SETTLEMENT:
+				return location < nodeOwner.length && canSettle(seat, location);
+			case CITY:
+				return location < nodeOwner.length && nodeOwner[location] == seat
+						&& nodeBuilding[location] == BoardState.SETTLEMENT;
+			case ROAD:
+				return location < roadOwner.length && canBuildRoad(seat, location);
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Lists the current player's legal moves: PASS, then settlements by node ID, cities by
+	 * node ID and roads by edge ID.
+	 * @param moves receives the packed moves; needs room for 1 + 2 * nodes + edges entries
+	 * @return the number of moves written
+	 * @throws IllegalStateException if a settlement or road is affordable on an unknown layout
+	 */
+	public int legalMoves(int[] moves) {
+		if (validMasks()) {
+			return legalMovesFromMasks(moves);
+		}
+		int count = 0;
+		moves[count++] = Move.PASS;
+		if (canAfford(currentPlayer, ActionType.SETTLEMENT.ordinal())) {
+			for (int n = 0; n < nodeOwner.length; n++) {
+				if (canSettle(currentPlayer, n)) {
+					moves[count++] = Move.of(ActionType.SETTLEMENT, n);
+				}
+			}
+		}
+		if (canAfford(currentPlayer, ActionType.CITY.ordinal())) {
+			for (int n = 0; n < nodeOwner.length; n++) {
+				if (nodeOwner[n] == currentPlayer && nodeBuilding[n] == BoardState.SETTLEMENT) {
+					moves[count++] = Move.of(ActionType.CITY, n);
+				}
+			}
+		}
+		if (canAfford(currentPlayer, ActionType.ROAD.ordinal())) {
+			for (int e = 0; e < roadOwner.length; e++) {
+				if (canBuildRoad(currentPlayer, e)) {
+					moves[count++] = Move.of(ActionType.ROAD, e);
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Lists the legal moves, in the same order as legalMoves(), from the node bitmasks.
+	 */
+	private int legalMovesFromMasks(int[] moves) {
+		int seat = currentPlayer;
+		int base = seat * MASKS_PER_SEAT;
+		int count = 0;
+		moves[count++] = Move.PASS;
+		if (canAfford(seat, ActionType.SETTLEMENT.ordinal())) {
+			for (long m = masks[base + ROAD_MASK] & ~blockedNodes; m != 0; m &= m - 1) {
+				moves[count++] = Move.of(ActionType.SETTLEMENT, Long.numberOfTrailingZeros(m));
+			}
+		}
+		if (canAfford(seat, ActionType.CITY.ordinal())) {
+			for (long m = masks[base + SETTLEMENT_MASK]; m != 0; m &= m - 1) {
+				moves[count++] = Move.of(ActionType.CITY, Long.numberOfTrailingZeros(m));
+			}
+		}
+		if (canAfford(seat, ActionType.ROAD.ordinal())) {
+			long frontier = masks[base + SETTLEMENT_MASK] | masks[base + CITY_MASK] | masks[base + ROAD_MASK];
+			long edgesLo = 0L;
+			long edgesHi = 0L;
+			for (long m = frontier; m != 0; m &= m - 1) {
+				int nodeId = Long.numberOfTrailingZeros(m);
+				edgesLo |= topology.getIncidentEdgeMaskLo(nodeId);
+				edgesHi |= topology.getIncidentEdgeMaskHi(nodeId);
+			}
+			count = addFreeRoads(moves, count, edgesLo, 0);
+			count = addFreeRoads(moves, count, edgesHi, Long.SIZE);
+		}
+		return count;
+	}
+
+	/**
+	 * Adds a road move for every edge of a mask that has no road yet.
+	 */
+	private int addFreeRoads(int[] moves, int count, long edges, int firstEdge) {
+		for (long m = edges; m != 0; m &= m - 1) {
+			int edgeId = firstEdge + Long.numberOfTrailingZeros(m);
+			if (roadOwner[edgeId] == BoardState.NO_OWNER) {
+				moves[count++] = Move.of(ActionType.ROAD, edgeId);
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Plays one of the current player's builds: pays for it, uses the piece, places it and adds
+	 * its victory points, as PlayerActions would in a game. PASS changes nothing. The turn does
+	 * not advance; use setCurrentPlayer() to move on.
+	 * @param move the packed move (see Move)
+	 * @throws IllegalArgumentException if the move is not legal
+	 * @throws IllegalStateException if a settlement or road is played on an unknown layout
+	 */
+	public void apply(int move) {
+		if (!isLegal(move)) {
+			throw new IllegalArgumentException("Illegal move for seat " + currentPlayer + ": " + Move.toString(move));
+		}
+		if (move == Move.PASS) {
+			return;
+		}
+		int location = Move.location(move);
+		int base = currentPlayer * MASKS_PER_SEAT;
+		switch (Move.type(move)) {
+			case SETTLEMENT:
+				nodeOwner[location] = (byte) currentPlayer;
+				nodeBuilding[location] = BoardState.SETTLEMENT;
+				if (masksValid) {
+					masks[base + SETTLEMENT_MASK] |= 1L << location;
+					blockedNodes |= (1L << location) | topology.getNeighbourMask(location);
+				}
+				break;
+			case CITY:
+				nodeBuilding[location] = BoardState.CITY;
+				if (masksValid) {
+					masks[base + SETTLEMENT_MASK] &= ~(1L << location);
+					masks[base + CITY_MASK] |= 1L << location;
+				}
+				break;
+			default:
+				roadOwner[location] = (byte) currentPlayer;
+				if (masksValid) {
+					masks[base + ROAD_MASK] |= (1L << topology.getEdgeNodeA(location)) | (1L << topology.getEdgeNodeB(location));
+				}
+				break;
+		}
+		transfer(currentPlayer, Move.type(move).ordinal(), -1);
+	}
+
+	/**
+	 * Takes back a build made by apply(), restoring the position exactly: the piece is removed
+	 * (a city goes back to a settlement), and the resources, piece and victory points are
+	 * returned. Moves must be taken back in reverse order, with the same current player.
+	 * @param move the packed move passed to apply()
+	 * @throws IllegalArgumentException if the current player's piece is not at the move's location
+	 */
+	public void unapply(int move) {
+		if (move == Move.PASS) {
+			return;
+		}
+		int location = Move.location(move);
+		int seat = currentPlayer;
+		switch (Move.type(move)) {
+			case SETTLEMENT:
+				requirePiece(location < nodeOwner.length && nodeOwner[location] == seat
+						&& nodeBuilding[location] == BoardState.SETTLEMENT, move);
+				nodeOwner[location] = (byte) BoardState.NO_OWNER;
+				nodeBuilding[location] = BoardState.NO_BUILDING;
+				if (masksValid) {
+					masks[seat * MASKS_PER_SEAT + SETTLEMENT_MASK] &= ~(1L << location);
+					unblockAround(location);
+				}
+				break;
+			case CITY:
+				requirePiece(location < nodeOwner.length && nodeOwner[location] == seat
+						&& nodeBuilding[location] == BoardState.CITY, move);
+				nodeBuilding[location] = BoardState.SETTLEMENT;
+				if (masksValid) {
+					masks[seat * MASKS_PER_SEAT + CITY_MASK] &= ~(1L << location);
+					masks[seat * MASKS_PER_SEAT + SETTLEMENT_MASK] |= 1L << location;
+				}
+				break;
+			default:
+				requirePiece(location < roadOwner.length && roadOwner[location] == seat, move);
+				roadOwner[location] = (byte) BoardState.NO_OWNER;
+				if (masksValid) {
+					refreshRoadNode(seat, topology.getEdgeNodeA(location));
+					refreshRoadNode(seat, topology.getEdgeNodeB(location));
+				}
+				break;
+		}
+		transfer(seat, Move.type(move).ordinal(), 1);
+	}
+
+	/**
+	 * Recomputes the distance rule for a node whose building was removed and for its neighbours:
+	 * each stays blocked only if it or one of its neighbours still holds a building.
+	 */
+	private void unblockAround(int nodeId) {
+		long occupied = 0L;
+		for (int seat = 0; seat < numPlayers; seat++) {
+			occupied |= masks[seat * MASKS_PER_SEAT + SETTLEMENT_MASK] | masks[seat * MASKS_PER_SEAT + CITY_MASK];
+		}
+		for (long m = (1L << nodeId) | topology.getNeighbourMask(nodeId); m != 0; m &= m - 1) {
+			int node = Long.numberOfTrailingZeros(m);
+			if ((occupied & ((1L << node) | topology.getNeighbourMask(node))) == 0) {
+				blockedNodes &= ~(1L << node);
+			}
+		}
+	}
+
+	/**
+	 * Recomputes whether a node is still touched by one of a seat's roads after a road was removed.
+	 */
+	private void refreshRoadNode(int seat, int nodeId) {
+		for (int edgeId : topology.getIncidentEdgeIds(nodeId)) {
+			if (roadOwner[edgeId] == seat) {
+				return;
+			}
+		}
+		masks[seat * MASKS_PER_SEAT + ROAD_MASK] &= ~(1L << nodeId);
+	}
+
+	/**
+	 * Checks that a seat holds the resources and a piece for a build.
+	 */
+	private boolean canAfford(int seat, int type) {
+		if (pieces[seat * PIECE_COUNT + MOVE_PIECES[type]] <= 0) {
+			return false;
+		}
+		long cost = MOVE_COSTS[type];
+		int hand = seat * RESOURCE_COUNT;
+		for (int r = 0; r < RESOURCE_COUNT; r++) {
+			if (resources[hand + r] < Bank.amount(cost, ResourceType.VALUES[r])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Pays for a build (direction -1) or refunds it (direction 1), with its piece and points.
+	 */
+	private void transfer(int seat, int type, int direction) {
+		long cost = MOVE_COSTS[type];
+		int hand = seat * RESOURCE_COUNT;
+		for (int r = 0; r < RESOURCE_COUNT; r++) {
+			resources[hand + r] += direction * Bank.amount(cost, ResourceType.VALUES[r]);
+		}
+		pieces[seat * PIECE_COUNT + MOVE_PIECES[type]] += direction;
+		victoryPoints[seat] -= direction * MOVE_POINTS[type];
+	}
+
+	/**
+	 * Checks the distance rule and road connection for a settlement.
+	 */
+	private boolean canSettle(int seat, int nodeId) {
+		BoardTopology layout = requireTopology();
+		if (nodeOwner[nodeId] != BoardState.NO_OWNER) {
+			return false;
+		}
+		for (int neighbour : layout.getNeighbourNodeIds(nodeId)) {
+			if (nodeOwner[neighbour] != BoardState.NO_OWNER) {
+				return false;
+			}
+		}
+		for (int edgeId : layout.getIncidentEdgeIds(nodeId)) {
+			if (roadOwner[edgeId] == seat) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks that an edge is free and touches one of the seat's buildings or roads.
+	 */
+	private boolean canBuildRoad(int seat, int edgeId) {
+		BoardTopology layout = requireTopology();
+		return roadOwner[edgeId] == BoardState.NO_OWNER
+				&& (touches(layout, seat, layout.getEdgeNodeA(edgeId))
+				|| touches(layout, seat, layout.getEdgeNodeB(edgeId)));
+	}
+
+	/**
+	 * Checks whether a seat has a building on a node or a road ending there.
+	 */
+	private boolean touches(BoardTopology layout, int seat, int nodeId) {
+		if (nodeOwner[nodeId] == seat) {
+			return true;
+		}
+		for (int edgeId : layout.getIncidentEdgeIds(nodeId)) {
+			if (roadOwner[edgeId] == seat) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the layout needed for adjacency checks.
+	 */
+	private BoardTopology requireTopology() {
+		if (topology == null) {
+			throw new IllegalStateException("Board layout unknown: capture the state from a board with edges");
+		}
+		return topology;
+	}
+
+	/**
+	 * Rejects taking back a move whose piece is not on the board.
+	 */
+	private void requirePiece(boolean present, int move) {
+		if (!present) {
+			throw new IllegalArgumentException("Cannot take back " + Move.toString(move) + " for seat " + currentPlayer);
+		}
+	}
+
+	/**
+	 * Uses a layout for move checks, with node bitmasks if it has at most 64 nodes.
+	 */
+	private void setTopology(BoardTopology layout) {
+		topology = layout;
+		masks = layout.supportsBitboards() ? new long[numPlayers * MASKS_PER_SEAT] : null;
+		masksValid = false;
+	}
+
+	/**
+	 * Brings the node bitmasks up to date with the arrays.
+	 * @return false if this layout has no bitmasks
+	 */
+	private boolean validMasks() {
+		if (masks == null) {
+			return false;
+		}
+		if (!masksValid) {
+			Arrays.fill(masks, 0L);
+			blockedNodes = 0L;
+			for (int n = 0; n < nodeOwner.length; n++) {
+				int owner = nodeOwner[n];
+				if (owner >= 0 && owner < numPlayers) {
+					int slot = nodeBuilding[n] == BoardState.CITY ? CITY_MASK : SETTLEMENT_MASK;
+					masks[owner * MASKS_PER_SEAT + slot] |= 1L << n;
+					blockedNodes |= (1L << n) | topology.getNeighbourMask(n);
+				}
+			}
+			for (int e = 0; e < roadOwner.length; e++) {
+				int owner = roadOwner[e];
+				if (owner >= 0 && owner < numPlayers) {
+					masks[owner * MASKS_PER_SEAT + ROAD_MASK] |= (1L << topology.getEdgeNodeA(e)) | (1L << topology.getEdgeNodeB(e));
+				}
+			}
+			masksValid = true;
+		}
+		return true;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof GameState)) {
+			return false;
+		}
+		GameState other = (GameState) o;
+		return numPlayers == other.numPlayers
+				&& robberTile == other.robberTile
+				&& currentPlayer == other.currentPlayer
+				&& roundCount == other.roundCount
+				&& Arrays.equals(tileTerrain, other.tileTerrain)
+				&& Arrays.equals(tileNumber, other.tileNumber)
+				&& Arrays.equals(nodeOwner, other.nodeOwner)
+				&& Arrays.equals(nodeBuilding, other.nodeBuilding)
+				&& Arrays.equals(roadOwner, other.roadOwner)
+				&& Arrays.equals(resources, other.resources)
+				&& Arrays.equals(pieces, other.pieces)
+				&& Arrays.equals(victoryPoints, other.victoryPoints);
+	}
+
+	@Override
+	public int hashCode() {
+		int result = Arrays.hashCode(nodeOwner);
+		result = 31 * result + Arrays.hashCode(nodeBuilding);
+		result = 31 * result + Arrays.hashCode(roadOwner);
+		result = 31 * result + Arrays.hashCode(resources);
+		result = 31 * result + Arrays.hashCode(victoryPoints);
+		result = 31 * result + robberTile;
+		result = 31 * result + currentPlayer;
+		result = 31 * result + roundCount;
+		return result;
+	}
+}
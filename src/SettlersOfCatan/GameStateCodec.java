@@ -0,0 +1,255 @@
+package SettlersOfCatan;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Versioned binary encoding of a GameState, about 160 bytes for a standard four-player game.
+ * Records are written to and read from a ByteBuffer at its current position, so several
+ * positions can be streamed back to back through one buffer. No reflection is involved.
+ * <p>
+ * Version 1 layout (counts and small values are single bytes, larger numbers are unsigned
+ * LEB128 varints):
+ * <ol>
+ *   <li>version, players, tiles, nodes, edges</li>
+ *   <li>one byte per tile: terrain ordinal in the high nibble, dice number in the low nibble</li>
+ *   <li>one byte per node: owner seat + 1 in bits 2-4, building type in bits 0-1</li>
+ *   <li>one nibble per edge (two edges per byte, low nibble first): road owner seat + 1</li>
+ *   <li>per seat: a varint per resource type, a byte per piece type, a varint of victory points</li>
+ *   <li>robber tile + 1, current seat, varint round</li>
+ * </ol>
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class GameStateCodec {
+	/** Format version written by encode */
+	public static final int VERSION = 1;
+
+	/** Largest varint in bytes (a 32-bit value) */
+	private static final int MAX_VARINT_BYTES = 5;
+
+	/** Highest owner seat that fits the three owner bits of a node byte */
+	private static final int MAX_NODE_SEAT = 6;
+
+	private GameStateCodec() {
+		throw new AssertionError("Utility class");
+	}
+
+	/**
+	 * Gets an upper bound on the encoded size of a state, for sizing buffers.
+	 * @param state the state to encode
+	 * @return maximum number of bytes encode may write
+	 */
+	public static int maxEncodedSize(GameState state) {
+		int perSeat = (GameState.RESOURCE_COUNT + 1) * MAX_VARINT_BYTES + GameState.PIECE_COUNT;
+		return 5 + state.getTileCount() + state.getNodeCount() + (state.getEdgeCount() + 1) / 2
+				+ state.getNumPlayers() * perSeat + 2 + MAX_VARINT_BYTES;
+	}
+
+	/**
+	 * Writes a state at the buffer's position and advances it.
+	 * @param state the state to encode
+	 * @param buffer destination with at least maxEncodedSize(state) bytes remaining
+	 * @throws IllegalArgumentException if a value does not fit the format
+	 * @throws java.nio.BufferOverflowException if the buffer is too small
+	 */
+	public static void encode(GameState state, ByteBuffer buffer) {
+		int players = state.getNumPlayers();
+		buffer.put((byte) VERSION);
+		buffer.put(checkedByte(players, "players"));
+		buffer.put(checkedByte(state.getTileCount(), "tiles"));
+		buffer.put(checkedByte(state.getNodeCount(), "nodes"));
+		buffer.put(checkedByte(state.getEdgeCount(), "edges"));
+
+		for (int t = 0; t < state.getTileCount(); t++) {
+			int number = state.getTileNumber(t);
+			if (number < 0 || number > 0xF) {
+				throw new IllegalArgumentException("Tile number out of range: " + number);
+			}
+			buffer.put((byte) (state.getTileTerrain(t).ordinal() << 4 | number));
+		}
+		for (int n = 0; n < state.getNodeCount(); n++) {
+			int owner = checkedSeat(state.getNodeOwner(n), players);
+			if (owner > MAX_NODE_SEAT) {
+				throw new IllegalArgumentException("Node owner seat does not fit the format: " + owner);
+			}
+			buffer.put((byte) ((owner + 1) << 2 | state.getBuildingType(n)));
+		}
+		for (int e = 0; e < state.getEdgeCount(); e += 2) {
+			int low = checkedSeat(state.getRoadOwner(e), players) + 1;
+			int high = e + 1 < state.getEdgeCount() ? checkedSeat(state.getRoadOwner(e + 1), players) + 1 : 0;
+			buffer.put((byte) (high << 4 | low));
+		}
+
+		for (int seat = 0; seat < players; seat++) {
+			for (ResourceType type : ResourceType.VALUES) {
+				putVarint(buffer, state.getResourceCount(seat, type));
+			}
+			for (BuildingType type : BuildingType.VALUES) {
+				buffer.put(checkedByte(state.getPieceCount(seat, type), "pieces"));
+			}
+			putVarint(buffer, state.getVictoryPoints(seat));
+		}
+
+		buffer.put(checkedByte(state.getRobberTile() + 1, "robber tile"));
+		buffer.put(checkedByte(state.getCurrentPlayer(), "current player"));
+		putVarint(buffer, state.getRoundCount());
+	}
+
+	/**
+	 * Reads a state at the buffer's position and advances it.
+	 * @param buffer source positioned at the start of a record
+	 * @return the decoded state
+	 * @throws IllegalArgumentException if the record has an unknown version or invalid values
+	 *         (including a record cut short by the end of the buffer)
+	 */
+	public static GameState decode(ByteBuffer buffer) {
+		try {
+			int version = Byte.toUnsignedInt(buffer.get());
+			if (version != VERSION) {
+				throw new IllegalArgumentException("Unsupported game state version: " + version);
+			}
+			int players = Byte.toUnsignedInt(buffer.get());
+			int tiles = Byte.toUnsignedInt(buffer.get());
+			int nodes = Byte.toUnsignedInt(buffer.get());
+			int edges = Byte.toUnsignedInt(buffer.get());
+			GameState state = new GameState(players, tiles, nodes, edges);
+
+			for (int t = 0; t < tiles; t++) {
+				int packed = Byte.toUnsignedInt(buffer.get());
+				int terrain = packed >>> 4;
+				if (terrain >= TerrainType.VALUES.length) {
+					throw new IllegalArgumentException("Invalid terrain ordinal: " + terrain);
+				}
+				state.setTileTerrain(t, TerrainType.VALUES[terrain]);
+				state.setTileNumber(t, packed & 0xF);
+			}
+			for (int n = 0; n < nodes; n++) {
+				int packed = Byte.toUnsignedInt(buffer.get());
+				int building = packed & 0x3;
+				int owner = decodedSeat(packed >>> 2, players);
+				if (building > BoardState.CITY || (building == BoardState.NO_BUILDING) != (owner == BoardState.NO_OWNER)) {
+					throw new IllegalArgumentException("Invalid building on node " + n);
+				}
+				state.setBuilding(n, owner, building);
+			}
+			for (int e = 0; e < edges; e += 2) {
+				int packed = Byte.toUnsignedInt(buffer.get());
+				state.setRoadOwner(e, decodedSeat(packed & 0xF, players));
+				if (e + 1 < edges) {
+					state.setRoadOwner(e + 1, decodedSeat(packed >>> 4, players));
+				}
+			}
+
+			for (int seat = 0; seat < players; seat++) {
+				for (ResourceType type : ResourceType.VALUES) {
+					state.setResourceCount(seat, type, getVarint(buffer));
+				}
+				for (BuildingType type : BuildingType.VALUES) {
+					state.setPieceCount(seat, type, Byte.toUnsignedInt(buffer.get()));
+				}
+				state.setVictoryPoints(seat, getVarint(buffer));
+			}
+
+			int robber = Byte.toUnsignedInt(buffer.get()) - 1;
+			if (robber >= tiles) {
+				throw new IllegalArgumentException("Invalid robber tile: " + robber);
+			}
+			state.setRobberTile(robber);
+			int current = Byte.toUnsignedInt(buffer.get());
+			if (current >= players) {
+				throw new IllegalArgumentException("Invalid current player: " + current);
+			}
+			state.setCurrentPlayer(current);
+			state.setRoundCount(getVarint(buffer));
+			return state;
+		} catch (BufferUnderflowException e) {
+			throw new IllegalArgumentException("Truncated game state record", e);
+		}
+	}
+
+	/**
+	 * Encodes a single state into a new array of exactly the encoded length.
+	 * @param state the state to encode
+	 * @return the encoded bytes
+	 */
+	public static byte[] toBytes(GameState state) {
+		ByteBuffer buffer = ByteBuffer.allocate(maxEncodedSize(state));
+		encode(state, buffer);
+		byte[] bytes = new byte[buffer.position()];
+		buffer.flip().get(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Decodes a single state from an array.
+	 * @param bytes the encoded bytes
+	 * @return the decoded state
+	 * @throws IllegalArgumentException if the bytes are not a valid record
+	 */
+	public static GameState fromBytes(byte[] bytes) {
+		return decode(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * Writes a non-negative int as an unsigned LEB128 varint.
+	 */
+	private static void putVarint(ByteBuffer buffer, int value) {
+		if (value < 0) {
+			throw new IllegalArgumentException("Negative value cannot be encoded: " + value);
+		}
+		while ((value & ~0x7F) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * Reads an unsigned LEB128 varint.
+	 */
+	private static int getVarint(ByteBuffer buffer) {
+		int value = 0;
+		for (int shift = 0; shift < 7 * MAX_VARINT_BYTES; shift += 7) {
+			int b = Byte.toUnsignedInt(buffer.get());
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				if (value < 0) {
+					throw new IllegalArgumentException("Varint out of range");
+				}
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Varint too long");
+	}
+
+	/**
+	 * Checks that a value fits an unsigned byte.
+	 */
+	private static byte checkedByte(int value, String what) {
+		if (value < 0 || value > 0xFF) {
+			throw new IllegalArgumentException("Value for " + what + " out of range: " + value);
+		}
+		return (byte) value;
+	}
+
+	/**
+	 * Checks that an owner is NO_OWNER or a seat that fits a nibble.
+	 */
+	private static int checkedSeat(int owner, int players) {
+		if (owner < BoardState.NO_OWNER || owner >= players || owner >= 0xF) {
+			throw new IllegalArgumentException("Invalid owner seat: " + owner);
+		}
+		return owner;
+	}
+
+	/**
+	 * Converts a stored seat + 1 back to a seat or NO_OWNER.
+	 */
+	private static int decodedSeat(int stored, int players) {
+		int owner = stored - 1;
+		if (owner >= players) {
+			throw new IllegalArgumentException("Invalid owner seat: " + owner);
+		}
+		return owner;
+	}
+}
@@ -0,0 +1,264 @@
+package SettlersOfCatan;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registry of per-handler statistics for the AI Chain of Responsibility, shared by any number of
+ * games (see Game.setMetrics). Shows how often each handler acts rather than falling through to
+ * the next one, and how long it takes to decide. The registry can rewrite a JSON snapshot file
+ * on a background thread at a fixed interval, so long tournaments can be watched while they run.
+ * Thread-safe.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class HandlerMetrics implements AutoCloseable {
+	/** Statistics by handler name */
+	private final ConcurrentHashMap<String, HandlerStats> handlers = new ConcurrentHashMap<>();
+
+	/** Histogram stripes per handler */
+	private final int stripeCount;
+
+	/** Creation time, reported as the snapshot's elapsed time */
+	private final long startNanos = System.nanoTime();
+
+	/** Thread rewriting the snapshot file, or null when not exporting */
+	private ScheduledExecutorService exporter;
+
+	/** File the snapshots go to, or null when not exporting */
+	private Path snapshotFile;
+
+	/** Log failed snapshots are reported to */
+	private GameLog snapshotLog = GameLog.disabled();
+
+	/**
+	 * Creates a registry striped for the number of available processors.
+	 */
+	public HandlerMetrics() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Creates a registry.
+	 * @param writers expected number of threads recording at once; rounded up to a power of two
+	 * @throws IllegalArgumentException if writers is not positive
+	 */
+	public HandlerMetrics(int writers) {
+		if (writers < 1) {
+			throw new IllegalArgumentException("Writers must be positive. Found: " + writers);
+		}
+		this.stripeCount = Integer.highestOneBit(writers) == writers ? writers : Integer.highestOneBit(writers) << 1;
+	}
+
+	/**
+	 * Gets the statistics of a handler, creating them on first use.
+	 * @param name simple class name of the handler
+	 * @param position index of the handler in its chain
+	 * @return the shared statistics
+	 */
+	HandlerStats forHandler(String name, int position) {
+		return handlers.computeIfAbsent(name, key -> new HandlerStats(key, position, stripeCount));
+	}
+
+	/**
+	 * Gets the statistics of every handler seen so far, in chain order.
+	 * @return a new list
+	 */
+	public List<HandlerStats> getHandlers() {
+		List<HandlerStats> list = new ArrayList<>(handlers.values());
+		list.sort(Comparator.comparingInt(HandlerStats::getPosition).thenComparing(HandlerStats::getName));
+		return list;
+	}
+
+	/**
+	 * Gets the statistics of one handler.
+	 * @param name simple class name of the handler
+	 * @return the statistics, or null if the handler has not decided a turn yet
+	 */
+	public HandlerStats getHandler(String name) {
+		return handlers.get(name);
+	}
+
+	/**
+	 * Gets the number of AI turns decided, i.e. the turns that reached the first handler.
+	 * @return the turn count
+	 */
+	public long getTurns() {
+		long turns = 0;
+		for (HandlerStats stats : handlers.values()) {
+			if (stats.getPosition() == 0) {
+				turns += stats.getDecisions();
+			}
+		}
+		return turns;
+	}
+
+	/**
+	 * Rewrites a snapshot file at a fixed interval until close() is called, which writes a final one.
+	 * @param file the snapshot file
+	 * @param intervalMillis time between snapshots
+	 * @throws IllegalArgumentException if the interval is not positive
+	 * @throws IllegalStateException if snapshots are already being exported
+	 */
+	public synchronized void startSnapshots(Path file, long intervalMillis) {
+		startSnapshots(file, intervalMillis, GameLog.disabled());
+	}
+
+	/**
+	 * Rewrites a snapshot file at a fixed interval, reporting failed writes to a log.
+	 * @param file the snapshot file
+	 * @param intervalMillis time between snapshots
+	 * @param log log failed writes are reported to
+	 * @throws IllegalArgumentException if the interval is not positive
+	 * @throws IllegalStateException if snapshots are already being exported
+	 */
+	public synchronized void startSnapshots(Path file, long intervalMillis, GameLog log) {
+		if (intervalMillis <= 0) {
+			throw new IllegalArgumentException("Snapshot interval must be positive. Found: " + intervalMillis);
+		}
+		if (exporter != null) {
+			throw new IllegalStateException("Snapshots are already written to " + snapshotFile);
+		}
+		this.snapshotFile = file;
+		this.snapshotLog = log;
+		this.exporter = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "metrics-" + file.getFileName());
+			thread.setDaemon(true);
+			return thread;
+		});
+		exporter.scheduleAtFixedRate(this::exportSnapshot, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stops the periodic export, if any, and writes a last snapshot.
+	 */
+	@Override
+	public synchronized void close() {
+		if (exporter == null) {
+			return;
+		}
+		exporter.shutdown();
+		try {
+			exporter.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		exportSnapshot();
+		exporter = null;
+	}
+
+	/**
+	 * Writes the current snapshot to a file, replacing it atomically.
+	 * @param file the snapshot file
+	 * @throws IOException if the file cannot be written
+	 */
+	public void writeSnapshot(Path file) throws IOException {
+		CoalescingFileWriter.writeAtomically(file, toJson().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Writes a periodic snapshot; a failure is reported and the next snapshot tried as usual.
+	 * Nothing may escape, since the executor cancels a task that throws.
+	 */
+	private void exportSnapshot() {
+		try {
+			writeSnapshot(snapshotFile);
+		} catch (IOException | RuntimeException e) {
+			snapshotLog.error("Failed to write " + snapshotFile.getFileName() + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Formats the current statistics as a JSON document.
+	 * Latencies are in nanoseconds; fill stages with no decisions are left out.
+	 * @return the snapshot
+	 */
+	public String toJson() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\n");
+		sb.append("  \"elapsedNanos\": ").append(System.nanoTime() - startNanos).append(",\n");
+		sb.append("  \"turns\": ").append(getTurns()).append(",\n");
+		sb.append("  \"handlers\": [");
+		List<HandlerStats> list = getHandlers();
+		for (int i = 0; i < list.size(); i++) {
+			HandlerStats stats = list.get(i);
+			LatencyHistogram histogram = stats.getHistogram();
+			sb.append(i == 0 ? "\n" : ",\n");
+			sb.append("    {\n");
+			sb.append("      \"name\": \"").append(stats.getName()).append("\",\n");
+			sb.append("      \"position\": ").append(stats.getPosition()).append(",\n");
+			sb.append("      \"decisions\": ").append(stats.getDecisions()).append(",\n");
+			sb.append("      \"acted\": ").append(stats.getActed()).append(",\n");
+			sb.append("      \"forwarded\": ").append(stats.getForwarded()).append(",\n");
+			sb.append("      \"meanNanos\": ").append(format(stats.getMeanNanos())).append(",\n");
+			sb.append("      \"p50Nanos\": ").append(histogram.getValueAtPercentile(50)).append(",\n");
+			sb.append("      \"p99Nanos\": ").append(histogram.getValueAtPercentile(99)).append(",\n");
+			sb.append("      \"maxNanos\": ").append(histogram.getMax()).append(",\n");
+			sb.append("      \"byOccupiedNodes\": {");
+			boolean first = true;
+			for (int stage = 0; stage < HandlerStats.FILL_STAGES; stage++) {
+				if (stats.getStageDecisions(stage) == 0) {
+					continue;
+				}
+				sb.append(first ? "\n" : ",\n");
+				sb.append("        \"").append(HandlerStats.stageLabel(stage)).append("\": {\"decisions\": ")
+						.append(stats.getStageDecisions(stage)).append(", \"meanNanos\": ")
+						.append(format(stats.getStageMeanNanos(stage))).append("}");
+				first = false;
+			}
+			sb.append(first ? "}\n" : "\n      }\n");
+			sb.append("    }");
+		}
+		sb.append(list.isEmpty() ? "]\n" : "\n  ]\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	/**
+	 * Formats a short table: one line per handler, then mean decision time by board fill.
+	 * @return the report text
+	 */
+	public String formatReport() {
+		long turns = getTurns();
+		List<HandlerStats> list = getHandlers();
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-20s %10s %7s %9s %9s %9s%n", "Handler", "Decisions", "Acted", "Mean us", "p99 us", "Max us"));
+		for (HandlerStats stats : list) {
+			LatencyHistogram histogram = stats.getHistogram();
+			sb.append(String.format("%-20s %10d %6.1f%% %9.2f %9.2f %9.2f%n", stats.getName(), stats.getDecisions(),
+					turns == 0 ? 0.0 : stats.getActed() * 100.0 / turns, stats.getMeanNanos() / 1000.0,
+					histogram.getValueAtPercentile(99) / 1000.0, histogram.getMax() / 1000.0));
+		}
+
+		sb.append(String.format("%nMean us by occupied nodes%n%-20s", "Handler"));
+		for (int stage = 0; stage < HandlerStats.FILL_STAGES; stage++) {
+			sb.append(String.format(" %7s", HandlerStats.stageLabel(stage)));
+		}
+		sb.append(String.format("%n"));
+		for (HandlerStats stats : list) {
+			sb.append(String.format("%-20s", stats.getName()));
+			for (int stage = 0; stage < HandlerStats.FILL_STAGES; stage++) {
+				sb.append(stats.getStageDecisions(stage) == 0
+						? String.format(" %7s", "-")
+						: String.format(" %7.2f", stats.getStageMeanNanos(stage) / 1000.0));
+			}
+			sb.append(String.format("%n"));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Formats a number with a dot as the decimal separator whatever the locale.
+	 */
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.1f", value);
+	}
+}
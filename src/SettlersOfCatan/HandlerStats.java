@@ -0,0 +1,185 @@
+package SettlersOfCatan;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and decision latencies of one handler of the AI chain, shared by every game reporting
+ * to the same HandlerMetrics. Counts are LongAdders, so parallel games rarely touch the same cell.
+ * The latency histogram is split into stripes chosen by thread, each locked only by the threads
+ * that map to it, and merged when read. Latency is also averaged per board fill stage (occupied
+ * nodes in bands of FILL_BAND) to show how decisions slow down as the board fills.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class HandlerStats {
+	/** Occupied nodes per fill stage */
+	public static final int FILL_BAND = 4;
+
+	/** Number of fill stages; the last one is open-ended */
+	public static final int FILL_STAGES = 6;
+
+	/** Simple class name of the handler */
+	private final String name;
+
+	/** Index of the handler in its chain */
+	private final int position;
+
+	/** Turns that reached this handler */
+	private final LongAdder decisions = new LongAdder();
+
+	/** Turns this handler acted on instead of forwarding */
+	private final LongAdder acted = new LongAdder();
+
+	/** Sum of decision times, in nanoseconds */
+	private final LongAdder totalNanos = new LongAdder();
+
+	/** Turns that reached this handler, per fill stage */
+	private final LongAdder[] stageDecisions = new LongAdder[FILL_STAGES];
+
+	/** Sum of decision times per fill stage, in nanoseconds */
+	private final LongAdder[] stageNanos = new LongAdder[FILL_STAGES];
+
+	/** Decision time histograms, one per stripe; each is guarded by its own monitor */
+	private final LatencyHistogram[] stripes;
+
+	/**
+	 * Creates empty statistics.
+	 * @param name simple class name of the handler
+	 * @param position index of the handler in its chain
+	 * @param stripeCount number of histogram stripes, a power of two
+	 */
+	HandlerStats(String name, int position, int stripeCount) {
+		this.name = name;
+		this.position = position;
+		this.stripes = new LatencyHistogram[stripeCount];
+		for (int i = 0; i < stripeCount; i++) {
+			stripes[i] = new LatencyHistogram();
+		}
+		for (int stage = 0; stage < FILL_STAGES; stage++) {
+			stageDecisions[stage] = new LongAdder();
+			stageNanos[stage] = new LongAdder();
+		}
+	}
+
+	/**
+	 * Records one decision. Safe to call from any thread.
+	 * @param handlerActed true if the handler acted, false if it forwarded the turn
+	 * @param nanos time spent in the handler itself
+	 * @param occupiedNodes number of nodes holding a building when the decision was made
+	 */
+	void record(boolean handlerActed, long nanos, int occupiedNodes) {
+		decisions.increment();
+		if (handlerActed) {
+			acted.increment();
+		}
+		totalNanos.add(nanos);
+		int stage = stageOf(occupiedNodes);
+		stageDecisions[stage].increment();
+		stageNanos[stage].add(nanos);
+
+		LatencyHistogram stripe = stripes[(int) Thread.currentThread().getId() & (stripes.length - 1)];
+		synchronized (stripe) {
+			stripe.record(nanos);
+		}
+	}
+
+	/**
+	 * Gets the handler's simple class name.
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Gets the handler's index in its chain.
+	 * @return 0 for the first handler
+	 */
+	public int getPosition() {
+		return position;
+	}
+
+	/**
+	 * Gets the number of turns that reached this handler.
+	 * @return the decision count
+	 */
+	public long getDecisions() {
+		return decisions.sum();
+	}
+
+	/**
+	 * Gets the number of turns this handler acted on.
+	 * @return the acted count
+	 */
+	public long getActed() {
+		return acted.sum();
+	}
+
+	/**
+	 * Gets the number of turns this handler passed to its successor.
+	 * @return the forwarded count
+	 */
+	public long getForwarded() {
+		return Math.max(0L, getDecisions() - getActed());
+	}
+
+	/**
+	 * Gets the mean time spent deciding.
+	 * @return mean decision time in nanoseconds, or 0 before any decision
+	 */
+	public double getMeanNanos() {
+		long count = decisions.sum();
+		return count == 0 ? 0.0 : (double) totalNanos.sum() / count;
+	}
+
+	/**
+	 * Gets the number of decisions made in a fill stage.
+	 * @param stage the fill stage, 0 to FILL_STAGES - 1
+	 * @return the decision count
+	 */
+	public long getStageDecisions(int stage) {
+		return stageDecisions[stage].sum();
+	}
+
+	/**
+	 * Gets the mean decision time in a fill stage.
+	 * @param stage the fill stage, 0 to FILL_STAGES - 1
+	 * @return mean decision time in nanoseconds, or 0 when the stage is empty
+	 */
+	public double getStageMeanNanos(int stage) {
+		long count = stageDecisions[stage].sum();
+		return count == 0 ? 0.0 : (double) stageNanos[stage].sum() / count;
+	}
+
+	/**
+	 * Merges the stripes into a new histogram of decision times.
+	 * @return a histogram the caller owns
+	 */
+	public LatencyHistogram getHistogram() {
+		LatencyHistogram merged = new LatencyHistogram();
+		for (LatencyHistogram stripe : stripes) {
+			synchronized (stripe) {
+				merged.add(stripe);
+			}
+		}
+		return merged;
+	}
+
+	/**
+	 * Maps an occupied node count to its fill stage.
+	 * @param occupiedNodes number of nodes holding a building
+	 * @return the stage, 0 to FILL_STAGES - 1
+	 */
+	public static int stageOf(int occupiedNodes) {
+		return Math.min(FILL_STAGES - 1, Math.max(0, occupiedNodes) / FILL_BAND);
+	}
+
+	/**
+	 * Describes the occupied node counts of a fill stage, e.g. "8-11" or "20+".
+	 * @param stage the fill stage, 0 to FILL_STAGES - 1
+	 * @return the label
+	 */
+	public static String stageLabel(int stage) {
+		int low = stage * FILL_BAND;
+		return stage == FILL_STAGES - 1 ? low + "+" : low + "-" + (low + FILL_BAND - 1);
+	}
+}
@@ -57,6 +57,14 @@ public class HumanPlayerActions extends PlayerActions {
 		this.commandHistory = new CommandHistory();
 	}
 
+	/**
+	 * Gets the undo/redo history, so a checkpoint can record and restore it.
+	 * @return the command history
+	 */
+	CommandHistory getCommandHistory() {
+		return commandHistory;
+	}
+
 	/**
 	 * Human turn loop: reads console commands until "go" is typed.
 	 * @param player the player whose turn it is
@@ -64,19 +72,19 @@ public class HumanPlayerActions extends PlayerActions {
 	 */
 	public void humanTurn(HumanPlayer player, int roundCount) {
 		boolean rolled = false;
-		System.out.println("Your hand: " + player.formatHand());
-		System.out.println("Commands: roll | list | build settlement <id> | build city <id> | build road <fromId>,<toId> | undo | redo | go");
+		log.info(LogCategory.HUMAN, "Your hand: " + player.formatHand());
+		log.info(LogCategory.HUMAN, "Commands: roll | list | build settlement <id> | build city <id> | build road <fromId>,<toId> | undo | redo | go");
 		while (true) {
-			System.out.print("> ");
+			log.prompt("> ");
 			HumanCommandParser.ParsedCommand cmd = HumanCommandParser.parse(scanner.nextLine());
 			switch (cmd.getAction()) {
 				case ROLL:
 					if (rolled) {
-						System.out.println("Already rolled.");
+						log.info(LogCategory.HUMAN, "Already rolled.");
 						break;
 					}
 					int roll = dice.rollTwoDice(diceSides);
-					System.out.println(roundCount + " / " + player.getColor() + ": Rolled " + roll);
+					log.info(LogCategory.HUMAN, roundCount + " / " + player.getColor() + ": Rolled " + roll);
 					if (roll == 7) {
 						handleRobber.accept(player);
 					} else {
@@ -85,76 +93,81 @@ public class HumanPlayerActions extends PlayerActions {
 					rolled = true;
 					break;
 				case LIST:
-					System.out.println("Hand: " + player.formatHand());
+					log.info(LogCategory.HUMAN, "Hand: " + player.formatHand());
 					break;
 				case BUILD_SETTLEMENT:
 					if (!rolled) {
-						System.out.println("Roll first.");
+						log.info(LogCategory.HUMAN, "Roll first.");
 						break;
 					}
 					Node sNode = board.getNode(cmd.getNodeId());
 					if (sNode == null) {
-						System.out.println("Invalid node.");
+						log.info(LogCategory.HUMAN, "Invalid node.");
 						break;
 					}
 					BuildSettlementCommand bsc = new BuildSettlementCommand(sNode, player, bank, this);
 					commandHistory.pushToStack(bsc);
 					if (sNode.isOccupied()) {
-						System.out.println("Settlement built on node " + cmd.getNodeId());
+						log.info(LogCategory.HUMAN, "Settlement built on node " + cmd.getNodeId());
 					} else {
-						System.out.println("Cannot build there.");
+						log.info(LogCategory.HUMAN, "Cannot build there.");
 					}
 					break;
 				case BUILD_CITY:
 					if (!rolled) {
-						System.out.println("Roll first.");
+						log.info(LogCategory.HUMAN, "Roll first.");
 						break;
 					}
 					Node cNode = board.getNode(cmd.getNodeId());
 					if (cNode == null) {
-						System.out.println("Invalid node.");
+						log.info(LogCategory.HUMAN, "Invalid node.");
 						break;
 					}
 					BuildCityCommand bcc = new BuildCityCommand(cNode, player, bank, this);
 					commandHistory.pushToStack(bcc);
 					if (cNode.getBuilding() instanceof City) {
-						System.out.println("City built on node " + cmd.getNodeId());
+						log.info(LogCategory.HUMAN, "City built on node " + cmd.getNodeId());
 					} else {
-						System.out.println("Cannot build there.");
+						log.info(LogCategory.HUMAN, "Cannot build there.");
 					}
 					break;
 				case BUILD_ROAD:
 					if (!rolled) {
-						System.out.println("Roll first.");
+						log.info(LogCategory.HUMAN, "Roll first.");
 						break;
 					}
 					Edge edge = board.findEdge(cmd.getFromNodeId(), cmd.getToNodeId());
 					if (edge == null) {
-						System.out.println("No edge between those nodes.");
+						log.info(LogCategory.HUMAN, "No edge between those nodes.");
 						break;
 					}
 					BuildRoadCommand brc = new BuildRoadCommand(edge, player, bank, this);
 					commandHistory.pushToStack(brc);
 					if (edge.getRoad() != null) {
-						System.out.println("Road built.");
+						log.info(LogCategory.HUMAN, "Road built.");
 					} else {
-						System.out.println("Cannot build there.");
+						log.info(LogCategory.HUMAN, "Cannot build there.");
 					}
 					break;
 				case UNDO:
-					commandHistory.undo();
+					// Reported here rather than by CommandHistory so it stays in order with the log
+					if (!commandHistory.undo()) {
+						log.info(LogCategory.HUMAN, "Nothing to undo.");
+					}
 					break;
 				case REDO:
-					commandHistory.redo();
+					if (!commandHistory.redo()) {
+						log.info(LogCategory.HUMAN, "Nothing to redo.");
+					}
 					break;
 				case GO:
 					if (!rolled) {
-						System.out.println("You must roll first.");
+						log.info(LogCategory.HUMAN, "You must roll first.");
 						break;
 					}
-					System.out.println(roundCount + " / " + player.getColor() + ": End turn.");
+					log.info(LogCategory.HUMAN, roundCount + " / " + player.getColor() + ": End turn.");
 					return;
-				default: System.out.println("Unknown command.");
+				default: log.info(LogCategory.HUMAN, "Unknown command.");
 			}
 		}
 	}
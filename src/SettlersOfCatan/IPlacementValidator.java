@@ -31,5 +31,15 @@ public interface IPlacementValidator {
 	 * @return true if upgrade is valid
 	 */
 	boolean canPlaceCity(Node node, Player player);
-}
 
+	/**
+	 * Tells callers whether this validator applies only the standard board rules
+	 * (distance rule, own settlement for cities, free edge for roads). When true,
+	 * PlayerActions may answer legality from its incrementally tracked candidate sets
+	 * instead of asking the validator node by node.
+	 * @return true if no rules beyond the standard ones are applied
+	 */
+	default boolean usesStandardRules() {
+		return false;
+	}
+}
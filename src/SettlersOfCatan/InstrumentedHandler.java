@@ -0,0 +1,145 @@
+package SettlersOfCatan;
+
+/**
+ * Decorator that observes one handler of the AI Chain of Responsibility.
+ * The wrapped handler's successor is replaced by a small forwarding handler, so the decorator
+ * learns whether the handler acted itself or passed the turn on, and how long it took to decide.
+ * Each decision is reported as a JfrHandlerDecisionEvent and, when the game has a HandlerMetrics
+ * registry, recorded there. With JFR off and no registry nothing is timed and the event's
+ * allocation is removed by the JIT, so wrapping the chain costs a few calls per turn.
+ * Game wraps every handler of its chain. Not thread-safe: a chain belongs to one game.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public class InstrumentedHandler extends ActionHandler {
+	/** Handler being observed */
+	private final ActionHandler delegate;
+
+	/** Index of the handler in its chain */
+	private final int position;
+
+	/** Handler name reported in events */
+	private final String name;
+
+	/** Game the chain belongs to, reported in events */
+	private final long gameId;
+
+	/** Set by the forwarder when the current decision was passed on */
+	private boolean forwarded;
+
+	/** Time the current decision was passed on, when timing */
+	private long forwardedAt;
+
+	/** True while the current decision is being timed */
+	private boolean timing;
+
+	/** Shared statistics this handler's decisions are added to, or null */
+	private HandlerStats stats;
+
+	/**
+	 * Wraps a handler. Set the successor on the decorator, not on the handler.
+	 * @param delegate the handler to observe
+	 * @param position index of the handler in its chain
+	 * @param gameId game the chain belongs to
+	 */
+	public InstrumentedHandler(ActionHandler delegate, int position, long gameId) {
+		super(delegate.random);
+		this.delegate = delegate;
+		this.position = position;
+		this.name = delegate.getClass().getSimpleName();
+		this.gameId = gameId;
+		delegate.setSuccessor(new Forwarder());
+	}
+
+	/**
+	 * Gets the observed handler.
+	 * @return the wrapped handler
+	 */
+	public ActionHandler getDelegate() {
+		return delegate;
+	}
+
+	/**
+	 * Sets the registry decisions are recorded in.
+	 * @param metrics the shared registry, or null to stop recording
+	 */
+	void setMetrics(HandlerMetrics metrics) {
+		this.stats = metrics == null ? null : metrics.forHandler(name, position);
+	}
+
+	/**
+	 * Lets the wrapped handler decide, then reports whether it acted and how long it took.
+	 * @param player current AI player
+	 * @param actions game action facade
+	 * @param roundCount current round count for logging
+	 */
+	@Override
+	public void handleTurn(Player player, PlayerActions actions, int roundCount) {
+		JfrHandlerDecisionEvent event = new JfrHandlerDecisionEvent();
+		HandlerStats target = stats;
+		timing = target != null || event.isEnabled();
+		forwarded = false;
+		int occupied = target != null ? occupiedNodes(actions.board.getState()) : 0;
+		long start = timing ? System.nanoTime() : 0L;
+		event.begin();
+
+		delegate.handleTurn(player, actions, roundCount);
+
+		if (!timing) {
+			return;
+		}
+		long decisionNanos = (forwarded ? forwardedAt : System.nanoTime()) - start;
+		if (target != null) {
+			target.record(!forwarded, decisionNanos, occupied);
+		}
+		if (event.shouldCommit()) {
+			event.gameId = gameId;
+			event.round = roundCount;
+			event.seat = BoardState.seatOf(player);
+			event.handler = name;
+			event.position = position;
+			event.acted = !forwarded;
+			event.decisionNanos = decisionNanos;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Counts the nodes holding a building.
+	 */
+	private static int occupiedNodes(BoardState state) {
+		if (state.hasBitboards()) {
+			return Long.bitCount(state.getOccupiedNodeMask());
+		}
+		int occupied = 0;
+		for (int nodeId = 0; nodeId < state.getNodeCount(); nodeId++) {
+			if (state.getNodeOwner(nodeId) != BoardState.NO_OWNER) {
+				occupied++;
+			}
+		}
+		return occupied;
+	}
+
+	/**
+	 * Stands in for the wrapped handler's successor: notes the hand-off, then calls the real one.
+	 */
+	private final class Forwarder extends ActionHandler {
+		/**
+		 * Creates the forwarder with the decorator's random source (it never uses it).
+		 */
+		Forwarder() {
+			super(InstrumentedHandler.this.random);
+		}
+
+		@Override
+		public void handleTurn(Player player, PlayerActions actions, int roundCount) {
+			forwarded = true;
+			if (timing) {
+				forwardedAt = System.nanoTime();
+			}
+			ActionHandler next = InstrumentedHandler.this.successor;
+			if (next != null) {
+				next.handleTurn(player, actions, roundCount);
+			}
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package SettlersOfCatan;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for resolving a dice roll: the resource payout, or the robber on a 7.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@Name("SettlersOfCatan.DiceRoll")
+@Label("Dice Roll")
+@Category("Settlers of Catan")
+@Description("Resolution of one dice roll: paying out resources, or the robber on a 7.")
+@StackTrace(false)
+@Threshold("1 ms")
+final class JfrDiceRollEvent extends Event {
+	@Label("Game Id")
+	long gameId;
+
+	@Label("Round")
+	int round;
+
+	@Label("Seat")
+	@Description("Seat of the player who rolled")
+	int seat;
+
+	@Label("Total")
+	@Description("Sum of both dice")
+	int total;
+
+	@Label("Payouts")
+	@Description("Number of buildings that produced")
+	int payouts;
+}
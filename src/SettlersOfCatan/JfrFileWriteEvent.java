@@ -0,0 +1,31 @@
+package SettlersOfCatan;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a file rewritten by a CoalescingFileWriter, on its background thread.
+ * Writes are already coalesced, so every one is recorded.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@Name("SettlersOfCatan.FileWrite")
+@Label("File Write")
+@Category("Settlers of Catan")
+@Description("A file rewritten by a background CoalescingFileWriter (state.json or a checkpoint).")
+@StackTrace(false)
+final class JfrFileWriteEvent extends Event {
+	@Label("Path")
+	String path;
+
+	@Label("Size")
+	@Description("Bytes written")
+	int bytes;
+
+	@Label("Success")
+	@Description("False when the write failed")
+	boolean success;
+}
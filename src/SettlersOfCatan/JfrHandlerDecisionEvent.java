@@ -0,0 +1,47 @@
+package SettlersOfCatan;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for one handler of the AI chain deciding a turn, emitted by InstrumentedHandler.
+ * The duration includes every successor the handler forwarded to; decisionNanos is its own share.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@Name("SettlersOfCatan.AIHandlerDecision")
+@Label("AI Handler Decision")
+@Category("Settlers of Catan")
+@Description("One handler of the AI chain deciding a turn; the duration includes any successors it forwarded to.")
+@StackTrace(false)
+@Threshold("1 ms")
+final class JfrHandlerDecisionEvent extends Event {
+	@Label("Game Id")
+	long gameId;
+
+	@Label("Round")
+	int round;
+
+	@Label("Seat")
+	int seat;
+
+	@Label("Handler")
+	@Description("Simple class name of the handler")
+	String handler;
+
+	@Label("Chain Position")
+	@Description("0 for the first handler in the chain")
+	int position;
+
+	@Label("Acted")
+	@Description("False when the handler forwarded to its successor")
+	boolean acted;
+
+	@Label("Decision Time")
+	@Description("Time spent in this handler before acting or forwarding, in nanoseconds")
+	long decisionNanos;
+}
@@ -0,0 +1,39 @@
+package SettlersOfCatan;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for a settlement, city or road placed by PlayerActions, validation included.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@Name("SettlersOfCatan.Placement")
+@Label("Placement")
+@Category("Settlers of Catan")
+@Description("A settlement, city or road placed on the board, including validation.")
+@StackTrace(false)
+@Threshold("1 ms")
+final class JfrPlacementEvent extends Event {
+	@Label("Game Id")
+	long gameId;
+
+	@Label("Seat")
+	int seat;
+
+	@Label("Piece")
+	@Description("settlement, city or road")
+	String piece;
+
+	@Label("Location Id")
+	@Description("Node id for buildings, edge id for roads")
+	int locationId;
+
+	@Label("Setup")
+	@Description("True for a free setup placement")
+	boolean setup;
+}
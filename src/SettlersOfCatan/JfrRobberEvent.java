@@ -0,0 +1,43 @@
+package SettlersOfCatan;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for a rolled 7: discards, the robber move and the steal.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@Name("SettlersOfCatan.RobberResolution")
+@Label("Robber Resolution")
+@Category("Settlers of Catan")
+@Description("Discards, robber move and steal after a rolled 7.")
+@StackTrace(false)
+@Threshold("1 ms")
+final class JfrRobberEvent extends Event {
+	@Label("Game Id")
+	long gameId;
+
+	@Label("Round")
+	int round;
+
+	@Label("Seat")
+	@Description("Seat of the player who rolled the 7")
+	int seat;
+
+	@Label("Tile")
+	@Description("Tile index the robber moved to")
+	int tile;
+
+	@Label("Discarded")
+	@Description("Cards discarded by all players")
+	int discarded;
+
+	@Label("Victim Seat")
+	@Description("Seat stolen from, or -1 when nothing was stolen")
+	int victimSeat;
+}
@@ -0,0 +1,38 @@
+package SettlersOfCatan;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for one regular turn, from the dice roll to the end of building.
+ * Like the other game events it has a 1 ms default threshold: a recording left on in production
+ * only keeps the slow turns. Set the threshold to 0 ms in the recording settings to see all of them.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@Name("SettlersOfCatan.Turn")
+@Label("Turn")
+@Category("Settlers of Catan")
+@Description("A regular turn of one player, from the dice roll to the end of building.")
+@StackTrace(false)
+@Threshold("1 ms")
+final class JfrTurnEvent extends Event {
+	@Label("Game Id")
+	@Description("Game the turn belongs to")
+	long gameId;
+
+	@Label("Round")
+	int round;
+
+	@Label("Seat")
+	@Description("Seat of the player, 0 = RED")
+	int seat;
+
+	@Label("Human")
+	@Description("True for a human player")
+	boolean human;
+}
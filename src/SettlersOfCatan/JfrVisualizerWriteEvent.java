@@ -0,0 +1,29 @@
+package SettlersOfCatan;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for building state.json on the game thread after a placement.
+ * The file itself is written later by the background writer (see JfrFileWriteEvent).
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+@Name("SettlersOfCatan.VisualizerState")
+@Label("Visualizer State")
+@Category("Settlers of Catan")
+@Description("state.json built on the game thread and handed to the background writer.")
+@StackTrace(false)
+@Threshold("1 ms")
+final class JfrVisualizerWriteEvent extends Event {
+	@Label("Game Id")
+	long gameId;
+
+	@Label("Size")
+	@Description("Characters in the document")
+	int bytes;
+}
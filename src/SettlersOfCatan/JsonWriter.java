@@ -61,31 +61,29 @@ public class JsonWriter {
 	 */
 	private static void appendTiles(Board board, StringBuilder sb) {
 		sb.append("[\n");
-		Tile[] tiles = board.getTiles();
 		boolean first = true;
-		if (tiles != null) {
-			for (Tile tile : tiles) {
-				if (tile == null) {
-					continue;
-				}
-				if (!first) {
-					sb.append(",\n");
-				}
-				first = false;
-				sb.append("    ");
-				ResourceType res = tile.produceResource();
-				boolean desert = (res == null || res == ResourceType.NULL);
-				sb.append("{ \"q\": ").append(tile.getQ());
-				sb.append(", \"s\": ").append(tile.getS());
-				sb.append(", \"r\": ").append(tile.getR());
-				if (desert) {
-					sb.append(", \"resource\": null, \"number\": null");
-				} else {
-					sb.append(", \"resource\": \"").append(res.name()).append("\"");
-					sb.append(", \"number\": ").append(tile.getNumber());
-				}
-				sb.append(" }");
+		for (int i = 0; i < board.getTileCount(); i++) {
+			Tile tile = board.getTile(i);
+			if (tile == null) {
+				continue;
 			}
+			if (!first) {
+				sb.append(",\n");
+			}
+			first = false;
+			sb.append("    ");
+			ResourceType res = tile.produceResource();
+			boolean desert = (res == null || res == ResourceType.NULL);
+			sb.append("{ \"q\": ").append(tile.getQ());
+			sb.append(", \"s\": ").append(tile.getS());
+			sb.append(", \"r\": ").append(tile.getR());
+			if (desert) {
+				sb.append(", \"resource\": null, \"number\": null");
+			} else {
+				sb.append(", \"resource\": \"").append(res.name()).append("\"");
+				sb.append(", \"number\": ").append(tile.getNumber());
+			}
+			sb.append(" }");
 		}
 		sb.append("\n  ]");
 	}
@@ -96,14 +94,14 @@ public class JsonWriter {
 	 * @param board the game board
 	 * @return JSON string for state.json
 	 */
-	private static String buildStateJson(Board board) {
+	static String buildStateJson(Board board) {
 		StringBuilder sb = new StringBuilder();
 		sb.append("{\n");
 		sb.append("  \"roads\": ");
 		appendRoads(board, sb);
 		sb.append(",\n");
 		sb.append("  \"buildings\": ");
-		appendBuildings(board.getNodes(), sb);
+		appendBuildings(board, sb);
 		sb.append("\n}\n");
 		return sb.toString();
 	}
@@ -116,23 +114,21 @@ public class JsonWriter {
 	 */
 	private static void appendRoads(Board board, StringBuilder sb) {
 		sb.append("[\n");
-		Edge[] edges = board.getEdges();
 		boolean first = true;
-		if (edges != null) {
-			for (Edge edge : edges) {
-				if (edge == null || edge.getRoad() == null) {
-					continue;
-				}
-				if (!first) {
-					sb.append(",\n");
-				}
-				first = false;
-				sb.append("    ");
-				String owner = edge.getRoad().getOwner().getColor().name();
-				sb.append("{ \"a\": ").append(edge.getNodeA().getId());
-				sb.append(", \"b\": ").append(edge.getNodeB().getId());
-				sb.append(", \"owner\": \"").append(owner).append("\" }");
+		for (int i = 0; i < board.getEdgeCount(); i++) {
+			Edge edge = board.getEdge(i);
+			if (edge == null || edge.getRoad() == null) {
+				continue;
+			}
+			if (!first) {
+				sb.append(",\n");
 			}
+			first = false;
+			sb.append("    ");
+			String owner = edge.getRoad().getOwner().getColor().name();
+			sb.append("{ \"a\": ").append(edge.getNodeA().getId());
+			sb.append(", \"b\": ").append(edge.getNodeB().getId());
+			sb.append(", \"owner\": \"").append(owner).append("\" }");
 		}
 		sb.append("\n  ]");
 	}
@@ -140,28 +136,27 @@ public class JsonWriter {
 	/**
 	 * Appends the buildings array for occupied nodes to the given buffer.
 	 *
-	 * @param nodes intersection nodes (may contain null entries)
+	 * @param board the game board
 	 * @param sb    target buffer
 	 */
-	private static void appendBuildings(Node[] nodes, StringBuilder sb) {
+	private static void appendBuildings(Board board, StringBuilder sb) {
 		sb.append("[\n");
 		boolean first = true;
-		if (nodes != null) {
-			for (Node node : nodes) {
-				if (node == null || node.getBuilding() == null) {
-					continue;
-				}
-				if (!first) {
-					sb.append(",\n");
-				}
-				first = false;
-				sb.append("    ");
-				String owner = node.getOccupyingPlayer().getColor().name();
-				String type = node.getBuilding() instanceof City ? "CITY" : "SETTLEMENT";
-				sb.append("{ \"node\": ").append(node.getId());
-				sb.append(", \"owner\": \"").append(owner).append("\"");
-				sb.append(", \"type\": \"").append(type).append("\" }");
+		for (int i = 0; i < board.getNodeCount(); i++) {
+			Node node = board.getNode(i);
+			if (node == null || node.getBuilding() == null) {
+				continue;
+			}
+			if (!first) {
+				sb.append(",\n");
 			}
+			first = false;
+			sb.append("    ");
+			String owner = node.getOccupyingPlayer().getColor().name();
+			String type = node.getBuilding() instanceof City ? "CITY" : "SETTLEMENT";
+			sb.append("{ \"node\": ").append(node.getId());
+			sb.append(", \"owner\": \"").append(owner).append("\"");
+			sb.append(", \"type\": \"").append(type).append("\" }");
 		}
 		sb.append("\n  ]");
 	}
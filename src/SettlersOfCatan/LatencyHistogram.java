@@ -0,0 +1,144 @@
+package SettlersOfCatan;
+
+import java.util.Arrays;
+
+/**
+ * Histogram of non-negative durations with a bounded relative error, in the style of HdrHistogram.
+ * Values below 2^SUB_BUCKET_BITS are counted exactly; above that, every power-of-two range is split
+ * into 2^SUB_BUCKET_BITS equal buckets, so a reported percentile is within 1% of the true value.
+ * Recording is a few shifts and one array increment. Not thread-safe: use one histogram per writer
+ * and merge them with add().
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class LatencyHistogram {
+	/** Bits of precision kept below each value's leading bit */
+	private static final int SUB_BUCKET_BITS = 7;
+
+	/** Buckets per power-of-two range */
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	/** Enough ranges for any non-negative long */
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	/** Count per bucket */
+	private final long[] counts = new long[BUCKETS];
+
+	/** Number of recorded values */
+	private long count;
+
+	/** Sum of recorded values, for the mean */
+	private long sum;
+
+	/** Largest recorded value */
+	private long max;
+
+	/**
+	 * Records one value; negative values are recorded as 0.
+	 * @param value the value, typically nanoseconds
+	 */
+	public void record(long value) {
+		long v = Math.max(0L, value);
+		counts[indexOf(v)]++;
+		count++;
+		sum += v;
+		if (v > max) {
+			max = v;
+		}
+	}
+
+	/**
+	 * Adds every value recorded by another histogram to this one.
+	 * @param other the histogram to merge in
+	 */
+	public void add(LatencyHistogram other) {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] += other.counts[i];
+		}
+		count += other.count;
+		sum += other.sum;
+		max = Math.max(max, other.max);
+	}
+
+	/**
+	 * Clears every recorded value.
+	 */
+	public void reset() {
+		Arrays.fill(counts, 0L);
+		count = 0;
+		sum = 0;
+		max = 0;
+	}
+
+	/**
+	 * Gets the number of recorded values.
+	 * @return the count
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Gets the largest recorded value.
+	 * @return the maximum, or 0 when empty
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * Gets the mean of the recorded values.
+	 * @return the mean, or 0 when empty
+	 */
+	public double getMean() {
+		return count == 0 ? 0.0 : (double) sum / count;
+	}
+
+	/**
+	 * Gets the value below or at which a percentage of the recorded values fall.
+	 * Reports the top of the matching bucket, capped at the maximum.
+	 * @param percentile between 0 and 100
+	 * @return the value, or 0 when empty
+	 * @throws IllegalArgumentException if the percentile is outside [0, 100]
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (percentile < 0.0 || percentile > 100.0) {
+			throw new IllegalArgumentException("Percentile must be between 0 and 100. Found: " + percentile);
+		}
+		if (count == 0) {
+			return 0L;
+		}
+		long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return Math.min(max, highestValueIn(i));
+			}
+		}
+		return max;
+	}
+
+	/**
+	 * Maps a value to its bucket.
+	 */
+	private static int indexOf(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+		return (shift + 1) * SUB_BUCKETS + (int) ((value >>> shift) & (SUB_BUCKETS - 1));
+	}
+
+	/**
+	 * Gets the largest value that maps to a bucket.
+	 */
+	private static long highestValueIn(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int shift = index / SUB_BUCKETS - 1;
+		long lowest = ((long) (SUB_BUCKETS | (index & (SUB_BUCKETS - 1)))) << shift;
+		long highest = lowest + (1L << shift) - 1;
+		return highest < 0 ? Long.MAX_VALUE : highest;
+	}
+}
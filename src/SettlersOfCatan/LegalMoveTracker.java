@@ -0,0 +1,205 @@
+package SettlersOfCatan;
+
+/**
+ * Board-legal build locations for every seat, kept up to date as pieces are placed or removed.
+ * Settlement candidates pass the distance rule and touch one of the seat's roads; city candidates
+ * are the seat's settlements; road candidates are free edges touching the seat's buildings or roads.
+ * Each board change only re-evaluates the nodes and edges around it, so asking whether a seat has
+ * any legal move is a single mask test. Affordability is not part of these sets (see Bank).
+ * Requires a board with bitboards.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public class LegalMoveTracker implements BoardChangeListener {
+	/** Number of seats tracked */
+	private static final int SEATS = PlayerColor.values().length;
+
+	/** Shared layout for neighbour and incidence lookups */
+	private final BoardTopology topology;
+
+	/** Occupancy and bitboards of the tracked board */
+	private final BoardState state;
+
+	/** Settlement candidate nodes per seat */
+	private final long[] settlementCandidates = new long[SEATS];
+
+	/** City candidate nodes per seat */
+	private final long[] cityCandidates = new long[SEATS];
+
+	/** Road candidate edges 0-63 per seat */
+	private final long[] roadCandidatesLo = new long[SEATS];
+
+	/** Road candidate edges 64-127 per seat */
+	private final long[] roadCandidatesHi = new long[SEATS];
+
+	/**
+	 * Builds the candidate sets from the current board and subscribes to its state.
+	 * @param board a board whose state has bitboards
+	 * @throws IllegalArgumentException if the board has no bitboards
+	 */
+	public LegalMoveTracker(Board board) {
+		this.state = board.getState();
+		this.topology = board.getTopology();
+		if (!state.hasBitboards()) {
+			throw new IllegalArgumentException("LegalMoveTracker needs a board with bitboards");
+		}
+		for (int seat = 0; seat < SEATS; seat++) {
+			settlementCandidates[seat] = state.getBuildableNodeMask() & state.getRoadNodeMask(seat);
+			cityCandidates[seat] = state.getSettlementMask(seat);
+			roadCandidatesLo[seat] = state.getRoadCandidateMaskLo(seat);
+			roadCandidatesHi[seat] = state.getRoadCandidateMaskHi(seat);
+		}
+		state.addListener(this);
+	}
+
+	/**
+	 * Checks whether a seat has any board-legal settlement location.
+	 * @param seat the seat
+	 * @return true if at least one candidate exists
+	 */
+	public boolean hasAnyLegalSettlement(int seat) {
+		return getSettlementCandidates(seat) != 0;
+	}
+
+	/**
+	 * Checks whether a seat has any settlement it could upgrade.
+	 * @param seat the seat
+	 * @return true if at least one candidate exists
+	 */
+	public boolean hasAnyLegalCity(int seat) {
+		return getCityCandidates(seat) != 0;
+	}
+
+	/**
+	 * Checks whether a seat has any board-legal road location.
+	 * @param seat the seat
+	 * @return true if at least one candidate exists
+	 */
+	public boolean hasAnyLegalRoad(int seat) {
+		return (getRoadCandidatesLo(seat) | getRoadCandidatesHi(seat)) != 0;
+	}
+
+	/**
+	 * Checks a single settlement location.
+	 * @param seat the seat
+	 * @param nodeId the node ID
+	 * @return true if the node is a settlement candidate
+	 */
+	public boolean isLegalSettlement(int seat, int nodeId) {
+		return nodeId >= 0 && nodeId < 64 && (getSettlementCandidates(seat) & (1L << nodeId)) != 0;
+	}
+
+	/**
+	 * Checks a single road location.
+	 * @param seat the seat
+	 * @param edgeId the edge ID
+	 * @return true if the edge is a road candidate
+	 */
+	public boolean isLegalRoad(int seat, int edgeId) {
+		if (edgeId < 0 || edgeId >= 128) {
+			return false;
+		}
+		return edgeId < 64
+				? (getRoadCandidatesLo(seat) & (1L << edgeId)) != 0
+				: (getRoadCandidatesHi(seat) & (1L << (edgeId - 64))) != 0;
+	}
+
+	/**
+	 * Gets the settlement candidates; iterate with Long.numberOfTrailingZeros.
+	 * @param seat the seat
+	 * @return node mask, or 0 for an unknown seat
+	 */
+	public long getSettlementCandidates(int seat) {
+		return validSeat(seat) ? settlementCandidates[seat] : 0L;
+	}
+
+	/**
+	 * Gets the city candidates.
+	 * @param seat the seat
+	 * @return node mask, or 0 for an unknown seat
+	 */
+	public long getCityCandidates(int seat) {
+		return validSeat(seat) ? cityCandidates[seat] : 0L;
+	}
+
+	/**
+	 * Gets the road candidates on edges 0-63.
+	 * @param seat the seat
+	 * @return low edge mask, or 0 for an unknown seat
+	 */
+	public long getRoadCandidatesLo(int seat) {
+		return validSeat(seat) ? roadCandidatesLo[seat] : 0L;
+	}
+
+	/**
+	 * Gets the road candidates on edges 64-127.
+	 * @param seat the seat
+	 * @return high edge mask, or 0 for an unknown seat
+	 */
+	public long getRoadCandidatesHi(int seat) {
+		return validSeat(seat) ? roadCandidatesHi[seat] : 0L;
+	}
+
+	@Override
+	public void nodeChanged(int nodeId) {
+		// The distance rule can change at the node and its neighbours
+		refreshSettlements(topology.getNeighbourMask(nodeId) | (1L << nodeId));
+		for (int seat = 0; seat < SEATS; seat++) {
+			cityCandidates[seat] = state.getSettlementMask(seat);
+		}
+
+		// The owner's frontier changed at this node, which only affects its incident edges
+		refreshEdgesAt(nodeId);
+	}
+
+	@Override
+	public void roadChanged(int edgeId) {
+		int nodeA = topology.getEdgeNodeA(edgeId);
+		int nodeB = topology.getEdgeNodeB(edgeId);
+
+		// Road endpoints gain or lose road access; nothing else does
+		refreshSettlements((1L << nodeA) | (1L << nodeB));
+
+		// Candidacy of an edge depends only on its endpoints, so re-check every edge at either end
+		refreshEdgesAt(nodeA);
+		refreshEdgesAt(nodeB);
+	}
+
+	/**
+	 * Re-evaluates settlement candidacy of the given nodes for every seat.
+	 */
+	private void refreshSettlements(long region) {
+		long buildable = state.getBuildableNodeMask() & region;
+		for (int seat = 0; seat < SEATS; seat++) {
+			settlementCandidates[seat] = (settlementCandidates[seat] & ~region)
+					| (buildable & state.getRoadNodeMask(seat));
+		}
+	}
+
+	/**
+	 * Re-evaluates road candidacy of every edge touching a node, for every seat.
+	 */
+	private void refreshEdgesAt(int nodeId) {
+		for (int edgeId : topology.getIncidentEdgeIds(nodeId)) {
+			long endpoints = (1L << topology.getEdgeNodeA(edgeId)) | (1L << topology.getEdgeNodeB(edgeId));
+			boolean free = state.getRoadOwner(edgeId) == BoardState.NO_OWNER;
+			boolean low = edgeId < 64;
+			long bit = 1L << (low ? edgeId : edgeId - 64);
+			for (int seat = 0; seat < SEATS; seat++) {
+				long frontier = state.getBuildingMask(seat) | state.getRoadNodeMask(seat);
+				boolean candidate = free && (endpoints & frontier) != 0;
+				if (low) {
+					roadCandidatesLo[seat] = candidate ? roadCandidatesLo[seat] | bit : roadCandidatesLo[seat] & ~bit;
+				} else {
+					roadCandidatesHi[seat] = candidate ? roadCandidatesHi[seat] | bit : roadCandidatesHi[seat] & ~bit;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Checks whether a seat index is tracked.
+	 */
+	private static boolean validSeat(int seat) {
+		return seat >= 0 && seat < SEATS;
+	}
+}
@@ -0,0 +1,24 @@
+package SettlersOfCatan;
+
+/**
+ * Areas of game output that can be switched on or off independently.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public enum LogCategory {
+	/** Initial settlement and road placement */
+	SETUP,
+	/** Game start and end, turn headers and dice rolls */
+	TURN,
+	/** Resources received from a roll */
+	PAYOUT,
+	/** Robber moves and steals */
+	ROBBER,
+	/** Settlements, cities and roads built during turns */
+	BUILD,
+	/** Victory points at the end of each round */
+	SCORE,
+	/** AI passes and decision details */
+	AI,
+	/** Prompts and replies for a human player */
+	HUMAN
+}
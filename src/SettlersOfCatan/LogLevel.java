@@ -0,0 +1,12 @@
+package SettlersOfCatan;
+
+/**
+ * Severity of a game log message, from most to least detailed.
+ * A log set to a level shows that level and everything after it; OFF shows nothing.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public enum LogLevel {
+	DEBUG,
+	INFO,
+	OFF
+}
@@ -0,0 +1,191 @@
+package SettlersOfCatan;
+
+/**
+ * Longest continuous road for every seat, kept up to date as roads and buildings change.
+ * Each seat's roads are two edge bitmasks; the length is the longest trail (no edge used twice)
+ * through them, where a node holding an opponent's building ends the road.
+ * A new road only re-measures the connected component it joins, since adding a road cannot
+ * shorten anything else. Removing a road or placing a building that cuts through a road
+ * re-measures that seat from scratch. Lengths are published in O(1).
+ * Requires a board with bitboards.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public class LongestRoadTracker implements BoardChangeListener {
+	/** Number of seats tracked */
+	private static final int SEATS = PlayerColor.values().length;
+
+	/** Shared layout for incidence lookups */
+	private final BoardTopology topology;
+
+	/** Occupancy and road bitboards of the tracked board */
+	private final BoardState state;
+
+	/** Current longest road per seat */
+	private final int[] lengths = new int[SEATS];
+
+	/** Road mask (edges 0-63) each length was measured from, to spot removals */
+	private final long[] measuredLo = new long[SEATS];
+
+	/** Road mask (edges 64-127) each length was measured from */
+	private final long[] measuredHi = new long[SEATS];
+
+	/**
+	 * Measures every seat on the current board and subscribes to its state.
+	 * @param board a board whose state has bitboards
+	 * @throws IllegalArgumentException if the board has no bitboards
+	 */
+	public LongestRoadTracker(Board board) {
+		this.state = board.getState();
+		this.topology = board.getTopology();
+		if (!state.hasBitboards()) {
+			throw new IllegalArgumentException("LongestRoadTracker needs a board with bitboards");
+		}
+		for (int seat = 0; seat < SEATS; seat++) {
+			remeasure(seat);
+		}
+		state.addListener(this);
+	}
+
+	/**
+	 * Gets a seat's longest road.
+	 * @param seat the seat
+	 * @return number of roads in the longest continuous road, 0 for an unknown seat
+	 */
+	public int getLength(int seat) {
+		return seat >= 0 && seat < SEATS ? lengths[seat] : 0;
+	}
+
+	/**
+	 * Gets a player's longest road.
+	 * @param player the player
+	 * @return number of roads in the longest continuous road
+	 */
+	public int getLength(Player player) {
+		return getLength(BoardState.seatOf(player));
+	}
+
+	@Override
+	public void roadChanged(int edgeId) {
+		for (int seat = 0; seat < SEATS; seat++) {
+			long lo = state.getRoadMaskLo(seat);
+			long hi = state.getRoadMaskHi(seat);
+			if (lo == measuredLo[seat] && hi == measuredHi[seat]) {
+				continue;
+			}
+			boolean onlyAdded = (measuredLo[seat] & ~lo) == 0 && (measuredHi[seat] & ~hi) == 0;
+			if (onlyAdded) {
+				// Only the component holding the new road can have grown
+				measuredLo[seat] = lo;
+				measuredHi[seat] = hi;
+				lengths[seat] = Math.max(lengths[seat], measureComponent(seat, topology.getEdgeNodeA(edgeId)));
+			} else {
+				remeasure(seat);
+			}
+		}
+	}
+
+	@Override
+	public void nodeChanged(int nodeId) {
+		// A building can cut (or, when removed, rejoin) the roads of any seat passing through the node
+		long bit = 1L << nodeId;
+		for (int seat = 0; seat < SEATS; seat++) {
+			if ((state.getRoadNodeMask(seat) & bit) != 0) {
+				remeasure(seat);
+			}
+		}
+	}
+
+	/**
+	 * Measures every road of a seat from scratch.
+	 */
+	private void remeasure(int seat) {
+		measuredLo[seat] = state.getRoadMaskLo(seat);
+		measuredHi[seat] = state.getRoadMaskHi(seat);
+		int best = 0;
+		for (long m = state.getRoadNodeMask(seat); m != 0; m &= m - 1) {
+			best = Math.max(best, longestFrom(seat, Long.numberOfTrailingZeros(m), 0L, 0L));
+		}
+		lengths[seat] = best;
+	}
+
+	/**
+	 * Measures the longest trail in the component of a seat's roads containing a node.
+	 */
+	private int measureComponent(int seat, int startNode) {
+		// Flood fill over the seat's roads, stopping at opponent buildings
+		long component = 1L << startNode;
+		long frontier = component;
+		while (frontier != 0) {
+			int node = Long.numberOfTrailingZeros(frontier);
+			frontier &= frontier - 1;
+			if (node != startNode && blockedFor(seat, node)) {
+				continue;
+			}
+			for (int edgeId : topology.getIncidentEdgeIds(node)) {
+				if (!ownsRoad(seat, edgeId)) {
+					continue;
+				}
+				long next = (1L << otherEnd(edgeId, node)) & ~component;
+				component |= next;
+				frontier |= next;
+			}
+		}
+
+		int best = 0;
+		for (long m = component; m != 0; m &= m - 1) {
+			best = Math.max(best, longestFrom(seat, Long.numberOfTrailingZeros(m), 0L, 0L));
+		}
+		return best;
+	}
+
+	/**
+	 * Depth-first search for the longest trail starting at a node. Used edges travel as two
+	 * masks by value, so the search allocates nothing. A road may end at an opponent's
+	 * building but not pass through it.
+	 */
+	private int longestFrom(int seat, int node, long usedLo, long usedHi) {
+		int best = 0;
+		for (int edgeId : topology.getIncidentEdgeIds(node)) {
+			if (!ownsRoad(seat, edgeId)) {
+				continue;
+			}
+			boolean low = edgeId < 64;
+			long bit = 1L << (low ? edgeId : edgeId - 64);
+			if (((low ? usedLo : usedHi) & bit) != 0) {
+				continue;
+			}
+			int next = otherEnd(edgeId, node);
+			int length = 1;
+			if (!blockedFor(seat, next)) {
+				length += low
+						? longestFrom(seat, next, usedLo | bit, usedHi)
+						: longestFrom(seat, next, usedLo, usedHi | bit);
+			}
+			best = Math.max(best, length);
+		}
+		return best;
+	}
+
+	/**
+	 * Checks whether a seat owns the road on an edge.
+	 */
+	private boolean ownsRoad(int seat, int edgeId) {
+		return state.getRoadOwner(edgeId) == seat;
+	}
+
+	/**
+	 * Checks whether an opponent's building sits on a node.
+	 */
+	private boolean blockedFor(int seat, int nodeId) {
+		int owner = state.getNodeOwner(nodeId);
+		return owner != BoardState.NO_OWNER && owner != seat;
+	}
+
+	/**
+	 * Gets the node at the far end of an edge.
+	 */
+	private int otherEnd(int edgeId, int node) {
+		int a = topology.getEdgeNodeA(edgeId);
+		return a == node ? topology.getEdgeNodeB(edgeId) : a;
+	}
+}
@@ -0,0 +1,66 @@
+package SettlersOfCatan;
+
+/**
+ * Immutable production tables of one generated board as the search AI needs them: the corners
+ * and resource of each tile and the tiles producing on each dice total. Built once per board and
+ * shared read-only by every search thread; the layout the build rules need is the GameState's
+ * BoardTopology, and everything that changes during play lives in MctsState.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+final class MctsBoard {
+	/** Highest dice total */
+	static final int MAX_ROLL = 12;
+
+	/** Marks a tile that produces nothing */
+	static final int NO_RESOURCE = -1;
+
+	/** Number of tiles */
+	final int tileCount;
+
+	/** Corner nodes of each tile */
+	final int[][] tileNodes;
+
+	/** Resource ordinal produced by each tile, or NO_RESOURCE */
+	final int[] tileResource;
+
+	/** Tiles producing on each dice total (empty for 7) */
+	final int[][] rollTiles = new int[MAX_ROLL + 1][];
+
+	/**
+	 * Reads the terrain and numbers of a generated board.
+	 * @param board a board with edges
+	 * @throws IllegalArgumentException if the board has no layout yet
+	 */
+	MctsBoard(Board board) {
+		BoardTopology topology = board.getTopology();
+		if (topology == null) {
+			throw new IllegalArgumentException("The search AI needs a generated board");
+		}
+		BoardState state = board.getState();
+		this.tileCount = board.getTileCount();
+
+		this.tileNodes = new int[tileCount][];
+		this.tileResource = new int[tileCount];
+		int[] perRoll = new int[MAX_ROLL + 1];
+		for (int t = 0; t < tileCount; t++) {
+			tileNodes[t] = topology.getTileNodeIds(t);
+			ResourceType resource = board.getTile(t).produceResource();
+			int number = state.getTileNumber(t);
+			boolean produces = resource != ResourceType.NULL && number > 0 && number <= MAX_ROLL && number != 7;
+			tileResource[t] = produces ? resource.ordinal() : NO_RESOURCE;
+			if (produces) {
+				perRoll[number]++;
+			}
+		}
+		for (int roll = 0; roll <= MAX_ROLL; roll++) {
+			rollTiles[roll] = new int[perRoll[roll]];
+			perRoll[roll] = 0;
+		}
+		for (int t = 0; t < tileCount; t++) {
+			if (tileResource[t] != NO_RESOURCE) {
+				int number = state.getTileNumber(t);
+				rollTiles[number][perRoll[number]++] = t;
+			}
+		}
+	}
+}
@@ -0,0 +1,147 @@
+package SettlersOfCatan;
+
+/**
+ * Immutable settings for MctsHandler: how long and how much to search per move, on how many
+ * threads, and from which seed. A search stops at whichever of the time budget and the rollout
+ * count is reached first; 0 switches a limit off, but at least one must be set. A single-threaded
+ * search limited only by its rollout count makes the same choices for the same seed and game.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class MctsConfig {
+	/** Rounds a rollout plays past the searched position before it is scored on points */
+	public static final int DEFAULT_HORIZON_ROUNDS = 20;
+
+	/** Own turns the tree grows ahead of the current one */
+	public static final int DEFAULT_TREE_DEPTH = 3;
+
+	/** Weight of the exploration term of UCB1; rewards are between 0 and 1 */
+	public static final double DEFAULT_EXPLORATION = 0.7;
+
+	/** Time budget per move in milliseconds, or 0 for none */
+	private final long timeBudgetMillis;
+
+	/** Rollouts per move over all threads, or 0 for no limit */
+	private final int rollouts;
+
+	/** Search threads, each growing its own tree (root parallelization) */
+	private final int threads;
+
+	/** Seed all search randomness is derived from */
+	private final long seed;
+
+	/** Rounds a rollout plays before it is scored */
+	private final int horizonRounds;
+
+	/** Own turns the tree grows ahead */
+	private final int treeDepth;
+
+	/** UCB1 exploration weight */
+	private final double exploration;
+
+	/**
+	 * Constructor with the default horizon, tree depth and exploration.
+	 * @param timeBudgetMillis time budget per move, 0 for none
+	 * @param rollouts rollouts per move over all threads, 0 for no limit
+	 * @param threads number of search threads (at least 1)
+	 * @param seed seed for the search
+	 * @throws IllegalArgumentException if a value is out of range or neither limit is set
+	 */
+	public MctsConfig(long timeBudgetMillis, int rollouts, int threads, long seed) {
+		this(timeBudgetMillis, rollouts, threads, seed, DEFAULT_HORIZON_ROUNDS, DEFAULT_TREE_DEPTH, DEFAULT_EXPLORATION);
+	}
+
+	/**
+	 * Constructor for every setting.
+	 * @param timeBudgetMillis time budget per move, 0 for none
+	 * @param rollouts rollouts per move over all threads, 0 for no limit
+	 * @param threads number of search threads (at least 1)
+	 * @param seed seed for the search
+	 * @param horizonRounds rounds a rollout plays before it is scored (at least 1)
+	 * @param treeDepth own turns the tree grows ahead (at least 1)
+	 * @param exploration UCB1 exploration weight (not negative)
+	 * @throws IllegalArgumentException if a value is out of range or neither limit is set
+	 */
+	public MctsConfig(long timeBudgetMillis, int rollouts, int threads, long seed,
+			int horizonRounds, int treeDepth, double exploration) {
+		if (timeBudgetMillis < 0 || rollouts < 0) {
+			throw new IllegalArgumentException("Search limits must not be negative. Found: "
+					+ timeBudgetMillis + " ms, " + rollouts + " rollouts");
+		}
+		if (timeBudgetMillis == 0 && rollouts == 0) {
+			throw new IllegalArgumentException("Set a time budget, a rollout count, or both");
+		}
+		if (threads < 1) {
+			throw new IllegalArgumentException("Threads must be at least 1. Found: " + threads);
+		}
+		if (horizonRounds < 1 || treeDepth < 1) {
+			throw new IllegalArgumentException("Horizon and tree depth must be at least 1. Found: "
+					+ horizonRounds + ", " + treeDepth);
+		}
+		if (!(exploration >= 0.0)) {
+			throw new IllegalArgumentException("Exploration must not be negative. Found: " + exploration);
+		}
+		this.timeBudgetMillis = timeBudgetMillis;
+		this.rollouts = rollouts;
+		this.threads = threads;
+		this.seed = seed;
+		this.horizonRounds = horizonRounds;
+		this.treeDepth = treeDepth;
+		this.exploration = exploration;
+	}
+
+	/**
+	 * Gets the time budget per move.
+	 * @return milliseconds, 0 for none
+	 */
+	public long getTimeBudgetMillis() {
+		return timeBudgetMillis;
+	}
+
+	/**
+	 * Gets the rollout count per move.
+	 * @return rollouts over all threads, 0 for no limit
+	 */
+	public int getRollouts() {
+		return rollouts;
+	}
+
+	/**
+	 * Gets the number of search threads.
+	 * @return number of threads
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Gets the seed.
+	 * @return the seed
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Gets the rollout horizon.
+	 * @return rounds played before scoring
+	 */
+	public int getHorizonRounds() {
+		return horizonRounds;
+	}
+
+	/**
+	 * Gets the tree depth.
+	 * @return own turns the tree grows ahead
+	 */
+	public int getTreeDepth() {
+		return treeDepth;
+	}
+
+	/**
+	 * Gets the exploration weight.
+	 * @return the UCB1 constant
+	 */
+	public double getExploration() {
+		return exploration;
+	}
+}
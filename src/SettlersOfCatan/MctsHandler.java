@@ -0,0 +1,254 @@
+package SettlersOfCatan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI handler that chooses each build, including where to place it, with Monte Carlo Tree Search.
+ * The position is captured into a GameState, whose apply() supplies the build rules, and searched
+ * as an MctsState with root parallelization: every thread grows its own MctsTree from the same
+ * position with its own seed, and the move visited most over all trees is played. Opponents are
+ * modelled by the rule-based policy and dice by chance nodes. Give it a seat with Game.setAgent;
+ * it decides every turn of that seat and passes when it cannot build anything, so no handler
+ * follows it.
+ * Extra search threads are started on first use and stopped by close(), which Game calls when
+ * the game ends.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public class MctsHandler extends ActionHandler implements AutoCloseable {
+	/** Game whose positions are searched */
+	private final Game game;
+
+	/** Search settings */
+	private final MctsConfig config;
+
+	/** Source of the per-move tree seeds */
+	private final SplittableRandom seeds;
+
+	/** Threads growing the extra trees; null until a multi-threaded search first runs */
+	private ExecutorService workers;
+
+	/** Board tables, rebuilt if the game's board state is replaced */
+	private MctsBoard tables;
+
+	/** Board state the tables were read from */
+	private BoardState tablesSource;
+
+	/** Legal moves at the root, reused from turn to turn */
+	private int[] rootMoves = new int[0];
+
+	/** Rollouts run for the last move */
+	private long lastRollouts;
+
+	/**
+	 * Creates a handler for one seat of a game.
+	 * @param game the game the handler plays in
+	 * @param config search settings
+	 */
+	public MctsHandler(Game game, MctsConfig config) {
+		super(new Random(config.getSeed()));
+		this.game = game;
+		this.config = config;
+		this.seeds = new SplittableRandom(config.getSeed());
+	}
+
+	/**
+	 * Gets the number of rollouts the last search ran, over all threads.
+	 * @return rollouts of the last move, 0 before the first search
+	 */
+	public long getLastRollouts() {
+		return lastRollouts;
+	}
+
+	/**
+	 * Searches the current position and plays the best move found.
+	 * @param player current AI player
+	 * @param actions game action facade
+	 * @param roundCount current round count for logging
+	 */
+	@Override
+	public void handleTurn(Player player, PlayerActions actions, int roundCount) {
+		MctsState root = capture();
+		if (rootMoves.length < root.maxMoves()) {
+			rootMoves = new int[root.maxMoves()];
+		}
+		int count = root.legalMoves(rootMoves);
+		if (count == 1) {
+			if (actions.getLog().isEnabled(LogCategory.AI)) {
+				actions.getLog().info(LogCategory.AI, player.getColor() + " - No available actions");
+			}
+			return;
+		}
+
+		int move = search(root, rootMoves, count);
+		if (GameLog.DEBUG_ENABLED && actions.getLog().isEnabled(LogLevel.DEBUG, LogCategory.AI)) {
+			actions.getLog().debug(LogCategory.AI, roundCount + " / " + player.getColor() + ": Chose "
+					+ Move.toString(move) + " after " + lastRollouts + " rollouts");
+		}
+		execute(move, player, actions, roundCount);
+	}
+
+	/**
+	 * Captures the game's current position for searching.
+	 * @return the position, with the current seat to move
+	 */
+	MctsState capture() {
+		Board board = game.getBoard();
+		if (tables == null || tablesSource != board.getState()) {
+			tables = new MctsBoard(board);
+			tablesSource = board.getState();
+		}
+		return MctsState.capture(tables, game.captureState(), game.getMaxRounds());
+	}
+
+	/**
+	 * Searches a position within the configured limits.
+	 * @param root the position; the seat to move must have resolved its dice
+	 * @param moves the root's legal moves, as listed by root.legalMoves()
+	 * @param count number of legal moves
+	 * @return the move with the most visits over all trees
+	 */
+	int search(MctsState root, int[] moves, int count) {
+		int threads = config.getThreads();
+		long deadline = config.getTimeBudgetMillis() == 0
+				? Long.MAX_VALUE
+				: System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getTimeBudgetMillis());
+		MctsTree[] trees = new MctsTree[threads];
+		for (int t = 0; t < threads; t++) {
+			trees[t] = new MctsTree(root, config, seeds.nextLong());
+		}
+
+		// Trees 1.. run on the workers while this thread grows tree 0
+		List<Future<?>> running = new ArrayList<>();
+		for (int t = 1; t < threads; t++) {
+			MctsTree tree = trees[t];
+			int share = rolloutShare(t);
+			running.add(workers().submit(() -> tree.run(share, deadline)));
+		}
+		trees[0].run(rolloutShare(0), deadline);
+		for (Future<?> future : running) {
+			try {
+				future.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Search interrupted", e);
+			} catch (ExecutionException e) {
+				throw new IllegalStateException("Search thread failed", e.getCause());
+			}
+		}
+		return bestMove(trees, moves, count);
+	}
+
+	/**
+	 * Stops the search threads. The handler may still be used; threads restart on demand.
+	 */
+	@Override
+	public synchronized void close() {
+		if (workers != null) {
+			workers.shutdownNow();
+			workers = null;
+		}
+	}
+
+	/**
+	 * Gets the search threads, starting them on first use.
+	 */
+	private synchronized ExecutorService workers() {
+		if (workers == null) {
+			workers = Executors.newFixedThreadPool(config.getThreads() - 1, task -> {
+				Thread thread = new Thread(task, "mcts-search");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+		return workers;
+	}
+
+	/**
+	 * Splits the rollout count over the trees; the first trees take the remainder.
+	 */
+	private int rolloutShare(int tree) {
+		int total = config.getRollouts();
+		if (total == 0) {
+			return 0;
+		}
+		int threads = config.getThreads();
+		return Math.max(1, total / threads + (tree < total % threads ? 1 : 0));
+	}
+
+	/**
+	 * Adds up the root statistics of all trees and picks the most visited move;
+	 * ties go to the higher mean reward, then to the move listed first.
+	 */
+	private int bestMove(MctsTree[] trees, int[] moves, int count) {
+		long rollouts = 0;
+		for (MctsTree tree : trees) {
+			rollouts += tree.getRollouts();
+		}
+		lastRollouts = rollouts;
+
+		int best = Move.PASS;
+		long bestVisits = -1;
+		double bestMean = 0.0;
+		for (int i = 0; i < count; i++) {
+			long visits = 0;
+			double reward = 0.0;
+			for (MctsTree tree : trees) {
+				MctsNode node = tree.getRoot();
+				int index = node.indexOf(moves[i]);
+				if (index >= 0) {
+					visits += node.getVisits(index);
+					reward += node.getReward(index);
+				}
+			}
+			double mean = visits == 0 ? 0.0 : reward / visits;
+			if (visits > bestVisits || (visits == bestVisits && mean > bestMean)) {
+				best = moves[i];
+				bestVisits = visits;
+				bestMean = mean;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Plays a move through the actions facade, so it is paid for, validated and logged like
+	 * any other build.
+	 */
+	private void execute(int move, Player player, PlayerActions actions, int roundCount) {
+		Board board = game.getBoard();
+		int location = Move.location(move);
+		boolean built;
+		String piece;
+		switch (Move.type(move)) {
+			case SETTLEMENT:
+				built = actions.placeSettlement(board.getNode(location), player);
+				piece = "settlement on node ";
+				break;
+			case CITY:
+				built = actions.placeCity(board.getNode(location), player);
+				piece = "city on node ";
+				break;
+			case ROAD:
+				built = actions.placeRoad(board.getEdge(location), player);
+				piece = "road on edge ";
+				break;
+			default:
+				if (actions.getLog().isEnabled(LogCategory.AI)) {
+					actions.getLog().info(LogCategory.AI, roundCount + " / " + player.getColor() + ": Pass");
+				}
+				return;
+		}
+		if (actions.getLog().isEnabled(LogCategory.BUILD)) {
+			actions.getLog().info(LogCategory.BUILD, roundCount + " / " + player.getColor()
+					+ (built ? ": Built " + piece + location : ": Failed to build " + piece + location));
+		}
+	}
+}
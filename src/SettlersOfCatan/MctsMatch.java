@@ -0,0 +1,141 @@
+package SettlersOfCatan;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Measures how much stronger MctsHandler plays than the rule-based chain. Every seeded game is
+ * played twice: once with one seat handed to an MctsHandler and once with the chain in every
+ * seat. The MCTS seat rotates from game to game so no seat's advantage is counted twice.
+ * Games run in parallel, each search on a single thread, so results are reproducible when the
+ * searches are limited by rollouts only.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class MctsMatch {
+
+	/** Games played when no count is given on the command line */
+	private static final int DEFAULT_GAMES = 100;
+
+	/** Round limit used when no limit is given on the command line */
+	private static final int DEFAULT_MAX_ROUNDS = 200;
+
+	/** Rollouts per move when no count is given on the command line */
+	private static final int DEFAULT_ROLLOUTS = 1000;
+
+	/**
+	 * Wins and points of the searched seat, with and without the search.
+	 * @param games number of games played with each agent
+	 * @param mctsWins games the seat won when played by MctsHandler
+	 * @param baselineWins games the same seat won when played by the rule-based chain
+	 * @param mctsPoints victory points of the seat over all MCTS games
+	 * @param baselinePoints victory points of the seat over all rule-based games
+	 */
+	public record Outcome(int games, int mctsWins, int baselineWins, long mctsPoints, long baselinePoints) {
+		/**
+		 * Formats a short multi-line report.
+		 * @return the report text
+		 */
+		public String formatReport() {
+			double share = games == 0 ? 0.0 : 100.0 / games;
+			return String.format("MCTS seat won:       %5d (%5.1f%%), %.2f VP per game%n", mctsWins,
+					mctsWins * share, games == 0 ? 0.0 : (double) mctsPoints / games)
+					+ String.format("Rule-based seat won: %5d (%5.1f%%), %.2f VP per game%n", baselineWins,
+					baselineWins * share, games == 0 ? 0.0 : (double) baselinePoints / games);
+		}
+	}
+
+	/**
+	 * Plays the games on a dedicated ForkJoinPool. Game i uses seed baseSeed + i, puts the search
+	 * in seat i modulo the player count and seeds it with the config's seed plus i.
+	 * @param baseSeed seed of the first game
+	 * @param games number of games to play with each agent
+	 * @param config number of players and round limit for every game
+	 * @param search settings for every search; its thread count is used for each search
+	 * @param parallelism number of games played at once
+	 * @return wins and points of the searched seat
+	 */
+	public static Outcome run(long baseSeed, int games, GameConfig config, MctsConfig search, int parallelism) {
+		if (games < 0) {
+			throw new IllegalArgumentException("Games must not be negative. Found: " + games);
+		}
+
+		GameResult[] searched = new GameResult[games];
+		GameResult[] baseline = new GameResult[games];
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try {
+			pool.submit(() -> IntStream.range(0, games).parallel().forEach(i -> {
+				searched[i] = playSearched(baseSeed + i, config, search, i);
+				baseline[i] = GameRunner.runHeadless(baseSeed + i, config);
+			})).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Match interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Game failed during match", e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+
+		int mctsWins = 0;
+		int baselineWins = 0;
+		long mctsPoints = 0;
+		long baselinePoints = 0;
+		for (int i = 0; i < games; i++) {
+			int seat = i % config.getNumPlayers();
+			mctsWins += searched[i].winnerSeat() == seat ? 1 : 0;
+			baselineWins += baseline[i].winnerSeat() == seat ? 1 : 0;
+			mctsPoints += searched[i].victoryPoints(seat);
+			baselinePoints += baseline[i].victoryPoints(seat);
+		}
+		return new Outcome(games, mctsWins, baselineWins, mctsPoints, baselinePoints);
+	}
+
+	/**
+	 * Plays one game with an MctsHandler in the game's rotating seat.
+	 */
+	private static GameResult playSearched(long seed, GameConfig config, MctsConfig search, int game) {
+		MctsConfig seeded = new MctsConfig(search.getTimeBudgetMillis(), search.getRollouts(), search.getThreads(),
+				search.getSeed() + game, search.getHorizonRounds(), search.getTreeDepth(), search.getExploration());
+		MctsHandler[] handler = new MctsHandler[1];
+		try {
+			return GameRunner.play(seed, config, g -> {
+				handler[0] = new MctsHandler(g, seeded);
+				g.setAgent(game % config.getNumPlayers(), handler[0]);
+			});
+		} finally {
+			if (handler[0] != null) {
+				handler[0].close();
+			}
+		}
+	}
+
+	/**
+	 * Runs a match from the command line and prints the report.
+	 * @param args optional: games, max rounds, rollouts per move, time budget in ms, parallel games, seed
+	 */
+	public static void main(String[] args) {
+		int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+		int maxRounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_ROUNDS;
+		int rollouts = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ROLLOUTS;
+		long budget = args.length > 3 ? Long.parseLong(args[3]) : 0L;
+		int threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+		long seed = args.length > 5 ? Long.parseLong(args[5]) : 0L;
+
+		System.out.println("=== SETTLERS OF CATAN MCTS MATCH ===");
+		System.out.println("Playing " + games + " games (max " + maxRounds + " rounds) on " + threads + " threads, "
+				+ rollouts + " rollouts" + (budget > 0 ? " or " + budget + " ms" : "") + " per move\n");
+		long start = System.nanoTime();
+		Outcome outcome = run(seed, games, new GameConfig(PlayerColor.values().length, maxRounds),
+				new MctsConfig(budget, rollouts, 1, seed), threads);
+		System.out.print(outcome.formatReport());
+		System.out.printf("Finished in %.1f s%n", (System.nanoTime() - start) / 1_000_000_000.0);
+	}
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private MctsMatch() {
+		throw new AssertionError("MctsMatch should not be instantiated, it is a utility class only");
+	}
+}
@@ -0,0 +1,186 @@
+package SettlersOfCatan;
+
+import java.util.Arrays;
+
+/**
+ * Decision node of an MCTS tree: one of the searching seat's turns, after its dice are rolled.
+ * Each move tried here has a visit count, a reward sum and a chance node: one child per dice
+ * total of the seat's next roll, reached after the other seats have played their turns.
+ * The tree is open-loop, so the moves legal here can differ between visits; moves are added as
+ * they are first seen and skipped while they are illegal. A small open-addressing table finds a
+ * move's index in constant time, so selection is linear in the number of legal moves.
+ * Not thread-safe: every search thread grows its own tree.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+final class MctsNode {
+	/** Chance outcomes per move: one slot per dice total */
+	private static final int ROLLS = MctsBoard.MAX_ROLL + 1;
+
+	/** Moves tried so far */
+	private int[] moves = new int[4];
+
+	/** Visits per move */
+	private int[] visits = new int[4];
+
+	/** Reward sum per move */
+	private double[] rewards = new double[4];
+
+	/** Next decision node per move and dice total; rows are created on first use */
+	private MctsNode[][] outcomes = new MctsNode[4][];
+
+	/** Index + 1 of each tried move by hash slot, 0 for a free slot; kept at most half full */
+	private int[] slots = new int[8];
+
+	/** Number of moves tried */
+	private int size;
+
+	/** Visits of the node itself */
+	private int totalVisits;
+
+	/**
+	 * Finds a move tried here.
+	 * @param move the packed move
+	 * @return its index, or -1 if it has not been tried
+	 */
+	int indexOf(int move) {
+		int mask = slots.length - 1;
+		for (int i = slot(move, mask); ; i = (i + 1) & mask) {
+			int entry = slots[i];
+			if (entry == 0) {
+				return -1;
+			}
+			if (moves[entry - 1] == move) {
+				return entry - 1;
+			}
+		}
+	}
+
+	/**
+	 * Adds a move that has not been tried yet.
+	 * @param move the packed move
+	 * @return its index
+	 */
+	int add(int move) {
+		if (size == moves.length) {
+			int capacity = size * 2;
+			moves = Arrays.copyOf(moves, capacity);
+			visits = Arrays.copyOf(visits, capacity);
+			rewards = Arrays.copyOf(rewards, capacity);
+			outcomes = Arrays.copyOf(outcomes, capacity);
+		}
+		if (2 * (size + 1) > slots.length) {
+			slots = new int[slots.length * 2];
+			for (int i = 0; i < size; i++) {
+				insert(i);
+			}
+		}
+		moves[size] = move;
+		insert(size);
+		return size++;
+	}
+
+	/**
+	 * Puts a tried move's index into the first free slot from its hash.
+	 */
+	private void insert(int index) {
+		int mask = slots.length - 1;
+		int i = slot(moves[index], mask);
+		while (slots[i] != 0) {
+			i = (i + 1) & mask;
+		}
+		slots[i] = index + 1;
+	}
+
+	/**
+	 * Gets the home slot of a move.
+	 */
+	private static int slot(int move, int mask) {
+		int hash = move * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+
+	/**
+	 * Counts the moves tried here.
+	 * @return number of moves
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Gets a tried move.
+	 * @param index the move's index
+	 * @return the packed move
+	 */
+	int getMove(int index) {
+		return moves[index];
+	}
+
+	/**
+	 * Gets a move's visit count.
+	 * @param index the move's index
+	 * @return number of visits
+	 */
+	int getVisits(int index) {
+		return visits[index];
+	}
+
+	/**
+	 * Gets a move's reward sum.
+	 * @param index the move's index
+	 * @return sum of rewards backed up through the move
+	 */
+	double getReward(int index) {
+		return rewards[index];
+	}
+
+	/**
+	 * Gets the visits of the node.
+	 * @return number of visits
+	 */
+	int getTotalVisits() {
+		return totalVisits;
+	}
+
+	/**
+	 * Scores a move with UCB1.
+	 * @param index the move's index
+	 * @param exploration weight of the exploration term
+	 * @return the upper confidence bound
+	 */
+	double ucb(int index, double exploration) {
+		double mean = rewards[index] / visits[index];
+		return mean + exploration * Math.sqrt(Math.log(totalVisits) / visits[index]);
+	}
+
+	/**
+	 * Gets the decision node after a move and a dice total, creating it if needed.
+	 * @param index the move's index
+	 * @param roll the dice total
+	 * @return the child node
+	 */
+	MctsNode outcome(int index, int roll) {
+		MctsNode[] row = outcomes[index];
+		if (row == null) {
+			row = new MctsNode[ROLLS];
+			outcomes[index] = row;
+		}
+		MctsNode child = row[roll];
+		if (child == null) {
+			child = new MctsNode();
+			row[roll] = child;
+		}
+		return child;
+	}
+
+	/**
+	 * Backs a rollout's reward up through a move.
+	 * @param index the move's index
+	 * @param reward the reward, between 0 and 1
+	 */
+	void update(int index, double reward) {
+		visits[index]++;
+		rewards[index] += reward;
+		totalVisits++;
+	}
+}
@@ -0,0 +1,355 @@
+package SettlersOfCatan;
+
+import java.util.SplittableRandom;
+
+/**
+ * Game position the search AI plays rollouts on, kept apart from the live Board and Player
+ * objects. The position itself is a GameState, whose apply() and legalMoves() are the build
+ * rules; this class adds the rest of a turn as Game plays it: a dice roll (production, or
+ * discards, robber and a steal on 7) followed by at most one build. The game ends when a player
+ * reaches the victory point goal or when the round limit is reached, where the leader wins and
+ * the earliest seat wins ties.
+ * Not thread-safe: every search thread works on its own copies.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+final class MctsState {
+	/** Real resource types (every ResourceType except NULL) */
+	static final int RESOURCES = ResourceType.NULL.ordinal();
+
+	/** Real cards a player may hold through a 7 without discarding */
+	private static final int MAX_HAND = PlayerActions.MAX_RESOURCES_BEFORE_BUILD;
+
+	/** Production tables shared by all copies */
+	final MctsBoard board;
+
+	/** Number of seats */
+	final int seats;
+
+	/** Buildings, hands, pieces, points, robber, seat to move and round */
+	private final GameState position;
+
+	/** Round at which the leader is declared the winner */
+	private final int maxRounds;
+
+	/** Seat that has won, or -1 while the game goes on */
+	private int winner;
+
+	/**
+	 * Wraps a position.
+	 * @param board the production tables
+	 * @param position the position, owned by this state from now on
+	 * @param maxRounds the game's round limit
+	 * @param winner seat that has already won, or -1
+	 */
+	private MctsState(MctsBoard board, GameState position, int maxRounds, int winner) {
+		this.board = board;
+		this.seats = position.getNumPlayers();
+		this.position = position;
+		this.maxRounds = maxRounds;
+		this.winner = winner;
+	}
+
+	/**
+	 * Builds a position from a captured game.
+	 * @param board tables of the board the game is played on
+	 * @param game the captured position; it is not modified
+	 * @param maxRounds the game's round limit
+	 * @return the position
+	 */
+	static MctsState capture(MctsBoard board, GameState game, int maxRounds) {
+		int winner = -1;
+		for (int s = 0; s < game.getNumPlayers() && winner < 0; s++) {
+			if (game.getVictoryPoints(s) >= Game.VICTORY_POINTS_TO_WIN) {
+				winner = s;
+			}
+		}
+		return new MctsState(board, game.copy(), maxRounds, winner);
+	}
+
+	/**
+	 * Creates an independent copy.
+	 * @return the copy
+	 */
+	MctsState copy() {
+		return new MctsState(board, position.copy(), maxRounds, winner);
+	}
+
+	/**
+	 * Gets the seat whose turn it is.
+	 * @return the seat
+	 */
+	int getSeat() {
+		return position.getCurrentPlayer();
+	}
+
+	/**
+	 * Gets the current round.
+	 * @return the round number
+	 */
+	int getRound() {
+		return position.getRoundCount();
+	}
+
+	/**
+	 * Gets a seat's victory points.
+	 * @param s the seat
+	 * @return the points
+	 */
+	int getPoints(int s) {
+		return position.getVictoryPoints(s);
+	}
+
+	/**
+	 * Gets the room a move list needs.
+	 * @return 1 + 2 * nodes + edges
+	 */
+	int maxMoves() {
+		return 1 + 2 * position.getNodeCount() + position.getEdgeCount();
+	}
+
+	/**
+	 * Checks whether the game has been decided, by the point goal or by the round limit.
+	 * @return true once no more turns are played
+	 */
+	boolean isOver() {
+		return winner >= 0 || position.getRoundCount() >= maxRounds;
+	}
+
+	/**
+	 * Gets the winner of a finished game.
+	 * @return the seat that reached the goal, else the leader (earliest seat on ties)
+	 */
+	int getWinner() {
+		return winner >= 0 ? winner : getLeader();
+	}
+
+	/**
+	 * Gets the seat with the most points; the earliest seat wins ties, as in Game.getLeader.
+	 * @return the leading seat
+	 */
+	int getLeader() {
+		int leader = 0;
+		for (int s = 1; s < seats; s++) {
+			if (getPoints(s) > getPoints(leader)) {
+				leader = s;
+			}
+		}
+		return leader;
+	}
+
+	/**
+	 * Lists the current seat's legal moves, PASS first (see GameState.legalMoves).
+	 * @param out receives the moves; needs room for maxMoves() entries
+	 * @return number of moves written
+	 */
+	int legalMoves(int[] out) {
+		return position.legalMoves(out);
+	}
+
+	/**
+	 * Plays a legal move for the current seat; the turn does not end.
+	 * @param move the packed move
+	 */
+	void apply(int move) {
+		position.apply(move);
+		int s = position.getCurrentPlayer();
+		if (winner < 0 && position.getVictoryPoints(s) >= Game.VICTORY_POINTS_TO_WIN) {
+			winner = s;
+		}
+	}
+
+	/**
+	 * Passes play to the next seat, starting a new round after the last one.
+	 */
+	void endTurn() {
+		int next = position.getCurrentPlayer() + 1;
+		if (next == seats) {
+			next = 0;
+			position.setRoundCount(position.getRoundCount() + 1);
+		}
+		position.setCurrentPlayer(next);
+	}
+
+	/**
+	 * Rolls two dice.
+	 * @param random the rollout's random source
+	 * @return the total, 2 to 12
+	 */
+	static int rollDice(SplittableRandom random) {
+		return random.nextInt(6) + random.nextInt(6) + 2;
+	}
+
+	/**
+	 * Resolves a dice total for the current seat: production, or the robber on 7.
+	 * @param total the dice total
+	 * @param random the rollout's random source
+	 */
+	void resolveRoll(int total, SplittableRandom random) {
+		if (total == 7) {
+			resolveRobber(random);
+			return;
+		}
+		int robberTile = position.getRobberTile();
+		for (int tile : board.rollTiles[total]) {
+			if (tile == robberTile) {
+				continue;
+			}
+			ResourceType resource = ResourceType.VALUES[board.tileResource[tile]];
+			for (int node : board.tileNodes[tile]) {
+				int owner = position.getNodeOwner(node);
+				if (owner >= 0) {
+					int amount = position.getBuildingType(node) == BoardState.CITY ? 2 : 1;
+					position.setResourceCount(owner, resource, position.getResourceCount(owner, resource) + amount);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Plays the rest of the current seat's turn with the rule-based policy, then ends it.
+	 * @param moves scratch room for maxMoves() entries
+	 * @param random the rollout's random source
+	 */
+	void playPolicyTurn(int[] moves, SplittableRandom random) {
+		resolveRoll(rollDice(random), random);
+		apply(policyMove(moves, random));
+		endTurn();
+	}
+
+	/**
+	 * Picks the current seat's move the way the rule-based chain mostly does: a settlement or city
+	 * whenever one is affordable (either, at random), otherwise a road, otherwise pass; the location
+	 * is chosen at random. The rarely acting road-connecting and road-defending rules are left out.
+	 * @param moves scratch room for maxMoves() entries
+	 * @param random the rollout's random source
+	 * @return the packed move
+	 */
+	int policyMove(int[] moves, SplittableRandom random) {
+		int count = position.legalMoves(moves);
+		// legalMoves lists PASS, then settlements, cities and roads, each group together
+		int settlements = 0;
+		int cities = 0;
+		for (int i = 1; i < count && Move.type(moves[i]) != ActionType.ROAD; i++) {
+			if (Move.type(moves[i]) == ActionType.SETTLEMENT) {
+				settlements++;
+			} else {
+				cities++;
+			}
+		}
+		if (settlements + cities > 0) {
+			boolean city = settlements == 0 || (cities != 0 && random.nextBoolean());
+			return city
+					? moves[1 + settlements + random.nextInt(cities)]
+					: moves[1 + random.nextInt(settlements)];
+		}
+		return count > 1 ? moves[1 + random.nextInt(count - 1)] : Move.PASS;
+	}
+
+	/**
+	 * Scores the position for a seat between 0 and 1: the result once the game is over,
+	 * otherwise the seat's point margin over the best opponent, mapped around 0.5.
+	 * @param s the seat
+	 * @return the reward
+	 */
+	double reward(int s) {
+		if (isOver()) {
+			return getWinner() == s ? 1.0 : 0.0;
+		}
+		int best = 0;
+		for (int other = 0; other < seats; other++) {
+			if (other != s) {
+				best = Math.max(best, getPoints(other));
+			}
+		}
+		double margin = (getPoints(s) - best) / (2.0 * Game.VICTORY_POINTS_TO_WIN);
+		return Math.max(0.0, Math.min(1.0, 0.5 + margin));
+	}
+
+	/**
+	 * Resolves a 7: players over the hand limit discard at random, the robber moves to another
+	 * random tile and the roller steals a random card from a random player beside it.
+	 */
+	private void resolveRobber(SplittableRandom random) {
+		for (int s = 0; s < seats; s++) {
+			int total = handSize(s);
+			while (total > MAX_HAND) {
+				removeRandomCard(s, total, random);
+				total--;
+			}
+		}
+
+		if (board.tileCount == 0) {
+			return;
+		}
+		int previous = position.getRobberTile();
+		int tile = previous;
+		if (board.tileCount == 1) {
+			tile = 0;
+		} else {
+			while (tile == previous) {
+				tile = random.nextInt(board.tileCount);
+			}
+		}
+		position.setRobberTile(tile);
+
+		int seat = position.getCurrentPlayer();
+		int victimSeats = 0;
+		for (int node : board.tileNodes[tile]) {
+			int owner = position.getNodeOwner(node);
+			if (owner >= 0 && owner != seat) {
+				victimSeats |= 1 << owner;
+			}
+		}
+		if (victimSeats == 0) {
+			return;
+		}
+		int victim = randomBit(victimSeats, random);
+		int cards = handSize(victim);
+		if (cards > 0) {
+			ResourceType stolen = removeRandomCard(victim, cards, random);
+			position.setResourceCount(seat, stolen, position.getResourceCount(seat, stolen) + 1);
+		}
+	}
+
+	/**
+	 * Removes one uniformly chosen card from a seat's hand.
+	 * @return the resource removed
+	 */
+	private ResourceType removeRandomCard(int s, int total, SplittableRandom random) {
+		int pick = random.nextInt(total);
+		for (int r = 0; r < RESOURCES; r++) {
+			ResourceType type = ResourceType.VALUES[r];
+			int have = position.getResourceCount(s, type);
+			pick -= have;
+			if (pick < 0) {
+				position.setResourceCount(s, type, have - 1);
+				return type;
+			}
+		}
+		throw new IllegalStateException("Hand size does not match its cards");
+	}
+
+	/**
+	 * Counts a seat's real resource cards.
+	 */
+	private int handSize(int s) {
+		int total = 0;
+		for (int r = 0; r < RESOURCES; r++) {
+			total += position.getResourceCount(s, ResourceType.VALUES[r]);
+		}
+		return total;
+	}
+
+	/**
+	 * Picks one set bit of a mask uniformly.
+	 * @return the bit's index
+	 */
+	private static int randomBit(int mask, SplittableRandom random) {
+		int skip = random.nextInt(Integer.bitCount(mask));
+		int m = mask;
+		for (int i = 0; i < skip; i++) {
+			m &= m - 1;
+		}
+		return Integer.numberOfTrailingZeros(m);
+	}
+}
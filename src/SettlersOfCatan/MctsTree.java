@@ -0,0 +1,186 @@
+package SettlersOfCatan;
+
+import java.util.SplittableRandom;
+
+/**
+ * One search tree grown by one thread from a shared root position. Each iteration copies the root
+ * (see GameState.copy), walks down the tree choosing the searching seat's moves with UCB1 and
+ * sampling the dice at chance nodes (the other seats play the rule-based policy in between),
+ * adds one node, plays the rest of the game with the policy up to the horizon, and backs the
+ * result up the path. MctsHandler grows several trees at once and adds up their root statistics.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+final class MctsTree {
+	/** Position being searched; shared with other trees and never modified */
+	private final MctsState root;
+
+	/** Position the current iteration plays on */
+	private MctsState scratch;
+
+	/** Seat the search decides for */
+	private final int seat;
+
+	/** Search settings */
+	private final MctsConfig config;
+
+	/** Source of every random choice in this tree */
+	private final SplittableRandom random;
+
+	/** Root decision node */
+	private final MctsNode rootNode = new MctsNode();
+
+	/** Legal moves at the current node */
+	private final int[] moves;
+
+	/** Nodes on the current path */
+	private final MctsNode[] pathNodes;
+
+	/** Move index taken at each node of the current path */
+	private final int[] pathMoves;
+
+	/** Iterations completed */
+	private int rollouts;
+
+	/**
+	 * Creates an empty tree.
+	 * @param root the position to search; the seat to move must have resolved its dice
+	 * @param config search settings
+	 * @param seed seed for this tree's random choices
+	 */
+	MctsTree(MctsState root, MctsConfig config, long seed) {
+		this.root = root;
+		this.seat = root.getSeat();
+		this.config = config;
+		this.random = new SplittableRandom(seed);
+		this.moves = new int[root.maxMoves()];
+		this.pathNodes = new MctsNode[config.getTreeDepth()];
+		this.pathMoves = new int[config.getTreeDepth()];
+	}
+
+	/**
+	 * Runs iterations until either limit is reached. At least one iteration always runs, so a
+	 * thread that starts after the deadline still contributes a result.
+	 * @param maxRollouts iterations to run, 0 for no limit
+	 * @param deadlineNanos System.nanoTime() value to stop at, or Long.MAX_VALUE for none
+	 */
+	void run(int maxRollouts, long deadlineNanos) {
+		boolean timed = deadlineNanos != Long.MAX_VALUE;
+		do {
+			iterate();
+		} while ((maxRollouts == 0 || rollouts < maxRollouts)
+				&& !(timed && System.nanoTime() - deadlineNanos >= 0));
+	}
+
+	/**
+	 * Gets the root node, to read the statistics of the first move.
+	 * @return the root
+	 */
+	MctsNode getRoot() {
+		return rootNode;
+	}
+
+	/**
+	 * Gets the number of iterations run.
+	 * @return rollouts completed
+	 */
+	int getRollouts() {
+		return rollouts;
+	}
+
+	/**
+	 * Runs one selection, expansion, rollout and backup.
+	 */
+	private void iterate() {
+		scratch = root.copy();
+		MctsNode node = rootNode;
+		int depth = 0;
+		boolean awaitingMove = true;
+		while (true) {
+			int count = scratch.legalMoves(moves);
+			int index = select(node, count);
+			boolean expanded = index < 0;
+			if (expanded) {
+				index = node.add(moves[pickUntried(node, count)]);
+			}
+			pathNodes[depth] = node;
+			pathMoves[depth] = index;
+			depth++;
+			scratch.apply(node.getMove(index));
+			scratch.endTurn();
+			awaitingMove = false;
+			if (expanded || depth == pathNodes.length) {
+				break;
+			}
+
+			// The other seats play, then the dice decide which child the next decision belongs to
+			while (!scratch.isOver() && scratch.getSeat() != seat) {
+				scratch.playPolicyTurn(moves, random);
+			}
+			if (scratch.isOver()) {
+				break;
+			}
+			int roll = MctsState.rollDice(random);
+			scratch.resolveRoll(roll, random);
+			awaitingMove = true;
+			node = node.outcome(index, roll);
+		}
+
+		rollout(awaitingMove);
+		double reward = scratch.reward(seat);
+		for (int i = 0; i < depth; i++) {
+			pathNodes[i].update(pathMoves[i], reward);
+		}
+		rollouts++;
+	}
+
+	/**
+	 * Chooses among the legal moves already tried with UCB1.
+	 * @return the chosen index, or -1 if some legal move has not been tried
+	 */
+	private int select(MctsNode node, int count) {
+		int best = -1;
+		double bestScore = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < count; i++) {
+			int index = node.indexOf(moves[i]);
+			if (index < 0) {
+				return -1;
+			}
+			double score = node.ucb(index, config.getExploration());
+			if (score > bestScore) {
+				bestScore = score;
+				best = index;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Picks one of the legal moves not tried yet, uniformly.
+	 * @return its position in the move list
+	 */
+	private int pickUntried(MctsNode node, int count) {
+		int chosen = -1;
+		int seen = 0;
+		for (int i = 0; i < count; i++) {
+			if (node.indexOf(moves[i]) < 0 && random.nextInt(++seen) == 0) {
+				chosen = i;
+			}
+		}
+		return chosen;
+	}
+
+	/**
+	 * Plays the policy from the end of the tree until the game ends or the horizon is reached.
+	 * @param awaitingMove true if the seat to move has rolled but not yet built
+	 */
+	private void rollout(boolean awaitingMove) {
+		int horizon = root.getRound() + config.getHorizonRounds();
+		if (awaitingMove && !scratch.isOver()) {
+			scratch.apply(scratch.policyMove(moves, random));
+			scratch.endTurn();
+		}
+		while (!scratch.isOver() && scratch.getRound() < horizon) {
+			scratch.playPolicyTurn(moves, random);
+		}
+	}
+}
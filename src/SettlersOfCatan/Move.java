@@ -0,0 +1,66 @@
+package SettlersOfCatan;
+
+/**
+ * A build or pass decision packed into an int: the ActionType ordinal above the low byte and the
+ * node or edge ID in it. Used by the search AI so candidate moves can be generated, stored and
+ * compared without allocating.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class Move {
+	/** Bits holding the node or edge ID */
+	private static final int LOCATION_BITS = 8;
+
+	/** Mask of the location bits */
+	private static final int LOCATION_MASK = (1 << LOCATION_BITS) - 1;
+
+	/** Passing the turn; carries no location */
+	public static final int PASS = ActionType.PASS.ordinal() << LOCATION_BITS;
+
+	private Move() {
+		throw new AssertionError("Utility class");
+	}
+
+	/**
+	 * Packs a move.
+	 * @param type the action
+	 * @param location node ID for settlements and cities, edge ID for roads, ignored for PASS
+	 * @return the packed move
+	 * @throws IllegalArgumentException if the location does not fit
+	 */
+	public static int of(ActionType type, int location) {
+		if (type == ActionType.PASS) {
+			return PASS;
+		}
+		if (location < 0 || location > LOCATION_MASK) {
+			throw new IllegalArgumentException("Move location must be between 0 and " + LOCATION_MASK + ". Found: " + location);
+		}
+		return type.ordinal() << LOCATION_BITS | location;
+	}
+
+	/**
+	 * Gets the action of a move.
+	 * @param move the packed move
+	 * @return the action type
+	 */
+	public static ActionType type(int move) {
+		return ActionType.VALUES[move >>> LOCATION_BITS];
+	}
+
+	/**
+	 * Gets the node or edge of a move.
+	 * @param move the packed move
+	 * @return the location, 0 for PASS
+	 */
+	public static int location(int move) {
+		return move & LOCATION_MASK;
+	}
+
+	/**
+	 * Describes a move, e.g. "SETTLEMENT 12" or "PASS".
+	 * @param move the packed move
+	 * @return the description
+	 */
+	public static String toString(int move) {
+		return move == PASS ? "PASS" : type(move) + " " + location(move);
+	}
+}
@@ -18,12 +18,18 @@ public class Node {
 	/** The player who owns the building at the node  */
 	private Player occupyingPlayer;
 
-	/** List of nodes directly connected to the node via edges  */
+	/** Nodes added by hand with addAdjacentNode, or null to read them from the board */
 	private List<Node> adjacentNodes;
 
-	/** List of tiles that touch the node */
+	/** Tiles added by hand with addAdjacentTile, or null to read them from the board */
 	private List<Tile> adjacentTiles;
 
+	/** Board this node belongs to, whose shared layout supplies its neighbours; null if none */
+	private Board board;
+
+	/** Occupancy state of the board this node belongs to, or null if not attached */
+	private BoardState state;
+
 
 	/**
 	 * Constructor for a new node.
@@ -34,10 +40,6 @@ public class Node {
 		this.id = id;
 		this.building = null;
 		this.occupyingPlayer = null;
-		
-		// Initialize adjacency lists
-		this.adjacentNodes = new ArrayList<>();
-		this.adjacentTiles = new ArrayList<>();
 	}
 
 
@@ -65,6 +67,9 @@ public class Node {
 	 */
 	public void setBuilding(Building building){
 		this.building = building;
+		if (state != null) {
+			state.updateNode(id, building);
+		}
 	}
 
 	/**
@@ -84,40 +89,91 @@ public class Node {
 	}
 
 	/**
-	 * Gets the list of adjacent nodes.
+	 * Gets the list of adjacent nodes: the ones added by hand, otherwise the board's
+	 * neighbours of this node (read from the shared layout, so nodes store no lists).
+	 * Board-backed nodes build a new list per call; hot paths use Board.getNeighbourNodeIds.
 	 * @return List of nodes connected via edges
 	 */
 	public List<Node> getAdjacentNodes() {
-		return adjacentNodes;
+		if (adjacentNodes != null) {
+			return adjacentNodes;
+		}
+		if (board == null) {
+			return List.of();
+		}
+		int[] ids = board.getNeighbourNodeIds(id);
+		List<Node> neighbours = new ArrayList<>(ids.length);
+		for (int nodeId : ids) {
+			neighbours.add(board.getNode(nodeId));
+		}
+		return neighbours;
 	}
 
 	/**
-	 * Gets the list of adjacent tiles.
+	 * Gets the list of adjacent tiles: the ones added by hand, otherwise the board's tiles
+	 * touching this node. Board-backed nodes build a new list per call; hot paths use
+	 * Board.getNodeTileIds.
 	 * @return List of tiles that touch this node
 	 */
 	public List<Tile> getAdjacentTiles() {
-		return adjacentTiles;
+		if (adjacentTiles != null) {
+			return adjacentTiles;
+		}
+		if (board == null) {
+			return List.of();
+		}
+		int[] ids = board.getNodeTileIds(id);
+		List<Tile> touching = new ArrayList<>(ids.length);
+		for (int tileIndex : ids) {
+			touching.add(board.getTile(tileIndex));
+		}
+		return touching;
 	}
 
+	/**
+	 * Records the board this node belongs to (called by Board when nodes are set).
+	 * @param board the board
+	 */
+	void attachBoard(Board board) {
+		this.board = board;
+	}
 
 
+
+	/**
+	 * Attaches this node to a board's occupancy state so building changes are mirrored there.
+	 * @param state the board state
+	 */
+	void attachState(BoardState state){
+		this.state = state;
+		state.updateNode(id, building);
+	}
+
 	// GAME LOGIC METHODS
 
 	/**
-	 * Adds an adjacent node to this node's adjacency list.
+	 * Adds an adjacent node to this node's own adjacency list, for nodes built by hand.
+	 * Once a node has its own list, it is used instead of the board's layout.
 	 * @param node The adjacent node to add
 	 */
 	public void addAdjacentNode(Node node){
+		if (adjacentNodes == null) {
+			adjacentNodes = new ArrayList<>(3);
+		}
 		if(node != null && !adjacentNodes.contains(node)){
 			adjacentNodes.add(node);
 		}
 	}
 
 	/**
-	 * Adds an adjacent tile to this node's tile list.
+	 * Adds an adjacent tile to this node's own tile list, for nodes built by hand.
+	 * Once a node has its own list, it is used instead of the board's layout.
 	 * @param tile The adjacent tile to add
 	 */
 	public void addAdjacentTile(Tile tile){
+		if (adjacentTiles == null) {
+			adjacentTiles = new ArrayList<>(3);
+		}
 		if(tile != null && !adjacentTiles.contains(tile)){
 			adjacentTiles.add(tile);
 		}
@@ -128,13 +184,27 @@ public class Node {
 	 * @return true if building can be placed, false otherwise
 	 */
 	public boolean canPlaceBuilding() {
+		// On a board with bitboards the distance rule is a single mask test
+		if (state != null && state.hasBitboards()) {
+			return state.isBuildable(id);
+		}
+
 		// Check if node already has a building
 		if (building != null){
 			return false;
 		}
 
-		// Check distance rule: no adjacent nodes can have buildings
-		for (Node adjacent : adjacentNodes) {
+		// Check distance rule: no adjacent nodes can have buildings.
+		// Board-backed nodes read their neighbours' ids from the layout instead of building a list
+		if (adjacentNodes == null && board != null) {
+			for (int nodeId : board.getNeighbourNodeIds(id)) {
+				if (board.getNode(nodeId).getBuilding() != null) {
+					return false;
+				}
+			}
+			return true;
+		}
+		for (Node adjacent : getAdjacentNodes()) {
 			if (adjacent.getBuilding() != null) {
 				return false;
 			}
@@ -1,8 +1,5 @@
 package SettlersOfCatan;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 import java.util.Random;
 
 /**
@@ -29,17 +26,11 @@ public class OverHandSizeHandler extends ActionHandler {
 	 */
 	@Override
 	public void handleTurn(Player player, PlayerActions actions, int roundCount) {
-		int realCards = 0;
-		for (Map.Entry<ResourceType, Integer> entry : player.getResources().entrySet()) {
-			if (entry.getKey() == ResourceType.NULL) {
-				continue;
-			}
-			realCards += entry.getValue();
-		}
+		int realCards = player.getTotalResourceCount() - player.getResourceCount(ResourceType.NULL);
 
 		if (realCards > 7) {
-			List<String> available = actions.getAvailableActions(player, true);
-			String chosen = chooseBestNonPass(available);
+			int available = actions.getAvailableActions(player, true);
+			ActionType chosen = chooseBestNonPass(available);
 			if (chosen != null) {
 				execute(chosen, player, actions, roundCount);
 				return;
@@ -51,46 +42,50 @@ public class OverHandSizeHandler extends ActionHandler {
 		}
 	}
 
-	private String chooseBestNonPass(List<String> available) {
+	private ActionType chooseBestNonPass(int available) {
 		double bestScore = Double.NEGATIVE_INFINITY;
-		List<String> best = new ArrayList<>();
-		for (String action : available) {
-			if ("PASS".equals(action)) {
-				continue;
-			}
+		int best = ActionMask.NONE;
+		for (int m = ActionMask.without(available, ActionType.PASS); m != 0; m &= m - 1) {
+			ActionType action = ActionMask.first(m);
 			double score = score(action);
 			if (score > bestScore) {
 				bestScore = score;
-				best.clear();
-				best.add(action);
+				best = ActionMask.bit(action);
 			} else if (score == bestScore) {
-				best.add(action);
+				best = ActionMask.with(best, action);
 			}
 		}
-		if (best.isEmpty()) {
+		if (ActionMask.isEmpty(best)) {
 			return null;
 		}
-		return best.get(random.nextInt(best.size()));
+		return ActionMask.get(best, random.nextInt(ActionMask.size(best)));
 	}
 
-	private double score(String action) {
-		if ("SETTLEMENT".equals(action) || "CITY".equals(action)) {
-			return 1.0;
+	private double score(ActionType action) {
+		switch (action) {
+			case SETTLEMENT:
+			case CITY:
+				return 1.0;
+			case ROAD:
+				return 0.8;
+			default:
+				return 0.0;
 		}
-		if ("ROAD".equals(action)) {
-			return 0.8;
-		}
-		return 0.0;
 	}
 
-	private void execute(String action, Player player, PlayerActions actions, int roundCount) {
-		if ("SETTLEMENT".equals(action)) {
-			actions.buildSettlement(player, roundCount);
-		} else if ("CITY".equals(action)) {
-			actions.buildCity(player, roundCount);
-		} else if ("ROAD".equals(action)) {
-			actions.buildRoad(player, roundCount);
+	private void execute(ActionType action, Player player, PlayerActions actions, int roundCount) {
+		switch (action) {
+			case SETTLEMENT:
+				actions.buildSettlement(player, roundCount);
+				break;
+			case CITY:
+				actions.buildCity(player, roundCount);
+				break;
+			case ROAD:
+				actions.buildRoad(player, roundCount);
+				break;
+			default:
+				break;
 		}
 	}
 }
-
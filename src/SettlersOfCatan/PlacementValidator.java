@@ -111,5 +111,13 @@ public class PlacementValidator implements IPlacementValidator {
 		return true;
 
 	}
-}
 
+	/**
+	 * These are exactly the standard board rules, so tracked candidate sets may stand in for them.
+	 * @return true
+	 */
+	@Override
+	public boolean usesStandardRules() {
+		return true;
+	}
+}
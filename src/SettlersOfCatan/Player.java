@@ -1,28 +1,51 @@
 package SettlersOfCatan;
 
-import java.util.ArrayList;
-import java.util.EnumMap;
-import java.util.List;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * Represents a player in the Settlers of Catan game.
  * Manages player resources, buildings, and victory points.
+ * The hand and the remaining pieces are plain int arrays indexed by enum ordinal, with a
+ * running card total, so the hot add/remove paths never box. Map views are built on demand
+ * for existing callers and write through to the arrays.
  * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
  */
 public class Player {
 	/** The player's color (RED, BLUE, WHITE, ORANGE) */
 	private PlayerColor color;
 	
-	/** Map of resource types to quantities owned by this player */
-	private Map<ResourceType, Integer> resources;
+	/** Resource card counts, indexed by ResourceType ordinal */
+	private final int[] resources = new int[ResourceType.VALUES.length];
+
+	/** Running total of all resource cards in the hand */
+	private int totalResources;
 	
-	/** Map of building types to remaining pieces available */
-	private Map<BuildingType, Integer> buildings;
+	/** Remaining pieces, indexed by BuildingType ordinal */
+	private final int[] pieces = new int[BuildingType.VALUES.length];
+
+	/** Write-through map view of the hand, created on first use */
+	private Map<ResourceType, Integer> resourceView;
+
+	/** Write-through map view of the remaining pieces, created on first use */
+	private Map<BuildingType, Integer> buildingView;
 	
 	/** Current victory points earned by this player */
 	private int victoryPoints;
 
+	/** Road pieces each player starts with */
+	public static final int STARTING_ROADS = 15;
+
+	/** Settlement pieces each player starts with */
+	public static final int STARTING_SETTLEMENTS = 5;
+
+	/** City pieces each player starts with */
+	public static final int STARTING_CITIES = 4;
+
 	/**
 	 * Constructor for a new player.
 	 * @param color The player's assigned color
@@ -32,19 +55,10 @@ public class Player {
 		this.color = color;
 		this.victoryPoints = 0;
 		
-		// Initialize resource and building maps
-		resources = new EnumMap<ResourceType, Integer>(ResourceType.class);
-		buildings = new EnumMap<BuildingType, Integer>(BuildingType.class);
-		
-		// Set all resources to zero initially
-		for (int i = 0; i<ResourceType.values().length; i++){
-			resources.put(ResourceType.values()[i], 0);
-		}
-		
-		// Initialize building counts (starting pieces)
-		buildings.put(BuildingType.ROAD, 15);
-		buildings.put(BuildingType.SETTLEMENT, 5);
-		buildings.put(BuildingType.CITY, 4);
+		// Resources start at zero; initialize building counts (starting pieces)
+		pieces[BuildingType.ROAD.ordinal()] = STARTING_ROADS;
+		pieces[BuildingType.SETTLEMENT.ordinal()] = STARTING_SETTLEMENTS;
+		pieces[BuildingType.CITY.ordinal()] = STARTING_CITIES;
 	}
 
 	/**
@@ -52,14 +66,22 @@ public class Player {
 	 * @param res The type of resource to add
 	 */
 	public void addResource(ResourceType res) {
+		addResource(res, 1);
+	}
+
+	/**
+	 * Adds several resource cards of the specified type to the player's hand.
+	 * @param res The type of resource to add
+	 * @param amount The number of cards to add
+	 */
+	public void addResource(ResourceType res, int amount) {
 		// Ignore NULL resources
 		if (res == ResourceType.NULL){
 			return;
 		}
 
-		// Get current count and increment
-		int current = resources.get(res);
-		resources.put(res, current + 1);
+		resources[res.ordinal()] += amount;
+		totalResources += amount;
 	}
 
 	/**
@@ -69,19 +91,36 @@ public class Player {
 	 * @return true if player had enough resources and removal succeeded, false otherwise
 	 */
 	public boolean removeResource(ResourceType res, int amount) {
-		// Get current resource count
-		int current = resources.get(res);
-
 		// Check if player has enough resources
-		if ((current - amount) < 0){
+		int index = res.ordinal();
+		if ((resources[index] - amount) < 0){
 			return false;
 		}
 
 		// Deduct resources
-		resources.put(res, current - amount);
+		resources[index] -= amount;
+		totalResources -= amount;
 		return true;
 	}
 
+	/**
+	 * Gets the number of cards of one resource type in the hand.
+	 * @param res The resource type
+	 * @return card count
+	 */
+	public int getResourceCount(ResourceType res) {
+		return resources[res.ordinal()];
+	}
+
+	/**
+	 * Gets the number of remaining pieces of one building type.
+	 * @param type The building type
+	 * @return pieces left
+	 */
+	public int getPieceCount(BuildingType type) {
+		return pieces[type.ordinal()];
+	}
+
 	/**
 	 * Checks if player can afford a given cost map.
 	 * @param cost map of resource types to required amounts
@@ -90,7 +129,7 @@ public class Player {
 	public boolean canAfford(Map<ResourceType, Integer> cost) {
 
 		for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
-			if (resources.get(entry.getKey()) < entry.getValue()) {
+			if (resources[entry.getKey().ordinal()] < entry.getValue()) {
 				return false;
 			}
 		}
@@ -99,14 +138,59 @@ public class Player {
 
 	}
 
+	/**
+	 * Checks if player can afford a packed cost vector (see Bank) without allocating.
+	 * @param costVector packed cost, one 8-bit count per resource ordinal
+	 * @return true if player has enough of each resource
+	 */
+	public boolean canAfford(long costVector) {
+		for (int i = 0; i < resources.length; i++) {
+			if (resources[i] < Bank.amount(costVector, ResourceType.VALUES[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Removes a packed cost vector from the hand if the player can afford it.
+	 * @param costVector packed cost, one 8-bit count per resource ordinal
+	 * @return true if the cost was paid, false (hand unchanged) otherwise
+	 */
+	public boolean pay(long costVector) {
+		if (!canAfford(costVector)) {
+			return false;
+		}
+		for (int i = 0; i < resources.length; i++) {
+			int amount = Bank.amount(costVector, ResourceType.VALUES[i]);
+			resources[i] -= amount;
+			totalResources -= amount;
+		}
+		return true;
+	}
+
+	/**
+	 * Adds a packed cost vector to the hand (refunds for undo).
+	 * @param costVector packed cost, one 8-bit count per resource ordinal
+	 */
+	public void receive(long costVector) {
+		for (int i = 0; i < resources.length; i++) {
+			if (i == ResourceType.NULL.ordinal()) {
+				continue;
+			}
+			int amount = Bank.amount(costVector, ResourceType.VALUES[i]);
+			resources[i] += amount;
+			totalResources += amount;
+		}
+	}
+
 	/**
 	 * Convenience method: checks if player can build a road.
 	 * @return true if player can afford road cost and has road pieces
 	 */
 	public boolean canBuildRoad() {
 
-		Map<ResourceType, Integer> roadCost = Bank.getRoadCost();
-		return canAfford(roadCost) && buildings.get(BuildingType.ROAD) > 0;
+		return canAfford(Bank.ROAD_COST_VECTOR) && pieces[BuildingType.ROAD.ordinal()] > 0;
 
 	}
 
@@ -116,8 +200,7 @@ public class Player {
 	 */
 	public boolean canBuildSettlement() {
 
-		Map<ResourceType, Integer> settlementCost = Bank.getSettlementCost();
-		return canAfford(settlementCost) && buildings.get(BuildingType.SETTLEMENT) > 0;
+		return canAfford(Bank.SETTLEMENT_COST_VECTOR) && pieces[BuildingType.SETTLEMENT.ordinal()] > 0;
 
 	}
 
@@ -127,8 +210,7 @@ public class Player {
 	 */
 	public boolean canBuildCity() {
 
-		Map<ResourceType, Integer> cityCost = Bank.getCityCost();
-		return canAfford(cityCost) && buildings.get(BuildingType.CITY) > 0;
+		return canAfford(Bank.CITY_COST_VECTOR) && pieces[BuildingType.CITY.ordinal()] > 0;
 
 	}
 
@@ -136,10 +218,7 @@ public class Player {
 	 * Uses one road piece without paying resources (for initial setup).
 	 */
 	public void useRoadPiece() {
-		buildings.put(
-			BuildingType.ROAD,
-			buildings.get(BuildingType.ROAD) - 1
-		);
+		pieces[BuildingType.ROAD.ordinal()]--;
 	}
 
 	/**
@@ -154,50 +233,53 @@ public class Player {
 	 * Uses one settlement piece without paying resources (for initial setup).
 	 */
 	public void useSettlementPiece() {
-		buildings.put(
-			BuildingType.SETTLEMENT,
-			buildings.get(BuildingType.SETTLEMENT) - 1
-		);
+		pieces[BuildingType.SETTLEMENT.ordinal()]--;
 	}
 
 	/**
 	 * Uses one city piece.
 	 */
 	public void useCityPiece() {
-		buildings.put(
-			BuildingType.CITY,
-			buildings.get(BuildingType.CITY) - 1
-		);
+		pieces[BuildingType.CITY.ordinal()]--;
 	}
 
 	/**
 	 * Restores one settlement piece to the player's available inventory (for undo).
 	 */
 	public void restoreSettlementPiece() {
-		buildings.put(
-			BuildingType.SETTLEMENT,
-			buildings.get(BuildingType.SETTLEMENT) + 1
-		);
+		pieces[BuildingType.SETTLEMENT.ordinal()]++;
 	}
 
 	/**
 	 * Restores one city piece to the player's available inventory (for undo).
 	 */
 	public void restoreCityPiece() {
-		buildings.put(
-			BuildingType.CITY,
-			buildings.get(BuildingType.CITY) + 1
-		);
+		pieces[BuildingType.CITY.ordinal()]++;
 	}
 
 	/**
 	 * Restores one road piece to the player's available inventory (for undo).
 	 */
 	public void restoreRoadPiece() {
-		buildings.put(
-			BuildingType.ROAD,
-			buildings.get(BuildingType.ROAD) + 1
-		);
+		pieces[BuildingType.ROAD.ordinal()]++;
+	}
+
+	/**
+	 * Overwrites the hand, remaining pieces and victory points with a seat's values from a
+	 * snapshot (used when resuming a checkpoint).
+	 * @param state the snapshot
+	 * @param seat the seat to copy
+	 */
+	void restore(GameState state, int seat) {
+		totalResources = 0;
+		for (ResourceType type : ResourceType.VALUES) {
+			resources[type.ordinal()] = state.getResourceCount(seat, type);
+			totalResources += resources[type.ordinal()];
+		}
+		for (BuildingType type : BuildingType.VALUES) {
+			pieces[type.ordinal()] = state.getPieceCount(seat, type);
+		}
+		victoryPoints = state.getVictoryPoints(seat);
 	}
 
 	/**
@@ -218,18 +300,26 @@ public class Player {
 
 	/**
 	 * Gets the buildings map (for checking available pieces).
+	 * The map is a view: changes through it update the player.
 	 * @return the buildings map
 	 */
 	public Map<BuildingType, Integer> getBuildings() {
-		return buildings;
+		if (buildingView == null) {
+			buildingView = new CountView<>(BuildingType.VALUES, pieces, false);
+		}
+		return buildingView;
 	}
 
 	/**
 	 * Gets the resources map.
+	 * The map is a view: changes through it update the player's hand and total.
 	 * @return the resources map
 	 */
 	public Map<ResourceType, Integer> getResources() {
-		return resources;
+		if (resourceView == null) {
+			resourceView = new CountView<>(ResourceType.VALUES, resources, true);
+		}
+		return resourceView;
 	}
 
 	/**
@@ -237,10 +327,118 @@ public class Player {
 	 * @return total number of resource cards
 	 */
 	public int getTotalResourceCount() {
-		int total = 0;
-		for (Integer count : resources.values()) {
-			total += count;
+		return totalResources;
+	}
+
+	/**
+	 * Gets the number of pieces (roads, settlements and cities) this player has placed,
+	 * including setup placements.
+	 * @return total pieces taken from the starting inventory
+	 */
+	public int getBuildCount() {
+		return (STARTING_ROADS - pieces[BuildingType.ROAD.ordinal()])
+				+ (STARTING_SETTLEMENTS - pieces[BuildingType.SETTLEMENT.ordinal()])
+				+ (STARTING_CITIES - pieces[BuildingType.CITY.ordinal()]);
+	}
+
+	/**
+	 * Map view over one of the count arrays, with every enum constant always present
+	 * (like the EnumMap it replaces) and iteration in ordinal order.
+	 * @param <K> the enum key type
+	 */
+	private final class CountView<K extends Enum<K>> extends AbstractMap<K, Integer> {
+		/** Keys by ordinal */
+		private final K[] keys;
+
+		/** Backing counts by ordinal */
+		private final int[] counts;
+
+		/** Whether writes must keep the resource total in step */
+		private final boolean tracksTotal;
+
+		/** Entry set view, created with the map */
+		private final Set<Map.Entry<K, Integer>> entries = new AbstractSet<>() {
+			@Override
+			public Iterator<Map.Entry<K, Integer>> iterator() {
+				return new Iterator<>() {
+					private int next = 0;
+
+					@Override
+					public boolean hasNext() {
+						return next < keys.length;
+					}
+
+					@Override
+					public Map.Entry<K, Integer> next() {
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+						K key = keys[next++];
+						return new AbstractMap.SimpleEntry<>(key, counts[key.ordinal()]) {
+							@Override
+							public Integer setValue(Integer value) {
+								super.setValue(value);
+								return put(key, value);
+							}
+						};
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return keys.length;
+			}
+		};
+
+		/**
+		 * Creates a view.
+		 * @param keys enum constants by ordinal
+		 * @param counts backing array
+		 * @param tracksTotal true for the resource hand
+		 */
+		CountView(K[] keys, int[] counts, boolean tracksTotal) {
+			this.keys = keys;
+			this.counts = counts;
+			this.tracksTotal = tracksTotal;
+		}
+
+		@Override
+		public Integer get(Object key) {
+			return owns(key) ? counts[((Enum<?>) key).ordinal()] : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return owns(key);
+		}
+
+		@Override
+		public Integer put(K key, Integer value) {
+			int index = key.ordinal();
+			int previous = counts[index];
+			counts[index] = value;
+			if (tracksTotal) {
+				totalResources += value - previous;
+			}
+			return previous;
+		}
+
+		@Override
+		public int size() {
+			return keys.length;
+		}
+
+		@Override
+		public Set<Map.Entry<K, Integer>> entrySet() {
+			return entries;
+		}
+
+		/**
+		 * Checks whether a key is one of this view's enum constants.
+		 */
+		private boolean owns(Object key) {
+			return key instanceof Enum<?> && ((Enum<?>) key).getDeclaringClass() == keys[0].getDeclaringClass();
 		}
-		return total;
 	}
 }
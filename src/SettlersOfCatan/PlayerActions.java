@@ -1,6 +1,5 @@
 package SettlersOfCatan;
 
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -18,9 +17,6 @@ public class PlayerActions {
 	/** Maximum resources a player can have before being forced to build */
 	static final int MAX_RESOURCES_BEFORE_BUILD = 7;
 
-	/** Path to visualizer state JSON (roads and buildings). */
-	private static final String VISUALIZER_STATE_PATH = "src/SettlersOfCatan/visualize/state.json";
-
 	/** The game board containing tiles, nodes, and edges */
 	protected Board board;
 
@@ -36,6 +32,18 @@ public class PlayerActions {
 	/** Random number generator for AI player decisions */
 	private Random random;
 
+	/** Destination for build and placement output (console by default) */
+	protected GameLog log = GameLog.console();
+
+	/** Background writer state.json is handed to after every placement; null disables writes */
+	private CoalescingFileWriter visualizerWriter;
+
+	/** Game these actions belong to, carried by JFR events */
+	private long gameId;
+
+	/** Log successful placements are appended to for replay; null disables recording */
+	private DecisionLog decisionLog;
+
 	/**
 	 * Constructor with dependency injection.
 	 * @param board The game board
@@ -53,14 +61,90 @@ public class PlayerActions {
 	}
 
 	/**
-	 * Writes current roads and buildings to state.json for the visualizer (R2.3).
-	 * Swallows IOException so a failed write does not stop the game.
+	 * Sets the log used for build and placement output.
+	 * @param log destination log (e.g. the console, or a disabled log when headless)
+	 */
+	public void setLog(GameLog log) {
+		this.log = log;
+	}
+
+	/**
+	 * Gets the log used for build and placement output.
+	 * AI handlers write through this so headless games stay silent.
+	 * @return the game log
+	 */
+	public GameLog getLog() {
+		return log;
+	}
+
+	/**
+	 * Sets the writer visualizer state is handed to. Games running side by side must use
+	 * writers for different files (or null) so they do not overwrite each other's state.
+	 * @param writer background state.json writer, or null to skip writes (headless simulation)
+	 */
+	public void setVisualizerWriter(CoalescingFileWriter writer) {
+		this.visualizerWriter = writer;
+	}
+
+	/**
+	 * Sets the log successful placements and undos are recorded in.
+	 * @param log the game's decision log, or null to stop recording
+	 */
+	void setDecisionLog(DecisionLog log) {
+		this.decisionLog = log;
+	}
+
+	/**
+	 * Sets the game id carried by placement and visualizer JFR events.
+	 * @param gameId id of the owning game
+	 */
+	void setGameId(long gameId) {
+		this.gameId = gameId;
+	}
+
+	/**
+	 * Commits a placement event begun at the start of a place method.
+	 */
+	private void commitPlacement(JfrPlacementEvent event, Player player, String piece, int locationId, boolean setup) {
+		if (event.shouldCommit()) {
+			event.gameId = gameId;
+			event.seat = BoardState.seatOf(player);
+			event.piece = piece;
+			event.locationId = locationId;
+			event.setup = setup;
+			event.commit();
+		}
+	}
+
+	/**
+	 * Records an event for a player's seat when a decision log is attached.
+	 * @param kind DecisionLog event kind
+	 * @param player the acting player
+	 * @param argument node, edge or other kind-specific argument
+	 */
+	void logDecision(int kind, Player player, int argument) {
+		if (decisionLog != null) {
+			decisionLog.record(kind, BoardState.seatOf(player), argument);
+		}
+	}
+
+	/**
+	 * Hands current roads and buildings to the visualizer writer (R2.3).
+	 * Only the JSON snapshot is built here; the file is written on the writer's thread.
+	 * Does nothing when visualizer output is disabled.
 	 */
 	protected void refreshVisualizerState() {
-		try {
-			JsonWriter.writeState(board, VISUALIZER_STATE_PATH);
-		} catch (IOException e) {
-			System.err.println("Failed to write state.json: " + e.getMessage());
+		if (visualizerWriter == null) {
+			return;
+		}
+		JfrVisualizerWriteEvent event = new JfrVisualizerWriteEvent();
+		event.begin();
+		String json = JsonWriter.buildStateJson(board);
+		visualizerWriter.submit(json);
+		if (event.shouldCommit()) {
+			event.gameId = gameId;
+			event.bytes = json.length();
+			event.commit();
 		}
 	}
 
@@ -72,6 +156,9 @@ public class PlayerActions {
 	 * @return true if placement succeeded, false otherwise
 	 */
 	public boolean placeSettlementSetup(Node node, Player player) {
+		JfrPlacementEvent event = new JfrPlacementEvent();
+		event.begin();
+
 		// 1. Validate placement rules
 		if (!validator.canPlaceSettlement(node, player, true)) {
 			return false;
@@ -89,6 +176,8 @@ public class PlayerActions {
 		// 4. Add victory point
 		player.addVictoryPoint(1);
 
+		logDecision(DecisionLog.SETUP_SETTLEMENT, player, node.getId());
+		commitPlacement(event, player, "settlement", node.getId(), true);
 		refreshVisualizerState();
 		return true;
 	}
@@ -101,20 +190,21 @@ public class PlayerActions {
 	 * @return true if placement succeeded, false otherwise
 	 */
 	public boolean placeSettlement(Node node, Player player) {
+		JfrPlacementEvent event = new JfrPlacementEvent();
+		event.begin();
+
 		// 1. Validate placement rules
 		if (!validator.canPlaceSettlement(node, player, false)) {
 			return false;
 		}
 
 		// Check road connectivity (normal play requirement)
-		boolean hasRoadConnection = false;
-		for (Edge edge : board.getEdges()) {
-			if (edge != null && edge.touches(node) && edge.getRoad() != null && edge.getRoad().getOwner() == player) {
-				hasRoadConnection = true;
-				break;
+		LegalMoveTracker moves = getLegalMoves();
+		if (moves != null && board.getNode(node.getId()) == node) {
+			if (!moves.isLegalSettlement(BoardState.seatOf(player), node.getId())) {
+				return false;
 			}
-		}
-		if (!hasRoadConnection) {
+		} else if (!hasRoadToNode(node.getId(), player)) {
 			return false;
 		}
 
@@ -127,6 +217,8 @@ public class PlayerActions {
 		node.setBuilding(new Settlement(player));
 		node.setOccupyingPlayer(player);
 
+		logDecision(DecisionLog.SETTLEMENT, player, node.getId());
+		commitPlacement(event, player, "settlement", node.getId(), false);
 		refreshVisualizerState();
 		return true;
 	}
@@ -139,6 +231,9 @@ public class PlayerActions {
 	 * @return true if placement succeeded, false otherwise
 	 */
 	public boolean placeCity(Node node, Player player) {
+		JfrPlacementEvent event = new JfrPlacementEvent();
+		event.begin();
+
 		// 1. Validate placement rules
 		if (!validator.canPlaceCity(node, player)) {
 			return false;
@@ -153,6 +248,8 @@ public class PlayerActions {
 		node.setBuilding(new City(player));
 		node.setOccupyingPlayer(player);
 
+		logDecision(DecisionLog.CITY, player, node.getId());
+		commitPlacement(event, player, "city", node.getId(), false);
 		refreshVisualizerState();
 		return true;
 	}
@@ -165,6 +262,9 @@ public class PlayerActions {
 	 * @return true if placement succeeded, false otherwise
 	 */
 	public boolean placeRoadSetup(Edge edge, Player player) {
+		JfrPlacementEvent event = new JfrPlacementEvent();
+		event.begin();
+
 		// 1. Validate placement rules
 		if (!validator.canPlaceRoad(edge, player, true)) {
 			return false;
@@ -178,6 +278,8 @@ public class PlayerActions {
 		// 3. Update edge state
 		edge.setRoad(new Road(player, edge));
 
+		logDecision(DecisionLog.SETUP_ROAD, player, edge.getId());
+		commitPlacement(event, player, "road", edge.getId(), true);
 		refreshVisualizerState();
 		return true;
 	}
@@ -190,30 +292,31 @@ public class PlayerActions {
 	 * @return true if placement succeeded, false otherwise
 	 */
 	public boolean placeRoad(Edge edge, Player player) {
+		JfrPlacementEvent event = new JfrPlacementEvent();
+		event.begin();
+
 		// 1. Validate placement rules
 		if (!validator.canPlaceRoad(edge, player, false)) {
 			return false;
 		}
 
 		// Check connectivity (must be adjacent to player's building or road)
-		Node nodeA = edge.getNodeA();
-		Node nodeB = edge.getNodeB();
-		boolean adjacentToBuilding = (nodeA.isOccupied() && nodeA.getOccupyingPlayer() == player) ||
-									(nodeB.isOccupied() && nodeB.getOccupyingPlayer() == player);
-
-		boolean adjacentToRoad = false;
-		for (Edge otherEdge : board.getEdges()) {
-			if (otherEdge != null && otherEdge != edge && otherEdge.getRoad() != null &&
-				otherEdge.getRoad().getOwner() == player) {
-				if (edge.touches(otherEdge.getNodeA()) || edge.touches(otherEdge.getNodeB())) {
-					adjacentToRoad = true;
-					break;
-				}
+		LegalMoveTracker moves = getLegalMoves();
+		if (moves != null && board.getEdge(edge.getId()) == edge) {
+			if (!moves.isLegalRoad(BoardState.seatOf(player), edge.getId())) {
+				return false;
 			}
-		}
+		} else {
+			Node nodeA = edge.getNodeA();
+			Node nodeB = edge.getNodeB();
+			boolean adjacentToBuilding = (nodeA.isOccupied() && nodeA.getOccupyingPlayer() == player) ||
+										(nodeB.isOccupied() && nodeB.getOccupyingPlayer() == player);
 
-		if (!adjacentToBuilding && !adjacentToRoad) {
-			return false;
+			boolean adjacentToRoad = isAdjacentToOwnRoad(edge, player);
+
+			if (!adjacentToBuilding && !adjacentToRoad) {
+				return false;
+			}
 		}
 
 		// 2. Pay for road
@@ -224,37 +327,64 @@ public class PlayerActions {
 		// 3. Update edge state
 		edge.setRoad(new Road(player, edge));
 
+		logDecision(DecisionLog.ROAD, player, edge.getId());
+		commitPlacement(event, player, "road", edge.getId(), false);
 		refreshVisualizerState();
 		return true;
 	}
 
 	/**
 	 * Gets available actions for a player based on their resources and board state.
+	 * The set is a plain int with one bit per ActionType ordinal, read and changed through the
+	 * static ActionMask methods; keeping it a primitive means the per-turn decision allocates
+	 * nothing, the same way BoardState hands out long bitboards.
 	 * @param player The player to check actions for
 	 * @param mustBuild Whether the player is forced to build (7+ resources)
-	 * @return List of available action strings
+	 * @return the available actions as an ActionMask bit set
 	 */
-	public List<String> getAvailableActions(Player player, boolean mustBuild) {
-		List<String> actions = new ArrayList<>();
+	public int getAvailableActions(Player player, boolean mustBuild) {
+		int actions = ActionMask.NONE;
+
+		// One pass over the hand answers all three affordability checks
+		int buildable = Bank.getBuildableMask(player);
+
+		// With standard rules the tracked candidate sets answer each check with one mask test
+		LegalMoveTracker moves = getLegalMoves();
+		if (moves != null && validator.usesStandardRules()) {
+			int seat = BoardState.seatOf(player);
+			if ((buildable & Bank.CAN_BUILD_SETTLEMENT) != 0 && moves.hasAnyLegalSettlement(seat)) {
+				actions = ActionMask.with(actions, ActionType.SETTLEMENT);
+			}
+			if ((buildable & Bank.CAN_BUILD_CITY) != 0 && moves.hasAnyLegalCity(seat)) {
+				actions = ActionMask.with(actions, ActionType.CITY);
+			}
+			if ((buildable & Bank.CAN_BUILD_ROAD) != 0 && moves.hasAnyLegalRoad(seat)) {
+				actions = ActionMask.with(actions, ActionType.ROAD);
+			}
+			if (!mustBuild) {
+				actions = ActionMask.with(actions, ActionType.PASS);
+			}
+			return actions;
+		}
 
 		// Check if can build settlement
-		if (player.canBuildSettlement() && !getAvailableSettlementNodesForPlayer(player).isEmpty()) {
-			actions.add("SETTLEMENT");
+		if ((buildable & Bank.CAN_BUILD_SETTLEMENT) != 0 && !getAvailableSettlementNodesForPlayer(player).isEmpty()) {
+			actions = ActionMask.with(actions, ActionType.SETTLEMENT);
 		}
 
 		// Check if can build city
-		if (player.canBuildCity() && !getUpgradeableCityNodes(player).isEmpty()) {
-			actions.add("CITY");
+		if ((buildable & Bank.CAN_BUILD_CITY) != 0 && !getUpgradeableCityNodes(player).isEmpty()) {
+			actions = ActionMask.with(actions, ActionType.CITY);
 		}
 
 		// Check if can build road
-		if (player.canBuildRoad() && !getAvailableRoadEdgesForPlayer(player).isEmpty()) {
-			actions.add("ROAD");
+		if ((buildable & Bank.CAN_BUILD_ROAD) != 0 && !getAvailableRoadEdgesForPlayer(player).isEmpty()) {
+			actions = ActionMask.with(actions, ActionType.ROAD);
 		}
 
 		// Can pass only if not forced to build
 		if (!mustBuild) {
-			actions.add("PASS");
+			actions = ActionMask.with(actions, ActionType.PASS);
 		}
 
 		return actions;
@@ -269,7 +399,9 @@ public class PlayerActions {
 		List<Integer> availableNodes = getAvailableSettlementNodesForPlayer(player);
 
 		if (availableNodes.isEmpty()) {
-			System.out.println(player.getColor() + " - Cannot build settlement (no valid locations)");
+			if (log.isEnabled(LogCategory.BUILD)) {
+				log.info(LogCategory.BUILD, player.getColor() + " - Cannot build settlement (no valid locations)");
+			}
 			return;
 		}
 
@@ -278,9 +410,13 @@ public class PlayerActions {
 		Node node = board.getNode(nodeId);
 
 		if (node != null && placeSettlement(node, player)) {
-			System.out.println(roundCount + " / " + player.getColor() + ": Built settlement on node " + nodeId);
+			if (log.isEnabled(LogCategory.BUILD)) {
+				log.info(LogCategory.BUILD, roundCount + " / " + player.getColor() + ": Built settlement on node " + nodeId);
+			}
 		} else {
-			System.out.println(roundCount + " / " + player.getColor() + ": Failed to build settlement");
+			if (log.isEnabled(LogCategory.BUILD)) {
+				log.info(LogCategory.BUILD, roundCount + " / " + player.getColor() + ": Failed to build settlement");
+			}
 		}
 	}
 
@@ -293,7 +429,9 @@ public class PlayerActions {
 		List<Integer> upgradeableNodes = getUpgradeableCityNodes(player);
 
 		if (upgradeableNodes.isEmpty()) {
-			System.out.println(player.getColor() + " - Cannot build city (no settlements to upgrade)");
+			if (log.isEnabled(LogCategory.BUILD)) {
+				log.info(LogCategory.BUILD, player.getColor() + " - Cannot build city (no settlements to upgrade)");
+			}
 			return;
 		}
 
@@ -302,9 +440,13 @@ public class PlayerActions {
 		Node node = board.getNode(nodeId);
 
 		if (node != null && placeCity(node, player)) {
-			System.out.println(roundCount + " / " + player.getColor() + ": Built city on node " + nodeId);
+			if (log.isEnabled(LogCategory.BUILD)) {
+				log.info(LogCategory.BUILD, roundCount + " / " + player.getColor() + ": Built city on node " + nodeId);
+			}
 		} else {
-			System.out.println(roundCount + " / " + player.getColor() + ": Failed to build city");
+			if (log.isEnabled(LogCategory.BUILD)) {
+				log.info(LogCategory.BUILD, roundCount + " / " + player.getColor() + ": Failed to build city");
+			}
 		}
 	}
 
@@ -317,7 +459,9 @@ public class PlayerActions {
 		List<Edge> availableEdges = getAvailableRoadEdgesForPlayer(player);
 
 		if (availableEdges.isEmpty()) {
-			System.out.println(player.getColor() + " - Cannot build road (no valid locations)");
+			if (log.isEnabled(LogCategory.BUILD)) {
+				log.info(LogCategory.BUILD, player.getColor() + " - Cannot build road (no valid locations)");
+			}
 			return;
 		}
 
@@ -325,9 +469,13 @@ public class PlayerActions {
 		Edge edge = availableEdges.get(random.nextInt(availableEdges.size()));
 
 		if (placeRoad(edge, player)) {
-			System.out.println(roundCount + " / " + player.getColor() + ": Built road on edge " + edge.getId());
+			if (log.isEnabled(LogCategory.BUILD)) {
+				log.info(LogCategory.BUILD, roundCount + " / " + player.getColor() + ": Built road on edge " + edge.getId());
+			}
 		} else {
-			System.out.println(roundCount + " / " + player.getColor() + ": Failed to build road");
+			if (log.isEnabled(LogCategory.BUILD)) {
+				log.info(LogCategory.BUILD, roundCount + " / " + player.getColor() + ": Failed to build road");
+			}
 		}
 	}
 
@@ -366,19 +514,31 @@ public class PlayerActions {
 	public List<Integer> getAvailableSettlementNodesForPlayer(Player player) {
 		List<Integer> available = new ArrayList<>();
 
+		// Affordability does not depend on the node, so check it once up front
+		if (!player.canBuildSettlement()) {
+			return available;
+		}
+
+		// Tracked candidates: nodes passing the distance rule and touched by the player's roads
+		LegalMoveTracker moves = getLegalMoves();
+		if (moves != null) {
+			boolean trusted = validator.usesStandardRules();
+			for (long m = moves.getSettlementCandidates(BoardState.seatOf(player)); m != 0; m &= m - 1) {
+				int i = Long.numberOfTrailingZeros(m);
+				Node node = board.getNode(i);
+				if (node != null && (trusted || validator.canPlaceSettlement(node, player, false))) {
+					available.add(i);
+				}
+			}
+			return available;
+		}
+
 		// Check all nodes on the board
 		for (int i = 0; i < TOTAL_NODES; i++) {
 			Node node = board.getNode(i);
-			if (node != null && validator.canPlaceSettlement(node, player, false) && player.canBuildSettlement()) {
+			if (node != null && validator.canPlaceSettlement(node, player, false)) {
 				// Check if player has a road leading to this node
-				boolean hasRoadConnection = false;
-				for (Edge edge : board.getEdges()) {
-					if (edge != null && edge.touches(node) && edge.getRoad() != null && edge.getRoad().getOwner() == player) {
-						hasRoadConnection = true;
-						break;
-					}
-				}
-				if (hasRoadConnection) {
+				if (hasRoadToNode(i, player)) {
 					available.add(i);
 				}
 			}
@@ -395,10 +555,29 @@ public class PlayerActions {
 	public List<Integer> getUpgradeableCityNodes(Player player) {
 		List<Integer> upgradeable = new ArrayList<>();
 
+		// Affordability does not depend on the node, so check it once up front
+		if (!player.canBuildCity()) {
+			return upgradeable;
+		}
+
+		// Tracked candidates: the player's own settlements
+		LegalMoveTracker moves = getLegalMoves();
+		if (moves != null) {
+			boolean trusted = validator.usesStandardRules();
+			for (long m = moves.getCityCandidates(BoardState.seatOf(player)); m != 0; m &= m - 1) {
+				int i = Long.numberOfTrailingZeros(m);
+				Node node = board.getNode(i);
+				if (node != null && (trusted || validator.canPlaceCity(node, player))) {
+					upgradeable.add(i);
+				}
+			}
+			return upgradeable;
+		}
+
 		// Check all nodes for settlements owned by this player
 		for (int i = 0; i < TOTAL_NODES; i++) {
 			Node node = board.getNode(i);
-			if (node != null && validator.canPlaceCity(node, player) && player.canBuildCity()) {
+			if (node != null && validator.canPlaceCity(node, player)) {
 				upgradeable.add(i);
 			}
 		}
@@ -414,9 +593,24 @@ public class PlayerActions {
 	public List<Edge> getAvailableRoadEdgesForPlayer(Player player) {
 		List<Edge> available = new ArrayList<>();
 
+		// Affordability does not depend on the edge, so check it once up front
+		if (!player.canBuildRoad()) {
+			return available;
+		}
+
+		// Tracked candidates: free edges touching the player's buildings or road endpoints, in edge id order
+		LegalMoveTracker moves = getLegalMoves();
+		if (moves != null) {
+			int seat = BoardState.seatOf(player);
+			addEdges(available, moves.getRoadCandidatesLo(seat), 0);
+			addEdges(available, moves.getRoadCandidatesHi(seat), 64);
+			return available;
+		}
+
 		// Get all edges that can be reached from player's buildings or roads
-		for (Edge edge : board.getEdges()) {
-			if (edge != null && edge.canPlaceRoad() && player.canBuildRoad()) {
+		for (int i = 0; i < board.getEdgeCount(); i++) {
+			Edge edge = board.getEdge(i);
+			if (edge != null && edge.canPlaceRoad()) {
 				Node nodeA = edge.getNodeA();
 				Node nodeB = edge.getNodeB();
 
@@ -425,18 +619,7 @@ public class PlayerActions {
 											(nodeB.isOccupied() && nodeB.getOccupyingPlayer() == player);
 
 				// Check if edge is adjacent to player's road
-				boolean adjacentToRoad = false;
-				for (Edge otherEdge : board.getEdges()) {
-					if (otherEdge != null && otherEdge != edge && otherEdge.getRoad() != null &&
-						otherEdge.getRoad().getOwner() == player) {
-						if (edge.touches(otherEdge.getNodeA()) || edge.touches(otherEdge.getNodeB())) {
-							adjacentToRoad = true;
-							break;
-						}
-					}
-				}
-
-				if (adjacentToBuilding || adjacentToRoad) {
+				if (adjacentToBuilding || isAdjacentToOwnRoad(edge, player)) {
 					available.add(edge);
 				}
 			}
@@ -454,6 +637,14 @@ public class PlayerActions {
 
 		List<Integer> occupied = new ArrayList<>();
 
+		BoardState state = board.getState();
+		if (state.hasBitboards()) {
+			for (long m = state.getBuildingMask(BoardState.seatOf(player)); m != 0; m &= m - 1) {
+				occupied.add(Long.numberOfTrailingZeros(m));
+			}
+			return occupied;
+		}
+
 		for (int i = 0; i < TOTAL_NODES; i++) {
 			Node node = board.getNode(i);
 			if (node != null && node.isOccupied() && node.getOccupyingPlayer() == player) {
@@ -473,27 +664,91 @@ public class PlayerActions {
 	public List<Integer> getAdjacentUnoccupiedNodeIds(int nodeId) {
 
 		List<Integer> adjacent = new ArrayList<>();
-		Node node = board.getNode(nodeId);
-		if (node == null) {
+		if (board.getNode(nodeId) == null) {
 			return adjacent;
 		}
 
-		// Check all edges to find adjacent nodes
-		for (Edge edge : board.getEdges()) {
-			if (edge != null && edge.touches(node)) {
-				Node otherNode = (edge.getNodeA() == node) ? edge.getNodeB() : edge.getNodeA();
+		// Read neighbours from the board's incidence index
+		for (int otherId : board.getNeighbourNodeIds(nodeId)) {
+			Node otherNode = board.getNode(otherId);
 
-				// Only include if not occupied
-				if (!otherNode.isOccupied()) {
-					int otherId = otherNode.getId();
-					if (!adjacent.contains(otherId)) {
-						adjacent.add(otherId);
-					}
-				}
+			// Only include if not occupied
+			if (otherNode != null && !otherNode.isOccupied()) {
+				adjacent.add(otherId);
 			}
 		}
 
 		return adjacent;
 
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Gets the board's legal-move tracker, shared with every other actions object on the board.
+	 * @return the tracker, or null if the board has no bitboards
+	 */
+	public LegalMoveTracker getLegalMoves() {
+		return board == null ? null : board.getLegalMoveTracker();
+	}
+
+	/**
+	 * Adds the edges for each set bit of a candidate mask.
+	 * @param edges list to add to
+	 * @param mask candidate edge bits
+	 * @param offset edge id of bit 0
+	 */
+	private void addEdges(List<Edge> edges, long mask, int offset) {
+		for (long m = mask; m != 0; m &= m - 1) {
+			Edge edge = board.getEdge(offset + Long.numberOfTrailingZeros(m));
+			if (edge != null) {
+				edges.add(edge);
+			}
+		}
+	}
+
+	/**
+	 * Checks whether the player owns a road on any edge touching the node.
+	 * @param nodeId the node to check
+	 * @param player the player whose roads count
+	 * @return true if one of the node's incident edges holds the player's road
+	 */
+	private boolean hasRoadToNode(int nodeId, Player player) {
+		for (int edgeId : board.getIncidentEdgeIds(nodeId)) {
+			Edge edge = board.getEdge(edgeId);
+			if (edge != null && edge.getOccupyingPlayer() == player) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether the player owns a road on another edge sharing an endpoint with this edge.
+	 * @param edge the edge to check
+	 * @param player the player whose roads count
+	 * @return true if a neighbouring edge holds the player's road
+	 */
+	private boolean isAdjacentToOwnRoad(Edge edge, Player player) {
+		return hasOtherRoadAtNode(edge.getNodeA().getId(), edge, player)
+				|| hasOtherRoadAtNode(edge.getNodeB().getId(), edge, player);
+	}
+
+	/**
+	 * Checks whether the player owns a road on an edge at the node other than the given edge.
+	 * @param nodeId the shared endpoint
+	 * @param edge the edge to exclude
+	 * @param player the player whose roads count
+	 * @return true if another incident edge holds the player's road
+	 */
+	private boolean hasOtherRoadAtNode(int nodeId, Edge edge, Player player) {
+		for (int edgeId : board.getIncidentEdgeIds(nodeId)) {
+			if (edgeId == edge.getId()) {
+				continue;
+			}
+			Edge other = board.getEdge(edgeId);
+			if (other != null && other.getOccupyingPlayer() == player) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
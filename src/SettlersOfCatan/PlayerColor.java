@@ -8,5 +8,8 @@ public enum PlayerColor {
 	RED,
 	BLUE,
 	WHITE,
-	ORANGE
+	ORANGE;
+
+	/** Every color by ordinal, shared so lookups do not clone values(); never modify */
+	static final PlayerColor[] VALUES = values();
 }
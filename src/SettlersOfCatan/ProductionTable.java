@@ -0,0 +1,174 @@
+package SettlersOfCatan;
+
+/**
+ * Precomputed resource payouts for each dice roll (2-12).
+ * Each roll maps to a flat list of (seat, resource, amount) entries, so distributing resources
+ * is a short loop instead of a scan over every tile and node. The table listens to the board
+ * state and only rebuilds the rolls of the tiles around a changed node, or of the tiles the
+ * robber left and entered. The robber's tile produces nothing.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public class ProductionTable implements BoardChangeListener {
+	/** Highest dice roll */
+	private static final int MAX_ROLL = 12;
+
+	/** Shared layout used to find the tiles around a node */
+	private final BoardTopology topology;
+
+	/** Occupancy read when a roll's payouts are rebuilt */
+	private final BoardState state;
+
+	/** Tile indices carrying each dice number */
+	private final int[][] tilesByRoll = new int[MAX_ROLL + 1][];
+
+	/** Resource ordinal produced by each tile */
+	private final int[] tileResource;
+
+	/** Packed payouts per roll: seat << 16 | resource ordinal << 8 | amount */
+	private final int[][] payouts = new int[MAX_ROLL + 1][];
+
+	/** Number of valid entries in each payouts row */
+	private final int[] payoutCount = new int[MAX_ROLL + 1];
+
+	/** Tile currently holding the robber, or -1 */
+	private int robberTile = -1;
+
+	/**
+	 * Builds the table for a generated board and subscribes it to the board's state.
+	 * @param board the game board
+	 */
+	public ProductionTable(Board board) {
+		this.topology = board.getTopology();
+		this.state = board.getState();
+
+		int tileCount = board.getTileCount();
+		this.tileResource = new int[tileCount];
+		int[] tilesPerRoll = new int[MAX_ROLL + 1];
+		for (int t = 0; t < tileCount; t++) {
+			tileResource[t] = board.getTile(t).produceResource().ordinal();
+			if (producesOn(t)) {
+				tilesPerRoll[state.getTileNumber(t)]++;
+			}
+		}
+		for (int roll = 0; roll <= MAX_ROLL; roll++) {
+			tilesByRoll[roll] = new int[tilesPerRoll[roll]];
+			payouts[roll] = new int[tilesPerRoll[roll] * 6];
+		}
+		int[] filled = new int[MAX_ROLL + 1];
+		for (int t = 0; t < tileCount; t++) {
+			if (producesOn(t)) {
+				int roll = state.getTileNumber(t);
+				tilesByRoll[roll][filled[roll]++] = t;
+			}
+		}
+
+		for (int roll = 0; roll <= MAX_ROLL; roll++) {
+			rebuild(roll);
+		}
+		state.addListener(this);
+	}
+
+	/**
+	 * Checks whether a tile takes part in production at all (has a number and a resource).
+	 */
+	private boolean producesOn(int tileIndex) {
+		int number = state.getTileNumber(tileIndex);
+		return number > 0 && number <= MAX_ROLL && tileResource[tileIndex] != ResourceType.NULL.ordinal();
+	}
+
+	/**
+	 * Gets the number of payouts for a roll.
+	 * @param roll the dice roll
+	 * @return number of entries, 0 for 7 or out-of-range rolls
+	 */
+	public int getPayoutCount(int roll) {
+		if (roll < 0 || roll > MAX_ROLL) {
+			return 0;
+		}
+		return payoutCount[roll];
+	}
+
+	/**
+	 * Gets the seat receiving a payout.
+	 * @param roll the dice roll
+	 * @param index the payout index
+	 * @return seat (player color ordinal)
+	 */
+	public int getSeat(int roll, int index) {
+		return payouts[roll][index] >>> 16;
+	}
+
+	/**
+	 * Gets the resource of a payout.
+	 * @param roll the dice roll
+	 * @param index the payout index
+	 * @return resource type
+	 */
+	public ResourceType getResource(int roll, int index) {
+		return ResourceType.VALUES[(payouts[roll][index] >>> 8) & 0xFF];
+	}
+
+	/**
+	 * Gets the number of cards in a payout (1 for a settlement, 2 for a city).
+	 * @param roll the dice roll
+	 * @param index the payout index
+	 * @return card count
+	 */
+	public int getAmount(int roll, int index) {
+		return payouts[roll][index] & 0xFF;
+	}
+
+	/**
+	 * Moves the robber, rebuilding the rolls of the tile it leaves and the tile it enters.
+	 * @param tileIndex new robber tile, or -1 for none
+	 */
+	public void setRobberTile(int tileIndex) {
+		int previous = robberTile;
+		robberTile = tileIndex;
+		rebuildTile(previous);
+		rebuildTile(tileIndex);
+	}
+
+	@Override
+	public void nodeChanged(int nodeId) {
+		for (int tileIndex : topology.getNodeTileIds(nodeId)) {
+			rebuildTile(tileIndex);
+		}
+	}
+
+	@Override
+	public void roadChanged(int edgeId) {
+		// Roads do not produce
+	}
+
+	/**
+	 * Rebuilds the roll a tile's number belongs to.
+	 */
+	private void rebuildTile(int tileIndex) {
+		if (tileIndex >= 0 && tileIndex < tileResource.length && producesOn(tileIndex)) {
+			rebuild(state.getTileNumber(tileIndex));
+		}
+	}
+
+	/**
+	 * Rebuilds one roll's payouts in tile order, then node order around each tile.
+	 */
+	private void rebuild(int roll) {
+		int count = 0;
+		int[] row = payouts[roll];
+		for (int tileIndex : tilesByRoll[roll]) {
+			if (tileIndex == robberTile) {
+				continue;
+			}
+			for (int nodeId : topology.getTileNodeIds(tileIndex)) {
+				int owner = state.getNodeOwner(nodeId);
+				if (owner == BoardState.NO_OWNER) {
+					continue;
+				}
+				int amount = state.getBuildingType(nodeId) == BoardState.CITY ? 2 : 1;
+				row[count++] = owner << 16 | tileResource[tileIndex] << 8 | amount;
+			}
+		}
+		payoutCount[roll] = count;
+	}
+}
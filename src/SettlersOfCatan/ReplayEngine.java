@@ -0,0 +1,115 @@
+package SettlersOfCatan;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Rebuilds the positions of a recorded game from its DecisionLog.
+ * The board is regenerated from the log's board seed, then the logged placements, rolls and
+ * robber outcomes are applied in order. No AI handler runs, nothing is printed and no JSON is
+ * written, so replay is much faster than live play. Any turn can be reached with seek(); going
+ * backwards replays from the start.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class ReplayEngine {
+	/** The log being replayed */
+	private final DecisionLog log;
+
+	/** Event index of each TURN event, in order */
+	private final int[] turnStarts;
+
+	/** Game the events are applied to */
+	private Game game;
+
+	/** Index of the next event to apply */
+	private int position;
+
+	/**
+	 * Creates an engine positioned before the first event (empty board).
+	 * @param log the recorded game
+	 */
+	public ReplayEngine(DecisionLog log) {
+		this.log = log;
+		int[] starts = new int[16];
+		int turns = 0;
+		for (int i = 0; i < log.size(); i++) {
+			if (log.getKind(i) == DecisionLog.TURN) {
+				if (turns == starts.length) {
+					starts = Arrays.copyOf(starts, turns * 2);
+				}
+				starts[turns++] = i;
+			}
+		}
+		this.turnStarts = Arrays.copyOf(starts, turns);
+		reset();
+	}
+
+	/**
+	 * Gets the number of turns in the log (setup placements are not turns).
+	 * @return turn count
+	 */
+	public int getTurnCount() {
+		return turnStarts.length;
+	}
+
+	/**
+	 * Gets the index of the next event to apply.
+	 * @return events applied so far
+	 */
+	public int getPosition() {
+		return position;
+	}
+
+	/**
+	 * Applies every remaining event.
+	 */
+	public void replayAll() {
+		advanceTo(log.size());
+	}
+
+	/**
+	 * Moves to the start of a turn, before its dice roll. Turn 0 is the first turn after setup;
+	 * getTurnCount() means the end of the log.
+	 * @param turn turn index
+	 * @throws IndexOutOfBoundsException if the turn is outside [0, getTurnCount()]
+	 */
+	public void seek(int turn) {
+		if (turn < 0 || turn > turnStarts.length) {
+			throw new IndexOutOfBoundsException("Turn " + turn + " out of range for " + turnStarts.length + " turns");
+		}
+		int target = turn == turnStarts.length ? log.size() : turnStarts[turn];
+		if (target < position) {
+			reset();
+		}
+		advanceTo(target);
+	}
+
+	/**
+	 * Captures the current position.
+	 * @return flat snapshot of the replayed game
+	 */
+	public GameState getState() {
+		return game.captureState();
+	}
+
+	/**
+	 * Rebuilds an empty game from the log's seeds.
+	 */
+	private void reset() {
+		Board board = new Board();
+		new RandomBoardGenerator(log.getBoardSeed()).generate(board);
+		game = new Game(board, new DiceRoller(log.getDiceSeed()), new Bank(), new PlacementValidator(),
+				log.getNumPlayers(), new Random(log.getAiSeed()));
+		game.setHeadless(true);
+		position = 0;
+	}
+
+	/**
+	 * Applies events up to (not including) the given index.
+	 */
+	private void advanceTo(int target) {
+		while (position < target) {
+			game.applyDecision(log, position++);
+		}
+	}
+}
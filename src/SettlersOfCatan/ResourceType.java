@@ -10,5 +10,8 @@ public enum ResourceType {
 	WHEAT,
 	BRICK,
 	ORE,
-	NULL  // No resource (e.g. desert)
+	NULL;  // No resource (e.g. desert)
+
+	/** Every resource type by ordinal, shared so lookups do not clone values(); never modify */
+	static final ResourceType[] VALUES = values();
 }
@@ -10,5 +10,8 @@ public enum TerrainType {
 	FIELDS,
 	HILLS,
 	MOUNTAINS,
-	DESERT
+	DESERT;
+
+	/** Every terrain type by ordinal, shared so lookups do not clone values(); never modify */
+	static final TerrainType[] VALUES = values();
 }
@@ -0,0 +1,198 @@
+package SettlersOfCatan;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * End-to-end benchmark: plays a fixed corpus of seeded all-AI games through Game on one thread and
+ * reports games/sec, turns/sec, allocated bytes per turn and p50/p99 turn latency.
+ * Game i of the corpus uses seed baseSeed + i, exactly as in TournamentRunner, so every run plays
+ * the same games. The result is written as JSON; given a baseline from an earlier run, the
+ * benchmark exits with status 1 when throughput dropped by more than the allowed percentage.
+ * Running on one thread keeps latency and allocation figures free of scheduling noise.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class ThroughputBenchmark {
+
+	/** Number of games in the corpus when no count is given on the command line */
+	private static final int DEFAULT_GAMES = 10_000;
+
+	/** Round limit used when no limit is given on the command line */
+	private static final int DEFAULT_MAX_ROUNDS = 200;
+
+	/** File the result is written to when no path is given on the command line */
+	private static final String DEFAULT_OUTPUT = "throughput.json";
+
+	/** Allowed throughput drop against the baseline when none is given on the command line */
+	private static final double DEFAULT_MAX_DROP_PERCENT = 10.0;
+
+	/** Seed of the first game of the corpus */
+	private static final long BASE_SEED = 0L;
+
+	/** Games played before measuring so the JIT has compiled the hot paths */
+	private static final int WARMUP_GAMES = 500;
+
+	/** Exit status when throughput regressed */
+	private static final int EXIT_REGRESSION = 1;
+
+	/** Exit status when the arguments or files are unusable */
+	private static final int EXIT_ERROR = 2;
+
+	/**
+	 * Warms up on the start of the corpus, then plays and measures the whole corpus.
+	 * @param baseSeed seed of the first game
+	 * @param games number of games in the corpus
+	 * @param config number of players and round limit for every game
+	 * @return the measurements
+	 * @throws IllegalArgumentException if games is negative
+	 */
+	public static ThroughputResult run(long baseSeed, int games, GameConfig config) {
+		if (games < 0) {
+			throw new IllegalArgumentException("Games must not be negative. Found: " + games);
+		}
+		TurnTimer timer = new TurnTimer();
+		for (int i = 0; i < Math.min(games, WARMUP_GAMES); i++) {
+			GameRunner.runHeadless(baseSeed + i, config, timer);
+		}
+		timer.reset();
+
+		long allocatedBefore = allocatedBytes();
+		long start = System.nanoTime();
+		for (int i = 0; i < games; i++) {
+			GameRunner.runHeadless(baseSeed + i, config, timer);
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocatedAfter = allocatedBytes();
+
+		long allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+		LatencyHistogram turns = timer.getHistogram();
+		return new ThroughputResult(games, config.getMaxRounds(), baseSeed, turns.getCount(), elapsed, allocated,
+				turns.getValueAtPercentile(50.0), turns.getValueAtPercentile(99.0));
+	}
+
+	/**
+	 * Gets the bytes allocated so far by the current thread.
+	 * @return the byte count, or -1 where the JVM cannot measure it
+	 */
+	private static long allocatedBytes() {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if (threads instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) threads;
+			if (hotspot.isThreadAllocatedMemorySupported() && hotspot.isThreadAllocatedMemoryEnabled()) {
+				return hotspot.getCurrentThreadAllocatedBytes();
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Runs the benchmark from the command line, writes the result and applies the regression gate.
+	 * Exits with 1 on a regression, and with 2 when an argument is invalid, the baseline cannot be
+	 * read or played a different corpus, or the result cannot be written.
+	 * @param args optional: games, max rounds, output file, baseline file, max drop percent
+	 */
+	public static void main(String[] args) {
+		int games = 0;
+		GameConfig config = null;
+		double maxDrop = 0.0;
+		try {
+			games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+			int maxRounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_ROUNDS;
+			maxDrop = args.length > 4 ? Double.parseDouble(args[4]) : DEFAULT_MAX_DROP_PERCENT;
+			if (games < 0) {
+				throw new IllegalArgumentException("Games must not be negative. Found: " + games);
+			}
+			config = new GameConfig(PlayerColor.values().length, maxRounds);
+		} catch (IllegalArgumentException e) {
+			System.err.println("ERROR: Invalid argument: " + e.getMessage());
+			System.err.println("Usage: ThroughputBenchmark [games] [maxRounds] [output] [baseline] [maxDropPercent]");
+			System.exit(EXIT_ERROR);
+		}
+		Path output = Path.of(args.length > 2 ? args[2] : DEFAULT_OUTPUT);
+		Path baselinePath = args.length > 3 ? Path.of(args[3]) : null;
+
+		ThroughputResult baseline = null;
+		if (baselinePath != null) {
+			try {
+				baseline = ThroughputResult.fromJson(Files.readString(baselinePath, StandardCharsets.UTF_8));
+			} catch (IOException | IllegalArgumentException e) {
+				System.err.println("ERROR: Could not read baseline " + baselinePath + ": " + e.getMessage());
+				System.exit(EXIT_ERROR);
+			}
+			// Checked before playing, against the corpus this run is about to play
+			ThroughputResult planned = new ThroughputResult(games, config.getMaxRounds(), BASE_SEED, 0, 0, -1, 0, 0);
+			if (!planned.hasSameCorpus(baseline)) {
+				System.err.println("ERROR: Baseline " + baselinePath + " played " + baseline.describeCorpus()
+						+ ", not " + planned.describeCorpus() + "; the regression gate needs the same corpus");
+				System.exit(EXIT_ERROR);
+			}
+		}
+
+		System.out.println("=== SETTLERS OF CATAN THROUGHPUT BENCHMARK ===");
+		System.out.println("Playing " + games + " games (max " + config.getMaxRounds() + " rounds) on 1 thread\n");
+		ThroughputResult result = run(BASE_SEED, games, config);
+		System.out.print(result.formatReport());
+
+		try {
+			Files.writeString(output, result.toJson(), StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			System.err.println("ERROR: Could not write " + output + ": " + e.getMessage());
+			System.exit(EXIT_ERROR);
+		}
+
+		if (baseline != null) {
+			double drop = result.getDropPercent(baseline);
+			System.out.println(String.format("Change against baseline: %+.1f%% (allowed drop %.1f%%)", -drop, maxDrop));
+			if (drop > maxDrop) {
+				System.err.println("FAIL: throughput dropped " + String.format("%.1f", drop) + "% below the baseline");
+				System.exit(EXIT_REGRESSION);
+			}
+		}
+	}
+
+	/**
+	 * Times turns into a histogram. Games are played on one thread, so no synchronization is needed.
+	 */
+	private static final class TurnTimer implements TurnListener {
+		/** Turn durations in nanoseconds */
+		private final LatencyHistogram histogram = new LatencyHistogram();
+
+		/** Start time of the current turn */
+		private long started;
+
+		@Override
+		public void turnStarted(Player player, int round) {
+			started = System.nanoTime();
+		}
+
+		@Override
+		public void turnEnded(Player player, int round) {
+			histogram.record(System.nanoTime() - started);
+		}
+
+		/**
+		 * Gets the recorded turn durations.
+		 */
+		LatencyHistogram getHistogram() {
+			return histogram;
+		}
+
+		/**
+		 * Discards the warm-up turns.
+		 */
+		void reset() {
+			histogram.reset();
+		}
+	}
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private ThroughputBenchmark() {
+		throw new AssertionError("ThroughputBenchmark should not be instantiated, it is a utility class only");
+	}
+}
@@ -0,0 +1,255 @@
+package SettlersOfCatan;
+
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Measurements of one ThroughputBenchmark run, readable and writable as a small JSON document
+ * so runs can be stored as baselines and compared. The corpus (game count, round limit and base
+ * seed) is stored too, since only runs over the same games can be compared.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class ThroughputResult {
+	/** Number of games played */
+	private final int games;
+
+	/** Round limit of every game */
+	private final int maxRounds;
+
+	/** Seed of the first game */
+	private final long baseSeed;
+
+	/** Number of turns played over all games */
+	private final long turns;
+
+	/** Wall-clock time for all games, in nanoseconds */
+	private final long elapsedNanos;
+
+	/** Bytes allocated by the benchmark thread while playing, or -1 if unsupported */
+	private final long allocatedBytes;
+
+	/** Median turn latency in nanoseconds */
+	private final long p50TurnNanos;
+
+	/** 99th percentile turn latency in nanoseconds */
+	private final long p99TurnNanos;
+
+	/**
+	 * Constructor for a throughput result.
+	 * @param games number of games played
+	 * @param maxRounds round limit of every game
+	 * @param baseSeed seed of the first game
+	 * @param turns number of turns played
+	 * @param elapsedNanos wall-clock time in nanoseconds
+	 * @param allocatedBytes bytes allocated while playing, or -1 if unknown
+	 * @param p50TurnNanos median turn latency in nanoseconds
+	 * @param p99TurnNanos 99th percentile turn latency in nanoseconds
+	 */
+	public ThroughputResult(int games, int maxRounds, long baseSeed, long turns, long elapsedNanos,
+			long allocatedBytes, long p50TurnNanos, long p99TurnNanos) {
+		this.games = games;
+		this.maxRounds = maxRounds;
+		this.baseSeed = baseSeed;
+		this.turns = turns;
+		this.elapsedNanos = elapsedNanos;
+		this.allocatedBytes = allocatedBytes;
+		this.p50TurnNanos = p50TurnNanos;
+		this.p99TurnNanos = p99TurnNanos;
+	}
+
+	/**
+	 * Gets the number of games played.
+	 * @return number of games
+	 */
+	public int getGames() {
+		return games;
+	}
+
+	/**
+	 * Gets the round limit of every game.
+	 * @return the round limit
+	 */
+	public int getMaxRounds() {
+		return maxRounds;
+	}
+
+	/**
+	 * Gets the seed of the first game.
+	 * @return the base seed
+	 */
+	public long getBaseSeed() {
+		return baseSeed;
+	}
+
+	/**
+	 * Gets the number of turns played.
+	 * @return number of turns
+	 */
+	public long getTurns() {
+		return turns;
+	}
+
+	/**
+	 * Gets the wall-clock time for all games.
+	 * @return elapsed time in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Gets the median turn latency.
+	 * @return latency in nanoseconds
+	 */
+	public long getP50TurnNanos() {
+		return p50TurnNanos;
+	}
+
+	/**
+	 * Gets the 99th percentile turn latency.
+	 * @return latency in nanoseconds
+	 */
+	public long getP99TurnNanos() {
+		return p99TurnNanos;
+	}
+
+	/**
+	 * Gets the game throughput.
+	 * @return games completed per second
+	 */
+	public double getGamesPerSecond() {
+		return elapsedNanos == 0 ? 0.0 : games / (elapsedNanos / 1_000_000_000.0);
+	}
+
+	/**
+	 * Gets the turn throughput.
+	 * @return turns played per second
+	 */
+	public double getTurnsPerSecond() {
+		return elapsedNanos == 0 ? 0.0 : turns / (elapsedNanos / 1_000_000_000.0);
+	}
+
+	/**
+	 * Gets the allocation rate per turn.
+	 * @return bytes allocated per turn, or -1 if allocation was not measured
+	 */
+	public double getAllocatedBytesPerTurn() {
+		if (allocatedBytes < 0) {
+			return -1.0;
+		}
+		return turns == 0 ? 0.0 : (double) allocatedBytes / turns;
+	}
+
+	/**
+	 * Checks whether a baseline played the same corpus: the same number of games, round limit
+	 * and base seed. Throughput of different corpora says nothing about a regression.
+	 * @param baseline an earlier result
+	 * @return true if the two runs can be compared
+	 */
+	public boolean hasSameCorpus(ThroughputResult baseline) {
+		return games == baseline.games && maxRounds == baseline.maxRounds && baseSeed == baseline.baseSeed;
+	}
+
+	/**
+	 * Gets how far throughput fell compared with a baseline, using the slower of games/sec and
+	 * turns/sec so a change in game length cannot hide a slowdown.
+	 * @param baseline an earlier result on the same corpus
+	 * @return percentage drop (negative when faster than the baseline)
+	 * @throws IllegalArgumentException if the baseline played a different corpus
+	 */
+	public double getDropPercent(ThroughputResult baseline) {
+		if (!hasSameCorpus(baseline)) {
+			throw new IllegalArgumentException("Baseline played a different corpus: " + baseline.describeCorpus()
+					+ " instead of " + describeCorpus());
+		}
+		double games = drop(baseline.getGamesPerSecond(), getGamesPerSecond());
+		double turns = drop(baseline.getTurnsPerSecond(), getTurnsPerSecond());
+		return Math.max(games, turns);
+	}
+
+	/**
+	 * Describes the corpus for error messages.
+	 * @return e.g. "10000 games, max 200 rounds, seed 0"
+	 */
+	public String describeCorpus() {
+		return games + " games, max " + maxRounds + " rounds, seed " + baseSeed;
+	}
+
+	/**
+	 * Percentage by which a value fell below a reference.
+	 */
+	private static double drop(double reference, double value) {
+		return reference == 0.0 ? 0.0 : (reference - value) / reference * 100.0;
+	}
+
+	/**
+	 * Formats the result as JSON. The derived rates are included for readers; fromJson only
+	 * needs the raw fields.
+	 * @return the JSON document
+	 */
+	public String toJson() {
+		StringBuilder sb = new StringBuilder();
+		sb.append("{\n");
+		sb.append("  \"games\": ").append(games).append(",\n");
+		sb.append("  \"maxRounds\": ").append(maxRounds).append(",\n");
+		sb.append("  \"baseSeed\": ").append(baseSeed).append(",\n");
+		sb.append("  \"turns\": ").append(turns).append(",\n");
+		sb.append("  \"elapsedNanos\": ").append(elapsedNanos).append(",\n");
+		sb.append("  \"allocatedBytes\": ").append(allocatedBytes).append(",\n");
+		sb.append("  \"p50TurnNanos\": ").append(p50TurnNanos).append(",\n");
+		sb.append("  \"p99TurnNanos\": ").append(p99TurnNanos).append(",\n");
+		sb.append("  \"gamesPerSecond\": ").append(format(getGamesPerSecond())).append(",\n");
+		sb.append("  \"turnsPerSecond\": ").append(format(getTurnsPerSecond())).append(",\n");
+		sb.append("  \"allocatedBytesPerTurn\": ").append(format(getAllocatedBytesPerTurn())).append("\n");
+		sb.append("}\n");
+		return sb.toString();
+	}
+
+	/**
+	 * Reads a result written by toJson().
+	 * @param json the JSON document
+	 * @return the result
+	 * @throws IllegalArgumentException if a field is missing
+	 */
+	public static ThroughputResult fromJson(String json) {
+		return new ThroughputResult((int) readLong(json, "games"), (int) readLong(json, "maxRounds"),
+				readLong(json, "baseSeed"), readLong(json, "turns"),
+				readLong(json, "elapsedNanos"), readLong(json, "allocatedBytes"),
+				readLong(json, "p50TurnNanos"), readLong(json, "p99TurnNanos"));
+	}
+
+	/**
+	 * Reads one integer field of a flat JSON object.
+	 */
+	private static long readLong(String json, String field) {
+		Matcher matcher = Pattern.compile("\"" + field + "\"\\s*:\\s*(-?\\d+)").matcher(json);
+		if (!matcher.find()) {
+			throw new IllegalArgumentException("Missing field in throughput result: " + field);
+		}
+		return Long.parseLong(matcher.group(1));
+	}
+
+	/**
+	 * Formats a rate with a dot as the decimal separator whatever the locale.
+	 */
+	private static String format(double value) {
+		return String.format(Locale.ROOT, "%.2f", value);
+	}
+
+	/**
+	 * Formats a short multi-line report.
+	 * @return the report text
+	 */
+	public String formatReport() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("Games: %d in %.2f s (%.1f games/sec)%n",
+				games, elapsedNanos / 1_000_000_000.0, getGamesPerSecond()));
+		sb.append(String.format("Turns: %d (%.0f turns/sec)%n", turns, getTurnsPerSecond()));
+		sb.append(String.format("Turn latency: p50 %.1f us, p99 %.1f us%n", p50TurnNanos / 1000.0, p99TurnNanos / 1000.0));
+		if (allocatedBytes >= 0) {
+			sb.append(String.format("Allocated: %.0f bytes/turn%n", getAllocatedBytesPerTurn()));
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,98 @@
+package SettlersOfCatan;
+
+/**
+ * Aggregated outcome of a batch of headless games played by TournamentRunner.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class TournamentResult {
+	/** Number of games played */
+	private final int games;
+
+	/** Wall-clock time for the whole batch, in nanoseconds */
+	private final long elapsedNanos;
+
+	/** Number of games won per seat */
+	private final int[] wins;
+
+	/** Sum of the final round numbers over all games */
+	private final long totalRounds;
+
+	/**
+	 * Constructor for a tournament result.
+	 * @param games number of games played
+	 * @param elapsedNanos wall-clock time for the batch in nanoseconds
+	 * @param wins games won per seat
+	 * @param totalRounds sum of final round numbers over all games
+	 */
+	public TournamentResult(int games, long elapsedNanos, int[] wins, long totalRounds) {
+		this.games = games;
+		this.elapsedNanos = elapsedNanos;
+		this.wins = wins.clone();
+		this.totalRounds = totalRounds;
+	}
+
+	/**
+	 * Gets the number of games played.
+	 * @return number of games
+	 */
+	public int getGames() {
+		return games;
+	}
+
+	/**
+	 * Gets the wall-clock time for the batch.
+	 * @return elapsed time in nanoseconds
+	 */
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * Gets the number of games won by a seat.
+	 * @param seat seat index (0 = RED)
+	 * @return number of wins
+	 */
+	public int getWins(int seat) {
+		return wins[seat];
+	}
+
+	/**
+	 * Gets the fraction of games won by a seat.
+	 * @param seat seat index (0 = RED)
+	 * @return win rate between 0 and 1
+	 */
+	public double getWinRate(int seat) {
+		return games == 0 ? 0.0 : (double) wins[seat] / games;
+	}
+
+	/**
+	 * Gets the average round number in which games ended.
+	 * @return mean game length in rounds
+	 */
+	public double getAverageRounds() {
+		return games == 0 ? 0.0 : (double) totalRounds / games;
+	}
+
+	/**
+	 * Gets the throughput of the batch.
+	 * @return games completed per second of wall-clock time
+	 */
+	public double getGamesPerSecond() {
+		return elapsedNanos == 0 ? 0.0 : games / (elapsedNanos / 1_000_000_000.0);
+	}
+
+	/**
+	 * Formats a short multi-line report (throughput and win rate per seat).
+	 * @return the report text
+	 */
+	public String formatReport() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("Games: %d in %.2f s (%.1f games/sec, avg %.1f rounds)%n",
+				games, elapsedNanos / 1_000_000_000.0, getGamesPerSecond(), getAverageRounds()));
+		for (int seat = 0; seat < wins.length; seat++) {
+			sb.append(String.format("%-6s wins: %6d (%5.1f%%)%n",
+					PlayerColor.VALUES[seat], wins[seat], getWinRate(seat) * 100));
+		}
+		return sb.toString();
+	}
+}
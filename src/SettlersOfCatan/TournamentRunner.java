@@ -0,0 +1,113 @@
+package SettlersOfCatan;
+
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Plays many seeded headless games in parallel and aggregates the results.
+ * Every game builds its own Board, RandomBoardGenerator, Dice and Random through
+ * GameRunner, so games share no mutable state and can run on any worker thread.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public final class TournamentRunner {
+
+	/** Number of games played when no count is given on the command line */
+	private static final int DEFAULT_GAMES = 1000;
+
+	/** Round limit used when no limit is given on the command line */
+	private static final int DEFAULT_MAX_ROUNDS = 200;
+
+	/** Time between two handler metrics snapshots */
+	private static final long METRICS_INTERVAL_MILLIS = 1000;
+
+	/**
+	 * Plays a batch of games on a dedicated ForkJoinPool.
+	 * Game i uses seed baseSeed + i, so a batch is reproducible regardless of thread count.
+	 * @param baseSeed seed of the first game
+	 * @param games number of games to play
+	 * @param config number of players and round limit for every game
+	 * @param parallelism number of worker threads
+	 * @return aggregated win counts and throughput
+	 */
+	public static TournamentResult run(long baseSeed, int games, GameConfig config, int parallelism) {
+		return run(baseSeed, games, config, parallelism, null);
+	}
+
+	/**
+	 * Plays the same batch as run(baseSeed, games, config, parallelism), recording every AI
+	 * handler decision in a metrics registry shared by all workers.
+	 * @param baseSeed seed of the first game
+	 * @param games number of games to play
+	 * @param config number of players and round limit for every game
+	 * @param parallelism number of worker threads
+	 * @param metrics registry for handler decisions, or null
+	 * @return aggregated win counts and throughput
+	 */
+	public static TournamentResult run(long baseSeed, int games, GameConfig config, int parallelism,
+			HandlerMetrics metrics) {
+		if (games < 0) {
+			throw new IllegalArgumentException("Games must not be negative. Found: " + games);
+		}
+
+		GameResult[] results = new GameResult[games];
+		ForkJoinPool pool = new ForkJoinPool(parallelism);
+		long start = System.nanoTime();
+		try {
+			// Each task writes only its own slot; join() publishes the array to this thread
+			pool.submit(() -> IntStream.range(0, games).parallel()
+					.forEach(i -> results[i] = GameRunner.runHeadless(baseSeed + i, config, null, metrics)))
+					.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Tournament interrupted", e);
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Game failed during tournament", e.getCause());
+		} finally {
+			pool.shutdown();
+		}
+		long elapsed = System.nanoTime() - start;
+
+		int[] wins = new int[config.getNumPlayers()];
+		long totalRounds = 0;
+		for (GameResult result : results) {
+			wins[result.winnerSeat()]++;
+			totalRounds += result.rounds();
+		}
+		return new TournamentResult(games, elapsed, wins, totalRounds);
+	}
+
+	/**
+	 * Runs a tournament from the command line and prints the report.
+	 * With a metrics file, handler statistics are written to it every second and printed at the end.
+	 * @param args optional: games, max rounds, threads, base seed, metrics file
+	 */
+	public static void main(String[] args) {
+		int games = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GAMES;
+		int maxRounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_MAX_ROUNDS;
+		int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+		long seed = args.length > 3 ? Long.parseLong(args[3]) : 0L;
+		HandlerMetrics metrics = args.length > 4 ? new HandlerMetrics(threads) : null;
+
+		System.out.println("=== SETTLERS OF CATAN TOURNAMENT ===");
+		System.out.println("Playing " + games + " games (max " + maxRounds + " rounds) on " + threads + " threads\n");
+		if (metrics != null) {
+			metrics.startSnapshots(Path.of(args[4]), METRICS_INTERVAL_MILLIS);
+		}
+		TournamentResult result = run(seed, games, new GameConfig(PlayerColor.values().length, maxRounds), threads, metrics);
+		System.out.print(result.formatReport());
+		if (metrics != null) {
+			metrics.close();
+			System.out.println();
+			System.out.print(metrics.formatReport());
+		}
+	}
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private TournamentRunner() {
+		throw new AssertionError("TournamentRunner should not be instantiated, it is a utility class only");
+	}
+}
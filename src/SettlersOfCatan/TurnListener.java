@@ -0,0 +1,22 @@
+package SettlersOfCatan;
+
+/**
+ * Observer notified by Game around every regular turn (setup placements are not turns),
+ * e.g. to time turns in a benchmark.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+public interface TurnListener {
+	/**
+	 * Called before the player rolls.
+	 * @param player the player whose turn starts
+	 * @param round the current round
+	 */
+	void turnStarted(Player player, int round);
+
+	/**
+	 * Called after the player has finished building.
+	 * @param player the player whose turn ended
+	 * @param round the current round
+	 */
+	void turnEnded(Player player, int round);
+}
@@ -1,8 +1,5 @@
 package SettlersOfCatan;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
 import java.util.Random;
 
 /**
@@ -28,68 +25,69 @@ public class ValueScoringHandler extends ActionHandler {
 	 */
 	@Override
 	public void handleTurn(Player player, PlayerActions actions, int roundCount) {
-		List<String> available = actions.getAvailableActions(player, false);
-		if (available.isEmpty()) {
-			System.out.println(player.getColor() + " - No available actions");
+		int available = actions.getAvailableActions(player, false);
+		if (ActionMask.isEmpty(available)) {
+			if (actions.getLog().isEnabled(LogCategory.AI)) {
+				actions.getLog().info(LogCategory.AI, player.getColor() + " - No available actions");
+			}
 			return;
 		}
 
 		double bestScore = Double.NEGATIVE_INFINITY;
-		List<String> best = new ArrayList<>();
-		for (String action : available) {
+		int best = ActionMask.NONE;
+		for (int m = available; m != 0; m &= m - 1) {
+			ActionType action = ActionMask.first(m);
 			double score = scoreAction(player, action);
 			if (score > bestScore) {
 				bestScore = score;
-				best.clear();
-				best.add(action);
+				best = ActionMask.bit(action);
 			} else if (score == bestScore) {
-				best.add(action);
+				best = ActionMask.with(best, action);
 			}
 		}
 
-		String chosen = best.get(random.nextInt(best.size()));
+		ActionType chosen = ActionMask.get(best, random.nextInt(ActionMask.size(best)));
+		if (GameLog.DEBUG_ENABLED && actions.getLog().isEnabled(LogLevel.DEBUG, LogCategory.AI)) {
+			actions.getLog().debug(LogCategory.AI, roundCount + " / " + player.getColor() + ": Chose " + chosen
+					+ " (score " + bestScore + ", tied " + ActionMask.size(best) + ")");
+		}
 		execute(chosen, player, actions, roundCount);
 	}
 
-	private double scoreAction(Player player, String action) {
-		if ("SETTLEMENT".equals(action)) {
-			return 1.0;
-		}
-		if ("CITY".equals(action)) {
-			return 1.0;
-		}
-		if ("ROAD".equals(action)) {
-			int cardsAfterRoad = countRealCards(player) - 2;
-			return cardsAfterRoad < 5 ? 0.5 : 0.8;
+	private double scoreAction(Player player, ActionType action) {
+		switch (action) {
+			case SETTLEMENT:
+			case CITY:
+				return 1.0;
+			case ROAD: {
+				int cardsAfterRoad = countRealCards(player) - 2;
+				return cardsAfterRoad < 5 ? 0.5 : 0.8;
+			}
+			default:
+				return 0.0; // PASS
 		}
-		return 0.0; // PASS
 	}
 
 	private int countRealCards(Player player) {
-		int total = 0;
-		for (Map.Entry<ResourceType, Integer> entry : player.getResources().entrySet()) {
-			if (entry.getKey() == ResourceType.NULL) {
-				continue;
-			}
-			total += entry.getValue();
-		}
-		return total;
+		return player.getTotalResourceCount() - player.getResourceCount(ResourceType.NULL);
 	}
 
-	private void execute(String action, Player player, PlayerActions actions, int roundCount) {
-		if ("SETTLEMENT".equals(action)) {
-			actions.buildSettlement(player, roundCount);
-			return;
-		}
-		if ("CITY".equals(action)) {
-			actions.buildCity(player, roundCount);
-			return;
+	private void execute(ActionType action, Player player, PlayerActions actions, int roundCount) {
+		switch (action) {
+			case SETTLEMENT:
+				actions.buildSettlement(player, roundCount);
+				break;
+			case CITY:
+				actions.buildCity(player, roundCount);
+				break;
+			case ROAD:
+				actions.buildRoad(player, roundCount);
+				break;
+			default:
+				if (actions.getLog().isEnabled(LogCategory.AI)) {
+					actions.getLog().info(LogCategory.AI, roundCount + " / " + player.getColor() + ": Pass");
+				}
+				break;
 		}
-		if ("ROAD".equals(action)) {
-			actions.buildRoad(player, roundCount);
-			return;
-		}
-		System.out.println(roundCount + " / " + player.getColor() + ": Pass");
 	}
 }
-
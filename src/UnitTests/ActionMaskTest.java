@@ -0,0 +1,60 @@
+/**
+ * Tests for the ActionMask class in our Settlers of Catan game.
+ * Checks set operations and ordinal-order iteration over packed actions.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.ActionMask;
+import SettlersOfCatan.ActionType;
+
+/**
+ * Unit tests for the ActionMask class.
+ */
+public class ActionMaskTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 2;
+
+    /**
+     * Test 1: Adding and removing actions is reflected by contains, size and isEmpty.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void addAndRemoveActions() {
+        int mask = ActionMask.NONE;
+        assertTrue(ActionMask.isEmpty(mask), "NONE should be empty");
+
+        mask = ActionMask.with(mask, ActionType.ROAD);
+        mask = ActionMask.with(mask, ActionType.PASS);
+        assertTrue(ActionMask.contains(mask, ActionType.ROAD), "ROAD should be set");
+        assertFalse(ActionMask.contains(mask, ActionType.CITY), "CITY should not be set");
+        assertEquals(2, ActionMask.size(mask), "Two actions should be set");
+
+        mask = ActionMask.without(mask, ActionType.PASS);
+        assertEquals(ActionMask.of(ActionType.ROAD), mask, "Only ROAD should remain");
+    }
+
+    /**
+     * Test 2: Actions are visited in ordinal order regardless of insertion order.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void actionsIterateInOrdinalOrder() {
+        int mask = ActionMask.of(ActionType.PASS, ActionType.ROAD, ActionType.SETTLEMENT);
+
+        assertEquals(ActionType.SETTLEMENT, ActionMask.first(mask), "SETTLEMENT has the lowest ordinal");
+        assertEquals(ActionType.SETTLEMENT, ActionMask.get(mask, 0), "Index 0 should be SETTLEMENT");
+        assertEquals(ActionType.ROAD, ActionMask.get(mask, 1), "Index 1 should be ROAD");
+        assertEquals(ActionType.PASS, ActionMask.get(mask, 2), "Index 2 should be PASS");
+        assertThrows(IndexOutOfBoundsException.class, () -> ActionMask.get(mask, 3),
+            "Indices past the last action should be rejected");
+    }
+}
@@ -19,6 +19,8 @@ import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import SettlersOfCatan.ActionHandler;
+import SettlersOfCatan.ActionMask;
+import SettlersOfCatan.ActionType;
 import SettlersOfCatan.Bank;
 import SettlersOfCatan.BuildCityCommand;
 import SettlersOfCatan.BuildRoadCommand;
@@ -75,19 +77,23 @@ public class Assignment3Test {
      * Subclasses may override placeCity to control city placement behaviour.
      */
     private static class StubPlayerActions extends PlayerActions {
-        private final List<String> actionsToReturn;
+        private final int actionsToReturn;
         boolean buildRoadCalled;
         boolean buildSettlementCalled;
         boolean buildCityCalled;
 
         StubPlayerActions(List<String> actionsToReturn) {
             super(null, null, null, null, new Random(0));
-            this.actionsToReturn = actionsToReturn;
+            int mask = ActionMask.NONE;
+            for (String action : actionsToReturn) {
+                mask = ActionMask.with(mask, ActionType.valueOf(action));
+            }
+            this.actionsToReturn = mask;
         }
 
         @Override
-        public List<String> getAvailableActions(Player p, boolean forced) {
-            return new ArrayList<>(actionsToReturn);
+        public int getAvailableActions(Player p, boolean forced) {
+            return actionsToReturn;
         }
 
         @Override public void buildRoad(Player p, int r)       { buildRoadCalled = true; }
@@ -151,11 +157,12 @@ public class Assignment3Test {
         history.pushToStack(cmd);
 
         assertFalse(history.canRedo(), "canRedo should be false before any undo");
-        history.undo();
+        assertTrue(history.undo(),     "undo should report that it undid a command");
 
         assertTrue(undone[0],           "undo should invoke the command's undo() method");
         assertTrue(history.canRedo(),   "canRedo should be true after undo");
         assertFalse(history.canUndo(),  "canUndo should be false after undoing the only command");
+        assertFalse(history.undo(),     "undo with an empty history should report that nothing happened");
     }
 
     /**
@@ -286,4 +286,34 @@ public class BankTest {
         assertTrue(Bank.getRoadCost().containsKey(ResourceType.WOOD), "Road cost should require WOOD");
         assertTrue(Bank.getRoadCost().containsKey(ResourceType.BRICK), "Road cost should require BRICK");
     }
+
+    /**
+     * Test 13: packed cost vectors match the cost maps, and the buildable mask answers all three builds at once.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void costVectorsAndBuildableMask() {
+        assertEquals(Bank.pack(Bank.getCityCost()), Bank.CITY_COST_VECTOR, "City vector should match the city map");
+        assertEquals(3, Bank.amount(Bank.CITY_COST_VECTOR, ResourceType.ORE), "City should cost 3 ore");
+        assertEquals(2, Bank.amount(Bank.CITY_COST_VECTOR, ResourceType.WHEAT), "City should cost 2 wheat");
+        assertEquals(0, Bank.amount(Bank.ROAD_COST_VECTOR, ResourceType.ORE), "Road should cost no ore");
+
+        assertEquals(0, Bank.getBuildableMask(player), "Empty hand should build nothing");
+
+        player.addResource(ResourceType.WOOD, 1);
+        player.addResource(ResourceType.BRICK, 1);
+        assertEquals(Bank.CAN_BUILD_ROAD, Bank.getBuildableMask(player), "Wood and brick should only build a road");
+
+        player.addResource(ResourceType.SHEEP, 1);
+        player.addResource(ResourceType.WHEAT, 2);
+        player.addResource(ResourceType.ORE, 3);
+        assertEquals(Bank.CAN_BUILD_ROAD | Bank.CAN_BUILD_SETTLEMENT | Bank.CAN_BUILD_CITY, Bank.getBuildableMask(player),
+                "Full hand should build everything");
+
+        assertTrue(player.pay(Bank.CITY_COST_VECTOR), "Paying an affordable vector should succeed");
+        assertFalse(player.pay(Bank.CITY_COST_VECTOR), "Paying an unaffordable vector should fail");
+        assertEquals(3, player.getTotalResourceCount(), "Failed payment should leave the hand unchanged");
+        player.receive(Bank.CITY_COST_VECTOR);
+        assertEquals(8, player.getTotalResourceCount(), "Receiving a vector should add its cards");
+    }
 }
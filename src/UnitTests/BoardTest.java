@@ -0,0 +1,271 @@
+/**
+ * Tests for the Board class in our Settlers of Catan game.
+ * Checks the lookup indexes built when a board is generated.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.Board;
+import SettlersOfCatan.BoardChangeListener;
+import SettlersOfCatan.BoardState;
+import SettlersOfCatan.BoardTopology;
+import SettlersOfCatan.City;
+import SettlersOfCatan.Edge;
+import SettlersOfCatan.Node;
+import SettlersOfCatan.Player;
+import SettlersOfCatan.PlayerColor;
+import SettlersOfCatan.RandomBoardGenerator;
+import SettlersOfCatan.Road;
+import SettlersOfCatan.Settlement;
+
+/**
+ * Unit tests for the Board class.
+ * Checks the node/edge incidence index and node-pair edge lookup against the generated edges,
+ * and the shared topology / per-game state split.
+ */
+public class BoardTest {
+
+	/* Board object variable */
+    private Board board;
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 2;
+
+	/**
+	 * Setups the objects before each test
+	 */
+    @BeforeEach
+    public void setUp() {
+        board = new Board();
+        new RandomBoardGenerator(1L).generate(board);
+    }
+
+    /**
+     * Test 1: Every node touches 2 or 3 edges, and every edge is listed under both of its endpoints.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void incidentEdgeIdsListEveryEdgeAtBothEndpoints() {
+        assertEquals(54, board.getNodeCount(), "Standard board should have 54 nodes");
+        assertEquals(72, board.getEdgeCount(), "Standard board should have 72 edges");
+
+        int total = 0;
+        for (int nodeId = 0; nodeId < board.getNodeCount(); nodeId++) {
+            int[] incident = board.getIncidentEdgeIds(nodeId);
+            assertTrue(incident.length == 2 || incident.length == 3, "Node " + nodeId + " should touch 2 or 3 edges");
+            for (int edgeId : incident) {
+                assertTrue(board.getEdge(edgeId).touches(board.getNode(nodeId)), "Indexed edge should touch its node");
+            }
+            total += incident.length;
+        }
+        assertEquals(2 * 72, total, "Each edge should be indexed once per endpoint");
+    }
+
+    /**
+     * Test 2: Neighbour ids line up with the incident edges, and unknown ids return empty arrays.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void neighbourNodeIdsMatchIncidentEdges() {
+        for (int nodeId = 0; nodeId < board.getNodeCount(); nodeId++) {
+            int[] incident = board.getIncidentEdgeIds(nodeId);
+            int[] neighbours = board.getNeighbourNodeIds(nodeId);
+            assertEquals(incident.length, neighbours.length, "Each incident edge should have one neighbour");
+            for (int i = 0; i < incident.length; i++) {
+                Edge edge = board.getEdge(incident[i]);
+                int other = edge.getNodeA().getId() == nodeId ? edge.getNodeB().getId() : edge.getNodeA().getId();
+                assertEquals(other, neighbours[i], "Neighbour should be the far end of the incident edge");
+            }
+        }
+
+        assertEquals(0, board.getIncidentEdgeIds(-1).length, "Negative ids should have no incident edges");
+        assertEquals(0, board.getNeighbourNodeIds(54).length, "Out-of-range ids should have no neighbours");
+    }
+
+    /**
+     * Test 3: edgeIdBetween and findEdge resolve every edge in both node orders,
+     * and return -1/null for unjoined or invalid node pairs.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void edgeIdBetweenFindsEveryEdgeInEitherOrder() {
+        for (int edgeId = 0; edgeId < board.getEdgeCount(); edgeId++) {
+            Edge edge = board.getEdge(edgeId);
+            int a = edge.getNodeA().getId();
+            int b = edge.getNodeB().getId();
+            assertEquals(edgeId, board.edgeIdBetween(a, b), "Lookup should find the edge in (A,B) order");
+            assertEquals(edgeId, board.edgeIdBetween(b, a), "Lookup should find the edge in (B,A) order");
+            assertSame(edge, board.findEdge(b, a), "findEdge should return the same edge object");
+        }
+
+        assertEquals(-1, board.edgeIdBetween(0, 0), "A node is not joined to itself");
+        assertEquals(-1, board.edgeIdBetween(0, 53), "Distant nodes are not joined");
+        assertEquals(-1, board.edgeIdBetween(-1, 3), "Negative ids should not resolve");
+        assertNull(board.findEdge(3, 99), "Out-of-range ids should not resolve");
+    }
+
+    /**
+     * Test 4: Generated boards share the standard topology, and its tile data matches the tiles.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void generatedBoardsShareStandardTopology() {
+        Board other = new Board();
+        new RandomBoardGenerator(2L).generate(other);
+
+        assertSame(BoardTopology.standard(), board.getTopology(), "Generated board should use the standard topology");
+        assertSame(board.getTopology(), other.getTopology(), "Boards should share one topology");
+        assertNotSame(board.getState(), other.getState(), "Each board should have its own state");
+
+        BoardTopology topology = board.getTopology();
+        for (int t = 0; t < board.getTileCount(); t++) {
+            assertArrayEquals(board.getTile(t).getNodeIds(), topology.getTileNodeIds(t), "Tile nodes should match the topology");
+            assertEquals(board.getTile(t).getNumber(), board.getState().getTileNumber(t), "State should hold tile numbers");
+            assertEquals(board.getTile(t).getTerrain(), board.getState().getTileTerrain(t), "State should hold tile terrain");
+        }
+    }
+
+    /**
+     * Test 5: Node and edge changes (including clearing them, as undo does) are mirrored in the board state.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void stateMirrorsBuildingsAndRoads() {
+        Player blue = new Player(PlayerColor.BLUE);
+        BoardState state = board.getState();
+        assertEquals(BoardState.NO_OWNER, state.getNodeOwner(10), "Nodes should start empty");
+
+        board.getNode(10).setBuilding(new Settlement(blue));
+        assertEquals(PlayerColor.BLUE.ordinal(), state.getNodeOwner(10), "Owner seat should be recorded");
+        assertEquals(BoardState.SETTLEMENT, state.getBuildingType(10), "Settlement should be recorded");
+
+        board.getNode(10).setBuilding(new City(blue));
+        assertEquals(BoardState.CITY, state.getBuildingType(10), "City upgrade should be recorded");
+
+        board.getNode(10).setBuilding(null);
+        assertEquals(BoardState.NO_OWNER, state.getNodeOwner(10), "Cleared node should have no owner");
+        assertEquals(BoardState.NO_BUILDING, state.getBuildingType(10), "Cleared node should have no building");
+
+        Edge edge = board.getEdge(5);
+        edge.setRoad(new Road(blue, edge));
+        assertEquals(PlayerColor.BLUE.ordinal(), state.getRoadOwner(5), "Road owner seat should be recorded");
+        edge.setRoad(null);
+        assertEquals(BoardState.NO_OWNER, state.getRoadOwner(5), "Cleared road should have no owner");
+    }
+
+    /**
+     * Test 6: Bitboards agree with a direct scan of the nodes after placing and removing buildings and roads.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void bitboardsMatchDirectScan() {
+        Player red = new Player(PlayerColor.RED);
+        BoardState state = board.getState();
+        assertTrue(state.hasBitboards(), "Standard board should keep bitboards");
+
+        board.getNode(0).setBuilding(new Settlement(red));
+        board.getNode(30).setBuilding(new City(red));
+        Edge edge = board.getEdge(board.getIncidentEdgeIds(30)[0]);
+        edge.setRoad(new Road(red, edge));
+        board.getNode(0).setBuilding(null);
+
+        for (int nodeId = 0; nodeId < board.getNodeCount(); nodeId++) {
+            boolean free = board.getNode(nodeId).getBuilding() == null;
+            for (int other : board.getNeighbourNodeIds(nodeId)) {
+                free &= board.getNode(other).getBuilding() == null;
+            }
+            assertEquals(free, state.isBuildable(nodeId), "Distance rule mask should match for node " + nodeId);
+        }
+
+        int seat = PlayerColor.RED.ordinal();
+        assertEquals(1L << 30, state.getCityMask(seat), "City mask should hold only node 30");
+        assertEquals(0L, state.getSettlementMask(seat), "Removed settlement should leave the mask");
+        assertEquals((1L << edge.getNodeA().getId()) | (1L << edge.getNodeB().getId()), state.getRoadNodeMask(seat),
+                "Road node mask should be the road's endpoints");
+
+        long expectedLo = 0L;
+        long expectedHi = 0L;
+        for (int nodeId : new int[] {30, edge.getNodeA().getId(), edge.getNodeB().getId()}) {
+            for (int edgeId : board.getIncidentEdgeIds(nodeId)) {
+                if (edgeId != edge.getId()) {
+                    if (edgeId < 64) {
+                        expectedLo |= 1L << edgeId;
+                    } else {
+                        expectedHi |= 1L << (edgeId - 64);
+                    }
+                }
+            }
+        }
+        assertEquals(expectedLo, state.getRoadCandidateMaskLo(seat), "Road candidates (edges 0-63) should be free edges at the frontier");
+        assertEquals(expectedHi, state.getRoadCandidateMaskHi(seat), "Road candidates (edges 64+) should be free edges at the frontier");
+    }
+
+    /**
+     * Test 7: The edge distance table is symmetric, 0 on the diagonal, 1 exactly for edges sharing a node,
+     * and 2 exactly for edges joined through one road in between.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void edgeDistancesMatchAdjacency() {
+        BoardTopology topology = board.getTopology();
+        for (int a = 0; a < board.getEdgeCount(); a++) {
+            Edge edgeA = board.getEdge(a);
+            assertEquals(0, topology.getEdgeDistance(a, a), "An edge is 0 hops from itself");
+            for (int b = 0; b < board.getEdgeCount(); b++) {
+                Edge edgeB = board.getEdge(b);
+                int distance = topology.getEdgeDistance(a, b);
+                assertEquals(distance, topology.getEdgeDistance(b, a), "Distances should be symmetric");
+                assertEquals(a != b && edgeA.isAdjacentTo(edgeB), distance == 1, "Distance 1 should mean sharing a node");
+
+                boolean viaMiddle = false;
+                for (int m = 0; m < board.getEdgeCount() && !viaMiddle; m++) {
+                    viaMiddle = edgeA.isAdjacentTo(board.getEdge(m)) && board.getEdge(m).isAdjacentTo(edgeB);
+                }
+                assertEquals(a != b && !edgeA.isAdjacentTo(edgeB) && viaMiddle, distance == 2, "Distance 2 should mean one road in between");
+            }
+        }
+        assertEquals(BoardTopology.UNREACHABLE, topology.getEdgeDistance(-1, 0), "Invalid ids should be unreachable");
+    }
+
+    /**
+     * Test 8: Generated nodes read their neighbours and tiles from the shared layout, the state
+     * is built once and kept, and replacing arrays under a listening structure is refused.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void layoutIsBuiltOnceAndKeepsListeners() {
+        BoardTopology topology = board.getTopology();
+        for (int n = 0; n < board.getNodeCount(); n++) {
+            Node node = board.getNode(n);
+            int[] ids = topology.getNeighbourNodeIds(n);
+            assertEquals(ids.length, node.getAdjacentNodes().size(), "Neighbour count should match the layout");
+            for (int i = 0; i < ids.length; i++) {
+                assertSame(board.getNode(ids[i]), node.getAdjacentNodes().get(i));
+            }
+            assertEquals(topology.getNodeTileIds(n).length, node.getAdjacentTiles().size(), "Tile count should match the layout");
+        }
+
+        BoardState state = board.getState();
+        assertSame(state, board.getState(), "The state should be built once");
+        state.addListener(new BoardChangeListener() {
+            @Override
+            public void nodeChanged(int nodeId) {
+            }
+
+            @Override
+            public void roadChanged(int edgeId) {
+            }
+        });
+        assertThrows(IllegalStateException.class, () -> board.setEdges(new Edge[0]),
+                "Replacing edges would orphan the listener");
+        assertSame(state, board.getState(), "A refused change should keep the state");
+    }
+}
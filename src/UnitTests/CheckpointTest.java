@@ -0,0 +1,124 @@
+/**
+ * Tests for saving and resuming games through checkpoint files in our Settlers of Catan game.
+ * Checks that a resumed game continues exactly like an uninterrupted one.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.Bank;
+import SettlersOfCatan.Board;
+import SettlersOfCatan.DiceRoller;
+import SettlersOfCatan.Game;
+import SettlersOfCatan.PlacementValidator;
+import SettlersOfCatan.RandomBoardGenerator;
+
+/**
+ * Unit tests for Game.saveCheckpoint, Game.resume and periodic checkpoints.
+ */
+public class CheckpointTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 5;
+
+	/* Directory checkpoint files are written to */
+    @TempDir
+    Path directory;
+
+    /**
+     * Creates a seeded headless game.
+     */
+    private static Game newGame(long seed) {
+        Board board = new Board();
+        new RandomBoardGenerator(seed).generate(board);
+        Game game = new Game(board, new DiceRoller(seed), new Bank(), new PlacementValidator(), 4, new Random(seed));
+        game.setHeadless(true);
+        return game;
+    }
+
+    /**
+     * Test 1: A game saved between rounds and resumed plays on exactly like the same game
+     * run without interruption.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void resumedGameMatchesUninterruptedGame() throws IOException {
+        Path file = directory.resolve("game.ckpt");
+        Game first = newGame(11L);
+        first.startGame(25);
+        first.saveCheckpoint(file);
+
+        Game resumed = Game.resume(file);
+        assertEquals(first.captureState(), resumed.captureState(), "Resumed position should equal the saved one");
+        resumed.setHeadless(true);
+        resumed.startGame(60);
+
+        Game uninterrupted = newGame(11L);
+        uninterrupted.startGame(60);
+        assertEquals(uninterrupted.captureState(), resumed.captureState(),
+            "Random sources and position should carry over so both games end identically");
+    }
+
+    /**
+     * Test 2: Periodic checkpoints are written in the background and hold the latest due round.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void periodicCheckpointsAreWritten() throws IOException {
+        Path file = directory.resolve("periodic.ckpt");
+        Game game = newGame(5L);
+        game.setCheckpointInterval(file, 10);
+        game.startGame(35);
+
+        assertTrue(Files.exists(file), "A checkpoint should have been written");
+        assertFalse(Files.exists(directory.resolve("periodic.ckpt.tmp")), "No temporary file should remain");
+        Game resumed = Game.resume(file);
+        assertEquals(30, resumed.getRoundCount(), "The last checkpoint should be taken at the start of round 30");
+    }
+
+    /**
+     * Test 3: Checkpoints cannot be taken before setup, and invalid files are rejected,
+     * including history commands naming a seat or edge the game does not have.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void invalidCheckpointsAreRejected() throws IOException {
+        Path file = directory.resolve("bad.ckpt");
+        assertThrows(IllegalStateException.class, () -> newGame(1L).saveCheckpoint(file),
+            "Saving before the setup phase should fail");
+
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6});
+        assertThrows(IllegalArgumentException.class, () -> Game.resume(file), "Garbage should not resume");
+        assertThrows(IllegalArgumentException.class, () -> newGame(1L).setCheckpointInterval(file, 0),
+            "A zero interval should be rejected");
+
+        Game game = newGame(1L);
+        game.startGame(3);
+        game.setHumanPlayer(0);
+        game.saveCheckpoint(file);
+        byte[] saved = Files.readAllBytes(file);
+        // The file ends with the empty undo and redo counts; give undo one road record instead
+        byte[] badEdge = Arrays.copyOf(saved, saved.length + 5);
+        System.arraycopy(new byte[] {0, 0, 0, 1, 2, (byte) 250, 0, 0, 0, 0, 0, 0, 0}, 0, badEdge, saved.length - 8, 13);
+        Files.write(file, badEdge);
+        assertThrows(IllegalArgumentException.class, () -> Game.resume(file), "An unknown edge should not resume");
+
+        byte[] badSeat = badEdge.clone();
+        badSeat[saved.length - 3] = 0;
+        badSeat[saved.length - 2] = 9;
+        Files.write(file, badSeat);
+        assertThrows(IllegalArgumentException.class, () -> Game.resume(file), "An unknown seat should not resume");
+    }
+}
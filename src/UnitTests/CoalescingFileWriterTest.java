@@ -0,0 +1,98 @@
+/**
+ * Tests for the background coalescing file writer in our Settlers of Catan game.
+ * Checks that bursts coalesce to the newest document, that files are replaced whole and that
+ * a failed write is reported without stopping the writer.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.CoalescingFileWriter;
+import SettlersOfCatan.GameLog;
+
+/**
+ * Unit tests for the CoalescingFileWriter class.
+ */
+public class CoalescingFileWriterTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 5;
+
+	/* Directory the state file is written to */
+    @TempDir
+    Path directory;
+
+    /**
+     * Test 1: A burst of submissions inside the minimum interval ends with the newest
+     * document on disk and no temporary file left behind once closed.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void burstCoalescesToNewestDocument() throws IOException {
+        Path target = directory.resolve("state.json");
+        CoalescingFileWriter writer = new CoalescingFileWriter(target.toString(), 10_000);
+        for (int i = 0; i < 100; i++) {
+            writer.submit("{ \"version\": " + i + " }\n");
+        }
+        writer.close();
+
+        assertEquals("{ \"version\": 99 }\n", Files.readString(target), "The newest document should be written on close");
+        assertFalse(Files.exists(directory.resolve("state.json.tmp")), "The temporary file should be moved, not left behind");
+    }
+
+    /**
+     * Test 2: A closed writer rejects further documents and can be closed again safely.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void closedWriterRejectsSubmissions() {
+        CoalescingFileWriter writer = new CoalescingFileWriter(directory.resolve("state.json").toString(), 0);
+        writer.close();
+
+        assertThrows(IllegalStateException.class, () -> writer.submit("{}"),
+            "Submitting after close should fail");
+        assertDoesNotThrow(writer::close, "Closing twice should be a no-op");
+        assertThrows(IllegalArgumentException.class, () -> new CoalescingFileWriter("state.json", -1),
+            "A negative interval should be rejected");
+    }
+
+    /**
+     * Test 3: A write that fails is reported to the log, and the writer keeps going:
+     * the next document is written once the file can be created.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void failedWriteIsReportedAndWriterSurvives() throws IOException, InterruptedException {
+        Path missing = directory.resolve("missing");
+        Path target = missing.resolve("state.json");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GameLog log = new GameLog(new PrintStream(bytes, true, StandardCharsets.UTF_8))) {
+            CoalescingFileWriter writer = new CoalescingFileWriter(target.toString(), 0, log);
+            writer.submit("{ \"version\": 1 }\n");
+            while (bytes.size() == 0) {
+                Thread.sleep(1);
+                log.flush();
+            }
+            assertTrue(bytes.toString(StandardCharsets.UTF_8).startsWith("Failed to write state.json"),
+                "The failure should be reported to the game's log");
+
+            Files.createDirectory(missing);
+            writer.submit("{ \"version\": 2 }\n");
+            writer.close();
+        }
+        assertEquals("{ \"version\": 2 }\n", Files.readString(target), "The writer should survive a failed write");
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Tests for the JSON Lines game event log in our Settlers of Catan game.
+ * Checks that placements, rolls and robber moves append one line each, with periodic snapshots,
+ * and that a resumed game's log starts from its restored robber.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.Bank;
+import SettlersOfCatan.Board;
+import SettlersOfCatan.City;
+import SettlersOfCatan.DiceRoller;
+import SettlersOfCatan.Edge;
+import SettlersOfCatan.Game;
+import SettlersOfCatan.GameEventWriter;
+import SettlersOfCatan.GameState;
+import SettlersOfCatan.PlacementValidator;
+import SettlersOfCatan.Player;
+import SettlersOfCatan.PlayerColor;
+import SettlersOfCatan.RandomBoardGenerator;
+import SettlersOfCatan.Road;
+import SettlersOfCatan.Settlement;
+
+/**
+ * Unit tests for the GameEventWriter class.
+ */
+public class GameEventWriterTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 2;
+
+	/* Directory the log is written to */
+    @TempDir
+    Path directory;
+
+	/* Board object variable */
+    private Board board;
+
+	/* Player who places pieces */
+    private Player red;
+
+	/**
+	 * Setups the objects before each test
+	 */
+    @BeforeEach
+    public void setUp() {
+        board = new Board();
+        new RandomBoardGenerator(1L).generate(board);
+        red = new Player(PlayerColor.RED);
+    }
+
+    /**
+     * Test 1: The log starts with a snapshot and appends one line per placement, roll and robber move.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void eventsAppendOneLineEach() throws IOException {
+        Path log = directory.resolve("events.jsonl");
+        GameEventWriter events = new GameEventWriter(board, log.toString(), 100, () -> 3);
+        Edge edge = board.getEdge(0);
+
+        edge.getNodeA().setBuilding(new Settlement(red));
+        edge.setRoad(new Road(red, edge));
+        events.roll(red, 8);
+        events.robber(red, 4);
+
+        List<String> lines = Files.readAllLines(log);
+        assertEquals(4, lines.size(), "Rolls flush everything written so far");
+        assertTrue(lines.get(0).startsWith("{\"seq\":0,\"round\":3,\"type\":\"snapshot\""), "First line should be a snapshot");
+        assertEquals("{\"seq\":1,\"round\":3,\"type\":\"building\",\"node\":" + edge.getNodeA().getId()
+                + ",\"owner\":\"RED\",\"building\":\"SETTLEMENT\"}", lines.get(1));
+        assertTrue(lines.get(2).contains("\"type\":\"road\",\"edge\":0"), "Road placement should be logged");
+        assertEquals("{\"seq\":3,\"round\":3,\"type\":\"roll\",\"player\":\"RED\",\"roll\":8}", lines.get(3));
+
+        events.close();
+        lines = Files.readAllLines(log);
+        assertEquals(6, lines.size(), "Close should flush the robber line and a final snapshot");
+        assertTrue(lines.get(4).contains("\"type\":\"robber\",\"player\":\"RED\",\"tile\":4"), "Robber move should be logged");
+        assertTrue(lines.get(5).contains("\"robber\":4"), "Final snapshot should hold the robber tile");
+        assertTrue(lines.get(5).contains("\"roads\":[{\"edge\":0,\"a\":" + edge.getNodeA().getId() + ",\"b\":"
+                + edge.getNodeB().getId() + ",\"owner\":\"RED\"}]"), "Final snapshot should hold the road with its edge id");
+    }
+
+    /**
+     * Test 2: A snapshot with the full state is written every snapshotInterval events,
+     * and the log stops listening once closed.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void snapshotsAreWrittenPeriodically() throws IOException {
+        Path log = directory.resolve("events.jsonl");
+        GameEventWriter events = new GameEventWriter(board, log.toString(), 2, () -> 1);
+        board.getNode(0).setBuilding(new Settlement(red));
+        board.getNode(0).setBuilding(new City(red));
+        events.close();
+        board.getNode(10).setBuilding(new Settlement(red));
+
+        List<String> lines = Files.readAllLines(log);
+        assertEquals(4, lines.size(), "Snapshot, two events, periodic snapshot; nothing after close");
+        assertTrue(lines.get(3).contains("\"type\":\"snapshot\""), "Third line after the events should be a snapshot");
+        assertTrue(lines.get(3).contains("{\"node\":0,\"owner\":\"RED\",\"type\":\"CITY\"}"), "Snapshot should hold the city");
+        assertThrows(IllegalArgumentException.class,
+            () -> new GameEventWriter(board, log.toString(), 0, () -> 1), "Interval must be positive");
+    }
+
+    /**
+     * Test 3: A game created from a position starts its log with the restored robber tile,
+     * not -1.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void resumedGameLogsRestoredRobber() throws IOException {
+        Game played = new Game(board, new DiceRoller(1L), new Bank(), new PlacementValidator(), 4, new Random(1L));
+        played.setHeadless(true);
+        played.startGame(5);
+        GameState state = played.captureState();
+        state.setRobberTile(7);
+
+        Path log = directory.resolve("events.jsonl");
+        Game resumed = Game.fromState(state, 2L);
+        resumed.setHeadless(true);
+        resumed.setEventLogPath(log.toString());
+        resumed.startGame(state.getRoundCount());
+
+        String first = Files.readAllLines(log).get(0);
+        assertTrue(first.contains("\"type\":\"snapshot\""), "The log should open with a snapshot");
+        assertTrue(first.contains("\"robber\":7"), "The snapshot should hold the restored robber tile: " + first);
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Tests for the level- and category-gated game log in our Settlers of Catan game.
+ * Checks what is filtered out, that errors never are, and that written output keeps its order.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.GameLog;
+import SettlersOfCatan.LogCategory;
+import SettlersOfCatan.LogLevel;
+
+/**
+ * Unit tests for GameLog.
+ */
+public class GameLogTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 5;
+
+    /**
+     * Test 1: Disabled categories and levels are reported as off and write nothing,
+     * and a disabled log stays off whatever level it is given.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void disabledOutputIsFilteredOut() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GameLog log = new GameLog(new PrintStream(bytes, true, StandardCharsets.UTF_8))) {
+            log.setEnabled(LogCategory.PAYOUT, false);
+            assertFalse(log.isEnabled(LogCategory.PAYOUT));
+            assertTrue(log.isEnabled(LogCategory.BUILD));
+            assertFalse(log.isEnabled(LogLevel.DEBUG, LogCategory.BUILD), "INFO logs should hide DEBUG messages");
+
+            log.info(LogCategory.PAYOUT, "hidden");
+            log.setLevel(LogLevel.OFF);
+            log.info(LogCategory.BUILD, "hidden");
+            log.flush();
+        }
+        assertEquals("", bytes.toString(StandardCharsets.UTF_8));
+
+        GameLog disabled = GameLog.disabled();
+        disabled.setLevel(LogLevel.DEBUG);
+        assertFalse(disabled.isEnabled(LogLevel.DEBUG, LogCategory.TURN));
+        disabled.info(LogCategory.TURN, "ignored");
+        disabled.prompt("> ");
+    }
+
+    /**
+     * Test 2: Lines and prompts reach the stream in the order they were written,
+     * so a prompt is never shown before the output that precedes it.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void outputKeepsItsOrder() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        String separator = System.lineSeparator();
+        StringBuilder expected = new StringBuilder();
+        try (GameLog log = new GameLog(new PrintStream(bytes, true, StandardCharsets.UTF_8))) {
+            for (int i = 0; i < 500; i++) {
+                log.info(LogCategory.TURN, "Line " + i);
+                expected.append("Line ").append(i).append(separator);
+            }
+            log.prompt("> ");
+            expected.append("> ");
+            assertEquals(expected.toString(), bytes.toString(StandardCharsets.UTF_8),
+                "Everything before the prompt should already be written");
+
+            log.info(LogCategory.HUMAN, "Road built.");
+            expected.append("Road built.").append(separator);
+        }
+        assertEquals(expected.toString(), bytes.toString(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Test 3: Errors are written whatever the level and categories; a log with its own stream
+     * writes them there, a disabled log prints them to standard error.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void errorsAreNeverFilteredOut() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GameLog log = new GameLog(new PrintStream(bytes, true, StandardCharsets.UTF_8))) {
+            log.setLevel(LogLevel.OFF);
+            for (LogCategory category : LogCategory.values()) {
+                log.setEnabled(category, false);
+            }
+            log.error("Failed to write state.json");
+        }
+        assertEquals("Failed to write state.json" + System.lineSeparator(), bytes.toString(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream errors = new ByteArrayOutputStream();
+        PrintStream standardError = System.err;
+        System.setErr(new PrintStream(errors, true, StandardCharsets.UTF_8));
+        try {
+            GameLog.disabled().error("Failed to open event log");
+        } finally {
+            System.setErr(standardError);
+        }
+        assertEquals("Failed to open event log" + System.lineSeparator(), errors.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+/**
+ * Tests for headless batch simulation through GameRunner.
+ * Checks that seeded games are reproducible and produce a complete result.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.GameConfig;
+import SettlersOfCatan.GameResult;
+import SettlersOfCatan.GameRunner;
+import SettlersOfCatan.TournamentResult;
+import SettlersOfCatan.TournamentRunner;
+
+/**
+ * Tests for GameRunner, GameResult and TournamentRunner.
+ */
+public class GameRunnerTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 5;
+
+    /* Round limit that keeps each simulated game short */
+    private static final int SHORT_GAME_ROUNDS = 20;
+
+    /**
+     * Test 1: Two headless games with the same seed and config must produce identical results.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void runHeadlessIsReproducibleForSameSeed() {
+        GameConfig config = new GameConfig(4, SHORT_GAME_ROUNDS);
+        GameResult first = GameRunner.runHeadless(42L, config);
+        GameResult second = GameRunner.runHeadless(42L, config);
+
+        assertEquals(first.winnerSeat(), second.winnerSeat(), "Winner should match for the same seed");
+        assertEquals(first.rounds(), second.rounds(), "Round count should match for the same seed");
+        assertArrayEquals(first.victoryPoints(), second.victoryPoints(), "Victory points should match for the same seed");
+        assertArrayEquals(first.builds(), second.builds(), "Build counts should match for the same seed");
+    }
+
+    /**
+     * Test 2: A headless game reports one entry per seat, a valid winner, and at least the
+     * setup placements (2 settlements + 2 roads) for every seat.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void runHeadlessReturnsCompleteResult() {
+        GameResult result = GameRunner.runHeadless(7L, new GameConfig(3, SHORT_GAME_ROUNDS));
+
+        assertEquals(3, result.victoryPoints().length, "Victory points should have one entry per seat");
+        assertEquals(3, result.builds().length, "Builds should have one entry per seat");
+        assertTrue(result.winnerSeat() >= 0 && result.winnerSeat() < 3, "Winner seat should be a valid seat index");
+        assertTrue(result.rounds() >= 1 && result.rounds() <= SHORT_GAME_ROUNDS, "Rounds should be within the configured limit");
+        for (int i = 0; i < 3; i++) {
+            assertTrue(result.builds()[i] >= 4, "Every seat places at least 4 pieces during setup");
+            assertTrue(result.victoryPoints()[i] >= 2, "Every seat earns at least 2 VP during setup");
+        }
+    }
+
+    /**
+     * Test 3: GameConfig rejects player counts and round limits outside the valid range.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void gameConfigRejectsInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> new GameConfig(0, 10), "Zero players should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new GameConfig(5, 10), "More players than colors should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new GameConfig(4, 0), "A zero round limit should be rejected");
+    }
+
+    /**
+     * Test 4: A tournament is reproducible regardless of thread count, and every game
+     * is credited to exactly one winning seat.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void tournamentWinsDoNotDependOnParallelism() {
+        GameConfig config = new GameConfig(4, SHORT_GAME_ROUNDS);
+        TournamentResult sequential = TournamentRunner.run(100L, 8, config, 1);
+        TournamentResult parallel = TournamentRunner.run(100L, 8, config, 4);
+
+        int totalWins = 0;
+        for (int seat = 0; seat < 4; seat++) {
+            assertEquals(sequential.getWins(seat), parallel.getWins(seat), "Wins per seat should not depend on thread count");
+            totalWins += parallel.getWins(seat);
+        }
+        assertEquals(8, totalWins, "Every game should have exactly one winner");
+        assertEquals(8, parallel.getGames(), "Tournament should report the number of games played");
+    }
+
+    /**
+     * Test 5: Results are values: equal games compare equal, print their points, and callers
+     * cannot change a result through the arrays it hands out or was built from.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void gameResultIsAValue() {
+        GameConfig config = new GameConfig(4, SHORT_GAME_ROUNDS);
+        GameResult first = GameRunner.runHeadless(42L, config);
+        GameResult second = GameRunner.runHeadless(42L, config);
+        assertEquals(first, second, "Results of the same seed should be equal");
+        assertEquals(first.hashCode(), second.hashCode(), "Equal results should hash alike");
+        assertTrue(first.toString().contains(Arrays.toString(first.victoryPoints())),
+                "toString should show the points, not an array address");
+
+        first.victoryPoints()[0] += 100;
+        first.builds()[0] += 100;
+        assertEquals(second, first, "Changing a returned array should not change the result");
+
+        int[] points = {3, 4};
+        GameResult built = new GameResult(1, 10, points, new int[] {5, 6});
+        points[1] = 0;
+        assertEquals(4, built.victoryPoints(1), "The result should keep its own copy of the points");
+    }
+}
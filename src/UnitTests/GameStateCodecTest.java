@@ -0,0 +1,107 @@
+/**
+ * Tests for the binary game state format in our Settlers of Catan game.
+ * Checks round trips of captured positions, record size, streaming and rejection of bad input.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.Bank;
+import SettlersOfCatan.Board;
+import SettlersOfCatan.BoardState;
+import SettlersOfCatan.DiceRoller;
+import SettlersOfCatan.Game;
+import SettlersOfCatan.GameState;
+import SettlersOfCatan.GameStateCodec;
+import SettlersOfCatan.PlacementValidator;
+import SettlersOfCatan.RandomBoardGenerator;
+import SettlersOfCatan.ResourceType;
+
+/**
+ * Unit tests for the GameStateCodec class.
+ * Uses the position at the end of a short seeded headless game.
+ */
+public class GameStateCodecTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 5;
+
+	/* Position captured from a played game */
+    private GameState state;
+
+	/**
+	 * Setups the objects before each test
+	 */
+    @BeforeEach
+    public void setUp() {
+        Board board = new Board();
+        new RandomBoardGenerator(7L).generate(board);
+        Game game = new Game(board, new DiceRoller(7L), new Bank(), new PlacementValidator(), 4, new Random(7L));
+        game.setHeadless(true);
+        game.startGame(40);
+        state = game.captureState();
+    }
+
+    /**
+     * Test 1: A mid-game position survives a round trip and fits in 100 to 200 bytes.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void capturedStateRoundTrips() {
+        byte[] bytes = GameStateCodec.toBytes(state);
+
+        assertTrue(bytes.length >= 100 && bytes.length <= 200, "Encoded size should be 100-200 bytes, was " + bytes.length);
+        assertTrue(bytes.length <= GameStateCodec.maxEncodedSize(state), "Size bound should hold");
+        assertEquals(state, GameStateCodec.fromBytes(bytes), "Decoded state should equal the original");
+    }
+
+    /**
+     * Test 2: Records written back to back in one buffer are read back in order.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void recordsStreamThroughOneBuffer() {
+        GameState empty = new GameState(4, 19, 54, 72);
+        empty.setResourceCount(2, ResourceType.ORE, 300);
+        empty.setBuilding(5, 3, BoardState.CITY);
+
+        ByteBuffer buffer = ByteBuffer.allocate(GameStateCodec.maxEncodedSize(state) + GameStateCodec.maxEncodedSize(empty));
+        GameStateCodec.encode(state, buffer);
+        GameStateCodec.encode(empty, buffer);
+        buffer.flip();
+
+        assertEquals(state, GameStateCodec.decode(buffer), "First record should decode first");
+        assertEquals(empty, GameStateCodec.decode(buffer), "Second record should follow");
+        assertFalse(buffer.hasRemaining(), "Both records should be consumed exactly");
+    }
+
+    /**
+     * Test 3: Unknown versions, truncated records and invalid buildings are rejected.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void invalidRecordsAreRejected() {
+        byte[] bytes = GameStateCodec.toBytes(state);
+
+        byte[] wrongVersion = bytes.clone();
+        wrongVersion[0] = 99;
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.fromBytes(wrongVersion));
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 3);
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.fromBytes(truncated));
+
+        byte[] ownerless = bytes.clone();
+        ownerless[5 + state.getTileCount()] = BoardState.SETTLEMENT; // building without an owner
+        assertThrows(IllegalArgumentException.class, () -> GameStateCodec.fromBytes(ownerless));
+    }
+}
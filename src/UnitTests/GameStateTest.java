@@ -0,0 +1,226 @@
+/**
+ * Tests for the flat game position in our Settlers of Catan game.
+ * Checks forking positions with copy(), playing and taking back builds with apply() and unapply(),
+ * and that the listed legal moves always match the rules.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.ActionType;
+import SettlersOfCatan.Bank;
+import SettlersOfCatan.Board;
+import SettlersOfCatan.BoardState;
+import SettlersOfCatan.BuildingType;
+import SettlersOfCatan.DiceRoller;
+import SettlersOfCatan.Game;
+import SettlersOfCatan.GameState;
+import SettlersOfCatan.Move;
+import SettlersOfCatan.PlacementValidator;
+import SettlersOfCatan.RandomBoardGenerator;
+import SettlersOfCatan.ResourceType;
+
+/**
+ * Unit tests for the GameState class.
+ * Uses the position at the end of a short seeded headless game.
+ */
+public class GameStateTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 5;
+
+	/* Moves played in each random walk */
+    private static final int WALK_STEPS = 400;
+
+	/* Cards of each resource every seat starts a random walk with */
+    private static final int WALK_CARDS = 60;
+
+	/* Position captured from a played game */
+    private GameState state;
+
+	/**
+	 * Setups the objects before each test
+	 */
+    @BeforeEach
+    public void setUp() {
+        Board board = new Board();
+        new RandomBoardGenerator(7L).generate(board);
+        Game game = new Game(board, new DiceRoller(7L), new Bank(), new PlacementValidator(), 4, new Random(7L));
+        game.setHeadless(true);
+        game.startGame(40);
+        state = game.captureState();
+    }
+
+    /**
+     * Test 1: A copy equals the original, and changing it leaves the original untouched.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void copyIsIndependent() {
+        GameState copy = state.copy();
+        assertEquals(state, copy, "A fresh copy should equal the original");
+
+        int ore = state.getResourceCount(1, ResourceType.ORE);
+        copy.setResourceCount(1, ResourceType.ORE, ore + 5);
+        copy.setBuilding(0, 2, BoardState.CITY);
+        copy.setRoundCount(state.getRoundCount() + 1);
+
+        assertEquals(ore, state.getResourceCount(1, ResourceType.ORE), "The original hand should not change");
+        assertNotEquals(state, copy, "The copy should have diverged");
+    }
+
+    /**
+     * Test 2: Every legal move of a seat with a full hand can be applied and taken back, leaving
+     * exactly the original position and its move list; builds pay their cost and illegal moves
+     * are rejected.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void applyAndUnapplyRoundTrip() {
+        int seat = state.getCurrentPlayer();
+        for (ResourceType type : ResourceType.values()) {
+            if (type != ResourceType.NULL) {
+                state.setResourceCount(seat, type, 4);
+            }
+        }
+        GameState original = state.copy();
+        int[] moves = new int[1 + 2 * state.getNodeCount() + state.getEdgeCount()];
+        int count = state.legalMoves(moves);
+        boolean sawCity = false;
+        boolean sawRoad = false;
+
+        for (int i = 0; i < count; i++) {
+            int move = moves[i];
+            assertTrue(state.isLegal(move), "Listed moves should be legal: " + Move.toString(move));
+            state.apply(move);
+            if (Move.type(move) == ActionType.ROAD) {
+                sawRoad = true;
+                assertEquals(seat, state.getRoadOwner(Move.location(move)));
+                assertEquals(3, state.getResourceCount(seat, ResourceType.WOOD), "A road costs one wood");
+                assertEquals(original.getPieceCount(seat, BuildingType.ROAD) - 1, state.getPieceCount(seat, BuildingType.ROAD));
+            } else if (Move.type(move) == ActionType.CITY) {
+                sawCity = true;
+                assertEquals(BoardState.CITY, state.getBuildingType(Move.location(move)));
+                assertEquals(original.getVictoryPoints(seat) + 1, state.getVictoryPoints(seat), "A city adds a point");
+            }
+            state.unapply(move);
+            assertEquals(original, state, "Taking back " + Move.toString(move) + " should restore the position");
+        }
+        assertTrue(sawCity && sawRoad, "A full hand should allow cities and roads");
+        int[] again = new int[moves.length];
+        assertEquals(count, state.legalMoves(again), "Taking moves back should restore the move list");
+        assertArrayEquals(moves, again);
+
+        int occupied = 0;
+        while (state.getNodeOwner(occupied) == BoardState.NO_OWNER) {
+            occupied++;
+        }
+        int taken = occupied;
+        assertThrows(IllegalArgumentException.class, () -> state.apply(Move.of(ActionType.SETTLEMENT, taken)),
+                "An occupied node cannot take a settlement");
+        assertThrows(IllegalArgumentException.class, () -> state.unapply(Move.of(ActionType.ROAD, 0))
+                , "Only a road the seat owns can be taken back");
+        assertEquals(original, state, "Rejected moves should not change the position");
+    }
+
+    /**
+     * Test 3: A position forked from a game and changed with apply() becomes a playable game
+     * that captures back to the same position.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void forkedStateRoundTripsThroughGame() {
+        GameState fork = state.copy();
+        int seat = fork.getCurrentPlayer();
+        fork.setResourceCount(seat, ResourceType.WOOD, 1);
+        fork.setResourceCount(seat, ResourceType.BRICK, 1);
+        int[] moves = new int[1 + 2 * fork.getNodeCount() + fork.getEdgeCount()];
+        int count = fork.legalMoves(moves);
+        assertTrue(count > 1, "Wood and brick should pay for a road");
+        fork.apply(moves[count - 1]);
+
+        Game game = Game.fromState(fork, 3L);
+        assertEquals(fork, game.captureState(), "The game should hold exactly the forked position");
+
+        game.setHeadless(true);
+        game.startGame(60);
+        assertEquals(60, game.getRoundCount(), "The forked game should play on to the round limit");
+    }
+
+    /**
+     * Test 4: Along random walks of builds, take-backs and copies, the listed legal moves are
+     * exactly the moves isLegal() accepts on every node and edge, and every take-back restores
+     * the position it undoes.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void legalMovesMatchRulesAlongRandomWalks() {
+        Random random = new Random(11L);
+        int[] moves = new int[1 + 2 * state.getNodeCount() + state.getEdgeCount()];
+        for (int walk = 0; walk < 3; walk++) {
+            GameState position = state.copy();
+            for (int seat = 0; seat < position.getNumPlayers(); seat++) {
+                for (ResourceType type : ResourceType.values()) {
+                    if (type != ResourceType.NULL) {
+                        position.setResourceCount(seat, type, WALK_CARDS);
+                    }
+                }
+            }
+            Deque<GameState> before = new ArrayDeque<>();
+            Deque<int[]> played = new ArrayDeque<>();
+            for (int step = 0; step < WALK_STEPS; step++) {
+                if (!played.isEmpty() && random.nextInt(3) == 0) {
+                    int[] last = played.pop();
+                    position.setCurrentPlayer(last[1]);
+                    position.unapply(last[0]);
+                    assertEquals(before.pop(), position, "Taking back " + Move.toString(last[0]) + " should restore the position");
+                    assertMovesMatchRules(position, moves, position.legalMoves(moves));
+                } else {
+                    int seat = position.getCurrentPlayer();
+                    int count = position.legalMoves(moves);
+                    assertMovesMatchRules(position, moves, count);
+                    int move = moves[random.nextInt(count)];
+                    before.push(position.copy());
+                    position.apply(move);
+                    played.push(new int[] {move, seat});
+                    position.setCurrentPlayer((seat + 1) % position.getNumPlayers());
+                }
+                if (random.nextInt(50) == 0) {
+                    position = position.copy();
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks a move list against an isLegal() sweep over every settlement, city and road.
+     */
+    private static void assertMovesMatchRules(GameState position, int[] moves, int count) {
+        Set<Integer> listed = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            listed.add(moves[i]);
+        }
+        for (int n = 0; n < position.getNodeCount(); n++) {
+            for (ActionType type : new ActionType[] {ActionType.SETTLEMENT, ActionType.CITY}) {
+                int move = Move.of(type, n);
+                assertEquals(position.isLegal(move), listed.contains(move), "Move list disagrees on " + Move.toString(move));
+            }
+        }
+        for (int e = 0; e < position.getEdgeCount(); e++) {
+            int move = Move.of(ActionType.ROAD, e);
+            assertEquals(position.isLegal(move), listed.contains(move), "Move list disagrees on " + Move.toString(move));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/**
+ * Tests for the AI handler metrics in our Settlers of Catan game.
+ * Checks that the counters add up along the chain and across threads, and the snapshot file.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.GameConfig;
+import SettlersOfCatan.HandlerMetrics;
+import SettlersOfCatan.HandlerStats;
+import SettlersOfCatan.TournamentRunner;
+
+/**
+ * Unit tests for HandlerMetrics and HandlerStats.
+ */
+public class HandlerMetricsTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 10;
+
+	/* Directory snapshot files are written to */
+    @TempDir
+    Path directory;
+
+    /**
+     * Test 1: Every turn reaches the first handler, each handler sees exactly the turns its
+     * predecessor forwarded, and every turn is acted on by one handler.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void countsAddUpAlongTheChain() {
+        HandlerMetrics metrics = new HandlerMetrics(1);
+        TournamentRunner.run(7L, 20, new GameConfig(4, 40), 1, metrics);
+
+        List<HandlerStats> handlers = metrics.getHandlers();
+        assertEquals(4, handlers.size());
+        assertEquals("OverHandSizeHandler", handlers.get(0).getName());
+        assertEquals("ValueScoringHandler", handlers.get(3).getName());
+        assertTrue(metrics.getTurns() > 0);
+        assertEquals(metrics.getTurns(), handlers.get(0).getDecisions());
+
+        long acted = 0;
+        for (int i = 0; i < handlers.size(); i++) {
+            HandlerStats stats = handlers.get(i);
+            acted += stats.getActed();
+            if (i > 0) {
+                assertEquals(handlers.get(i - 1).getForwarded(), stats.getDecisions(),
+                        stats.getName() + " should see every turn its predecessor forwarded");
+            }
+            long staged = 0;
+            for (int stage = 0; stage < HandlerStats.FILL_STAGES; stage++) {
+                staged += stats.getStageDecisions(stage);
+            }
+            assertEquals(stats.getDecisions(), staged, "Every decision falls in one fill stage");
+            assertEquals(stats.getDecisions(), stats.getHistogram().getCount());
+        }
+        assertEquals(metrics.getTurns(), acted, "The last handler acts on whatever reaches it");
+    }
+
+    /**
+     * Test 2: A registry shared by parallel games counts the same decisions as a single-threaded run.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void parallelGamesCountLikeSequentialGames() {
+        GameConfig config = new GameConfig(4, 40);
+        HandlerMetrics sequential = new HandlerMetrics(1);
+        TournamentRunner.run(11L, 24, config, 1, sequential);
+        HandlerMetrics parallel = new HandlerMetrics(4);
+        TournamentRunner.run(11L, 24, config, 4, parallel);
+
+        assertEquals(sequential.getTurns(), parallel.getTurns());
+        for (HandlerStats stats : sequential.getHandlers()) {
+            HandlerStats other = parallel.getHandler(stats.getName());
+            assertEquals(stats.getDecisions(), other.getDecisions());
+            assertEquals(stats.getActed(), other.getActed());
+            assertEquals(stats.getDecisions(), other.getHistogram().getCount());
+        }
+    }
+
+    /**
+     * Test 3: Closing a registry that exports snapshots writes a final snapshot listing every handler.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void closeWritesFinalSnapshot() throws IOException {
+        Path file = directory.resolve("metrics.json");
+        HandlerMetrics metrics = new HandlerMetrics(2);
+        metrics.startSnapshots(file, 60_000);
+        assertThrows(IllegalStateException.class, () -> metrics.startSnapshots(file, 1_000));
+        TournamentRunner.run(3L, 4, new GameConfig(4, 20), 2, metrics);
+        metrics.close();
+
+        String json = Files.readString(file);
+        assertTrue(json.contains("\"turns\": " + metrics.getTurns()));
+        for (HandlerStats stats : metrics.getHandlers()) {
+            assertTrue(json.contains("\"name\": \"" + stats.getName() + "\""), stats.getName());
+        }
+        assertEquals("8-11", HandlerStats.stageLabel(HandlerStats.stageOf(9)));
+        assertEquals("20+", HandlerStats.stageLabel(HandlerStats.stageOf(54)));
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Tests for the JFR events emitted by our Settlers of Catan game.
+ * Checks that a recorded game produces consistent turn, roll and AI decision events.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import SettlersOfCatan.Bank;
+import SettlersOfCatan.Board;
+import SettlersOfCatan.DiceRoller;
+import SettlersOfCatan.Game;
+import SettlersOfCatan.PlacementValidator;
+import SettlersOfCatan.RandomBoardGenerator;
+import SettlersOfCatan.TurnListener;
+import SettlersOfCatan.Player;
+
+/**
+ * Unit tests for the SettlersOfCatan JFR events and InstrumentedHandler.
+ */
+public class JfrEventTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 10;
+
+	/* Directory the recording is dumped to */
+    @TempDir
+    Path directory;
+
+    /**
+     * Test 1: Every turn of a recorded game has one turn event, one roll event and exactly one
+     * AI handler that acted, and all of them carry the game's id.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void recordedGameHasConsistentEvents() throws IOException {
+        Board board = new Board();
+        new RandomBoardGenerator(4L).generate(board);
+        Game game = new Game(board, new DiceRoller(4L), new Bank(), new PlacementValidator(), 4, new Random(4L));
+        game.setHeadless(true);
+        int[] turns = new int[1];
+        game.setTurnListener(new TurnListener() {
+            @Override
+            public void turnStarted(Player player, int round) {
+                turns[0]++;
+            }
+
+            @Override
+            public void turnEnded(Player player, int round) {
+            }
+        });
+
+        Path file = directory.resolve("game.jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : new String[] {"Turn", "DiceRoll", "AIHandlerDecision", "Placement"}) {
+                recording.enable("SettlersOfCatan." + name).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            game.startGame(20);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, Integer> counts = new HashMap<>();
+        int acted = 0;
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        for (RecordedEvent event : events) {
+            String name = event.getEventType().getName();
+            counts.merge(name, 1, Integer::sum);
+            assertEquals(game.getGameId(), event.getLong("gameId"), "Every event should carry the game id");
+            if (name.equals("SettlersOfCatan.AIHandlerDecision")) {
+                if (event.getBoolean("acted")) {
+                    acted++;
+                }
+                assertTrue(event.getLong("decisionNanos") <= event.getDuration().toNanos() + 1_000,
+                    "A handler's own decision time cannot exceed the time including its successors");
+            }
+        }
+
+        assertTrue(turns[0] > 0);
+        assertEquals(turns[0], counts.get("SettlersOfCatan.Turn"));
+        assertEquals(turns[0], counts.get("SettlersOfCatan.DiceRoll"), "One roll is resolved per AI turn");
+        assertEquals(turns[0], acted, "Exactly one handler in the chain acts per turn");
+        assertTrue(counts.get("SettlersOfCatan.Placement") >= 16, "Setup alone places 16 pieces");
+    }
+}
@@ -0,0 +1,115 @@
+/**
+ * Tests for the LegalMoveTracker class in our Settlers of Catan game.
+ * Checks that incrementally updated candidate sets match a fresh rebuild.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.Bank;
+import SettlersOfCatan.Board;
+import SettlersOfCatan.Edge;
+import SettlersOfCatan.LegalMoveTracker;
+import SettlersOfCatan.Node;
+import SettlersOfCatan.PlacementValidator;
+import SettlersOfCatan.Player;
+import SettlersOfCatan.PlayerActions;
+import SettlersOfCatan.PlayerColor;
+import SettlersOfCatan.RandomBoardGenerator;
+import SettlersOfCatan.Road;
+import SettlersOfCatan.Settlement;
+
+/**
+ * Unit tests for the LegalMoveTracker class.
+ */
+public class LegalMoveTrackerTest {
+
+	/* Board object variable */
+    private Board board;
+
+	/* Tracker under test, created before any placement */
+    private LegalMoveTracker tracker;
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 2;
+
+	/**
+	 * Setups the objects before each test
+	 */
+    @BeforeEach
+    public void setUp() {
+        board = new Board();
+        new RandomBoardGenerator(3L).generate(board);
+        tracker = new LegalMoveTracker(board);
+    }
+
+    /**
+     * Test 1: A settlement with a road gives its owner road, city and settlement candidates, and none to others.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void settlementAndRoadCreateCandidatesForOwnerOnly() {
+        Player red = new Player(PlayerColor.RED);
+        int seat = PlayerColor.RED.ordinal();
+        assertFalse(tracker.hasAnyLegalRoad(seat), "Empty board should have no road candidates");
+
+        Node node = board.getNode(10);
+        node.setBuilding(new Settlement(red));
+        assertTrue(tracker.hasAnyLegalRoad(seat), "Settlement should open its edges for roads");
+        assertTrue(tracker.hasAnyLegalCity(seat), "Settlement should be upgradeable");
+        assertFalse(tracker.hasAnyLegalSettlement(seat), "No roads means no settlement candidates");
+
+        Edge first = board.getEdge(board.getIncidentEdgeIds(10)[0]);
+        first.setRoad(new Road(red, first));
+        int far = first.getNodeA().getId() == 10 ? first.getNodeB().getId() : first.getNodeA().getId();
+        assertFalse(tracker.isLegalRoad(seat, first.getId()), "Occupied edge is no longer a candidate");
+        assertFalse(tracker.isLegalSettlement(seat, far), "Neighbour of a settlement breaks the distance rule");
+
+        int blue = PlayerColor.BLUE.ordinal();
+        assertFalse(tracker.hasAnyLegalRoad(blue), "Other seats should gain nothing");
+        assertFalse(tracker.hasAnyLegalCity(blue), "Other seats should have no cities to upgrade");
+    }
+
+    /**
+     * Test 2: After a random sequence of placements and removals the tracker matches one built from scratch.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void incrementalUpdatesMatchFreshTracker() {
+        Player[] players = RandomBoardChanges.players();
+        RandomBoardChanges.apply(board, players, new Random(11L), 300);
+
+        LegalMoveTracker fresh = new LegalMoveTracker(board);
+        for (int seat = 0; seat < players.length; seat++) {
+            assertEquals(fresh.getSettlementCandidates(seat), tracker.getSettlementCandidates(seat), "Settlement candidates for seat " + seat);
+            assertEquals(fresh.getCityCandidates(seat), tracker.getCityCandidates(seat), "City candidates for seat " + seat);
+            assertEquals(fresh.getRoadCandidatesLo(seat), tracker.getRoadCandidatesLo(seat), "Road candidates 0-63 for seat " + seat);
+            assertEquals(fresh.getRoadCandidatesHi(seat), tracker.getRoadCandidatesHi(seat), "Road candidates 64+ for seat " + seat);
+        }
+    }
+
+    /**
+     * Test 3: Every actions object on a board reads the board's one tracker, so creating more
+     * of them does not register more listeners.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void actionsShareTheBoardTracker() {
+        Player[] players = RandomBoardChanges.players();
+        PlayerActions first = new PlayerActions(board, new Bank(), new PlacementValidator(), players, new Random(1L));
+        PlayerActions second = new PlayerActions(board, new Bank(), new PlacementValidator(), players, new Random(2L));
+
+        assertSame(board.getLegalMoveTracker(), first.getLegalMoves());
+        assertSame(first.getLegalMoves(), second.getLegalMoves(), "Both actions should share one tracker");
+        assertThrows(IllegalStateException.class, () -> board.setEdges(board.getEdges()),
+                "The layout is fixed once the tracker listens to it");
+    }
+}
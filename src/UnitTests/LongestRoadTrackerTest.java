@@ -0,0 +1,117 @@
+/**
+ * Tests for the LongestRoadTracker class in our Settlers of Catan game.
+ * Checks road lengths on paths, loops and roads cut by opponent buildings.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.Board;
+import SettlersOfCatan.Edge;
+import SettlersOfCatan.LongestRoadTracker;
+import SettlersOfCatan.Player;
+import SettlersOfCatan.PlayerColor;
+import SettlersOfCatan.RandomBoardGenerator;
+import SettlersOfCatan.Road;
+import SettlersOfCatan.Settlement;
+
+/**
+ * Unit tests for the LongestRoadTracker class.
+ * Roads are laid around the ring of nodes of the centre tile (1, 2, 3, 4, 5, 0).
+ */
+public class LongestRoadTrackerTest {
+
+	/* Node ids around the centre tile, in ring order */
+    private static final int[] RING = {1, 2, 3, 4, 5, 0};
+
+	/* Board object variable */
+    private Board board;
+
+	/* Tracker under test */
+    private LongestRoadTracker tracker;
+
+	/* Player laying the roads */
+    private Player red;
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 2;
+
+	/**
+	 * Setups the objects before each test
+	 */
+    @BeforeEach
+    public void setUp() {
+        board = new Board();
+        new RandomBoardGenerator(5L).generate(board);
+        tracker = new LongestRoadTracker(board);
+        red = new Player(PlayerColor.RED);
+    }
+
+    /**
+     * Lays a road for a player between two nodes.
+     */
+    private Edge lay(Player player, int nodeA, int nodeB) {
+        Edge edge = board.findEdge(nodeA, nodeB);
+        edge.setRoad(new Road(player, edge));
+        return edge;
+    }
+
+    /**
+     * Test 1: A path grows one road at a time, and closing the ring counts every road once.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void pathAndLoopLengths() {
+        assertEquals(0, tracker.getLength(red), "No roads means length 0");
+        for (int i = 0; i < 5; i++) {
+            lay(red, RING[i], RING[i + 1]);
+            assertEquals(i + 1, tracker.getLength(red), "Path should grow by one per road");
+        }
+        lay(red, RING[5], RING[0]);
+        assertEquals(6, tracker.getLength(red), "A closed ring of six roads should count six");
+    }
+
+    /**
+     * Test 2: An opponent settlement in the middle of a road splits it, and removing the road or the settlement updates the length.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void opponentBuildingBreaksRoad() {
+        for (int i = 0; i < 5; i++) {
+            lay(red, RING[i], RING[i + 1]);
+        }
+        Player blue = new Player(PlayerColor.BLUE);
+        board.getNode(RING[2]).setBuilding(new Settlement(blue));
+        assertEquals(3, tracker.getLength(red), "Settlement at the third node should leave pieces of 2 and 3");
+
+        board.getNode(RING[2]).setBuilding(null);
+        assertEquals(5, tracker.getLength(red), "Removing the settlement should rejoin the road");
+
+        board.findEdge(RING[4], RING[5]).setRoad(null);
+        assertEquals(4, tracker.getLength(red), "Removing the last road should shorten the path");
+        assertEquals(0, tracker.getLength(blue), "Blue has no roads");
+    }
+
+    /**
+     * Test 3: After random roads and buildings the incremental lengths match a tracker built from scratch.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void incrementalLengthsMatchFreshTracker() {
+        Player[] players = RandomBoardChanges.players();
+        RandomBoardChanges.apply(board, players, new Random(21L), 300);
+
+        LongestRoadTracker fresh = new LongestRoadTracker(board);
+        for (Player player : players) {
+            assertEquals(fresh.getLength(player), tracker.getLength(player), "Length for " + player.getColor());
+        }
+    }
+}
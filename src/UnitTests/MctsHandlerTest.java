@@ -0,0 +1,100 @@
+/**
+ * Tests for the Monte Carlo Tree Search agent in our Settlers of Catan game.
+ * Checks that searched games are reproducible, finish with threads, and that bad settings are rejected.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.Bank;
+import SettlersOfCatan.Board;
+import SettlersOfCatan.DiceRoller;
+import SettlersOfCatan.Game;
+import SettlersOfCatan.GameConfig;
+import SettlersOfCatan.MctsConfig;
+import SettlersOfCatan.MctsHandler;
+import SettlersOfCatan.MctsMatch;
+import SettlersOfCatan.PlacementValidator;
+import SettlersOfCatan.Player;
+import SettlersOfCatan.RandomBoardGenerator;
+
+/**
+ * Unit tests for MctsHandler, MctsConfig and MctsMatch.
+ */
+public class MctsHandlerTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 10;
+
+	/* Round limit that keeps each searched game short */
+    private static final int SHORT_GAME_ROUNDS = 60;
+
+    /**
+     * Test 1: Single-threaded searches limited by rollouts only give the same match result
+     * for the same seeds, whatever the number of games played at once.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void rolloutLimitedMatchIsReproducible() {
+        GameConfig config = new GameConfig(4, SHORT_GAME_ROUNDS);
+        MctsConfig search = new MctsConfig(0, 40, 1, 11L);
+        MctsMatch.Outcome first = MctsMatch.run(5L, 4, config, search, 1);
+        MctsMatch.Outcome second = MctsMatch.run(5L, 4, config, search, 4);
+
+        assertEquals(first, second, "Same seeds should give the same outcome");
+        assertEquals(4, first.games());
+        assertTrue(first.mctsPoints() >= 2 * 4, "Every searched seat keeps its setup settlements");
+    }
+
+    /**
+     * Test 2: A game with a time-limited, multi-threaded MctsHandler in one seat runs to the
+     * round limit, the handler searches with every thread, and the game stops those threads
+     * when it ends.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void threadedHandlerPlaysAGame() throws InterruptedException {
+        Board board = new Board();
+        new RandomBoardGenerator(3L).generate(board);
+        Game game = new Game(board, new DiceRoller(3L), new Bank(), new PlacementValidator(), 4, new Random(3L));
+        game.setHeadless(true);
+        try (MctsHandler handler = new MctsHandler(game, new MctsConfig(5, 0, 3, 3L))) {
+            game.setAgent(2, handler);
+            game.startGame(SHORT_GAME_ROUNDS);
+
+            assertTrue(handler.getLastRollouts() >= 3, "Every thread should finish at least one rollout");
+            for (Thread thread : Thread.getAllStackTraces().keySet()) {
+                if (thread.getName().equals("mcts-search")) {
+                    thread.join(DEFAULT_TIMEOUT * 100L);
+                    assertFalse(thread.isAlive(), "The game should stop the search threads when it ends");
+                }
+            }
+        }
+
+        assertEquals(SHORT_GAME_ROUNDS, game.getRoundCount(), "Nobody can reach 10 VP, so the round limit ends the game");
+        for (Player player : game.getPlayers()) {
+            assertTrue(player.getVictoryPoints() >= 2, "Every seat keeps its setup settlements");
+        }
+        assertThrows(IllegalArgumentException.class, () -> game.setAgent(4, null), "Seat 4 does not exist");
+    }
+
+    /**
+     * Test 3: MctsConfig rejects settings that would search forever or not at all.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void mctsConfigRejectsInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> new MctsConfig(0, 0, 1, 0L), "Some limit must be set");
+        assertThrows(IllegalArgumentException.class, () -> new MctsConfig(-1, 10, 1, 0L), "A negative budget should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new MctsConfig(10, 0, 0, 0L), "Zero threads should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new MctsConfig(0, 10, 1, 0L, 0, 3, 0.7), "A zero horizon should be rejected");
+        assertThrows(IllegalArgumentException.class, () -> new MctsConfig(0, 10, 1, 0L, 20, 3, -1.0), "Negative exploration should be rejected");
+    }
+}
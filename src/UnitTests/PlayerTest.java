@@ -15,6 +15,7 @@ import java.util.EnumMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
+import SettlersOfCatan.BuildingType;
 import SettlersOfCatan.Player;
 import SettlersOfCatan.PlayerColor;
 import SettlersOfCatan.ResourceType;
@@ -116,4 +117,34 @@ public class PlayerTest {
         player.getResources().put(ResourceType.WHEAT, 2);
         assertTrue(player.canBuildCity(), "Player with city resources can build a city");
     }
+
+    /**
+     * Test 5: The running total follows adds, removals and writes through the map views,
+     * and piece counts follow the buildings view.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void runningTotalAndViewsStayInSync() {
+        player.addResource(ResourceType.SHEEP, 3);
+        assertTrue(player.removeResource(ResourceType.SHEEP, 2), "Removing owned cards should succeed");
+        assertFalse(player.removeResource(ResourceType.SHEEP, 2), "Removing more than owned should fail");
+        assertEquals(1, player.getResourceCount(ResourceType.SHEEP), "One sheep should remain");
+        assertEquals(1, player.getTotalResourceCount(), "Total should follow adds and removals");
+
+        player.getResources().put(ResourceType.BRICK, 4);
+        assertEquals(5, player.getTotalResourceCount(), "Writes through the map should update the total");
+        for (Map.Entry<ResourceType, Integer> entry : player.getResources().entrySet()) {
+            if (entry.getKey() == ResourceType.BRICK) {
+                entry.setValue(2);
+            }
+        }
+        assertEquals(2, player.getResourceCount(ResourceType.BRICK), "Entry writes should update the hand");
+        assertEquals(3, player.getTotalResourceCount(), "Entry writes should update the total");
+        assertEquals(ResourceType.values().length, player.getResources().size(), "Every resource type should be present");
+
+        player.getBuildings().put(BuildingType.ROAD, 0);
+        assertEquals(0, player.getPieceCount(BuildingType.ROAD), "Writes to the buildings view should update pieces");
+        player.useSettlementPiece();
+        assertEquals(Player.STARTING_SETTLEMENTS - 1, player.getBuildings().get(BuildingType.SETTLEMENT), "View should reflect used pieces");
+    }
 }
@@ -0,0 +1,115 @@
+/**
+ * Tests for the ProductionTable class in our Settlers of Catan game.
+ * Checks that payouts per dice roll follow buildings and the robber.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.Board;
+import SettlersOfCatan.City;
+import SettlersOfCatan.Player;
+import SettlersOfCatan.PlayerColor;
+import SettlersOfCatan.ProductionTable;
+import SettlersOfCatan.RandomBoardGenerator;
+import SettlersOfCatan.ResourceType;
+import SettlersOfCatan.Settlement;
+import SettlersOfCatan.Tile;
+
+/**
+ * Unit tests for the ProductionTable class.
+ * Uses the first producing tile of a seeded board and one of its nodes.
+ */
+public class ProductionTableTest {
+
+	/* Board object variable */
+    private Board board;
+
+	/* Production table under test */
+    private ProductionTable table;
+
+	/* Index of a tile that has a number and a resource */
+    private int tileIndex;
+
+	/* A node on that tile */
+    private int nodeId;
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 2;
+
+	/**
+	 * Setups the objects before each test
+	 */
+    @BeforeEach
+    public void setUp() {
+        board = new Board();
+        new RandomBoardGenerator(1L).generate(board);
+        table = new ProductionTable(board);
+
+        tileIndex = 0;
+        while (board.getTile(tileIndex).produceResource() == ResourceType.NULL) {
+            tileIndex++;
+        }
+        nodeId = board.getTile(tileIndex).getNodeIds()[0];
+    }
+
+    /**
+     * Test 1: An empty board pays nothing on any roll.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void emptyBoardPaysNothing() {
+        for (int roll = 2; roll <= 12; roll++) {
+            assertEquals(0, table.getPayoutCount(roll), "No buildings means no payouts for " + roll);
+        }
+        assertEquals(0, table.getPayoutCount(99), "Out-of-range rolls should have no payouts");
+    }
+
+    /**
+     * Test 2: Placing, upgrading and removing a building updates the payouts for the tile's number.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void buildingsUpdatePayouts() {
+        Player red = new Player(PlayerColor.RED);
+        Tile tile = board.getTile(tileIndex);
+        int roll = tile.getNumber();
+
+        board.getNode(nodeId).setBuilding(new Settlement(red));
+        assertTrue(table.getPayoutCount(roll) >= 1, "Settlement should add a payout");
+        assertEquals(PlayerColor.RED.ordinal(), table.getSeat(roll, 0), "Payout should go to the owner's seat");
+        assertEquals(tile.produceResource(), table.getResource(roll, 0), "Payout should be the tile's resource");
+        assertEquals(1, table.getAmount(roll, 0), "Settlement should pay one card");
+
+        board.getNode(nodeId).setBuilding(new City(red));
+        assertEquals(2, table.getAmount(roll, 0), "City should pay two cards");
+
+        board.getNode(nodeId).setBuilding(null);
+        assertEquals(0, table.getPayoutCount(roll), "Removed building should stop paying");
+    }
+
+    /**
+     * Test 3: The robber's tile is excluded from payouts until the robber moves away.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void robberTileDoesNotProduce() {
+        Player red = new Player(PlayerColor.RED);
+        int roll = board.getTile(tileIndex).getNumber();
+        board.getNode(nodeId).setBuilding(new Settlement(red));
+        int before = table.getPayoutCount(roll);
+
+        table.setRobberTile(tileIndex);
+        assertEquals(before - 1, table.getPayoutCount(roll), "Robber tile should not pay out");
+
+        table.setRobberTile(-1);
+        assertEquals(before, table.getPayoutCount(roll), "Payout should return once the robber leaves");
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Shared helper for the board listener tests in our Settlers of Catan game.
+ * Applies a seeded random sequence of placements and removals to a board.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import java.util.Random;
+
+import SettlersOfCatan.Board;
+import SettlersOfCatan.City;
+import SettlersOfCatan.Edge;
+import SettlersOfCatan.Node;
+import SettlersOfCatan.Player;
+import SettlersOfCatan.PlayerColor;
+import SettlersOfCatan.Road;
+import SettlersOfCatan.Settlement;
+
+/**
+ * Random walk over board changes, used to check incremental trackers against fresh ones.
+ */
+final class RandomBoardChanges {
+
+    private RandomBoardChanges() {
+        throw new AssertionError("Utility class");
+    }
+
+    /**
+     * Creates one player per color, in seat order.
+     * @return the players
+     */
+    static Player[] players() {
+        Player[] players = new Player[PlayerColor.values().length];
+        for (int i = 0; i < players.length; i++) {
+            players[i] = new Player(PlayerColor.values()[i]);
+        }
+        return players;
+    }
+
+    /**
+     * Places and removes random settlements, cities and roads for random players.
+     * @param board the board to change
+     * @param players players owning the pieces
+     * @param random source of the changes
+     * @param steps number of changes
+     */
+    static void apply(Board board, Player[] players, Random random, int steps) {
+        for (int step = 0; step < steps; step++) {
+            Player player = players[random.nextInt(players.length)];
+            if (random.nextBoolean()) {
+                Node node = board.getNode(random.nextInt(board.getNodeCount()));
+                int kind = random.nextInt(3);
+                node.setBuilding(kind == 0 ? null : kind == 1 ? new Settlement(player) : new City(player));
+            } else {
+                Edge edge = board.getEdge(random.nextInt(board.getEdgeCount()));
+                edge.setRoad(random.nextInt(4) == 0 ? null : new Road(player, edge));
+            }
+        }
+    }
+}
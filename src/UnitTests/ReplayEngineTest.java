@@ -0,0 +1,110 @@
+/**
+ * Tests for recording decisions and replaying them in our Settlers of Catan game.
+ * Checks that a replayed game reaches the same positions as the live game it came from.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.Bank;
+import SettlersOfCatan.Board;
+import SettlersOfCatan.DecisionLog;
+import SettlersOfCatan.DiceRoller;
+import SettlersOfCatan.Game;
+import SettlersOfCatan.GameConfig;
+import SettlersOfCatan.GameRunner;
+import SettlersOfCatan.GameState;
+import SettlersOfCatan.PlacementValidator;
+import SettlersOfCatan.RandomBoardGenerator;
+import SettlersOfCatan.ReplayEngine;
+
+/**
+ * Unit tests for DecisionLog and ReplayEngine.
+ */
+public class ReplayEngineTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 5;
+
+	/* Directory decision logs are written to */
+    @TempDir
+    Path directory;
+
+    /**
+     * Test 1: Replaying the whole log reaches exactly the final position of the live game.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void replayMatchesLiveGame() {
+        DecisionLog log = new DecisionLog(21L, 22L, 23L, 4);
+        Board board = new Board();
+        new RandomBoardGenerator(log.getBoardSeed()).generate(board);
+        Game game = new Game(board, new DiceRoller(log.getDiceSeed()), new Bank(), new PlacementValidator(), 4,
+            new Random(log.getAiSeed()));
+        game.setHeadless(true);
+        game.setDecisionLog(log);
+        game.startGame(100);
+
+        ReplayEngine engine = new ReplayEngine(log);
+        assertTrue(engine.getTurnCount() > 0, "The game should have recorded turns");
+        engine.replayAll();
+        assertEquals(game.captureState(), engine.getState(), "Replay should end in the live game's position");
+    }
+
+    /**
+     * Test 2: Seeking backwards and forwards gives the same position as seeking on a fresh engine.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void seekIsConsistentInBothDirections() {
+        DecisionLog log = GameRunner.record(7L, new GameConfig(4, 80));
+        ReplayEngine engine = new ReplayEngine(log);
+        int middle = engine.getTurnCount() / 2;
+
+        ReplayEngine fresh = new ReplayEngine(log);
+        fresh.seek(middle);
+        GameState expected = fresh.getState();
+
+        engine.seek(engine.getTurnCount());
+        engine.seek(middle);
+        assertEquals(expected, engine.getState(), "Seeking back should rebuild the same position");
+        engine.seek(0);
+        engine.seek(middle);
+        assertEquals(expected, engine.getState(), "Seeking forward should rebuild the same position");
+        assertThrows(IndexOutOfBoundsException.class, () -> engine.seek(engine.getTurnCount() + 1));
+    }
+
+    /**
+     * Test 3: A log written to disk reads back with the same seeds and events.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void logRoundTripsThroughFile() throws IOException {
+        DecisionLog log = GameRunner.record(3L, new GameConfig(4, 50));
+        Path file = directory.resolve("game.decisions");
+        log.write(file);
+
+        DecisionLog read = DecisionLog.read(file);
+        assertEquals(log.getBoardSeed(), read.getBoardSeed());
+        assertEquals(log.getDiceSeed(), read.getDiceSeed());
+        assertEquals(log.getAiSeed(), read.getAiSeed());
+        assertEquals(log.getNumPlayers(), read.getNumPlayers());
+        assertEquals(log.size(), read.size());
+
+        ReplayEngine original = new ReplayEngine(log);
+        ReplayEngine reloaded = new ReplayEngine(read);
+        original.replayAll();
+        reloaded.replayAll();
+        assertEquals(original.getState(), reloaded.getState(), "Both logs should replay to the same position");
+    }
+}
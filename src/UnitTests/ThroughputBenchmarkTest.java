@@ -0,0 +1,96 @@
+/**
+ * Tests for the whole-game throughput benchmark in our Settlers of Catan game.
+ * Checks the latency histogram, the result file format and the regression measure.
+ * @author Kabir Singh Sachdeva, Adrian Najmi, Sarthak Kulashari, Maxwell Li
+ */
+
+package UnitTests;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.concurrent.TimeUnit;
+
+import SettlersOfCatan.GameConfig;
+import SettlersOfCatan.LatencyHistogram;
+import SettlersOfCatan.ThroughputBenchmark;
+import SettlersOfCatan.ThroughputResult;
+
+/**
+ * Unit tests for LatencyHistogram, ThroughputResult and ThroughputBenchmark.
+ */
+public class ThroughputBenchmarkTest {
+
+	/* Default timeout variable time */
+    private static final int DEFAULT_TIMEOUT = 5;
+
+    /**
+     * Test 1: Percentiles of a uniform range are reported within 1% of the true value,
+     * and merging two histograms counts every value.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void histogramPercentilesAreAccurate() {
+        LatencyHistogram low = new LatencyHistogram();
+        LatencyHistogram high = new LatencyHistogram();
+        for (long v = 1; v <= 50_000; v++) {
+            low.record(v * 10);
+            high.record((v + 50_000) * 10);
+        }
+        low.add(high);
+
+        assertEquals(100_000, low.getCount());
+        assertEquals(1_000_000, low.getMax());
+        assertEquals(500_000, low.getValueAtPercentile(50.0), 5_000);
+        assertEquals(990_000, low.getValueAtPercentile(99.0), 9_900);
+        assertEquals(1_000_000, low.getValueAtPercentile(100.0));
+        assertEquals(10, low.getValueAtPercentile(0.0));
+
+        low.reset();
+        assertEquals(0, low.getCount());
+        assertEquals(0, low.getValueAtPercentile(99.0));
+    }
+
+    /**
+     * Test 2: A result survives a JSON round trip, the drop against a baseline uses the
+     * slower of the two throughput figures, and baselines of another corpus are refused.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void resultRoundTripsAndMeasuresDrop() {
+        ThroughputResult baseline = new ThroughputResult(100, 200, 0L, 80_000, 1_000_000_000L, 12_800_000L, 300, 5_000);
+        ThroughputResult read = ThroughputResult.fromJson(baseline.toJson());
+        assertEquals(baseline.toJson(), read.toJson());
+        assertEquals(160.0, read.getAllocatedBytesPerTurn(), 1e-9);
+
+        ThroughputResult slower = new ThroughputResult(100, 200, 0L, 80_000, 1_250_000_000L, 12_800_000L, 300, 5_000);
+        assertEquals(20.0, slower.getDropPercent(baseline), 1e-9);
+        assertTrue(baseline.getDropPercent(slower) < 0, "A faster run should not count as a drop");
+        assertThrows(IllegalArgumentException.class, () -> ThroughputResult.fromJson("{\"games\": 1}"));
+
+        ThroughputResult shorter = new ThroughputResult(100, 100, 0L, 40_000, 500_000_000L, 6_400_000L, 300, 5_000);
+        ThroughputResult reseeded = new ThroughputResult(100, 200, 1L, 80_000, 1_000_000_000L, 12_800_000L, 300, 5_000);
+        assertTrue(slower.hasSameCorpus(baseline));
+        assertFalse(shorter.hasSameCorpus(baseline), "A different round limit plays different games");
+        assertFalse(reseeded.hasSameCorpus(baseline), "A different seed plays different games");
+        assertThrows(IllegalArgumentException.class, () -> shorter.getDropPercent(baseline));
+    }
+
+    /**
+     * Test 3: A short run counts the turns of every game and reports consistent latencies.
+     */
+    @Test
+    @Timeout(value = DEFAULT_TIMEOUT, unit = TimeUnit.SECONDS)
+    public void shortRunReportsEveryTurn() {
+        ThroughputResult result = ThroughputBenchmark.run(0L, 5, new GameConfig(4, 20));
+        assertEquals(5, result.getGames());
+        assertEquals(20, result.getMaxRounds());
+        assertEquals(0L, result.getBaseSeed());
+        assertTrue(result.getTurns() > 5 * 4, "Every game should play more than its first round");
+        assertTrue(result.getTurns() <= 5 * 20 * 4, "No game can play more than twenty rounds of four turns");
+        assertTrue(result.getP50TurnNanos() > 0);
+        assertTrue(result.getP99TurnNanos() >= result.getP50TurnNanos());
+        assertTrue(result.getTurnsPerSecond() > 0);
+    }
+}